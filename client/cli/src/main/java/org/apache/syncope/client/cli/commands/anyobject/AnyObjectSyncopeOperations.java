@@ -39,7 +39,7 @@ public class AnyObjectSyncopeOperations {
     }
 
     public AnyObjectTO read(final String anyKey) {
-        return anyObjectService.read(anyKey);
+        return anyObjectService.read(anyKey, (String) null);
     }
 
     public Set<AttrTO> readAttributes(final String anyKey, final String schemaType) {
@@ -36,7 +36,7 @@ public class GroupSyncopeOperations {
     }
 
     public GroupTO read(final String groupKey) {
-        return groupService.read(groupKey);
+        return groupService.read(groupKey, (String) null);
     }
 
     public Set<AttrTO> readAttributes(final String groupKey, final String schemaType) {
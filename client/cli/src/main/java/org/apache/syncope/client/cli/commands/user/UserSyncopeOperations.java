@@ -63,7 +63,7 @@ public class UserSyncopeOperations {
     }
 
     public UserTO read(final String userKey) {
-        return userService.read(userKey);
+        return userService.read(userKey, (String) null);
     }
 
     public void delete(final String userKey) {
@@ -47,7 +47,7 @@ public abstract class AbstractAnyRestClient<TO extends AnyTO, P extends AnyPatch
     public abstract List<TO> search(String realm, String fiql, int page, int size, SortParam<String> sort, String type);
 
     public TO read(final String key) {
-        return getService(getAnyServiceClass()).read(key);
+        return getService(getAnyServiceClass()).read(key, (String) null);
     }
 
     public ProvisioningResult<TO> create(final TO to) {
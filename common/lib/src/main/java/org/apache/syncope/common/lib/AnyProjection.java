@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.common.lib;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Restricts the parts of any objects to be returned by read and search operations, so that the expensive ones - as
+ * derived and virtual attributes, memberships or dynamic memberships - are only computed when requested.
+ * Expressed as comma-separated list of fields, as <tt>plainAttrs.surname,derAttrs.cn,virAttrs,memberships</tt>:
+ * <ul>
+ * <li><tt>plainAttrs</tt>, <tt>derAttrs</tt>, <tt>virAttrs</tt> select all attributes of the given kind, while
+ * <tt>plainAttrs.&lt;schema&gt;</tt>, <tt>derAttrs.&lt;schema&gt;</tt>, <tt>virAttrs.&lt;schema&gt;</tt> select a
+ * single attribute;</li>
+ * <li>any {@link Section} name selects the matching section.</li>
+ * </ul>
+ * Attributes and sections not listed are not returned; basic fields (key, name, realm, status, ...) are always
+ * returned. When no fields are provided, everything is returned.
+ */
+public final class AnyProjection extends AbstractBaseBean {
+
+    private static final long serialVersionUID = -1906356420758498478L;
+
+    public enum Section {
+
+        RESOURCES("resources"),
+        ROLES("roles"),
+        RELATIONSHIPS("relationships"),
+        MEMBERSHIPS("memberships"),
+        DYN_MEMBERSHIPS("dynMemberships");
+
+        private final String field;
+
+        Section(final String field) {
+            this.field = field;
+        }
+
+        public String getField() {
+            return field;
+        }
+
+        public static Section fromField(final String field) {
+            for (Section section : values()) {
+                if (section.getField().equals(field)) {
+                    return section;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final String PLAIN_ATTRS = "plainAttrs";
+
+    private static final String DER_ATTRS = "derAttrs";
+
+    private static final String VIR_ATTRS = "virAttrs";
+
+    public static final AnyProjection ALL = new AnyProjection(null, null, null, null);
+
+    /**
+     * Parses the given comma-separated list of fields.
+     *
+     * @param fields comma-separated list of fields
+     * @return projection, {@link #ALL} if no fields are provided
+     * @throws IllegalArgumentException if any of the given fields is not valid
+     */
+    public static AnyProjection fromFields(final String fields) {
+        if (StringUtils.isBlank(fields)) {
+            return ALL;
+        }
+
+        Set<String> plainAttrs = new HashSet<>();
+        Set<String> derAttrs = new HashSet<>();
+        Set<String> virAttrs = new HashSet<>();
+        boolean allPlainAttrs = false;
+        boolean allDerAttrs = false;
+        boolean allVirAttrs = false;
+        Set<Section> sections = EnumSet.noneOf(Section.class);
+
+        for (String field : StringUtils.split(fields, ',')) {
+            String trimmed = field.trim();
+            if (PLAIN_ATTRS.equals(trimmed)) {
+                allPlainAttrs = true;
+            } else if (DER_ATTRS.equals(trimmed)) {
+                allDerAttrs = true;
+            } else if (VIR_ATTRS.equals(trimmed)) {
+                allVirAttrs = true;
+            } else if (trimmed.startsWith(PLAIN_ATTRS + ".")) {
+                plainAttrs.add(StringUtils.substringAfter(trimmed, "."));
+            } else if (trimmed.startsWith(DER_ATTRS + ".")) {
+                derAttrs.add(StringUtils.substringAfter(trimmed, "."));
+            } else if (trimmed.startsWith(VIR_ATTRS + ".")) {
+                virAttrs.add(StringUtils.substringAfter(trimmed, "."));
+            } else if (Section.fromField(trimmed) != null) {
+                sections.add(Section.fromField(trimmed));
+            } else {
+                throw new IllegalArgumentException("Invalid field: " + trimmed);
+            }
+        }
+
+        return new AnyProjection(
+                allPlainAttrs ? null : plainAttrs,
+                allDerAttrs ? null : derAttrs,
+                allVirAttrs ? null : virAttrs,
+                sections);
+    }
+
+    private final Set<String> plainAttrs;
+
+    private final Set<String> derAttrs;
+
+    private final Set<String> virAttrs;
+
+    private final Set<Section> sections;
+
+    private AnyProjection(
+            final Set<String> plainAttrs,
+            final Set<String> derAttrs,
+            final Set<String> virAttrs,
+            final Set<Section> sections) {
+
+        super();
+
+        this.plainAttrs = plainAttrs == null ? null : Collections.unmodifiableSet(plainAttrs);
+        this.derAttrs = derAttrs == null ? null : Collections.unmodifiableSet(derAttrs);
+        this.virAttrs = virAttrs == null ? null : Collections.unmodifiableSet(virAttrs);
+        this.sections = sections == null ? null : Collections.unmodifiableSet(sections);
+    }
+
+    /**
+     * @return names of the plain attributes to return, {@code null} for all
+     */
+    public Set<String> getPlainAttrs() {
+        return plainAttrs;
+    }
+
+    /**
+     * @return names of the derived attributes to return, {@code null} for all
+     */
+    public Set<String> getDerAttrs() {
+        return derAttrs;
+    }
+
+    /**
+     * @return names of the virtual attributes to return, {@code null} for all
+     */
+    public Set<String> getVirAttrs() {
+        return virAttrs;
+    }
+
+    public boolean includesPlainAttr(final String schema) {
+        return plainAttrs == null || plainAttrs.contains(schema);
+    }
+
+    public boolean includesDerAttr(final String schema) {
+        return derAttrs == null || derAttrs.contains(schema);
+    }
+
+    public boolean includesVirAttr(final String schema) {
+        return virAttrs == null || virAttrs.contains(schema);
+    }
+
+    public boolean includes(final Section section) {
+        return sections == null || sections.contains(section);
+    }
+}
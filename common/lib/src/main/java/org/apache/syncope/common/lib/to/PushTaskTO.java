@@ -40,8 +40,21 @@ public class PushTaskTO extends AbstractProvisioningTaskTO {
     @JsonIgnore
     private final Map<String, String> filters = new HashMap<>();
 
+    private boolean incremental;
+
     @JsonProperty
     public Map<String, String> getFilters() {
         return filters;
     }
+
+    /**
+     * @return whether any objects whose mapped attributes did not change since their last push shall be skipped
+     */
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    public void setIncremental(final boolean incremental) {
+        this.incremental = incremental;
+    }
 }
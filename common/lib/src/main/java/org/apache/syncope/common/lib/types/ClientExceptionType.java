@@ -22,6 +22,7 @@ import javax.ws.rs.core.Response;
 
 public enum ClientExceptionType {
 
+    AccessToken(Response.Status.FORBIDDEN),
     AssociatedAnys(Response.Status.BAD_REQUEST),
     AssociatedResources(Response.Status.BAD_REQUEST),
     Composite(Response.Status.BAD_REQUEST),
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.common.lib;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class AnyProjectionTest {
+
+    @Test
+    public void fromFields() {
+        assertSame(AnyProjection.ALL, AnyProjection.fromFields(null));
+        assertSame(AnyProjection.ALL, AnyProjection.fromFields(" "));
+
+        AnyProjection projection = AnyProjection.fromFields("plainAttrs.surname, derAttrs.cn,virAttrs,memberships");
+        assertTrue(projection.includesPlainAttr("surname"));
+        assertFalse(projection.includesPlainAttr("firstname"));
+        assertTrue(projection.includesDerAttr("cn"));
+        assertFalse(projection.includesDerAttr("info"));
+        assertNull(projection.getVirAttrs());
+        assertTrue(projection.includesVirAttr("virtualdata"));
+        assertTrue(projection.includes(AnyProjection.Section.MEMBERSHIPS));
+        assertFalse(projection.includes(AnyProjection.Section.RESOURCES));
+        assertFalse(projection.includes(AnyProjection.Section.DYN_MEMBERSHIPS));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidField() {
+        AnyProjection.fromFields("plainAttrs.surname,unknown");
+    }
+}
@@ -29,6 +29,16 @@ public final class RESTHeaders {
 
     public static final String RESOURCE_KEY = "X-Syncope-Key";
 
+    /**
+     * Signed access token, to be sent as {@code Authorization: Bearer} header with subsequent requests.
+     */
+    public static final String TOKEN = "X-Syncope-Token";
+
+    /**
+     * Access token expiration.
+     */
+    public static final String TOKEN_EXPIRE = "X-Syncope-Token-Expire";
+
     /**
      * Asks for asynchronous propagation towards external resources with null priority.
      */
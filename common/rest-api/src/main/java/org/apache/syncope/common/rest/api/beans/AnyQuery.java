@@ -21,6 +21,7 @@ package org.apache.syncope.common.rest.api.beans;
 import javax.ws.rs.DefaultValue;
 import javax.ws.rs.MatrixParam;
 import javax.ws.rs.QueryParam;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.rest.api.service.JAXRSService;
 
@@ -50,6 +51,16 @@ public class AnyQuery extends AbstractQuery {
 
             return this;
         }
+
+        public Builder count(final boolean count) {
+            getInstance().setCount(count);
+            return this;
+        }
+
+        public Builder fields(final String... fields) {
+            getInstance().setFields(StringUtils.join(fields, ','));
+            return this;
+        }
     }
 
     private String realm;
@@ -58,6 +69,10 @@ public class AnyQuery extends AbstractQuery {
 
     private String fiql;
 
+    private Boolean count;
+
+    private String fields;
+
     public String getRealm() {
         return realm;
     }
@@ -87,4 +102,37 @@ public class AnyQuery extends AbstractQuery {
         this.fiql = fiql;
     }
 
+    /**
+     * When searching via FIQL, whether the exact total count of matching any objects is required; if not, the
+     * reported total count is only a lower bound, enough to tell whether further pages are available, and the
+     * search condition is not evaluated again for counting.
+     *
+     * @return whether the exact total count is required
+     */
+    public Boolean getCount() {
+        return count == null ? Boolean.TRUE : count;
+    }
+
+    @QueryParam(JAXRSService.PARAM_COUNT)
+    @DefaultValue("true")
+    public void setCount(final Boolean count) {
+        this.count = count;
+    }
+
+    /**
+     * Comma-separated list of the attributes and sections to be returned for each matching any object, as
+     * <tt>plainAttrs.surname,derAttrs.cn,memberships</tt>; when not provided, everything is returned.
+     *
+     * @return comma-separated list of fields
+     * @see org.apache.syncope.common.lib.AnyProjection
+     */
+    public String getFields() {
+        return fields;
+    }
+
+    @QueryParam(JAXRSService.PARAM_FIELDS)
+    public void setFields(final String fields) {
+        this.fields = fields;
+    }
+
 }
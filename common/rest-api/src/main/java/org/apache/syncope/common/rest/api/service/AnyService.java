@@ -29,6 +29,7 @@ import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import org.apache.cxf.jaxrs.ext.PATCH;
@@ -73,15 +74,19 @@ public interface AnyService<TO extends AnyTO, P extends AnyPatch> extends JAXRSS
             @NotNull @PathParam("schema") String schema);
 
     /**
-     * Reads the any object matching the provided key.
+     * Reads the any object matching the provided key, possibly only returning the given attributes and sections.
+     * If the <tt>If-None-Match</tt> header is provided and matches the current ETag, <tt>304 Not Modified</tt> is
+     * returned without any entity.
      *
      * @param key key of any object to be read
+     * @param fields comma-separated list of attributes and sections to return, as for {@link AnyQuery#getFields()};
+     * everything is returned if not provided
      * @return any object with matching key
      */
     @GET
     @Path("{key}")
     @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
-    TO read(@NotNull @PathParam("key") String key);
+    TO read(@NotNull @PathParam("key") String key, @QueryParam(JAXRSService.PARAM_FIELDS) String fields);
 
     /**
      * Returns a paged list of any objects matching the given query.
@@ -20,6 +20,7 @@ package org.apache.syncope.core.logic;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -35,6 +36,7 @@ import org.apache.syncope.common.lib.to.GroupTO;
 import org.apache.syncope.common.lib.to.PropagationStatus;
 import org.apache.syncope.common.lib.to.ProvisioningResult;
 import org.apache.syncope.common.lib.to.UserTO;
+import org.apache.syncope.common.lib.AnyProjection;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.core.provisioning.api.utils.RealmUtils;
@@ -45,6 +47,7 @@ import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.provisioning.api.LogicActions;
@@ -226,6 +229,28 @@ public abstract class AbstractAnyLogic<TO extends AnyTO, P extends AnyPatch>
 
     public abstract TO read(String key);
 
+    /**
+     * Reads the any object matching the given key, only computing the parts included by the given projection.
+     *
+     * @param key any object key
+     * @param projection parts of the any object to return
+     * @return any object with matching key
+     */
+    public abstract TO read(String key, AnyProjection projection);
+
+    /**
+     * Returns the last change date (or creation date, if never changed) of the given any object, going through the
+     * same security checks as {@link #read(java.lang.String)} but without building the related transfer object.
+     *
+     * @param key any object key
+     * @return last change date, or creation date if never changed
+     */
+    public abstract Date findLastChange(String key);
+
+    protected Date getLastChange(final Any<?> any) {
+        return any.getLastChangeDate() == null ? any.getCreationDate() : any.getLastChangeDate();
+    }
+
     public abstract int count(String realm);
 
     public abstract ProvisioningResult<TO> create(TO anyTO, boolean nullPriorityAsync);
@@ -237,13 +262,27 @@ public abstract class AbstractAnyLogic<TO extends AnyTO, P extends AnyPatch>
     public abstract List<TO> list(
             int page, int size, List<OrderByClause> orderBy,
             String realm,
-            boolean details);
-
-    public abstract List<TO> search(
+            boolean details,
+            AnyProjection projection);
+
+    /**
+     * Search any objects matching the given condition.
+     *
+     * @param searchCondition search condition
+     * @param page search result page
+     * @param size items per search result page
+     * @param orderBy ordering clauses
+     * @param realm realm to start searching from
+     * @param details whether details should be included in returned transfer objects
+     * @param projection parts of the matching any objects to return
+     * @param count whether the exact total count is required; if not, a lower bound is returned
+     * @return total count (or its lower bound) and the matching any objects in the given page
+     */
+    public abstract Pair<Integer, List<TO>> search(
             SearchCond searchCondition,
             int page, int size, List<OrderByClause> orderBy,
             String realm,
-            boolean details);
-
-    public abstract int searchCount(SearchCond searchCondition, String realm);
+            boolean details,
+            AnyProjection projection,
+            boolean count);
 }
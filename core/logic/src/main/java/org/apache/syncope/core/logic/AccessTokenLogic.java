@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.logic;
+
+import java.lang.reflect.Method;
+import java.util.Date;
+import javax.annotation.Resource;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.syncope.common.lib.AbstractBaseBean;
+import org.apache.syncope.common.lib.SyncopeClientException;
+import org.apache.syncope.common.lib.types.ClientExceptionType;
+import org.apache.syncope.core.spring.security.AccessTokenManager;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+public class AccessTokenLogic extends AbstractLogic<AbstractBaseBean> {
+
+    @Resource(name = "anonymousUser")
+    private String anonymousUser;
+
+    @Autowired
+    private AccessTokenManager accessTokenManager;
+
+    @PreAuthorize("isAuthenticated()")
+    public Pair<String, Date> login() {
+        if (!accessTokenManager.isEnabled()) {
+            SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.AccessToken);
+            sce.getElements().add("Access tokens are not enabled");
+            throw sce;
+        }
+        if (anonymousUser.equals(AuthContextUtils.getUsername())) {
+            SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.AccessToken);
+            sce.getElements().add("Access tokens cannot be issued to " + anonymousUser);
+            throw sce;
+        }
+
+        return accessTokenManager.issue(
+                AuthContextUtils.getUsername(),
+                AuthContextUtils.getDomain(),
+                SecurityContextHolder.getContext().getAuthentication().getAuthorities());
+    }
+
+    @PreAuthorize("isAuthenticated()")
+    @Transactional
+    public void logout(final String token) {
+        accessTokenManager.revoke(token);
+    }
+
+    @Override
+    protected AbstractBaseBean resolveReference(final Method method, final Object... args)
+            throws UnresolvedReferenceException {
+
+        throw new UnresolvedReferenceException();
+    }
+}
@@ -21,20 +21,24 @@ package org.apache.syncope.core.logic;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Set;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.Transformer;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.SyncopeClientException;
+import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.patch.AnyObjectPatch;
 import org.apache.syncope.common.lib.patch.StringPatchItem;
 import org.apache.syncope.common.lib.to.PropagationStatus;
 import org.apache.syncope.common.lib.to.AnyObjectTO;
 import org.apache.syncope.common.lib.to.ProvisioningResult;
 import org.apache.syncope.common.lib.types.AnyEntitlement;
+import org.apache.syncope.common.lib.AnyProjection;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.common.lib.types.PatchOperation;
@@ -79,37 +83,38 @@ public class AnyObjectLogic extends AbstractAnyLogic<AnyObjectTO, AnyObjectPatch
 
     @Transactional(readOnly = true)
     @Override
-    public int count(final String realm) {
-        throw new UnsupportedOperationException("Need to specify " + AnyType.class.getSimpleName());
+    public AnyObjectTO read(final String key, final AnyProjection projection) {
+        return binder.getAnyObjectTO(key, projection);
     }
 
     @Transactional(readOnly = true)
     @Override
-    public List<AnyObjectTO> list(
-            final int page, final int size, final List<OrderByClause> orderBy,
-            final String realm, final boolean details) {
+    public Date findLastChange(final String key) {
+        return getLastChange(SyncopeConstants.UUID_PATTERN.matcher(key).matches()
+                ? anyObjectDAO.authFind(key)
+                : anyObjectDAO.authFindByName(key));
+    }
 
+    @Transactional(readOnly = true)
+    @Override
+    public int count(final String realm) {
         throw new UnsupportedOperationException("Need to specify " + AnyType.class.getSimpleName());
     }
 
     @Transactional(readOnly = true)
     @Override
-    public int searchCount(final SearchCond searchCond, final String realm) {
-        if (searchCond.hasAnyTypeCond() == null) {
-            throw new UnsupportedOperationException("Need to specify " + AnyType.class.getSimpleName());
-        }
-
-        Set<String> effectiveRealms = getEffectiveRealms(
-                AuthContextUtils.getAuthorizations().get(AnyEntitlement.SEARCH.getFor(searchCond.hasAnyTypeCond())),
-                realm);
+    public List<AnyObjectTO> list(
+            final int page, final int size, final List<OrderByClause> orderBy,
+            final String realm, final boolean details, final AnyProjection projection) {
 
-        return searchDAO.count(effectiveRealms, searchCond, AnyTypeKind.ANY_OBJECT);
+        throw new UnsupportedOperationException("Need to specify " + AnyType.class.getSimpleName());
     }
 
     @Transactional(readOnly = true)
     @Override
-    public List<AnyObjectTO> search(final SearchCond searchCond, final int page, final int size,
-            final List<OrderByClause> orderBy, final String realm, final boolean details) {
+    public Pair<Integer, List<AnyObjectTO>> search(final SearchCond searchCond, final int page, final int size,
+            final List<OrderByClause> orderBy, final String realm, final boolean details,
+            final AnyProjection projection, final boolean count) {
 
         if (searchCond.hasAnyTypeCond() == null) {
             throw new UnsupportedOperationException("Need to specify " + AnyType.class.getSimpleName());
@@ -119,15 +124,16 @@ public class AnyObjectLogic extends AbstractAnyLogic<AnyObjectTO, AnyObjectPatch
                 AuthContextUtils.getAuthorizations().get(AnyEntitlement.SEARCH.getFor(searchCond.hasAnyTypeCond())),
                 realm);
 
-        List<AnyObject> matchingAnyObjects = searchDAO.search(
-                effectiveRealms, searchCond, page, size, orderBy, AnyTypeKind.ANY_OBJECT);
-        return CollectionUtils.collect(matchingAnyObjects, new Transformer<AnyObject, AnyObjectTO>() {
+        Pair<Integer, List<AnyObject>> matchingAnyObjects = searchDAO.searchAndCount(
+                effectiveRealms, searchCond, page, size, orderBy, AnyTypeKind.ANY_OBJECT, count);
+        return ImmutablePair.of(matchingAnyObjects.getLeft(), CollectionUtils.collect(matchingAnyObjects.getRight(),
+                new Transformer<AnyObject, AnyObjectTO>() {
 
             @Override
             public AnyObjectTO transform(final AnyObject input) {
-                return binder.getAnyObjectTO(input, details);
+                return binder.getAnyObjectTO(input, details, projection);
             }
-        }, new ArrayList<AnyObjectTO>());
+        }, new ArrayList<AnyObjectTO>()));
     }
 
     @Override
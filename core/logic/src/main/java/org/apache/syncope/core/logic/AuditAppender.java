@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.logic;
+
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.ReusableMessage;
+import org.apache.syncope.core.provisioning.api.AuditManager;
+import org.apache.syncope.core.provisioning.api.utils.ExceptionUtils2;
+
+/**
+ * Hands audit entries over to {@link AuditManager}, to be written to the audit table of the given domain.
+ */
+public class AuditAppender extends AbstractAppender {
+
+    private final String domain;
+
+    private final AuditManager auditManager;
+
+    public AuditAppender(final String name, final String domain, final AuditManager auditManager) {
+        super(name, null, null, false);
+        this.domain = domain;
+        this.auditManager = auditManager;
+    }
+
+    @Override
+    public void append(final LogEvent event) {
+        Message msg = event.getMessage();
+
+        auditManager.enqueue(
+                domain,
+                event.getTimeMillis(),
+                (msg instanceof ReusableMessage ? ((ReusableMessage) msg).memento() : msg).getFormattedMessage(),
+                event.getThrown() == null ? null : ExceptionUtils2.getFullStackTrace(event.getThrown()));
+    }
+}
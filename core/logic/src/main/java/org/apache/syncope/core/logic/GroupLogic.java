@@ -31,6 +31,7 @@ import org.apache.commons.collections4.Predicate;
 import org.apache.commons.collections4.Transformer;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.SyncopeConstants;
@@ -41,6 +42,7 @@ import org.apache.syncope.common.lib.to.PropagationStatus;
 import org.apache.syncope.common.lib.to.GroupTO;
 import org.apache.syncope.common.lib.to.ProvisioningResult;
 import org.apache.syncope.common.lib.to.TypeExtensionTO;
+import org.apache.syncope.common.lib.AnyProjection;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.BulkMembersActionType;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
@@ -137,6 +139,22 @@ public class GroupLogic extends AbstractAnyLogic<GroupTO, GroupPatch> {
         return binder.getGroupTO(key);
     }
 
+    @PreAuthorize("hasRole('" + StandardEntitlement.GROUP_READ + "')")
+    @Transactional(readOnly = true)
+    @Override
+    public GroupTO read(final String key, final AnyProjection projection) {
+        return binder.getGroupTO(key, projection);
+    }
+
+    @PreAuthorize("hasRole('" + StandardEntitlement.GROUP_READ + "')")
+    @Transactional(readOnly = true)
+    @Override
+    public Date findLastChange(final String key) {
+        return getLastChange(SyncopeConstants.UUID_PATTERN.matcher(key).matches()
+                ? groupDAO.authFind(key)
+                : groupDAO.authFindByName(key));
+    }
+
     @PreAuthorize("isAuthenticated() and not(hasRole('" + StandardEntitlement.ANONYMOUS + "'))")
     @Transactional(readOnly = true)
     public List<GroupTO> own() {
@@ -175,7 +193,7 @@ public class GroupLogic extends AbstractAnyLogic<GroupTO, GroupPatch> {
     @Override
     public List<GroupTO> list(
             final int page, final int size, final List<OrderByClause> orderBy,
-            final String realm, final boolean details) {
+            final String realm, final boolean details, final AnyProjection projection) {
 
         return CollectionUtils.collect(groupDAO.findAll(
                 getEffectiveRealms(SyncopeConstants.FULL_ADMIN_REALMS, realm),
@@ -184,7 +202,7 @@ public class GroupLogic extends AbstractAnyLogic<GroupTO, GroupPatch> {
 
             @Override
             public GroupTO transform(final Group input) {
-                return binder.getGroupTO(input, details);
+                return binder.getGroupTO(input, details, projection);
             }
         }, new ArrayList<GroupTO>());
     }
@@ -192,28 +210,21 @@ public class GroupLogic extends AbstractAnyLogic<GroupTO, GroupPatch> {
     @PreAuthorize("isAuthenticated()")
     @Transactional(readOnly = true)
     @Override
-    public int searchCount(final SearchCond searchCondition, final String realm) {
-        return searchDAO.count(
-                getEffectiveRealms(SyncopeConstants.FULL_ADMIN_REALMS, realm),
-                searchCondition, AnyTypeKind.GROUP);
-    }
+    public Pair<Integer, List<GroupTO>> search(final SearchCond searchCondition, final int page, final int size,
+            final List<OrderByClause> orderBy, final String realm, final boolean details,
+            final AnyProjection projection, final boolean count) {
 
-    @PreAuthorize("isAuthenticated()")
-    @Transactional(readOnly = true)
-    @Override
-    public List<GroupTO> search(final SearchCond searchCondition, final int page, final int size,
-            final List<OrderByClause> orderBy, final String realm, final boolean details) {
-
-        List<Group> matchingGroups = searchDAO.search(
+        Pair<Integer, List<Group>> matchingGroups = searchDAO.searchAndCount(
                 getEffectiveRealms(SyncopeConstants.FULL_ADMIN_REALMS, realm),
-                searchCondition, page, size, orderBy, AnyTypeKind.GROUP);
-        return CollectionUtils.collect(matchingGroups, new Transformer<Group, GroupTO>() {
+                searchCondition, page, size, orderBy, AnyTypeKind.GROUP, count);
+        return ImmutablePair.of(matchingGroups.getLeft(), CollectionUtils.collect(matchingGroups.getRight(),
+                new Transformer<Group, GroupTO>() {
 
             @Override
             public GroupTO transform(final Group input) {
-                return binder.getGroupTO(input, details);
+                return binder.getGroupTO(input, details, projection);
             }
-        }, new ArrayList<GroupTO>());
+        }, new ArrayList<GroupTO>()));
     }
 
     @PreAuthorize("hasRole('" + StandardEntitlement.GROUP_CREATE + "')")
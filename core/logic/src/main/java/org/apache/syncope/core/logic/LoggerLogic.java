@@ -61,6 +61,7 @@ import org.apache.syncope.core.persistence.api.entity.resource.ExternalResource;
 import org.apache.syncope.core.persistence.api.entity.Logger;
 import org.apache.syncope.core.persistence.api.entity.task.SchedTask;
 import org.apache.syncope.core.spring.BeanUtils;
+import org.apache.syncope.core.provisioning.api.AuditManager;
 import org.apache.syncope.core.provisioning.java.pushpull.PushJobDelegate;
 import org.apache.syncope.core.provisioning.java.pushpull.PullJobDelegate;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -94,6 +95,9 @@ public class LoggerLogic extends AbstractTransactionalLogic<LoggerTO> {
     @Autowired
     private EntityFactory entityFactory;
 
+    @Autowired
+    private AuditManager auditManager;
+
     private List<LoggerTO> list(final LoggerType type) {
         return CollectionUtils.collect(loggerDAO.findAll(type), new Transformer<Logger, LoggerTO>() {
 
@@ -239,6 +243,7 @@ public class LoggerLogic extends AbstractTransactionalLogic<LoggerTO> {
     public void enableAudit(final AuditLoggerName auditLoggerName) {
         try {
             setLevel(auditLoggerName.toLoggerName(), Level.DEBUG, LoggerType.AUDIT);
+            auditManager.refreshEnabledEvents();
         } catch (IllegalArgumentException e) {
             SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.InvalidLogger);
             sce.getElements().add(e.getMessage());
@@ -281,6 +286,7 @@ public class LoggerLogic extends AbstractTransactionalLogic<LoggerTO> {
     public void disableAudit(final AuditLoggerName auditLoggerName) {
         try {
             delete(auditLoggerName.toLoggerName(), LoggerType.AUDIT);
+            auditManager.refreshEnabledEvents();
         } catch (NotFoundException e) {
             LOG.debug("Ignoring disable of non existing logger {}", auditLoggerName.toLoggerName());
         } catch (IllegalArgumentException e) {
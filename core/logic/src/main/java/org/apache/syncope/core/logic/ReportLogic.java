@@ -18,7 +18,7 @@
  */
 package org.apache.syncope.core.logic;
 
-import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
@@ -60,6 +60,7 @@ import org.apache.syncope.common.lib.types.JobAction;
 import org.apache.syncope.common.lib.types.JobType;
 import org.apache.syncope.common.lib.types.StandardEntitlement;
 import org.apache.syncope.core.logic.report.FopSerializer;
+import org.apache.syncope.core.logic.report.ReportResultStore;
 import org.apache.syncope.core.logic.report.XSLTTransformer;
 import org.apache.syncope.core.persistence.api.dao.ConfDAO;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
@@ -87,6 +88,9 @@ public class ReportLogic extends AbstractExecutableLogic<ReportTO> {
     @Autowired
     private EntityFactory entityFactory;
 
+    @Autowired
+    private ReportResultStore reportResultStore;
+
     @PreAuthorize("hasRole('" + StandardEntitlement.REPORT_CREATE + "')")
     public ReportTO create(final ReportTO reportTO) {
         Report report = entityFactory.newEntity(Report.class);
@@ -202,11 +206,12 @@ public class ReportLogic extends AbstractExecutableLogic<ReportTO> {
         if (reportExec == null) {
             throw new NotFoundException("Report execution " + executionKey);
         }
-        if (!ReportExecStatus.SUCCESS.name().equals(reportExec.getStatus()) || reportExec.getExecResult() == null) {
+        boolean exists = reportResultStore.exists(reportExec);
+        if (!ReportExecStatus.SUCCESS.name().equals(reportExec.getStatus()) || !exists) {
             SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.InvalidReportExec);
-            sce.getElements().add(reportExec.getExecResult() == null
-                    ? "No report data produced"
-                    : "Report did not run successfully");
+            sce.getElements().add(exists
+                    ? "Report did not run successfully"
+                    : "No report data produced");
             throw sce;
         }
         return reportExec;
@@ -216,10 +221,13 @@ public class ReportLogic extends AbstractExecutableLogic<ReportTO> {
     public void exportExecutionResult(final OutputStream os, final ReportExec reportExec,
             final ReportExecExportFormat format) {
 
-        // streaming SAX handler from a compressed byte array stream
-        ByteArrayInputStream bais = new ByteArrayInputStream(reportExec.getExecResult());
-        ZipInputStream zis = new ZipInputStream(bais);
+        // streaming SAX handler from a compressed stream
+        InputStream is = null;
+        ZipInputStream zis = null;
         try {
+            is = reportResultStore.openForRead(reportExec);
+            zis = new ZipInputStream(is);
+
             // a single ZipEntry in the ZipInputStream (see ReportJob)
             zis.getNextEntry();
 
@@ -282,7 +290,7 @@ public class ReportLogic extends AbstractExecutableLogic<ReportTO> {
             LOG.error("While exporting content", e);
         } finally {
             IOUtils.closeQuietly(zis);
-            IOUtils.closeQuietly(bais);
+            IOUtils.closeQuietly(is);
         }
     }
 
@@ -295,6 +303,9 @@ public class ReportLogic extends AbstractExecutableLogic<ReportTO> {
 
         ReportTO deletedReport = binder.getReportTO(report);
         jobManager.unregister(report);
+        for (ReportExec exec : report.getExecs()) {
+            reportResultStore.delete(exec);
+        }
         reportDAO.delete(report);
         return deletedReport;
     }
@@ -347,6 +358,7 @@ public class ReportLogic extends AbstractExecutableLogic<ReportTO> {
 
         ExecTO reportExecToDelete = binder.getExecTO(reportExec);
         reportExecDAO.delete(reportExec);
+        reportResultStore.delete(reportExec);
         return reportExecToDelete;
     }
 
@@ -366,6 +378,7 @@ public class ReportLogic extends AbstractExecutableLogic<ReportTO> {
         for (ReportExec exec : reportExecDAO.findAll(report, startedBefore, startedAfter, endedBefore, endedAfter)) {
             try {
                 reportExecDAO.delete(exec);
+                reportResultStore.delete(exec);
                 result.getResults().put(String.valueOf(exec.getKey()), BulkActionResult.Status.SUCCESS);
             } catch (Exception e) {
                 LOG.error("Error deleting execution {} of report {}", exec.getKey(), key, e);
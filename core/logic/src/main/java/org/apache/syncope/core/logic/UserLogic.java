@@ -22,6 +22,7 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import java.util.Set;
 import org.apache.commons.collections4.CollectionUtils;
@@ -31,6 +32,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.SyncopeClientException;
+import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.patch.BooleanReplacePatchItem;
 import org.apache.syncope.common.lib.patch.PasswordPatch;
 import org.apache.syncope.common.lib.patch.StatusPatch;
@@ -39,6 +41,7 @@ import org.apache.syncope.common.lib.patch.UserPatch;
 import org.apache.syncope.common.lib.to.PropagationStatus;
 import org.apache.syncope.common.lib.to.ProvisioningResult;
 import org.apache.syncope.common.lib.to.UserTO;
+import org.apache.syncope.common.lib.AnyProjection;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.common.lib.types.PatchOperation;
@@ -99,7 +102,7 @@ public class UserLogic extends AbstractAnyLogic<UserTO, UserPatch> {
     @Override
     public List<UserTO> list(
             final int page, final int size, final List<OrderByClause> orderBy,
-            final String realm, final boolean details) {
+            final String realm, final boolean details, final AnyProjection projection) {
 
         return CollectionUtils.collect(userDAO.findAll(
                 getEffectiveRealms(AuthContextUtils.getAuthorizations().get(StandardEntitlement.USER_SEARCH), realm),
@@ -108,7 +111,7 @@ public class UserLogic extends AbstractAnyLogic<UserTO, UserPatch> {
 
             @Override
             public UserTO transform(final User input) {
-                return binder.returnUserTO(binder.getUserTO(input, details));
+                return binder.returnUserTO(binder.getUserTO(input, details, projection));
             }
         }, new ArrayList<UserTO>());
     }
@@ -128,31 +131,40 @@ public class UserLogic extends AbstractAnyLogic<UserTO, UserPatch> {
         return binder.returnUserTO(binder.getUserTO(key));
     }
 
-    @PreAuthorize("hasRole('" + StandardEntitlement.USER_SEARCH + "')")
+    @PreAuthorize("hasRole('" + StandardEntitlement.USER_READ + "')")
     @Transactional(readOnly = true)
     @Override
-    public int searchCount(final SearchCond searchCondition, final String realm) {
-        return searchDAO.count(
-                getEffectiveRealms(AuthContextUtils.getAuthorizations().get(StandardEntitlement.USER_SEARCH), realm),
-                searchCondition, AnyTypeKind.USER);
+    public UserTO read(final String key, final AnyProjection projection) {
+        return binder.returnUserTO(binder.getUserTO(key, projection));
+    }
+
+    @PreAuthorize("hasRole('" + StandardEntitlement.USER_READ + "')")
+    @Transactional(readOnly = true)
+    @Override
+    public Date findLastChange(final String key) {
+        return getLastChange(SyncopeConstants.UUID_PATTERN.matcher(key).matches()
+                ? userDAO.authFind(key)
+                : userDAO.authFindByUsername(key));
     }
 
     @PreAuthorize("hasRole('" + StandardEntitlement.USER_SEARCH + "')")
     @Transactional(readOnly = true)
     @Override
-    public List<UserTO> search(final SearchCond searchCondition, final int page, final int size,
-            final List<OrderByClause> orderBy, final String realm, final boolean details) {
+    public Pair<Integer, List<UserTO>> search(final SearchCond searchCondition, final int page, final int size,
+            final List<OrderByClause> orderBy, final String realm, final boolean details,
+            final AnyProjection projection, final boolean count) {
 
-        List<User> matchingUsers = searchDAO.search(
+        Pair<Integer, List<User>> matchingUsers = searchDAO.searchAndCount(
                 getEffectiveRealms(AuthContextUtils.getAuthorizations().get(StandardEntitlement.USER_SEARCH), realm),
-                searchCondition, page, size, orderBy, AnyTypeKind.USER);
-        return CollectionUtils.collect(matchingUsers, new Transformer<User, UserTO>() {
+                searchCondition, page, size, orderBy, AnyTypeKind.USER, count);
+        return ImmutablePair.of(matchingUsers.getLeft(), CollectionUtils.collect(matchingUsers.getRight(),
+                new Transformer<User, UserTO>() {
 
             @Override
             public UserTO transform(final User input) {
-                return binder.returnUserTO(binder.getUserTO(input, details));
+                return binder.returnUserTO(binder.getUserTO(input, details, projection));
             }
-        }, new ArrayList<UserTO>());
+        }, new ArrayList<UserTO>()));
     }
 
     @PreAuthorize("isAnonymous() or hasRole('" + StandardEntitlement.ANONYMOUS + "')")
@@ -18,26 +18,21 @@
  */
 package org.apache.syncope.core.logic.init;
 
-import java.sql.Connection;
-import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.Map;
-import javax.sql.DataSource;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.core.Appender;
 import org.apache.logging.log4j.core.LoggerContext;
-import org.apache.logging.log4j.core.appender.db.jdbc.ColumnConfig;
-import org.apache.logging.log4j.core.appender.db.jdbc.ConnectionSource;
-import org.apache.logging.log4j.core.appender.db.jdbc.JdbcAppender;
 import org.apache.logging.log4j.core.config.LoggerConfig;
+import org.apache.syncope.core.logic.AuditAppender;
 import org.apache.syncope.core.logic.MemoryAppender;
+import org.apache.syncope.core.provisioning.api.AuditManager;
 import org.apache.syncope.core.provisioning.java.AuditManagerImpl;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.persistence.api.DomainsHolder;
 import org.apache.syncope.core.persistence.api.SyncopeLoader;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.jdbc.datasource.DataSourceUtils;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -49,6 +44,9 @@ public class LoggerLoader implements SyncopeLoader {
     @Autowired
     private LoggerAccessor loggerAccessor;
 
+    @Autowired
+    private AuditManager auditManager;
+
     private final Map<String, MemoryAppender> memoryAppenders = new HashMap<>();
 
     @Override
@@ -66,35 +64,20 @@ public class LoggerLoader implements SyncopeLoader {
             }
         }
 
-        // Audit table and DataSource for each configured domain
-        ColumnConfig[] columns = {
-            ColumnConfig.createColumnConfig(ctx.getConfiguration(), "EVENT_DATE", null, null, "true", null, null),
-            ColumnConfig.createColumnConfig(ctx.getConfiguration(), "LOGGER_LEVEL", "%level", null, null, null, null),
-            ColumnConfig.createColumnConfig(ctx.getConfiguration(), "LOGGER", "%logger", null, null, null, null),
-            ColumnConfig.createColumnConfig(ctx.getConfiguration(), "MESSAGE", "%message", null, null, null, null),
-            ColumnConfig.createColumnConfig(ctx.getConfiguration(), "THROWABLE", "%ex{full}", null, null, null, null)
-        };
-        for (Map.Entry<String, DataSource> entry : domainsHolder.getDomains().entrySet()) {
-            Appender appender = ctx.getConfiguration().getAppender("audit_for_" + entry.getKey());
+        // Audit appender for each configured domain, queueing entries to be written to the audit table
+        for (String domain : domainsHolder.getDomains().keySet()) {
+            Appender appender = ctx.getConfiguration().getAppender("audit_for_" + domain);
             if (appender == null) {
-                appender = JdbcAppender.createAppender(
-                        "audit_for_" + entry.getKey(),
-                        "false",
-                        null,
-                        new DataSourceConnectionSource(entry.getValue()),
-                        "0",
-                        "SYNCOPEAUDIT",
-                        columns);
+                appender = new AuditAppender("audit_for_" + domain, domain, auditManager);
                 appender.start();
                 ctx.getConfiguration().addAppender(appender);
             }
 
-            LoggerConfig logConf = new LoggerConfig(
-                    AuditManagerImpl.getDomainAuditLoggerName(entry.getKey()), null, false);
+            LoggerConfig logConf = new LoggerConfig(AuditManagerImpl.getDomainAuditLoggerName(domain), null, false);
             logConf.addAppender(appender, Level.DEBUG, null);
-            ctx.getConfiguration().addLogger(AuditManagerImpl.getDomainAuditLoggerName(entry.getKey()), logConf);
+            ctx.getConfiguration().addLogger(AuditManagerImpl.getDomainAuditLoggerName(domain), logConf);
 
-            AuthContextUtils.execWithAuthContext(entry.getKey(), new AuthContextUtils.Executable<Void>() {
+            AuthContextUtils.execWithAuthContext(domain, new AuthContextUtils.Executable<Void>() {
 
                 @Override
                 public Void exec() {
@@ -110,19 +93,4 @@ public class LoggerLoader implements SyncopeLoader {
     public Map<String, MemoryAppender> getMemoryAppenders() {
         return memoryAppenders;
     }
-
-    private static class DataSourceConnectionSource implements ConnectionSource {
-
-        private final DataSource dataSource;
-
-        DataSourceConnectionSource(final DataSource dataSource) {
-            this.dataSource = dataSource;
-        }
-
-        @Override
-        public Connection getConnection() throws SQLException {
-            return DataSourceUtils.getConnection(dataSource);
-        }
-
-    }
 }
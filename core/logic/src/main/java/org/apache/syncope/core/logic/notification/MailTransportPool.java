@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.logic.notification;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import javax.mail.MessagingException;
+import javax.mail.Transport;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+/**
+ * Keeps connected mail transports, obtained from the session of the given mail sender, so that they can be reused for
+ * sending several batches of messages instead of opening a new connection for each message.
+ */
+class MailTransportPool {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MailTransportPool.class);
+
+    private final JavaMailSenderImpl mailSender;
+
+    private final BlockingQueue<Transport> idle;
+
+    MailTransportPool(final JavaMailSenderImpl mailSender, final int size) {
+        this.mailSender = mailSender;
+        this.idle = new ArrayBlockingQueue<>(size);
+    }
+
+    /**
+     * Returns an idle transport, if still connected, or a newly connected one.
+     *
+     * @return connected transport
+     * @throws MessagingException if no connection could be established
+     */
+    public Transport borrow() throws MessagingException {
+        Transport transport = idle.poll();
+        while (transport != null && !transport.isConnected()) {
+            discard(transport);
+            transport = idle.poll();
+        }
+
+        if (transport == null) {
+            transport = mailSender.getSession().getTransport(
+                    mailSender.getProtocol() == null ? JavaMailSenderImpl.DEFAULT_PROTOCOL : mailSender.getProtocol());
+            transport.connect(
+                    mailSender.getHost(),
+                    mailSender.getPort(),
+                    StringUtils.isBlank(mailSender.getUsername()) ? null : mailSender.getUsername(),
+                    StringUtils.isBlank(mailSender.getPassword()) ? null : mailSender.getPassword());
+        }
+
+        return transport;
+    }
+
+    /**
+     * Makes the given transport available for reuse, or closes it if the pool is full.
+     *
+     * @param transport transport obtained via {@link #borrow()}
+     */
+    public void release(final Transport transport) {
+        if (!idle.offer(transport)) {
+            discard(transport);
+        }
+    }
+
+    /**
+     * Closes the given transport, not to be used any more.
+     *
+     * @param transport transport obtained via {@link #borrow()}
+     */
+    public void discard(final Transport transport) {
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            LOG.debug("While closing mail transport", e);
+        }
+    }
+
+    /**
+     * Closes all idle transports.
+     */
+    public void clear() {
+        for (Transport transport = idle.poll(); transport != null; transport = idle.poll()) {
+            discard(transport);
+        }
+    }
+}
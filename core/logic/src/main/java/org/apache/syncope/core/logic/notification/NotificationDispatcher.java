@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.logic.notification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import javax.annotation.Resource;
+import javax.mail.MessagingException;
+import javax.mail.Transport;
+import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.quartz.JobExecutionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sends out the pending notification tasks of the current domain: tasks are fetched in pages, each split into batches
+ * executed in parallel by {@code notificationDispatcherExecutor}; all e-mails of a batch are sent through the same
+ * connection, taken from a pool of mail transports.
+ */
+@Component
+public class NotificationDispatcher implements InitializingBean, DisposableBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+    @Autowired
+    private NotificationJobDelegate delegate;
+
+    @Autowired
+    private JavaMailSender mailSender;
+
+    @Resource(name = "notificationDispatcherExecutor")
+    private ThreadPoolTaskExecutor executor;
+
+    /**
+     * Number of notification tasks fetched at once.
+     */
+    @Value("${notificationDispatcher.pageSize:1000}")
+    private int pageSize;
+
+    /**
+     * Number of notification tasks sent through the same connection by each {@code notificationDispatcherExecutor}
+     * thread.
+     */
+    @Value("${notificationDispatcher.batchSize:50}")
+    private int batchSize;
+
+    private MailTransportPool transportPool;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (mailSender instanceof JavaMailSenderImpl) {
+            // one more than pool threads, as the caller might run batches as well when the queue is full
+            transportPool = new MailTransportPool((JavaMailSenderImpl) mailSender, executor.getMaxPoolSize() + 1);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (transportPool != null) {
+            transportPool.clear();
+        }
+    }
+
+    private Transport borrowTransport() {
+        Transport transport = null;
+        if (transportPool != null) {
+            try {
+                transport = transportPool.borrow();
+            } catch (MessagingException e) {
+                LOG.error("Could not connect mail transport, falling back to one connection per e-mail", e);
+            }
+        }
+        return transport;
+    }
+
+    private void sendBatch(final List<String> taskKeys) {
+        Transport transport = borrowTransport();
+        try {
+            for (String taskKey : taskKeys) {
+                if (Thread.currentThread().isInterrupted()) {
+                    LOG.debug("Interrupted, {} notification tasks not executed", taskKeys.size());
+                    break;
+                }
+
+                try {
+                    TaskExec execution = delegate.executeSingle(taskKey, transport);
+
+                    // a failure might have been caused by a broken connection: replace it for the rest of the batch
+                    if (transport != null && execution != null
+                            && NotificationJob.Status.NOT_SENT.name().equals(execution.getStatus())
+                            && !transport.isConnected()) {
+
+                        transportPool.discard(transport);
+                        transport = borrowTransport();
+                    }
+                } catch (Exception e) {
+                    LOG.error("While executing notification task {}", taskKey, e);
+                }
+            }
+        } finally {
+            if (transport != null) {
+                transportPool.release(transport);
+            }
+        }
+    }
+
+    /**
+     * Sends out all notification tasks of the current domain waiting to be executed when this method is invoked.
+     * Tasks failing and to be retried are not executed again until the next invocation.
+     *
+     * @throws JobExecutionException if interrupted while waiting for batches to complete
+     */
+    public void dispatch() throws JobExecutionException {
+        final String domain = AuthContextUtils.getDomain();
+
+        String lastKey = null;
+        List<String> page;
+        do {
+            page = delegate.findToExec(lastKey, pageSize);
+            LOG.debug("Found {} notification tasks to be executed", page.size());
+
+            List<Future<?>> batches = new ArrayList<>();
+            for (int i = 0; i < page.size(); i += batchSize) {
+                final List<String> batch = page.subList(i, Math.min(page.size(), i + batchSize));
+                batches.add(executor.submit(new Runnable() {
+
+                    @Override
+                    public void run() {
+                        AuthContextUtils.execWithAuthContext(domain, new AuthContextUtils.Executable<Void>() {
+
+                            @Override
+                            public Void exec() {
+                                sendBatch(batch);
+                                return null;
+                            }
+                        });
+                    }
+                }));
+            }
+
+            for (Future<?> batch : batches) {
+                try {
+                    batch.get();
+                } catch (ExecutionException e) {
+                    LOG.error("While sending out notifications", e.getCause());
+                } catch (InterruptedException e) {
+                    for (Future<?> toCancel : batches) {
+                        toCancel.cancel(true);
+                    }
+                    Thread.currentThread().interrupt();
+                    throw new JobExecutionException("Interrupted while sending out notifications", e);
+                }
+            }
+
+            if (!page.isEmpty()) {
+                lastKey = page.get(page.size() - 1);
+            }
+        } while (page.size() == pageSize);
+    }
+}
@@ -29,7 +29,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 /**
- * Periodically checks for notification to send.
+ * Periodically checks for notification to send; can also be fired as soon as new notification tasks are created.
  *
  * @see org.apache.syncope.core.persistence.api.entity.task.NotificationTask
  */
@@ -51,7 +51,7 @@ public class NotificationJob extends AbstractInterruptableJob {
     private DomainsHolder domainsHolder;
 
     @Autowired
-    private NotificationJobDelegate delegate;
+    private NotificationDispatcher dispatcher;
 
     @Override
     public void execute(final JobExecutionContext context) throws JobExecutionException {
@@ -66,7 +66,7 @@ public class NotificationJob extends AbstractInterruptableJob {
                     @Override
                     public Void exec() {
                         try {
-                            delegate.execute();
+                            dispatcher.dispatch();
                         } catch (Exception e) {
                             LOG.error("While sending out notifications", e);
                             throw new RuntimeException(e);
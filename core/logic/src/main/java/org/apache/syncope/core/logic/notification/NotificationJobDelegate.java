@@ -18,8 +18,12 @@
  */
 package org.apache.syncope.core.logic.notification;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 import java.util.Properties;
+import javax.mail.MessagingException;
+import javax.mail.Transport;
 import javax.mail.internet.MimeMessage;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.types.AuditElements;
@@ -32,9 +36,9 @@ import org.apache.syncope.core.persistence.api.entity.task.NotificationTask;
 import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
 import org.apache.syncope.core.provisioning.api.AuditManager;
 import org.apache.syncope.core.provisioning.api.notification.NotificationManager;
-import org.quartz.JobExecutionException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.JavaMailSenderImpl;
@@ -43,7 +47,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 @Component
-public class NotificationJobDelegate {
+public class NotificationJobDelegate implements InitializingBean {
 
     private static final Logger LOG = LoggerFactory.getLogger(NotificationJobDelegate.class);
 
@@ -65,11 +69,11 @@ public class NotificationJobDelegate {
     @Autowired
     private NotificationManager notificationManager;
 
-    private long maxRetries;
-
-    private void init() {
-        maxRetries = notificationManager.getMaxRetries();
-
+    /**
+     * Configures the mail sender once, as resetting its properties discards the session used by ongoing sends.
+     */
+    @Override
+    public void afterPropertiesSet() {
         if (mailSender instanceof JavaMailSenderImpl
                 && StringUtils.isNotBlank(((JavaMailSenderImpl) mailSender).getUsername())) {
 
@@ -79,10 +83,61 @@ public class NotificationJobDelegate {
         }
     }
 
+    /**
+     * Find the keys of a page of notification tasks to be executed.
+     *
+     * @param lastKey key of the last task of the previous page, or null for the first page
+     * @param max maximum number of keys to return
+     * @return keys of notification tasks to be executed
+     */
+    @Transactional(readOnly = true)
+    public List<String> findToExec(final String lastKey, final int max) {
+        List<String> keys = new ArrayList<>();
+        for (NotificationTask task : taskDAO.<NotificationTask>findToExec(TaskType.NOTIFICATION, lastKey, max)) {
+            keys.add(task.getKey());
+        }
+        return keys;
+    }
+
+    /**
+     * Execute the given notification task, sending its e-mails through the given transport.
+     *
+     * @param taskKey notification task key
+     * @param transport connected transport, or null to let the mail sender open a connection
+     * @return execution, or null if no such task was found
+     */
+    @Transactional
+    public TaskExec executeSingle(final String taskKey, final Transport transport) {
+        NotificationTask task = taskDAO.find(taskKey);
+        if (task == null) {
+            LOG.debug("Notification task {} not found, ignoring", taskKey);
+            return null;
+        }
+
+        LOG.debug("Found notification task {} to be executed: starting...", task);
+        TaskExec execution = doExecuteSingle(task, transport);
+        LOG.debug("Notification task {} executed", task);
+        return execution;
+    }
+
     @Transactional
     public TaskExec executeSingle(final NotificationTask task) {
-        init();
+        return doExecuteSingle(task, null);
+    }
 
+    private void send(final MimeMessage message, final Transport transport) throws MessagingException {
+        if (transport == null) {
+            mailSender.send(message);
+        } else {
+            if (message.getSentDate() == null) {
+                message.setSentDate(new Date());
+            }
+            message.saveChanges();
+            transport.sendMessage(message, message.getAllRecipients());
+        }
+    }
+
+    private TaskExec doExecuteSingle(final NotificationTask task, final Transport transport) {
         TaskExec execution = entityFactory.newEntity(TaskExec.class);
         execution.setTask(task);
         execution.setStart(new Date());
@@ -125,7 +180,7 @@ public class NotificationJobDelegate {
                     helper.setSubject(task.getSubject());
                     helper.setText(task.getTextBody(), task.getHtmlBody());
 
-                    mailSender.send(message);
+                    send(message, transport);
 
                     execution.setStatus(NotificationJob.Status.SENT.name());
 
@@ -190,7 +245,7 @@ public class NotificationJobDelegate {
             if (retryPossible
                     && (NotificationJob.Status.valueOf(execution.getStatus()) == NotificationJob.Status.NOT_SENT)) {
 
-                handleRetries(execution);
+                handleRetries(execution, notificationManager.getMaxRetries());
             }
         } else {
             notificationManager.setTaskExecuted(execution.getTask().getKey(), true);
@@ -199,15 +254,6 @@ public class NotificationJobDelegate {
         return execution;
     }
 
-    @Transactional
-    public void execute() throws JobExecutionException {
-        for (NotificationTask task : taskDAO.<NotificationTask>findToExec(TaskType.NOTIFICATION)) {
-            LOG.debug("Found notification task {} to be executed: starting...", task);
-            executeSingle(task);
-            LOG.debug("Notification task {} executed", task);
-        }
-    }
-
     private boolean hasToBeRegistered(final TaskExec execution) {
         NotificationTask task = (NotificationTask) execution.getTask();
 
@@ -218,7 +264,7 @@ public class NotificationJobDelegate {
                 || task.getTraceLevel() == TraceLevel.ALL;
     }
 
-    private void handleRetries(final TaskExec execution) {
+    private void handleRetries(final TaskExec execution, final long maxRetries) {
         if (maxRetries <= 0) {
             return;
         }
@@ -22,6 +22,7 @@ import org.apache.syncope.core.persistence.api.dao.Reportlet;
 import org.apache.syncope.common.lib.report.ReportletConf;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.transaction.annotation.Transactional;
 import org.xml.sax.ContentHandler;
 import org.xml.sax.SAXException;
@@ -31,6 +32,18 @@ public abstract class AbstractReportlet implements Reportlet {
 
     protected static final Logger LOG = LoggerFactory.getLogger(AbstractReportlet.class);
 
+    /**
+     * Number of entities loaded at once when iterating over search results.
+     */
+    @Value("${reportlet.batchSize:100}")
+    protected int batchSize;
+
+    /**
+     * Number of batches whose keys are read at once when iterating over search results.
+     */
+    @Value("${reportlet.readAhead:10}")
+    protected int readAhead;
+
     protected abstract void doExtract(ReportletConf conf, ContentHandler handler) throws SAXException;
 
     @Override
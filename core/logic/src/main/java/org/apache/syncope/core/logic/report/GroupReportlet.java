@@ -19,9 +19,8 @@
 package org.apache.syncope.core.logic.report;
 
 import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
 import java.util.Map;
+import org.apache.commons.collections4.IteratorUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.report.GroupReportletConf;
@@ -32,7 +31,7 @@ import org.apache.syncope.common.lib.to.AttrTO;
 import org.apache.syncope.common.lib.to.GroupTO;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
-import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
@@ -47,8 +46,6 @@ import org.xml.sax.helpers.AttributesImpl;
 @ReportletConfClass(GroupReportletConf.class)
 public class GroupReportlet extends AbstractReportlet {
 
-    private static final int PAGE_SIZE = 10;
-
     @Autowired
     private GroupDAO groupDAO;
 
@@ -165,7 +162,7 @@ public class GroupReportlet extends AbstractReportlet {
         }
     }
 
-    private void doExtract(final ContentHandler handler, final List<Group> groups) throws SAXException {
+    private void doExtract(final ContentHandler handler, final Iterable<Group> groups) throws SAXException {
         AttributesImpl atts = new AttributesImpl();
         for (Group group : groups) {
             atts.clear();
@@ -280,13 +277,6 @@ public class GroupReportlet extends AbstractReportlet {
         handler.endElement("", "", "configurations");
     }
 
-    private int count() {
-        return StringUtils.isBlank(conf.getMatchingCond())
-                ? groupDAO.count()
-                : searchDAO.count(SyncopeConstants.FULL_ADMIN_REALMS,
-                        SearchCondConverter.convert(conf.getMatchingCond()), AnyTypeKind.GROUP);
-    }
-
     @Override
     protected void doExtract(final ReportletConf conf, final ContentHandler handler) throws SAXException {
         if (conf instanceof GroupReportletConf) {
@@ -297,15 +287,10 @@ public class GroupReportlet extends AbstractReportlet {
 
         doExtractConf(handler);
 
-        if (StringUtils.isBlank(this.conf.getMatchingCond())) {
-            doExtract(handler, groupDAO.findAll());
-        } else {
-            for (int page = 1; page <= (count() / PAGE_SIZE) + 1; page++) {
-                List<Group> groups = searchDAO.search(SyncopeConstants.FULL_ADMIN_REALMS,
-                        SearchCondConverter.convert(this.conf.getMatchingCond()),
-                        page, PAGE_SIZE, Collections.<OrderByClause>emptyList(), AnyTypeKind.GROUP);
-                doExtract(handler, groups);
-            }
-        }
+        SearchCond cond = StringUtils.isBlank(this.conf.getMatchingCond())
+                ? null
+                : SearchCondConverter.convert(this.conf.getMatchingCond());
+        doExtract(handler, IteratorUtils.asIterable(searchDAO.<Group>iterate(
+                SyncopeConstants.FULL_ADMIN_REALMS, cond, batchSize, readAhead, AnyTypeKind.GROUP)));
     }
 }
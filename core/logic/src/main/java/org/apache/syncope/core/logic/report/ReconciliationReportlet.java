@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.logic.report;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -25,9 +26,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import javax.annotation.Resource;
 import org.apache.commons.collections4.Closure;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.IterableUtils;
+import org.apache.commons.collections4.IteratorUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.SyncopeConstants;
@@ -35,21 +42,21 @@ import org.apache.syncope.common.lib.report.ReconciliationReportletConf;
 import org.apache.syncope.common.lib.report.ReconciliationReportletConf.Feature;
 import org.apache.syncope.common.lib.report.ReportletConf;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.ConnectorCapability;
 import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
 import org.apache.syncope.core.provisioning.api.utils.FormatUtils;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
+import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.ReportletConfClass;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.dao.search.AnyTypeCond;
-import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
-import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.resource.ExternalResource;
 import org.apache.syncope.core.persistence.api.entity.resource.MappingItem;
@@ -63,9 +70,14 @@ import org.identityconnectors.common.Base64;
 import org.identityconnectors.framework.common.objects.Attribute;
 import org.identityconnectors.framework.common.objects.AttributeBuilder;
 import org.identityconnectors.framework.common.objects.ConnectorObject;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.OperationOptions;
 import org.identityconnectors.framework.common.objects.OperationalAttributes;
+import org.identityconnectors.framework.common.objects.ResultsHandler;
 import org.identityconnectors.framework.common.objects.Uid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.xml.sax.ContentHandler;
 import org.xml.sax.SAXException;
 import org.xml.sax.helpers.AttributesImpl;
@@ -77,8 +89,6 @@ import org.xml.sax.helpers.AttributesImpl;
 @ReportletConfClass(ReconciliationReportletConf.class)
 public class ReconciliationReportlet extends AbstractReportlet {
 
-    private static final int PAGE_SIZE = 10;
-
     @Autowired
     private UserDAO userDAO;
 
@@ -88,6 +98,9 @@ public class ReconciliationReportlet extends AbstractReportlet {
     @Autowired
     private AnyTypeDAO anyTypeDAO;
 
+    @Autowired
+    private ExternalResourceDAO resourceDAO;
+
     @Autowired
     private AnySearchDAO searchDAO;
 
@@ -100,6 +113,21 @@ public class ReconciliationReportlet extends AbstractReportlet {
     @Autowired
     private AnyUtilsFactory anyUtilsFactory;
 
+    /**
+     * Whether to read all objects from each resource once, rather than reading them one by one.
+     */
+    @Value("${reconciliationReportlet.scanResources:false}")
+    private boolean scanResources;
+
+    /**
+     * Maximum number of resources read concurrently when {@link #scanResources} is enabled.
+     */
+    @Value("${reconciliationReportlet.scanConcurrency:4}")
+    private int scanConcurrency;
+
+    @Resource(name = "provisioningWorkerExecutor")
+    private ThreadPoolTaskExecutor workerExecutor;
+
     private ReconciliationReportletConf conf;
 
     private String getAnyElementName(final AnyTypeKind anyTypeKind) {
@@ -275,7 +303,36 @@ public class ReconciliationReportlet extends AbstractReportlet {
         return values;
     }
 
-    private void doExtract(final ContentHandler handler, final List<? extends Any<?>> anys)
+    /**
+     * Finds the object with given key among the ones scanned from a resource, if any; otherwise reads it from the
+     * resource, which might match keys differently than scanned objects are indexed, e.g. case-insensitively.
+     *
+     * @param connector connector for the resource
+     * @param objectClass object class
+     * @param options operation options
+     * @param connObjectKeyValue connector object key
+     * @param resourceObjects objects scanned from the resource, indexed by connector object key; {@code null} if the
+     * resource was not scanned
+     * @return the connector object, or {@code null} if not found
+     */
+    static ConnectorObject read(
+            final Connector connector,
+            final ObjectClass objectClass,
+            final OperationOptions options,
+            final String connObjectKeyValue,
+            final Map<String, ConnectorObject> resourceObjects) {
+
+        ConnectorObject connectorObject = resourceObjects == null ? null : resourceObjects.get(connObjectKeyValue);
+        if (connectorObject == null) {
+            connectorObject = connector.getObject(objectClass, new Uid(connObjectKeyValue), options);
+        }
+        return connectorObject;
+    }
+
+    private void doExtract(
+            final ContentHandler handler,
+            final Iterable<? extends Any<?>> anys,
+            final Map<String, Map<String, ConnectorObject>> scanned)
             throws SAXException, ReportException {
 
         final Set<Missing> missing = new HashSet<>();
@@ -293,11 +350,13 @@ public class ReconciliationReportlet extends AbstractReportlet {
                         ? StringUtils.EMPTY
                         : mappingManager.getConnObjectKeyValue(any, provision);
                 if (provision != null && connObjectKeyItem != null && StringUtils.isNotBlank(connObjectKeyValue)) {
-                    // 1. read from the underlying connector
-                    Connector connector = connFactory.getConnector(resource);
-                    ConnectorObject connectorObject = connector.getObject(provision.getObjectClass(),
-                            new Uid(connObjectKeyValue),
-                            MappingUtils.buildOperationOptions(provision.getMapping().getItems().iterator()));
+                    // 1. read from the underlying connector, unless the whole resource was already scanned
+                    ConnectorObject connectorObject = read(
+                            connFactory.getConnector(resource),
+                            provision.getObjectClass(),
+                            MappingUtils.buildOperationOptions(provision.getMapping().getItems().iterator()),
+                            connObjectKeyValue,
+                            scanned.get(resource.getKey()));
 
                     if (connectorObject == null) {
                         // 2. not found on resource?
@@ -371,21 +430,89 @@ public class ReconciliationReportlet extends AbstractReportlet {
         }
     }
 
-    private void doExtract(
-            final ContentHandler handler, final int count, final SearchCond cond, final AnyTypeKind anyTypeKind)
-            throws SAXException {
+    /**
+     * Reads all objects from the resources provisioning the given any type - up to {@link #scanConcurrency} resources
+     * at a time - indexed by connector object key.
+     * Resources which cannot be searched, or failing while being read, are not included: their objects will be read
+     * one by one, as well as objects not found among the scanned ones.
+     *
+     * @param anyType any type
+     * @return for each resource key, the objects read from such resource
+     */
+    private Map<String, Map<String, ConnectorObject>> scan(final AnyType anyType) {
+        final Map<String, Map<String, ConnectorObject>> scanned = new ConcurrentHashMap<>();
+        if (!scanResources) {
+            return scanned;
+        }
+
+        List<Callable<Void>> scans = new ArrayList<>();
+        for (ExternalResource resource : resourceDAO.findAll()) {
+            Provision provision = resource.getProvision(anyType);
+            if (provision != null && MappingUtils.getConnObjectKeyItem(provision) != null) {
+                final Connector connector = connFactory.getConnector(resource);
+                if (connector.getConnInstance().getCapabilities().contains(ConnectorCapability.SEARCH)) {
+                    final String resourceKey = resource.getKey();
+                    final ObjectClass objectClass = provision.getObjectClass();
+                    final OperationOptions options =
+                            MappingUtils.buildOperationOptions(provision.getMapping().getItems().iterator());
+
+                    scans.add(new Callable<Void>() {
+
+                        @Override
+                        public Void call() {
+                            final Map<String, ConnectorObject> objects = new HashMap<>();
+                            connector.search(objectClass, null, new ResultsHandler() {
+
+                                @Override
+                                public boolean handle(final ConnectorObject connectorObject) {
+                                    objects.put(connectorObject.getUid().getUidValue(), connectorObject);
+                                    return true;
+                                }
+                            }, options);
+                            LOG.debug("Read {} objects with class {} from resource {}",
+                                    objects.size(), objectClass, resourceKey);
 
-        for (int page = 1; page <= (count / PAGE_SIZE) + 1; page++) {
-            List<AnyObject> anys = searchDAO.search(
-                    SyncopeConstants.FULL_ADMIN_REALMS,
-                    cond,
-                    page,
-                    PAGE_SIZE,
-                    Collections.<OrderByClause>emptyList(),
-                    anyTypeKind);
+                            scanned.put(resourceKey, objects);
+                            return null;
+                        }
+                    });
+                }
+            }
+        }
 
-            doExtract(handler, anys);
+        // no more than scanConcurrency resources are read at the same time
+        int concurrency = Math.max(scanConcurrency, 1);
+        for (int i = 0; i < scans.size(); i += concurrency) {
+            List<Future<Void>> futures = new ArrayList<>();
+            try {
+                for (Callable<Void> scan : scans.subList(i, Math.min(i + concurrency, scans.size()))) {
+                    futures.add(workerExecutor.submit(scan));
+                }
+                for (Future<Void> future : futures) {
+                    try {
+                        future.get();
+                    } catch (ExecutionException e) {
+                        LOG.error("While reading all objects from resource, will read them one by one", e.getCause());
+                    }
+                }
+            } catch (InterruptedException e) {
+                for (Future<Void> future : futures) {
+                    future.cancel(true);
+                }
+                Thread.currentThread().interrupt();
+                throw new ReportException(e);
+            }
         }
+
+        return scanned;
+    }
+
+    private void doExtract(final ContentHandler handler, final SearchCond cond, final AnyType anyType)
+            throws SAXException {
+
+        doExtract(handler, IteratorUtils.asIterable(searchDAO.<Any<?>>iterate(
+                SyncopeConstants.FULL_ADMIN_REALMS, cond, batchSize, readAhead, anyType.getKind())),
+                scan(anyType));
     }
 
     @Override
@@ -402,7 +529,7 @@ public class ReconciliationReportlet extends AbstractReportlet {
             atts.addAttribute("", "", "total", ReportXMLConst.XSD_INT, String.valueOf(userDAO.count()));
             handler.startElement("", "", getAnyElementName(AnyTypeKind.USER) + "s", atts);
 
-            doExtract(handler, userDAO.findAll());
+            doExtract(handler, null, anyTypeDAO.findUser());
         } else {
             SearchCond cond = SearchCondConverter.convert(this.conf.getUserMatchingCond());
 
@@ -410,7 +537,7 @@ public class ReconciliationReportlet extends AbstractReportlet {
             atts.addAttribute("", "", "total", ReportXMLConst.XSD_INT, String.valueOf(count));
             handler.startElement("", "", getAnyElementName(AnyTypeKind.USER) + "s", atts);
 
-            doExtract(handler, count, cond, AnyTypeKind.USER);
+            doExtract(handler, cond, anyTypeDAO.findUser());
         }
         handler.endElement("", "", getAnyElementName(AnyTypeKind.USER) + "s");
 
@@ -419,7 +546,7 @@ public class ReconciliationReportlet extends AbstractReportlet {
             atts.addAttribute("", "", "total", ReportXMLConst.XSD_INT, String.valueOf(groupDAO.count()));
             handler.startElement("", "", getAnyElementName(AnyTypeKind.GROUP) + "s", atts);
 
-            doExtract(handler, groupDAO.findAll());
+            doExtract(handler, null, anyTypeDAO.findGroup());
         } else {
             SearchCond cond = SearchCondConverter.convert(this.conf.getUserMatchingCond());
 
@@ -427,7 +554,7 @@ public class ReconciliationReportlet extends AbstractReportlet {
             atts.addAttribute("", "", "total", ReportXMLConst.XSD_INT, String.valueOf(count));
             handler.startElement("", "", getAnyElementName(AnyTypeKind.GROUP) + "s", atts);
 
-            doExtract(handler, count, cond, AnyTypeKind.GROUP);
+            doExtract(handler, cond, anyTypeDAO.findGroup());
         }
         handler.endElement("", "", getAnyElementName(AnyTypeKind.GROUP) + "s");
 
@@ -448,7 +575,7 @@ public class ReconciliationReportlet extends AbstractReportlet {
                 atts.addAttribute("", "", "total", ReportXMLConst.XSD_INT, String.valueOf(count));
                 handler.startElement("", "", getAnyElementName(AnyTypeKind.ANY_OBJECT) + "s", atts);
 
-                doExtract(handler, count, cond, AnyTypeKind.ANY_OBJECT);
+                doExtract(handler, cond, anyType);
 
                 handler.endElement("", "", getAnyElementName(AnyTypeKind.ANY_OBJECT) + "s");
             }
@@ -18,10 +18,9 @@
  */
 package org.apache.syncope.core.logic.report;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Date;
-import java.util.zip.Deflater;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 import javax.xml.transform.OutputKeys;
@@ -74,6 +73,9 @@ public class ReportJobDelegate {
     @Autowired
     private ImplementationLookup implementationLookup;
 
+    @Autowired
+    private ReportResultStore reportResultStore;
+
     @Transactional
     public void execute(final String reportKey) throws JobExecutionException {
         Report report = reportDAO.find(reportKey);
@@ -99,10 +101,13 @@ public class ReportJobDelegate {
         // 2. define a SAX handler for generating result as XML
         TransformerHandler handler;
 
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        ZipOutputStream zos = new ZipOutputStream(baos);
-        zos.setLevel(Deflater.BEST_COMPRESSION);
+        OutputStream os = null;
+        ZipOutputStream zos;
         try {
+            os = reportResultStore.openForWrite(execution);
+            zos = new ZipOutputStream(os);
+            zos.setLevel(reportResultStore.getCompressionLevel());
+
             SAXTransformerFactory tFactory = (SAXTransformerFactory) SAXTransformerFactory.newInstance();
             tFactory.setFeature(javax.xml.XMLConstants.FEATURE_SECURE_PROCESSING, true);
             handler = tFactory.newTransformerHandler();
@@ -113,9 +118,17 @@ public class ReportJobDelegate {
             // a single ZipEntry in the ZipOutputStream
             zos.putNextEntry(new ZipEntry(report.getName()));
 
-            // streaming SAX handler in a compressed byte array stream
+            // streaming SAX handler in a compressed stream
             handler.setResult(new StreamResult(zos));
         } catch (Exception e) {
+            // nothing was generated: the execution is failed, without result
+            reportResultStore.discard(os);
+
+            execution.setStatus(ReportExecStatus.FAILURE);
+            execution.setMessage(ExceptionUtils2.getFullStackTrace(e));
+            execution.setEnd(new Date());
+            reportExecDAO.save(execution);
+
             throw new JobExecutionException("While configuring for SAX generation", e, true);
         }
 
@@ -183,13 +196,13 @@ public class ReportJobDelegate {
         } finally {
             try {
                 zos.closeEntry();
-                IOUtils.closeQuietly(zos);
-                IOUtils.closeQuietly(baos);
+                zos.close();
             } catch (IOException e) {
                 LOG.error("While closing StreamResult's backend", e);
+            } finally {
+                IOUtils.closeQuietly(os);
             }
 
-            execution.setExecResult(baos.toByteArray());
             execution.setMessage(reportExecutionMessage.toString());
             execution.setEnd(new Date());
             reportExecDAO.save(execution);
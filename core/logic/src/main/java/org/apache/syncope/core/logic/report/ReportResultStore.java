@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.logic.report;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.syncope.core.persistence.api.dao.ReportExecDAO;
+import org.apache.syncope.core.persistence.api.entity.ReportExec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Stores the compressed XML produced by report executions, either in the {@code execResult} column or as one file
+ * per execution under the configured directory, which must be shared by all nodes; in both cases the result is
+ * streamed, never held in memory as a whole.
+ * Reading is independent of the configured mode, so that results stored before a mode switch are still available.
+ */
+@Component
+public class ReportResultStore implements InitializingBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReportResultStore.class);
+
+    public enum Mode {
+        DATABASE,
+        FILE
+
+    }
+
+    @Autowired
+    private ReportExecDAO reportExecDAO;
+
+    @Value("${reportResultStore.mode:DATABASE}")
+    private Mode mode;
+
+    @Value("${reportResultStore.directory:}")
+    private String directory;
+
+    @Value("${reportResultStore.compressionLevel:9}")
+    private int compressionLevel;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (mode == Mode.FILE && StringUtils.isBlank(directory)) {
+            throw new IllegalArgumentException(
+                    "reportResultStore.directory must be set to a directory shared by all nodes in FILE mode");
+        }
+    }
+
+    public int getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    private File getFile(final ReportExec exec) {
+        return StringUtils.isBlank(directory) ? null : new File(directory, exec.getKey() + ".zip");
+    }
+
+    private static void delete(final File file) {
+        if (file.isFile() && !file.delete()) {
+            LOG.warn("Could not delete {}", file.getAbsolutePath());
+        }
+    }
+
+    /**
+     * Stream writing the result of a report execution to the given file; when spooled, the file is streamed to the
+     * database and removed upon closing.
+     */
+    private class ResultOutputStream extends BufferedOutputStream {
+
+        private final ReportExec exec;
+
+        private final File file;
+
+        private final boolean spooled;
+
+        private boolean discarded;
+
+        private boolean closed;
+
+        ResultOutputStream(final ReportExec exec, final File file, final boolean spooled) throws IOException {
+            super(new FileOutputStream(file));
+            this.exec = exec;
+            this.file = file;
+            this.spooled = spooled;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+
+            try {
+                super.close();
+                if (spooled && !discarded) {
+                    try (InputStream result = new BufferedInputStream(new FileInputStream(file))) {
+                        reportExecDAO.saveExecResult(exec, result, file.length());
+                    }
+                }
+            } catch (RuntimeException e) {
+                throw new IOException("While saving result of report execution " + exec.getKey(), e);
+            } finally {
+                if (spooled || discarded) {
+                    delete(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Opens a stream for writing the result of the given execution.
+     * In {@link Mode#DATABASE} mode the result is spooled to a temporary file, then streamed to the database when the
+     * returned stream is closed; in {@link Mode#FILE} mode the result file is removed if the current transaction is
+     * rolled back.
+     *
+     * @param exec report execution
+     * @return stream where to write the execution result
+     * @throws IOException if the result file cannot be created
+     */
+    public OutputStream openForWrite(final ReportExec exec) throws IOException {
+        if (mode == Mode.FILE) {
+            final File file = getFile(exec);
+            FileUtils.forceMkdir(file.getParentFile());
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+
+                    @Override
+                    public void afterCompletion(final int status) {
+                        if (status == STATUS_ROLLED_BACK) {
+                            delete(file);
+                        }
+                    }
+                });
+            }
+            return new ResultOutputStream(exec, file, false);
+        }
+
+        return new ResultOutputStream(exec, File.createTempFile("report", ".zip"), true);
+    }
+
+    /**
+     * Closes the given stream, as returned by {@link #openForWrite(ReportExec)}, without storing what was written so
+     * far; no exception is raised.
+     *
+     * @param os stream where the execution result was being written, or {@code null}
+     */
+    public void discard(final OutputStream os) {
+        if (os instanceof ResultOutputStream) {
+            ((ResultOutputStream) os).discarded = true;
+        }
+        IOUtils.closeQuietly(os);
+    }
+
+    /**
+     * Opens a stream for reading the result of the given execution.
+     *
+     * @param exec report execution
+     * @return stream to read the execution result from, or {@code null} if no result was stored
+     * @throws IOException if the result file cannot be read
+     */
+    public InputStream openForRead(final ReportExec exec) throws IOException {
+        File file = getFile(exec);
+        if (file != null && file.isFile()) {
+            return new BufferedInputStream(new FileInputStream(file));
+        }
+
+        return reportExecDAO.openExecResult(exec);
+    }
+
+    public boolean exists(final ReportExec exec) {
+        File file = getFile(exec);
+        return (file != null && file.isFile()) || reportExecDAO.hasExecResult(exec);
+    }
+
+    /**
+     * Removes the result file of the given execution, if any, as soon as the current transaction - if any - is
+     * committed.
+     *
+     * @param exec report execution
+     */
+    public void delete(final ReportExec exec) {
+        final File file = getFile(exec);
+        if (file == null) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+
+                @Override
+                public void afterCommit() {
+                    delete(file);
+                }
+            });
+        } else {
+            delete(file);
+        }
+    }
+}
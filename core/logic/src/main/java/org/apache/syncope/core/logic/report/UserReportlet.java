@@ -19,9 +19,8 @@
 package org.apache.syncope.core.logic.report;
 
 import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
 import java.util.Map;
+import org.apache.commons.collections4.IteratorUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.report.ReportletConf;
@@ -33,8 +32,7 @@ import org.apache.syncope.common.lib.to.MembershipTO;
 import org.apache.syncope.common.lib.to.RelationshipTO;
 import org.apache.syncope.common.lib.to.UserTO;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
-import org.apache.syncope.core.persistence.api.dao.UserDAO;
-import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
 import org.apache.syncope.core.provisioning.api.utils.FormatUtils;
@@ -53,11 +51,6 @@ import org.xml.sax.helpers.AttributesImpl;
 @ReportletConfClass(UserReportletConf.class)
 public class UserReportlet extends AbstractReportlet {
 
-    private static final int PAGE_SIZE = 10;
-
-    @Autowired
-    private UserDAO userDAO;
-
     @Autowired
     private AnySearchDAO searchDAO;
 
@@ -177,7 +170,7 @@ public class UserReportlet extends AbstractReportlet {
         }
     }
 
-    private void doExtract(final ContentHandler handler, final List<User> users) throws SAXException {
+    private void doExtract(final ContentHandler handler, final Iterable<User> users) throws SAXException {
         AttributesImpl atts = new AttributesImpl();
         for (User user : users) {
             atts.clear();
@@ -347,13 +340,6 @@ public class UserReportlet extends AbstractReportlet {
         handler.endElement("", "", "configurations");
     }
 
-    private int count() {
-        return StringUtils.isBlank(conf.getMatchingCond())
-                ? userDAO.count()
-                : searchDAO.count(SyncopeConstants.FULL_ADMIN_REALMS,
-                        SearchCondConverter.convert(conf.getMatchingCond()), AnyTypeKind.USER);
-    }
-
     @Override
     protected void doExtract(final ReportletConf conf, final ContentHandler handler) throws SAXException {
         if (conf instanceof UserReportletConf) {
@@ -364,15 +350,10 @@ public class UserReportlet extends AbstractReportlet {
 
         doExtractConf(handler);
 
-        if (StringUtils.isBlank(this.conf.getMatchingCond())) {
-            doExtract(handler, userDAO.findAll());
-        } else {
-            for (int page = 1; page <= (count() / PAGE_SIZE) + 1; page++) {
-                List<User> users = searchDAO.search(SyncopeConstants.FULL_ADMIN_REALMS,
-                        SearchCondConverter.convert(this.conf.getMatchingCond()),
-                        page, PAGE_SIZE, Collections.<OrderByClause>emptyList(), AnyTypeKind.USER);
-                doExtract(handler, users);
-            }
-        }
+        SearchCond cond = StringUtils.isBlank(this.conf.getMatchingCond())
+                ? null
+                : SearchCondConverter.convert(this.conf.getMatchingCond());
+        doExtract(handler, IteratorUtils.asIterable(searchDAO.<User>iterate(
+                SyncopeConstants.FULL_ADMIN_REALMS, cond, batchSize, readAhead, AnyTypeKind.USER)));
     }
 }
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.logic.report;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.syncope.core.provisioning.api.Connector;
+import org.identityconnectors.framework.common.objects.ConnectorObject;
+import org.identityconnectors.framework.common.objects.ConnectorObjectBuilder;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.OperationOptionsBuilder;
+import org.identityconnectors.framework.common.objects.Uid;
+import org.junit.Test;
+
+public class ReconciliationReportletTest {
+
+    private static ConnectorObject connectorObject(final String uid) {
+        return new ConnectorObjectBuilder().
+                setObjectClass(ObjectClass.ACCOUNT).setUid(uid).setName(uid).build();
+    }
+
+    /**
+     * Connector for a case-insensitive resource, holding the given object; all read keys are recorded.
+     */
+    private static Connector connector(final ConnectorObject object, final List<String> reads) {
+        return (Connector) Proxy.newProxyInstance(
+                Connector.class.getClassLoader(),
+                new Class<?>[] { Connector.class },
+                new InvocationHandler() {
+
+            @Override
+            public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+                if ("getObject".equals(method.getName())) {
+                    String key = ((Uid) args[1]).getUidValue();
+                    reads.add(key);
+                    return object.getUid().getUidValue().equalsIgnoreCase(key) ? object : null;
+                }
+                throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+
+    private static Map<String, ConnectorObject> scanned(final ConnectorObject object) {
+        Map<String, ConnectorObject> scanned = new HashMap<>();
+        scanned.put(object.getUid().getUidValue(), object);
+        return scanned;
+    }
+
+    @Test
+    public void scanned() {
+        ConnectorObject object = connectorObject("rossini");
+        List<String> reads = new ArrayList<>();
+
+        assertSame(object, ReconciliationReportlet.read(
+                connector(object, reads), ObjectClass.ACCOUNT, new OperationOptionsBuilder().build(),
+                "rossini", scanned(object)));
+        assertEquals(Collections.emptyList(), reads);
+    }
+
+    @Test
+    public void scannedWithDifferentCase() {
+        ConnectorObject object = connectorObject("ROSSINI");
+        List<String> reads = new ArrayList<>();
+
+        assertSame(object, ReconciliationReportlet.read(
+                connector(object, reads), ObjectClass.ACCOUNT, new OperationOptionsBuilder().build(),
+                "rossini", scanned(object)));
+        assertEquals(Collections.singletonList("rossini"), reads);
+    }
+
+    @Test
+    public void missing() {
+        ConnectorObject object = connectorObject("rossini");
+        List<String> reads = new ArrayList<>();
+
+        assertNull(ReconciliationReportlet.read(
+                connector(object, reads), ObjectClass.ACCOUNT, new OperationOptionsBuilder().build(),
+                "verdi", scanned(object)));
+        assertEquals(Collections.singletonList("verdi"), reads);
+    }
+
+    @Test
+    public void notScanned() {
+        ConnectorObject object = connectorObject("rossini");
+        List<String> reads = new ArrayList<>();
+
+        assertSame(object, ReconciliationReportlet.read(
+                connector(object, reads), ObjectClass.ACCOUNT, new OperationOptionsBuilder().build(),
+                "rossini", null));
+        assertEquals(Collections.singletonList("rossini"), reads);
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.logic.report;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.syncope.core.logic.report.ReportResultStore.Mode;
+import org.apache.syncope.core.persistence.api.dao.ReportExecDAO;
+import org.apache.syncope.core.persistence.api.entity.ReportExec;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+public class ReportResultStoreTest {
+
+    private static final byte[] RESULT = "report result".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Results saved via {@link ReportExecDAO}, by execution key.
+     */
+    private final Map<String, byte[]> saved = new HashMap<>();
+
+    private File directory;
+
+    private ReportExecDAO reportExecDAO() {
+        InvocationHandler handler = new InvocationHandler() {
+
+            @Override
+            public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+                switch (method.getName()) {
+                    case "saveExecResult":
+                        saved.put(
+                                ((ReportExec) args[0]).getKey(),
+                                IOUtils.toByteArray((InputStream) args[1], (Long) args[2]));
+                        return null;
+
+                    case "hasExecResult":
+                        return saved.containsKey(((ReportExec) args[0]).getKey());
+
+                    case "openExecResult":
+                        byte[] result = saved.get(((ReportExec) args[0]).getKey());
+                        return result == null ? null : new ByteArrayInputStream(result);
+
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            }
+        };
+        return (ReportExecDAO) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[] { ReportExecDAO.class }, handler);
+    }
+
+    private static ReportExec reportExec() {
+        final String key = UUID.randomUUID().toString();
+        InvocationHandler handler = new InvocationHandler() {
+
+            @Override
+            public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+                if ("getKey".equals(method.getName())) {
+                    return key;
+                }
+                throw new UnsupportedOperationException(method.getName());
+            }
+        };
+        return (ReportExec) Proxy.newProxyInstance(
+                ReportResultStoreTest.class.getClassLoader(), new Class<?>[] { ReportExec.class }, handler);
+    }
+
+    private ReportResultStore store(final Mode mode, final String directory) {
+        ReportResultStore store = new ReportResultStore();
+        ReflectionTestUtils.setField(store, "reportExecDAO", reportExecDAO());
+        ReflectionTestUtils.setField(store, "mode", mode);
+        ReflectionTestUtils.setField(store, "directory", directory);
+        store.afterPropertiesSet();
+        return store;
+    }
+
+    private static void write(final ReportResultStore store, final ReportExec exec) throws IOException {
+        try (OutputStream os = store.openForWrite(exec)) {
+            os.write(RESULT);
+        }
+    }
+
+    private static byte[] read(final ReportResultStore store, final ReportExec exec) throws IOException {
+        try (InputStream is = store.openForRead(exec)) {
+            return IOUtils.toByteArray(is);
+        }
+    }
+
+    @Before
+    public void before() throws IOException {
+        directory = new File(FileUtils.getTempDirectory(), "reportResultStore-" + UUID.randomUUID().toString());
+        FileUtils.forceMkdir(directory);
+    }
+
+    @After
+    public void after() {
+        FileUtils.deleteQuietly(directory);
+    }
+
+    @Test
+    public void database() throws IOException {
+        ReportResultStore store = store(Mode.DATABASE, "");
+
+        ReportExec exec = reportExec();
+        assertFalse(store.exists(exec));
+        assertNull(store.openForRead(exec));
+
+        write(store, exec);
+        assertArrayEquals(RESULT, saved.get(exec.getKey()));
+        assertTrue(store.exists(exec));
+        assertArrayEquals(RESULT, read(store, exec));
+    }
+
+    @Test
+    public void fileRequiresDirectory() {
+        try {
+            store(Mode.FILE, " ");
+            fail("This should not happen");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("reportResultStore.directory"));
+        }
+    }
+
+    @Test
+    public void file() throws IOException {
+        ReportResultStore store = store(Mode.FILE, directory.getAbsolutePath());
+
+        ReportExec exec = reportExec();
+        assertFalse(store.exists(exec));
+
+        write(store, exec);
+        assertTrue(saved.isEmpty());
+        assertTrue(new File(directory, exec.getKey() + ".zip").isFile());
+        assertTrue(store.exists(exec));
+        assertArrayEquals(RESULT, read(store, exec));
+
+        // still readable after switching to DATABASE mode
+        assertArrayEquals(RESULT, read(store(Mode.DATABASE, directory.getAbsolutePath()), exec));
+
+        store.delete(exec);
+        assertFalse(store.exists(exec));
+    }
+
+    @Test
+    public void discard() throws IOException {
+        ReportResultStore store = store(Mode.DATABASE, "");
+
+        ReportExec exec = reportExec();
+        OutputStream os = store.openForWrite(exec);
+        os.write(RESULT);
+        store.discard(os);
+        assertFalse(store.exists(exec));
+
+        store = store(Mode.FILE, directory.getAbsolutePath());
+
+        os = store.openForWrite(exec);
+        os.write(RESULT);
+        store.discard(os);
+        assertFalse(store.exists(exec));
+        assertTrue(saved.isEmpty());
+    }
+
+    @Test
+    public void deleteAfterCommit() throws IOException {
+        ReportResultStore store = store(Mode.FILE, directory.getAbsolutePath());
+
+        ReportExec exec = reportExec();
+        write(store, exec);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            store.delete(exec);
+            assertTrue(store.exists(exec));
+
+            TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+            assertFalse(store.exists(exec));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void deleteOnRollback() throws IOException {
+        ReportResultStore store = store(Mode.FILE, directory.getAbsolutePath());
+
+        ReportExec exec = reportExec();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            write(store, exec);
+            assertTrue(store.exists(exec));
+
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(),
+                    TransactionSynchronization.STATUS_ROLLED_BACK);
+            assertFalse(store.exists(exec));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
@@ -18,10 +18,12 @@
  */
 package org.apache.syncope.core.migration;
 
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.TransformerUtils;
 import org.apache.syncope.common.lib.to.AnyTO;
@@ -59,7 +61,7 @@ public class MigrationPullActions extends SchedulingPullActions {
     @Autowired
     private UserDAO userDAO;
 
-    private final Map<String, Set<String>> memberships = new HashMap<>();
+    private final ConcurrentMap<String, Set<String>> memberships = new ConcurrentHashMap<>();
 
     @Override
     public SyncDelta beforeProvision(
@@ -118,8 +120,11 @@ public class MigrationPullActions extends SchedulingPullActions {
                     } else {
                         Set<String> memb = memberships.get(member.getKey());
                         if (memb == null) {
-                            memb = new HashSet<>();
-                            memberships.put(member.getKey(), memb);
+                            memb = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+                            Set<String> existing = memberships.putIfAbsent(member.getKey(), memb);
+                            if (existing != null) {
+                                memb = existing;
+                            }
                         }
                         memb.add(entity.getKey());
                     }
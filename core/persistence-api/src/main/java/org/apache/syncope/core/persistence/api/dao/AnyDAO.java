@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.persistence.api.dao;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
@@ -32,12 +33,41 @@ public interface AnyDAO<A extends Any<?>> extends DAO<A> {
 
     A find(String key);
 
+    /**
+     * Find any objects by key, loading all of them with a limited number of queries; plain attributes, memberships
+     * and resources are fetched together with the owning any objects.
+     *
+     * @param keys any object keys
+     * @return any objects found, in the same order as the provided keys, without duplicates
+     */
+    List<A> findByKeys(Collection<String> keys);
+
     A findByWorkflowId(String workflowId);
 
     List<A> findByAttrValue(String schemaName, PlainAttrValue attrValue);
 
     A findByAttrUniqueValue(String schemaName, PlainAttrValue attrUniqueValue);
 
+    /**
+     * Find the keys of any objects matching each of the provided values for the given field, with a limited number
+     * of queries.
+     *
+     * @param field any object field, as {@code key}, {@code username} or {@code name}
+     * @param values field values
+     * @return for each provided value, in the same order, the keys of matching any objects
+     */
+    List<List<String>> findKeysByFieldValues(String field, List<String> values);
+
+    /**
+     * Find the keys of any objects matching each of the provided plain attribute values, with a limited number of
+     * queries.
+     *
+     * @param schemaName plain schema name
+     * @param attrValues plain attribute values, as parsed for the given schema
+     * @return for each provided value, in the same order, the keys of matching any objects
+     */
+    List<List<String>> findKeysByAttrValues(String schemaName, List<? extends PlainAttrValue> attrValues);
+
     /**
      * Find any objects by derived attribute value. This method could fail if one or more string literals contained
      * into the derived attribute value provided derive from identifier (schema name) replacement. When you are going to
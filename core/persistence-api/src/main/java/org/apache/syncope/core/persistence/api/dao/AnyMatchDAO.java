@@ -0,0 +1,36 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.api.dao;
+
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.entity.Any;
+
+public interface AnyMatchDAO extends DAO<Any<?>> {
+
+    /**
+     * Verify if any matches the given search condition, by evaluating it in memory against the given entity whenever
+     * possible and reverting to {@link AnySearchDAO#matches(Any, SearchCond)} otherwise.
+     *
+     * @param any to be checked
+     * @param cond to be verified
+     * @param <T> any
+     * @return true if any matches cond
+     */
+    <T extends Any<?>> boolean matches(T any, SearchCond cond);
+}
@@ -18,8 +18,10 @@
  */
 package org.apache.syncope.core.persistence.api.dao;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
@@ -74,6 +76,46 @@ public interface AnySearchDAO extends DAO<Any<?>> {
             Set<String> adminRealms, SearchCond searchCondition, int page, int itemsPerPage,
             List<OrderByClause> orderBy, AnyTypeKind kind);
 
+    /**
+     * Same as {@link #search(java.util.Set, SearchCond, int, int, java.util.List, AnyTypeKind)}, but also reporting
+     * the total number of matching any objects; the search condition is translated only once for both, and the
+     * total count is read along with the page, where the underlying DBMS supports {@code COUNT(*) OVER ()}.
+     * If the exact count is not required, one more item than the page size is looked up instead, so that the
+     * returned value is only a lower bound, still enough to tell whether further pages are available.
+     *
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param searchCondition the search condition
+     * @param page position of the first result, start from 1
+     * @param itemsPerPage number of results per page
+     * @param orderBy list of ordering clauses
+     * @param kind any object
+     * @param count whether the exact total count is required
+     * @param <T> any
+     * @return total count (or its lower bound) and the list of any objects matching the given search condition
+     * (in the given page)
+     */
+    <T extends Any<?>> Pair<Integer, List<T>> searchAndCount(
+            Set<String> adminRealms, SearchCond searchCondition, int page, int itemsPerPage,
+            List<OrderByClause> orderBy, AnyTypeKind kind, boolean count);
+
+    /**
+     * Iterate over all any objects matching the given search condition, ordered by key.
+     * Keys are read via keyset pagination - each query restarting after the last key read, rather than scanning from
+     * an offset - in chunks of {@code batchSize * readAhead}, while entities are loaded {@code batchSize} at a time
+     * as the iteration proceeds; hence the cost of each page does not depend on its position in the result.
+     * Must be consumed within a transaction.
+     *
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param searchCondition the search condition, or {@code null} to iterate over all any objects of the given kind
+     * @param batchSize number of entities loaded at once
+     * @param readAhead number of batches whose keys are read at once
+     * @param kind any object
+     * @param <T> any
+     * @return iterator over the any objects matching the given search condition
+     */
+    <T extends Any<?>> Iterator<T> iterate(
+            Set<String> adminRealms, SearchCond searchCondition, int batchSize, int readAhead, AnyTypeKind kind);
+
     /**
      * Verify if any matches the given search condition.
      *
@@ -30,6 +30,15 @@ public interface NotificationDAO extends DAO<Notification> {
 
     List<Notification> findAll();
 
+    /**
+     * Find active notifications subscribed to the given event; results are served out of an in-memory index, so that
+     * no query is performed if there are no subscribers.
+     *
+     * @param event event, as built by {@code AuditLoggerName#buildEvent}
+     * @return active notifications subscribed to the given event
+     */
+    List<Notification> findByEvent(String event);
+
     Notification save(Notification notification);
 
     void delete(String key);
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.persistence.api.dao;
 
+import java.io.InputStream;
 import java.util.Date;
 import java.util.List;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
@@ -42,6 +43,26 @@ public interface ReportExecDAO extends DAO<ReportExec> {
 
     ReportExec save(ReportExec execution);
 
+    /**
+     * Stores the given result for the given execution, streaming it into the database.
+     *
+     * @param execution report execution
+     * @param result execution result
+     * @param length number of bytes to read from result
+     */
+    void saveExecResult(ReportExec execution, InputStream result, long length);
+
+    boolean hasExecResult(ReportExec execution);
+
+    /**
+     * Opens a stream for reading the result of the given execution from the database; such stream holds its own
+     * database connection, until closed.
+     *
+     * @param execution report execution
+     * @return stream to read the execution result from, or {@code null} if no result was stored
+     */
+    InputStream openExecResult(ReportExec execution);
+
     void delete(String key);
 
     void delete(ReportExec execution);
@@ -34,6 +34,19 @@ public interface TaskDAO extends DAO<Task> {
 
     <T extends Task> List<T> findToExec(TaskType type);
 
+    /**
+     * Find a page of tasks to be executed, ordered by key descending.
+     * Passing the key of the last task of the previous page gives the next one, without fetching again the tasks
+     * already handled but still to be executed, as notification tasks to be retried.
+     *
+     * @param <T> actual task type
+     * @param type task type
+     * @param lastKey key of the last task of the previous page, or null for the first page
+     * @param max maximum number of tasks to return, or -1 for no limit
+     * @return tasks to be executed, with key lower than {@code lastKey}
+     */
+    <T extends Task> List<T> findToExec(TaskType type, String lastKey, int max);
+
     <T extends Task> List<T> findAll(TaskType type);
 
     <T extends Task> List<T> findAll(
@@ -28,4 +28,8 @@ public interface PushTask extends ProvisioningTask {
     PushTaskAnyFilter getFilter(AnyType anyType);
 
     List<? extends PushTaskAnyFilter> getFilters();
+
+    boolean isIncremental();
+
+    void setIncremental(boolean incremental);
 }
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.content;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.core.persistence.api.SyncopeLoader;
+import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Computes the materialized full path of realms stored before it was introduced, as found when upgrading an
+ * existing database.
+ */
+@Component
+public class RealmFullPathLoader extends AbstractContentDealer implements SyncopeLoader {
+
+    @Override
+    public Integer getPriority() {
+        // right after the SQL schema was built by XMLContentLoader
+        return 10;
+    }
+
+    private String getFullPath(
+            final String key,
+            final Map<String, Map<String, Object>> realms,
+            final Map<String, String> fullPaths) {
+
+        String fullPath = fullPaths.get(key);
+        if (fullPath == null) {
+            Map<String, Object> realm = realms.get(key);
+            String parent = (String) realm.get("parent_id");
+            fullPath = parent == null
+                    ? SyncopeConstants.ROOT_REALM
+                    : StringUtils.appendIfMissing(getFullPath(parent, realms, fullPaths), "/") + realm.get("name");
+            fullPaths.put(key, fullPath);
+        }
+        return fullPath;
+    }
+
+    @Override
+    public void load() {
+        for (Map.Entry<String, DataSource> entry : domainsHolder.getDomains().entrySet()) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(entry.getValue());
+
+            int missing = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(id) FROM " + JPARealm.TABLE + " WHERE fullPath IS NULL", Integer.class);
+            if (missing == 0) {
+                continue;
+            }
+
+            LOG.info("[{}] Computing full path for {} realms", entry.getKey(), missing);
+
+            Map<String, Map<String, Object>> realms = new HashMap<>();
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                    "SELECT id, name, parent_id, fullPath FROM " + JPARealm.TABLE);
+            for (Map<String, Object> row : rows) {
+                realms.put((String) row.get("id"), row);
+            }
+
+            Map<String, String> fullPaths = new HashMap<>();
+            for (Map<String, Object> row : rows) {
+                String fullPath = getFullPath((String) row.get("id"), realms, fullPaths);
+                if (!fullPath.equals(row.get("fullPath"))) {
+                    jdbcTemplate.update(
+                            "UPDATE " + JPARealm.TABLE + " SET fullPath=? WHERE id=?", fullPath, row.get("id"));
+                }
+            }
+        }
+    }
+}
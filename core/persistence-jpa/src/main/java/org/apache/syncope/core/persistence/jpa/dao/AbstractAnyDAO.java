@@ -19,12 +19,15 @@
 package org.apache.syncope.core.persistence.jpa.dao;
 
 import java.io.StringReader;
+import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -36,6 +39,9 @@ import org.apache.commons.jexl3.parser.Parser;
 import org.apache.commons.jexl3.parser.ParserConstants;
 import org.apache.commons.jexl3.parser.Token;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.openjpa.persistence.OpenJPAPersistence;
+import org.apache.openjpa.persistence.jdbc.FetchMode;
+import org.apache.openjpa.persistence.jdbc.JDBCFetchPlan;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.core.persistence.api.dao.AllowedSchemas;
 import org.apache.syncope.core.persistence.api.dao.AnyDAO;
@@ -43,6 +49,7 @@ import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
+import org.apache.syncope.core.persistence.api.dao.PushFingerprintDAO;
 import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
 import org.apache.syncope.core.persistence.api.dao.search.AttributeCond;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
@@ -66,9 +73,15 @@ import org.apache.syncope.core.persistence.jpa.entity.AbstractPlainAttrValue;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ReflectionUtils;
 
 public abstract class AbstractAnyDAO<A extends Any<?>> extends AbstractDAO<A> implements AnyDAO<A> {
 
+    /**
+     * Maximum number of keys bound to a single {@code IN} clause by {@link #findByKeys(java.util.Collection)}.
+     */
+    protected static final int MAX_KEYS_PER_QUERY = 500;
+
     @Autowired
     protected PlainSchemaDAO plainSchemaDAO;
 
@@ -78,6 +91,9 @@ public abstract class AbstractAnyDAO<A extends Any<?>> extends AbstractDAO<A> im
     @Autowired
     protected AnySearchDAO searchDAO;
 
+    @Autowired
+    protected PushFingerprintDAO pushFingerprintDAO;
+
     protected AnyUtils anyUtils;
 
     protected abstract AnyUtils init();
@@ -118,6 +134,50 @@ public abstract class AbstractAnyDAO<A extends Any<?>> extends AbstractDAO<A> im
         return (A) entityManager().find(getAnyUtils().anyClass(), key);
     }
 
+    /**
+     * Fields to be eagerly loaded together with the any objects returned by
+     * {@link #findByKeys(java.util.Collection)}.
+     *
+     * @return field names
+     */
+    protected String[] getBatchFetchFields() {
+        return new String[] { "plainAttrs", "resources" };
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<A> findByKeys(final Collection<String> keys) {
+        List<String> uniqueKeys = new ArrayList<>(new LinkedHashSet<>(keys));
+
+        Map<String, A> found = new HashMap<>(uniqueKeys.size());
+        for (int i = 0; i < uniqueKeys.size(); i += MAX_KEYS_PER_QUERY) {
+            Query query = entityManager().createQuery("SELECT e FROM " + getAnyUtils().anyClass().getSimpleName()
+                    + " e WHERE e.id IN :keys");
+            query.setParameter("keys", uniqueKeys.subList(i, Math.min(i + MAX_KEYS_PER_QUERY, uniqueKeys.size())));
+
+            JDBCFetchPlan fetchPlan = (JDBCFetchPlan) OpenJPAPersistence.cast(query).getFetchPlan();
+            fetchPlan.setEagerFetchMode(FetchMode.PARALLEL);
+            fetchPlan.addFields(getAnyUtils().anyClass(), getBatchFetchFields());
+
+            for (A any : (List<A>) query.getResultList()) {
+                found.put(any.getKey(), any);
+            }
+        }
+
+        List<A> result = new ArrayList<>(found.size());
+        for (String key : uniqueKeys) {
+            A any = found.get(key);
+            if (any == null) {
+                LOG.debug("Could not find {} with key {}", getAnyUtils().getAnyTypeKind(), key);
+            } else {
+                result.add(any);
+            }
+        }
+
+        return result;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public A findByWorkflowId(final String workflowId) {
@@ -200,6 +260,130 @@ public abstract class AbstractAnyDAO<A extends Any<?>> extends AbstractDAO<A> im
                 : result.iterator().next();
     }
 
+    /**
+     * Runs the given query, binding to {@code :values} chunks of at most {@link #MAX_KEYS_PER_QUERY} of the given
+     * values, and groups the keys found - second column - by value - first column.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<Object, List<String>> findKeysByValues(
+            final String queryString, final Map<String, Object> params, final List<Object> values) {
+
+        Map<Object, List<String>> found = new HashMap<>();
+        for (int i = 0; i < values.size(); i += MAX_KEYS_PER_QUERY) {
+            Query query = entityManager().createQuery(queryString);
+            for (Map.Entry<String, Object> param : params.entrySet()) {
+                query.setParameter(param.getKey(), param.getValue());
+            }
+            query.setParameter("values", values.subList(i, Math.min(i + MAX_KEYS_PER_QUERY, values.size())));
+
+            for (Object[] row : (List<Object[]>) query.getResultList()) {
+                Object value = row[0] instanceof Date ? new Date(((Date) row[0]).getTime()) : row[0];
+                List<String> keys = found.get(value);
+                if (keys == null) {
+                    keys = new ArrayList<>();
+                    found.put(value, keys);
+                }
+                if (!keys.contains(row[1].toString())) {
+                    keys.add(row[1].toString());
+                }
+            }
+        }
+
+        return found;
+    }
+
+    private List<List<String>> collect(final List<Object> values, final Map<Object, List<String>> found) {
+        List<List<String>> result = new ArrayList<>(values.size());
+        for (Object value : values) {
+            List<String> keys = found.get(value);
+            result.add(keys == null ? Collections.<String>emptyList() : keys);
+        }
+        return result;
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<List<String>> findKeysByFieldValues(final String field, final List<String> values) {
+        String attrName = "key".equals(field) ? "id" : field;
+        Field attrField = ReflectionUtils.findField(getAnyUtils().anyClass(), attrName);
+        if (attrField == null || !String.class.equals(attrField.getType())) {
+            throw new IllegalArgumentException("Invalid field for " + getAnyUtils().getAnyTypeKind() + ": " + field);
+        }
+
+        List<Object> distinct = new ArrayList<Object>(new LinkedHashSet<>(values));
+        Map<Object, List<String>> found = findKeysByValues(
+                "SELECT e." + attrName + ", e.id FROM " + getAnyUtils().anyClass().getSimpleName() + " e"
+                + " WHERE e." + attrName + " IN :values",
+                Collections.<String, Object>emptyMap(),
+                distinct);
+
+        return collect(new ArrayList<Object>(values), found);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<List<String>> findKeysByAttrValues(
+            final String schemaKey, final List<? extends PlainAttrValue> attrValues) {
+
+        PlainSchema schema = plainSchemaDAO.find(schemaKey);
+        if (schema == null) {
+            LOG.error("Invalid schema name '{}'", schemaKey);
+            return Collections.nCopies(attrValues.size(), Collections.<String>emptyList());
+        }
+
+        String column;
+        switch (schema.getType()) {
+            case Boolean:
+                column = "booleanValue";
+                break;
+
+            case Long:
+                column = "longValue";
+                break;
+
+            case Double:
+                column = "doubleValue";
+                break;
+
+            case Date:
+                column = "dateValue";
+                break;
+
+            case Binary:
+                throw new IllegalArgumentException("Cannot look up by binary value: " + schemaKey);
+
+            default:
+                column = "stringValue";
+        }
+
+        // the same values as they are read from the selected column, for matching the query results
+        List<Object> values = new ArrayList<>(attrValues.size());
+        Set<Object> params = new LinkedHashSet<>();
+        for (PlainAttrValue attrValue : attrValues) {
+            Object value = attrValue.getValue();
+            if (value instanceof Boolean) {
+                value = ((AbstractPlainAttrValue) attrValue).getBooleanAsInteger((Boolean) value);
+            } else if (value instanceof Date) {
+                value = new Date(((Date) value).getTime());
+            }
+            values.add(value);
+            if (value != null) {
+                params.add(value);
+            }
+        }
+
+        String entityName = schema.isUniqueConstraint()
+                ? getAnyUtils().plainAttrUniqueValueClass().getName()
+                : getAnyUtils().plainAttrValueClass().getName();
+        Map<Object, List<String>> found = findKeysByValues(
+                "SELECT e." + column + ", e.attribute.owner.id FROM " + entityName + " e"
+                + " WHERE e.attribute.schema.id = :schemaKey AND e." + column + " IN :values",
+                Collections.<String, Object>singletonMap("schemaKey", schemaKey),
+                new ArrayList<>(params));
+
+        return collect(values, found);
+    }
+
     /**
      * Split an attribute value recurring on provided literals/tokens.
      *
@@ -0,0 +1,437 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao;
+
+import java.beans.PropertyDescriptor;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.regex.Pattern;
+import javax.validation.ValidationException;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.AttrSchemaType;
+import org.apache.syncope.core.persistence.api.dao.AnyMatchDAO;
+import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
+import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
+import org.apache.syncope.core.persistence.api.dao.RealmDAO;
+import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
+import org.apache.syncope.core.persistence.api.dao.search.AnyTypeCond;
+import org.apache.syncope.core.persistence.api.dao.search.AssignableCond;
+import org.apache.syncope.core.persistence.api.dao.search.AttributeCond;
+import org.apache.syncope.core.persistence.api.dao.search.ResourceCond;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.entity.Any;
+import org.apache.syncope.core.persistence.api.entity.AnyUtils;
+import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
+import org.apache.syncope.core.persistence.api.entity.Entity;
+import org.apache.syncope.core.persistence.api.entity.GroupableRelatable;
+import org.apache.syncope.core.persistence.api.entity.PlainAttr;
+import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
+import org.apache.syncope.core.persistence.api.entity.PlainSchema;
+import org.apache.syncope.core.persistence.api.entity.resource.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.user.UMembership;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.persistence.jpa.entity.JPAPlainSchema;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Evaluates search conditions in memory against the given entity, following the same semantics as the native queries
+ * built by {@link JPAAnySearchDAO}; conditions involving dynamic memberships or relationships, which cannot be
+ * verified without querying, are delegated to {@link AnySearchDAO#matches(Any, SearchCond)}.
+ */
+@Repository
+public class JPAAnyMatchDAO extends AbstractDAO<Any<?>> implements AnyMatchDAO {
+
+    @Autowired
+    private AnySearchDAO searchDAO;
+
+    @Autowired
+    private RealmDAO realmDAO;
+
+    @Autowired
+    private PlainSchemaDAO schemaDAO;
+
+    @Autowired
+    private AnyUtilsFactory anyUtilsFactory;
+
+    @Override
+    public <T extends Any<?>> boolean matches(final T any, final SearchCond cond) {
+        Boolean matches = null;
+        try {
+            matches = matchesInMemory(any, cond);
+        } catch (Exception e) {
+            LOG.debug("While evaluating {} in memory against {}", cond, any, e);
+        }
+
+        if (matches == null) {
+            LOG.debug("Could not evaluate {} in memory, reverting to query", cond);
+            return searchDAO.matches(any, cond);
+        }
+        return matches;
+    }
+
+    /**
+     * @param any entity to be checked
+     * @param cond search condition
+     * @return whether entity matches condition, or null if the condition cannot be evaluated in memory
+     */
+    private Boolean matchesInMemory(final Any<?> any, final SearchCond cond) {
+        AnyTypeKind kind = any.getType().getKind();
+        boolean not = cond.getType() == SearchCond.Type.NOT_LEAF;
+
+        switch (cond.getType()) {
+            case LEAF:
+            case NOT_LEAF:
+                if (cond.getAnyTypeCond() != null && AnyTypeKind.ANY_OBJECT == kind) {
+                    return matches(any, cond.getAnyTypeCond(), not);
+                } else if (cond.getRelationshipTypeCond() != null
+                        && (AnyTypeKind.USER == kind || AnyTypeKind.ANY_OBJECT == kind)) {
+
+                    return null;
+                } else if (cond.getRelationshipCond() != null
+                        && (AnyTypeKind.USER == kind || AnyTypeKind.ANY_OBJECT == kind)) {
+
+                    return null;
+                } else if (cond.getMembershipCond() != null
+                        && (AnyTypeKind.USER == kind || AnyTypeKind.ANY_OBJECT == kind)) {
+
+                    // dynamic group memberships are to be considered as well
+                    return null;
+                } else if (cond.getAssignableCond() != null) {
+                    return matches(any, cond.getAssignableCond());
+                } else if (cond.getRoleCond() != null && AnyTypeKind.USER == kind) {
+                    // dynamic role memberships are to be considered as well
+                    return null;
+                } else if (cond.getMemberCond() != null && AnyTypeKind.GROUP == kind) {
+                    return null;
+                } else if (cond.getResourceCond() != null) {
+                    return matches(any, cond.getResourceCond(), not);
+                } else if (cond.getAttributeCond() != null) {
+                    return matches(any, cond.getAttributeCond(), not);
+                } else if (cond.getAnyCond() != null) {
+                    return matches(any, cond.getAnyCond(), not);
+                }
+                return false;
+
+            case AND:
+                Boolean left = matchesInMemory(any, cond.getLeftSearchCond());
+                Boolean right = matchesInMemory(any, cond.getRightSearchCond());
+                return left == null || right == null ? null : left && right;
+
+            case OR:
+                left = matchesInMemory(any, cond.getLeftSearchCond());
+                right = matchesInMemory(any, cond.getRightSearchCond());
+                return left == null || right == null ? null : left || right;
+
+            default:
+                return false;
+        }
+    }
+
+    private boolean matches(final Any<?> any, final AnyTypeCond cond, final boolean not) {
+        boolean equals = any.getType().getKey().equals(cond.getAnyTypeKey());
+        return not ? !equals : equals;
+    }
+
+    private boolean isInRealm(final String realmFullPath, final String baseFullPath) {
+        return SyncopeConstants.ROOT_REALM.equals(baseFullPath)
+                || realmFullPath.equals(baseFullPath)
+                || realmFullPath.startsWith(baseFullPath + "/");
+    }
+
+    private boolean matches(final Any<?> any, final AssignableCond cond) {
+        if (cond.isFromGroup()) {
+            return realmDAO.findByFullPath(cond.getRealmFullPath()) != null
+                    && isInRealm(cond.getRealmFullPath(), any.getRealm().getFullPath());
+        }
+
+        return isInRealm(any.getRealm().getFullPath(), cond.getRealmFullPath());
+    }
+
+    private boolean matches(final Any<?> any, final ResourceCond cond, final boolean not) {
+        boolean found = any.getResourceKeys().contains(cond.getResourceKey());
+        if (!found && any instanceof User) {
+            for (UMembership membership : ((User) any).getMemberships()) {
+                for (ExternalResource resource : membership.getRightEnd().getResources()) {
+                    found |= resource.getKey().equals(cond.getResourceKey());
+                }
+            }
+        }
+
+        return not ? !found : found;
+    }
+
+    private Collection<? extends PlainAttr<?>> getPlainAttrs(final Any<?> any, final String schemaKey) {
+        Collection<? extends PlainAttr<?>> attrs;
+        if (any instanceof GroupableRelatable) {
+            // membership attributes are included as well
+            attrs = ((GroupableRelatable<?, ?, ?, ?, ?>) any).getPlainAttrs(schemaKey);
+        } else {
+            PlainAttr<?> attr = any.getPlainAttr(schemaKey);
+            attrs = attr == null
+                    ? Collections.<PlainAttr<?>>emptyList()
+                    : Collections.<PlainAttr<?>>singletonList(attr);
+        }
+        return attrs;
+    }
+
+    private Boolean matches(final Any<?> any, final AttributeCond cond, final boolean not) {
+        PlainSchema schema = schemaDAO.find(cond.getSchema());
+        if (schema == null) {
+            LOG.warn("Ignoring invalid schema '{}'", cond.getSchema());
+            return false;
+        }
+        if (schema.getType() == AttrSchemaType.Binary) {
+            return null;
+        }
+
+        Collection<? extends PlainAttr<?>> attrs = getPlainAttrs(any, schema.getKey());
+        switch (cond.getType()) {
+            case ISNULL:
+                return not ? !attrs.isEmpty() : attrs.isEmpty();
+
+            case ISNOTNULL:
+                return not ? attrs.isEmpty() : !attrs.isEmpty();
+
+            default:
+        }
+
+        PlainAttrValue attrValue = anyUtilsFactory.getInstance(any).newPlainAttrValue();
+        try {
+            if (cond.getType() != AttributeCond.Type.LIKE && cond.getType() != AttributeCond.Type.ILIKE) {
+                schema.getValidator().validate(cond.getExpression(), attrValue);
+            }
+        } catch (ValidationException e) {
+            LOG.error("Could not validate expression '" + cond.getExpression() + "'", e);
+            return false;
+        }
+
+        List<Object> values = new ArrayList<>();
+        for (PlainAttr<?> attr : attrs) {
+            if (attr.getUniqueValue() != null) {
+                values.add(attr.getUniqueValue().getValue());
+            }
+            for (PlainAttrValue value : attr.getValues()) {
+                values.add(value.getValue());
+            }
+        }
+
+        boolean found = false;
+        for (Object value : values) {
+            Boolean matches = matches(value, schema.getType(), attrValue.getValue(), cond, not);
+            if (matches == null) {
+                return null;
+            }
+            found |= matches;
+        }
+        return found;
+    }
+
+    private Boolean matches(final Any<?> any, final AnyCond cond, final boolean not) {
+        AnyUtils anyUtils = anyUtilsFactory.getInstance(any);
+
+        // Keeps track of difference between entity's getKey() and JPA @Id fields
+        String fieldName = "key".equals(cond.getSchema()) ? "id" : cond.getSchema();
+
+        Field anyField = ReflectionUtils.findField(anyUtils.anyClass(), fieldName);
+        if (anyField == null) {
+            LOG.warn("Ignoring invalid schema '{}'", fieldName);
+            return false;
+        }
+
+        PlainSchema schema = new JPAPlainSchema();
+        schema.setKey(anyField.getName());
+        for (AttrSchemaType attrSchemaType : AttrSchemaType.values()) {
+            if (anyField.getType().isAssignableFrom(attrSchemaType.getType())) {
+                schema.setType(attrSchemaType);
+            }
+        }
+
+        // Deal with any Integer fields logically mapping to boolean values
+        boolean foundBooleanMin = false;
+        boolean foundBooleanMax = false;
+        if (Integer.class.equals(anyField.getType())) {
+            for (Annotation annotation : anyField.getAnnotations()) {
+                if (Min.class.equals(annotation.annotationType())) {
+                    foundBooleanMin = ((Min) annotation).value() == 0;
+                } else if (Max.class.equals(annotation.annotationType())) {
+                    foundBooleanMax = ((Max) annotation).value() == 1;
+                }
+            }
+        }
+        if (foundBooleanMin && foundBooleanMax) {
+            schema.setType(AttrSchemaType.Boolean);
+        }
+
+        // Read through getters, so that lazy fields get loaded
+        Object value;
+        if ("id".equals(fieldName)) {
+            value = any.getKey();
+        } else {
+            PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(anyUtils.anyClass(), fieldName);
+            if (descriptor == null || descriptor.getReadMethod() == null) {
+                return null;
+            }
+            value = ReflectionUtils.invokeMethod(descriptor.getReadMethod(), any);
+        }
+
+        // Deal with any fields representing relationships to other entities
+        if (anyField.getType().getAnnotation(javax.persistence.Entity.class) != null) {
+            schema.setType(AttrSchemaType.String);
+            if (value != null) {
+                value = ((Entity) value).getKey();
+            }
+        }
+
+        if (schema.getType() == null || schema.getType() == AttrSchemaType.Binary) {
+            return null;
+        }
+
+        switch (cond.getType()) {
+            case ISNULL:
+                return not ? value != null : value == null;
+
+            case ISNOTNULL:
+                return not ? value == null : value != null;
+
+            default:
+        }
+
+        PlainAttrValue attrValue = anyUtils.newPlainAttrValue();
+        if (cond.getType() != AttributeCond.Type.LIKE && cond.getType() != AttributeCond.Type.ILIKE) {
+            try {
+                schema.getValidator().validate(cond.getExpression(), attrValue);
+            } catch (ValidationException e) {
+                LOG.error("Could not validate expression '" + cond.getExpression() + "'", e);
+                return false;
+            }
+        }
+
+        return matches(value, schema.getType(), attrValue.getValue(), cond, not);
+    }
+
+    private static Pattern likeToPattern(final String expression, final boolean ignoreCase) {
+        StringBuilder regex = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        for (char c : expression.toCharArray()) {
+            if (c == '%' || c == '_') {
+                if (literal.length() > 0) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append(c == '%' ? ".*" : ".");
+            } else {
+                literal.append(c);
+            }
+        }
+        if (literal.length() > 0) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+
+        return ignoreCase
+                ? Pattern.compile(regex.toString(), Pattern.DOTALL | Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE)
+                : Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+
+    /**
+     * Compares a single value, following the semantics of the SQL clauses generated by
+     * {@link JPAAnySearchDAO}: any comparison involving a null value does not match.
+     */
+    @SuppressWarnings("unchecked")
+    private static Boolean matches(
+            final Object value,
+            final AttrSchemaType type,
+            final Object condValue,
+            final AttributeCond cond,
+            final boolean not) {
+
+        if (value == null) {
+            return false;
+        }
+
+        switch (cond.getType()) {
+            case LIKE:
+            case ILIKE:
+                if (type != AttrSchemaType.String && type != AttrSchemaType.Enum) {
+                    LOG.error("LIKE is only compatible with string or enum schemas");
+                    return false;
+                }
+                if (cond.getExpression() == null) {
+                    return false;
+                }
+
+                boolean like = likeToPattern(cond.getExpression(), cond.getType() == AttributeCond.Type.ILIKE).
+                        matcher(value.toString()).matches();
+                return not ? !like : like;
+
+            case EQ:
+            case IEQ:
+                if (condValue == null) {
+                    return false;
+                }
+
+                // java.sql.Timestamp is never equal to java.util.Date, so dates are compared by instant
+                boolean equals = cond.getType() == AttributeCond.Type.IEQ
+                        && value instanceof String && condValue instanceof String
+                        ? ((String) value).equalsIgnoreCase((String) condValue)
+                        : value instanceof Date && condValue instanceof Date
+                        ? ((Date) value).getTime() == ((Date) condValue).getTime()
+                        : value.equals(condValue);
+                return not ? !equals : equals;
+
+            case GE:
+            case GT:
+            case LE:
+            case LT:
+                if (condValue == null) {
+                    return false;
+                }
+                int compare;
+                if (value instanceof Date && condValue instanceof Date) {
+                    compare = Long.compare(((Date) value).getTime(), ((Date) condValue).getTime());
+                } else if (value instanceof Comparable && value.getClass().equals(condValue.getClass())) {
+                    compare = ((Comparable<Object>) value).compareTo(condValue);
+                } else {
+                    return null;
+                }
+
+                boolean result = cond.getType() == AttributeCond.Type.GE
+                        ? compare >= 0
+                        : cond.getType() == AttributeCond.Type.GT
+                        ? compare > 0
+                        : cond.getType() == AttributeCond.Type.LE
+                        ? compare <= 0
+                        : compare < 0;
+                return not ? !result : result;
+
+            default:
+                return null;
+        }
+    }
+}
@@ -110,6 +110,11 @@ public class JPAAnyObjectDAO extends AbstractAnyDAO<AnyObject> implements AnyObj
         return new JPAAnyUtilsFactory().getInstance(AnyTypeKind.ANY_OBJECT);
     }
 
+    @Override
+    protected String[] getBatchFetchFields() {
+        return new String[] { "plainAttrs", "resources", "memberships" };
+    }
+
     @Override
     protected void securityChecks(final AnyObject anyObject) {
         Set<String> authRealms = AuthContextUtils.getAuthorizations().get(
@@ -206,6 +211,8 @@ public class JPAAnyObjectDAO extends AbstractAnyDAO<AnyObject> implements AnyObj
             entityManager().remove(relationship);
         }
 
+        pushFingerprintDAO.deleteAll(any.getKey());
+
         entityManager().remove(any);
     }
 
@@ -21,27 +21,41 @@ package org.apache.syncope.core.persistence.jpa.dao;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
-import java.util.HashSet;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import javax.persistence.Entity;
 import javax.persistence.Query;
 import javax.persistence.TemporalType;
 import javax.validation.ValidationException;
 import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
-import org.apache.commons.collections4.CollectionUtils;
+import javax.sql.DataSource;
 import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.SerializationUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.AttrSchemaType;
+import org.apache.syncope.core.persistence.api.DomainsHolder;
 import org.apache.syncope.core.provisioning.api.utils.RealmUtils;
-import org.apache.syncope.core.provisioning.api.utils.EntityUtils;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
@@ -69,7 +83,9 @@ import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.jpa.entity.JPAPlainSchema;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.support.JdbcUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -80,6 +96,16 @@ public class JPAAnySearchDAO extends AbstractDAO<Any<?>> implements AnySearchDAO
 
     private static final String EMPTY_QUERY = "SELECT any_id FROM user_search_attr WHERE 1=2";
 
+    private static final Pattern VERSION = Pattern.compile("(\\d+)\\.(\\d+)(?:\\.(\\d+))?");
+
+    /**
+     * Whether {@code COUNT(*) OVER ()} is supported, by domain.
+     */
+    private final ConcurrentMap<String, Boolean> countOverSupport = new ConcurrentHashMap<>();
+
+    @Autowired
+    private DomainsHolder domainsHolder;
+
     @Autowired
     private RealmDAO realmDAO;
 
@@ -103,30 +129,21 @@ public class JPAAnySearchDAO extends AbstractDAO<Any<?>> implements AnySearchDAO
             final SearchSupport svs,
             final List<Object> parameters) {
 
-        Set<String> realmKeys = new HashSet<>();
-        for (String realmPath : RealmUtils.normalize(adminRealms)) {
-            Realm realm = realmDAO.findByFullPath(realmPath);
-            if (realm == null) {
-                LOG.warn("Ignoring invalid realm {}", realmPath);
-            } else {
-                CollectionUtils.collect(
-                        realmDAO.findDescendants(realm), EntityUtils.<Realm>keyTransformer(), realmKeys);
-            }
-        }
-
         StringBuilder adminRealmFilter = new StringBuilder("u.any_id IN (").
                 append("SELECT any_id FROM ").append(svs.field().name).
                 append(" WHERE realm_id IN (SELECT id AS realm_id FROM Realm");
 
         boolean firstRealm = true;
-        for (String realmKey : realmKeys) {
+        for (String realmPath : RealmUtils.normalize(adminRealms)) {
             if (firstRealm) {
                 adminRealmFilter.append(" WHERE");
                 firstRealm = false;
             } else {
                 adminRealmFilter.append(" OR");
             }
-            adminRealmFilter.append(" id=?").append(setParameter(parameters, realmKey));
+            adminRealmFilter.append(" fullPath=?").append(setParameter(parameters, realmPath)).
+                    append(" OR fullPath LIKE ?").append(setParameter(parameters,
+                    StringUtils.appendIfMissing(realmPath, "/") + "%"));
         }
 
         adminRealmFilter.append("))");
@@ -134,6 +151,100 @@ public class JPAAnySearchDAO extends AbstractDAO<Any<?>> implements AnySearchDAO
         return adminRealmFilter.toString();
     }
 
+    private static boolean isAtLeast(final String version, final int... minimum) {
+        Matcher matcher = VERSION.matcher(version);
+        if (!matcher.find()) {
+            return false;
+        }
+
+        for (int i = 0; i < minimum.length; i++) {
+            int part = matcher.group(i + 1) == null ? 0 : Integer.parseInt(matcher.group(i + 1));
+            if (part != minimum[i]) {
+                return part > minimum[i];
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Tells whether the given DBMS supports the {@code COUNT(*) OVER ()} window function, as PostgreSQL, Oracle,
+     * SQL Server, MySQL 8+, MariaDB 10.2+ and H2 1.4.198+ do.
+     *
+     * @param productName database product name, as reported by JDBC metadata
+     * @param productVersion database product version, as reported by JDBC metadata
+     * @return whether {@code COUNT(*) OVER ()} is supported
+     */
+    static boolean supportsCountOver(final String productName, final String productVersion) {
+        String name = StringUtils.defaultString(productName).toLowerCase();
+        String version = StringUtils.defaultString(productVersion);
+
+        if (name.contains("postgresql") || name.contains("oracle") || name.contains("microsoft sql server")) {
+            return true;
+        }
+        if (name.contains("mariadb") || version.contains("MariaDB")) {
+            // MariaDB might report itself as MySQL 5.5.5, with its own version following
+            return isAtLeast(StringUtils.removeStart(version, "5.5.5-"), 10, 2);
+        }
+        if (name.contains("mysql")) {
+            return isAtLeast(version, 8);
+        }
+        if (name.contains("h2")) {
+            return isAtLeast(version, 1, 4, 198);
+        }
+        return false;
+    }
+
+    private boolean supportsCountOver() {
+        String domain = AuthContextUtils.getDomain();
+
+        Boolean supported = countOverSupport.get(domain);
+        if (supported == null) {
+            DataSource dataSource = domainsHolder.getDomains().get(domain);
+
+            Connection conn = null;
+            try {
+                conn = dataSource.getConnection();
+                DatabaseMetaData metaData = conn.getMetaData();
+                supported = supportsCountOver(metaData.getDatabaseProductName(), metaData.getDatabaseProductVersion());
+            } catch (SQLException e) {
+                LOG.error("Could not read database metadata for domain {}", domain, e);
+                supported = false;
+            } finally {
+                JdbcUtils.closeConnection(conn);
+            }
+
+            LOG.debug("COUNT(*) OVER () supported for domain {}: {}", domain, supported);
+            countOverSupport.put(domain, supported);
+        }
+
+        return supported;
+    }
+
+    /**
+     * Wraps the given query so that each distinct matching key, within administrative realms, is returned along with
+     * the total number of such keys, as {@code total_count}; ordering views can then be joined without affecting the
+     * count, as with {@link #doCount(java.lang.CharSequence, java.lang.String, java.util.List)}.
+     *
+     * @param queryString query built from the search condition
+     * @param adminRealmsFilter administrative realms filter, on the {@code u} alias
+     * @return distinct matching keys along with their total number
+     */
+    static String countOver(final CharSequence queryString, final String adminRealmsFilter) {
+        return new StringBuilder("SELECT c.any_id,COUNT(*) OVER () AS total_count FROM (").
+                append("SELECT DISTINCT u.any_id FROM (").append(queryString).append(") u WHERE ").
+                append(adminRealmsFilter).
+                append(") c").toString();
+    }
+
+    private int doCount(final CharSequence queryString, final String adminRealmsFilter, final List<Object> parameters) {
+        Query countQuery = entityManager().createNativeQuery(new StringBuilder("SELECT COUNT(any_id) FROM (").
+                append("SELECT u.any_id FROM (").append(queryString).append(") u WHERE ").append(adminRealmsFilter).
+                append(") count_any_id").toString());
+        fillWithParameters(countQuery, parameters);
+
+        return ((Number) countQuery.getSingleResult()).intValue();
+    }
+
     @Override
     public int count(final Set<String> adminRealms, final SearchCond cond, final AnyTypeKind typeKind) {
         List<Object> parameters = Collections.synchronizedList(new ArrayList<>());
@@ -142,18 +253,8 @@ public class JPAAnySearchDAO extends AbstractDAO<Any<?>> implements AnySearchDAO
         SearchSupport svs = new SearchSupport(typeKind);
         StringBuilder queryString = getQuery(cond, parameters, svs);
 
-        // 2. take into account administrative realms
-        queryString.insert(0, "SELECT u.any_id FROM (");
-        queryString.append(") u WHERE ").append(getAdminRealmsFilter(adminRealms, svs, parameters));
-
-        // 3. prepare the COUNT query
-        queryString.insert(0, "SELECT COUNT(any_id) FROM (");
-        queryString.append(") count_any_id");
-
-        Query countQuery = entityManager().createNativeQuery(queryString.toString());
-        fillWithParameters(countQuery, parameters);
-
-        return ((Number) countQuery.getSingleResult()).intValue();
+        // 2. take into account administrative realms and prepare the COUNT query
+        return doCount(queryString, getAdminRealmsFilter(adminRealms, svs, parameters), parameters);
     }
 
     @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
@@ -181,14 +282,30 @@ public class JPAAnySearchDAO extends AbstractDAO<Any<?>> implements AnySearchDAO
             final Set<String> adminRealms, final SearchCond cond, final int page, final int itemsPerPage,
             final List<OrderByClause> orderBy, final AnyTypeKind typeKind) {
 
-        List<T> result = Collections.<T>emptyList();
+        return this.<T>search(adminRealms, cond, page, itemsPerPage, orderBy, typeKind, false, false).getRight();
+    }
+
+    @Override
+    public <T extends Any<?>> Pair<Integer, List<T>> searchAndCount(
+            final Set<String> adminRealms, final SearchCond cond, final int page, final int itemsPerPage,
+            final List<OrderByClause> orderBy, final AnyTypeKind typeKind, final boolean count) {
+
+        return search(adminRealms, cond, page, itemsPerPage, orderBy, typeKind, count, !count);
+    }
+
+    private <T extends Any<?>> Pair<Integer, List<T>> search(
+            final Set<String> adminRealms, final SearchCond cond, final int page, final int itemsPerPage,
+            final List<OrderByClause> orderBy, final AnyTypeKind typeKind,
+            final boolean count, final boolean lookAhead) {
+
+        Pair<Integer, List<T>> result = ImmutablePair.of(0, Collections.<T>emptyList());
 
         if (adminRealms != null && !adminRealms.isEmpty()) {
             LOG.debug("Search condition:\n{}", cond);
 
             if (cond != null && cond.isValid()) {
                 try {
-                    result = doSearch(adminRealms, cond, page, itemsPerPage, orderBy, typeKind);
+                    result = doSearch(adminRealms, cond, page, itemsPerPage, orderBy, typeKind, count, lookAhead);
                 } catch (Exception e) {
                     LOG.error("While searching for {}", typeKind, e);
                 }
@@ -200,6 +317,22 @@ public class JPAAnySearchDAO extends AbstractDAO<Any<?>> implements AnySearchDAO
         return result;
     }
 
+    @Override
+    public <T extends Any<?>> Iterator<T> iterate(
+            final Set<String> adminRealms, final SearchCond cond, final int batchSize, final int readAhead,
+            final AnyTypeKind typeKind) {
+
+        if (adminRealms == null || adminRealms.isEmpty()) {
+            return Collections.<T>emptyIterator();
+        }
+        if (cond != null && !cond.isValid()) {
+            LOG.error("Invalid search condition:\n{}", cond);
+            return Collections.<T>emptyIterator();
+        }
+
+        return new KeysetIterator<>(adminRealms, cond, batchSize, readAhead, typeKind);
+    }
+
     @Override
     public <T extends Any<?>> boolean matches(final T any, final SearchCond cond) {
         List<Object> parameters = Collections.synchronizedList(new ArrayList<>());
@@ -370,65 +503,207 @@ public class JPAAnySearchDAO extends AbstractDAO<Any<?>> implements AnySearchDAO
         return obs;
     }
 
-    @SuppressWarnings("unchecked")
-    private <T extends Any<?>> List<T> doSearch(final Set<String> adminRealms,
+    private <T extends Any<?>> Pair<Integer, List<T>> doSearch(final Set<String> adminRealms,
             final SearchCond cond, final int page, final int itemsPerPage, final List<OrderByClause> orderBy,
-            final AnyTypeKind typeKind) {
+            final AnyTypeKind typeKind, final boolean count, final boolean lookAhead) {
 
         List<Object> parameters = Collections.synchronizedList(new ArrayList<>());
 
         // 1. get the query string from the search condition
         SearchSupport svs = new SearchSupport(typeKind);
         StringBuilder queryString = getQuery(cond, parameters, svs);
+        String adminRealmsFilter = getAdminRealmsFilter(adminRealms, svs, parameters);
+
+        // 2. if required, count on the basis of the same query string and parameters: along with the search query
+        // when COUNT(*) OVER () is supported, via a distinct query otherwise
+        int total = -1;
+        boolean countOver = count && supportsCountOver();
+        if (count && !countOver) {
+            total = doCount(queryString, adminRealmsFilter, parameters);
+            if (total == 0) {
+                return ImmutablePair.of(total, Collections.<T>emptyList());
+            }
+        }
+        String countQueryString = countOver ? queryString.toString() : null;
 
-        // 2. take into account administrative groups and ordering
+        // 3. take into account administrative realms and ordering; when counting along, the total is computed on the
+        // distinct matching keys, before joining the ordering views which might return the same key more than once
         OrderBySupport obs = parseOrderBy(typeKind, svs, orderBy);
+        StringBuilder select = buildSelect(obs);
+        if (countOver) {
+            select.insert(select.lastIndexOf(" FROM "), ",u.total_count");
+            queryString = new StringBuilder(countOver(queryString, adminRealmsFilter));
+        }
         if (queryString.charAt(0) == '(') {
-            queryString.insert(0, buildSelect(obs));
+            queryString.insert(0, select);
             queryString.append(buildWhere(svs, obs));
         } else {
-            queryString.insert(0, buildSelect(obs).append('('));
+            queryString.insert(0, select.append('('));
             queryString.append(')').append(buildWhere(svs, obs));
         }
         queryString.
-                append(getAdminRealmsFilter(adminRealms, svs, parameters)).
+                append(adminRealmsFilter).
                 append(buildOrderBy(obs));
 
-        // 3. prepare the search query
+        // 4. prepare the search query
         Query query = entityManager().createNativeQuery(queryString.toString());
 
-        // 4. page starts from 1, while setFirtResult() starts from 0
-        query.setFirstResult(itemsPerPage * (page <= 0 ? 0 : page - 1));
+        // 5. page starts from 1, while setFirtResult() starts from 0
+        int firstResult = itemsPerPage * (page <= 0 ? 0 : page - 1);
+        query.setFirstResult(firstResult);
 
         if (itemsPerPage >= 0) {
-            query.setMaxResults(itemsPerPage);
+            // when looking ahead, one more item tells whether further pages are available
+            query.setMaxResults(lookAhead ? itemsPerPage + 1 : itemsPerPage);
         }
 
-        // 5. populate the search query with parameter values
+        // 6. populate the search query with parameter values
         fillWithParameters(query, parameters);
 
-        // 6. Prepare the result (avoiding duplicates)
-        List<T> result = new ArrayList<>();
-
+        // 7. Prepare the result (avoiding duplicates), loading all entities at once and keeping query order
+        Set<String> keys = new LinkedHashSet<>();
         for (Object anyKey : query.getResultList()) {
-            String actualKey = anyKey instanceof Object[]
+            keys.add(anyKey instanceof Object[]
                     ? (String) ((Object[]) anyKey)[0]
-                    : ((String) anyKey);
-
-            T any = typeKind == AnyTypeKind.USER
-                    ? (T) userDAO.find(actualKey)
-                    : typeKind == AnyTypeKind.GROUP
-                            ? (T) groupDAO.find(actualKey)
-                            : (T) anyObjectDAO.find(actualKey);
-            if (any == null) {
-                LOG.error("Could not find {} with id {}, even though returned by the native query",
-                        typeKind, actualKey);
-            } else if (!result.contains(any)) {
-                result.add(any);
+                    : ((String) anyKey));
+            if (countOver && total == -1) {
+                Object[] row = (Object[]) anyKey;
+                total = ((Number) row[row.length - 1]).intValue();
+            }
+        }
+        if (countOver && total == -1) {
+            // no rows in the requested page, hence no count: fall back to the distinct query
+            total = firstResult == 0 ? 0 : doCount(countQueryString, adminRealmsFilter, parameters);
+        }
+        if (lookAhead) {
+            total = firstResult + keys.size();
+            if (itemsPerPage >= 0 && keys.size() > itemsPerPage) {
+                keys = new LinkedHashSet<>(new ArrayList<>(keys).subList(0, itemsPerPage));
             }
         }
 
-        return result;
+        List<T> result = findByKeys(keys, typeKind);
+        if (result.size() < keys.size()) {
+            for (T any : result) {
+                keys.remove(any.getKey());
+            }
+            LOG.error("Could not find {} with ids {}, even though returned by the native query", typeKind, keys);
+        }
+
+        return ImmutablePair.of(total, result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends Any<?>> List<T> findByKeys(final Collection<String> keys, final AnyTypeKind typeKind) {
+        return typeKind == AnyTypeKind.USER
+                ? (List<T>) userDAO.findByKeys(keys)
+                : typeKind == AnyTypeKind.GROUP
+                        ? (List<T>) groupDAO.findByKeys(keys)
+                        : (List<T>) anyObjectDAO.findByKeys(keys);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> searchKeys(final Set<String> adminRealms, final SearchCond cond,
+            final String after, final int max, final AnyTypeKind typeKind) {
+
+        List<Object> parameters = Collections.synchronizedList(new ArrayList<>());
+
+        // 1. get the query string from the search condition, if any
+        SearchSupport svs = new SearchSupport(typeKind);
+        StringBuilder queryString = cond == null
+                ? new StringBuilder("SELECT any_id FROM ").append(svs.field().name)
+                : getQuery(cond, parameters, svs);
+
+        // 2. take into account administrative realms and restart after the last key read
+        queryString.insert(0, "SELECT u.any_id FROM (");
+        queryString.append(") u WHERE ").append(getAdminRealmsFilter(adminRealms, svs, parameters));
+        if (after != null) {
+            queryString.append(" AND u.any_id > ?").append(setParameter(parameters, after));
+        }
+        queryString.append(" ORDER BY u.any_id");
+
+        Query query = entityManager().createNativeQuery(queryString.toString());
+        query.setMaxResults(max);
+        fillWithParameters(query, parameters);
+
+        return query.getResultList();
+    }
+
+    /**
+     * Reads keys via keyset pagination, loading the matching entities batch by batch.
+     *
+     * @param <T> any
+     */
+    private class KeysetIterator<T extends Any<?>> implements Iterator<T> {
+
+        private final Set<String> adminRealms;
+
+        private final SearchCond cond;
+
+        private final int batchSize;
+
+        private final int keysPerQuery;
+
+        private final AnyTypeKind typeKind;
+
+        private final Deque<String> keys = new ArrayDeque<>();
+
+        private Iterator<T> current = Collections.<T>emptyIterator();
+
+        private String lastKey;
+
+        private boolean exhausted;
+
+        KeysetIterator(final Set<String> adminRealms, final SearchCond cond,
+                final int batchSize, final int readAhead, final AnyTypeKind typeKind) {
+
+            this.adminRealms = adminRealms;
+            this.cond = cond;
+            this.batchSize = Math.max(batchSize, 1);
+            this.keysPerQuery = this.batchSize * Math.max(readAhead, 1);
+            this.typeKind = typeKind;
+        }
+
+        private void readKeys() {
+            List<String> read = searchKeys(adminRealms, cond, lastKey, keysPerQuery, typeKind);
+            exhausted = read.size() < keysPerQuery;
+            if (!read.isEmpty()) {
+                lastKey = read.get(read.size() - 1);
+                // results are ordered by key, so duplicates can only be adjacent
+                for (String key : read) {
+                    if (!key.equals(keys.peekLast())) {
+                        keys.add(key);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext() && (!keys.isEmpty() || !exhausted)) {
+                if (keys.isEmpty()) {
+                    readKeys();
+                }
+
+                List<String> batch = new ArrayList<>(batchSize);
+                while (!keys.isEmpty() && batch.size() < batchSize) {
+                    batch.add(keys.poll());
+                }
+                if (!batch.isEmpty()) {
+                    current = JPAAnySearchDAO.this.<T>findByKeys(batch, typeKind).iterator();
+                }
+            }
+
+            return current.hasNext();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
     }
 
     private StringBuilder getQuery(final SearchCond cond, final List<Object> parameters, final SearchSupport svs) {
@@ -691,10 +966,11 @@ public class JPAAnySearchDAO extends AbstractDAO<Any<?>> implements AnySearchDAO
             }
             query.append("realm_id=?").append(setParameter(parameters, realmDAO.getRoot().getKey()));
         } else {
-            for (Realm current : realmDAO.findDescendants(realm)) {
-                query.append("realm_id=?").append(setParameter(parameters, current.getKey())).append(" OR ");
-            }
-            query.setLength(query.length() - 4);
+            query.append("realm_id IN (SELECT id AS realm_id FROM Realm WHERE fullPath=?").
+                    append(setParameter(parameters, realm.getFullPath())).
+                    append(" OR fullPath LIKE ?").
+                    append(setParameter(parameters, StringUtils.appendIfMissing(realm.getFullPath(), "/") + "%")).
+                    append(')');
         }
         query.append(')');
 
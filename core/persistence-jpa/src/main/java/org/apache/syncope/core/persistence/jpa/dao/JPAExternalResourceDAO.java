@@ -28,6 +28,7 @@ import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.PolicyDAO;
+import org.apache.syncope.core.persistence.api.dao.PushFingerprintDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.TaskDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
@@ -59,6 +60,9 @@ public class JPAExternalResourceDAO extends AbstractDAO<ExternalResource> implem
     @Autowired
     private TaskDAO taskDAO;
 
+    @Autowired
+    private PushFingerprintDAO pushFingerprintDAO;
+
     @Autowired
     private AnyObjectDAO anyObjectDAO;
 
@@ -194,6 +198,7 @@ public class JPAExternalResourceDAO extends AbstractDAO<ExternalResource> implem
         taskDAO.deleteAll(resource, TaskType.PROPAGATION);
         taskDAO.deleteAll(resource, TaskType.PULL);
         taskDAO.deleteAll(resource, TaskType.PUSH);
+        pushFingerprintDAO.deleteAll(resource);
 
         for (AnyObject anyObject : anyObjectDAO.findByResource(resource)) {
             anyObject.getResources().remove(resource);
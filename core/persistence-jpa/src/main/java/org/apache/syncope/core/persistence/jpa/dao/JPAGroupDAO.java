@@ -20,6 +20,7 @@ package org.apache.syncope.core.persistence.jpa.dao;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -28,6 +29,7 @@ import javax.persistence.Query;
 import javax.persistence.TypedQuery;
 import org.apache.commons.collections4.IterableUtils;
 import org.apache.commons.collections4.Predicate;
+import org.apache.commons.collections4.map.LRUMap;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
@@ -39,6 +41,7 @@ import org.apache.syncope.core.provisioning.api.utils.RealmUtils;
 import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.DelegatedAdministrationException;
+import org.apache.syncope.core.persistence.api.dao.AnyMatchDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.PlainAttrDAO;
@@ -53,11 +56,15 @@ import org.apache.syncope.core.persistence.api.entity.anyobject.APlainAttr;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.persistence.api.entity.group.TypeExtension;
 import org.apache.syncope.core.persistence.api.entity.user.UMembership;
+import org.apache.syncope.core.persistence.api.entity.user.UDynGroupMembership;
 import org.apache.syncope.core.persistence.api.entity.user.UPlainAttr;
 import org.apache.syncope.core.persistence.jpa.entity.JPAAnyUtilsFactory;
+import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAADynGroupMembership;
 import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAAMembership;
 import org.apache.syncope.core.persistence.jpa.entity.group.JPATypeExtension;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPAUDynGroupMembership;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPAUMembership;
+import org.apache.syncope.core.spring.security.AuthenticationCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -65,6 +72,15 @@ import org.springframework.transaction.annotation.Transactional;
 @Repository
 public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
 
+    /**
+     * Dynamic membership conditions, by realm and FIQL expression, so that they are not parsed again on each save.
+     */
+    private static final Map<String, SearchCond> DYN_MEMBERSHIP_CONDS =
+            Collections.synchronizedMap(new LRUMap<String, SearchCond>(1000));
+
+    @Autowired
+    private AnyMatchDAO anyMatchDAO;
+
     @Autowired
     private AnyObjectDAO anyObjectDAO;
 
@@ -238,6 +254,9 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
             }
         }
 
+        // group ownership and dynamic memberships affect the entitlements granted to users
+        AuthenticationCache.getInstance().invalidate(AuthContextUtils.getDomain());
+
         return merged;
     }
 
@@ -270,6 +289,10 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
             userDAO.save(leftEnd);
         }
 
+        AuthenticationCache.getInstance().invalidate(AuthContextUtils.getDomain());
+
+        pushFingerprintDAO.deleteAll(group.getKey());
+
         entityManager().remove(group);
     }
 
@@ -283,19 +306,41 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
         return query.getResultList();
     }
 
+    private SearchCond getDynMembershipCond(final String baseCondFIQL, final Realm groupRealm) {
+        String cacheKey = groupRealm.getFullPath() + "|" + baseCondFIQL;
+        SearchCond cond = DYN_MEMBERSHIP_CONDS.get(cacheKey);
+        if (cond == null) {
+            cond = buildDynMembershipCond(baseCondFIQL, groupRealm);
+            DYN_MEMBERSHIP_CONDS.put(cacheKey, cond);
+        }
+        return cond;
+    }
+
     @Transactional
     @Override
     public void refreshDynMemberships(final AnyObject anyObject) {
-        for (Group group : findAll()) {
-            for (ADynGroupMembership memb : group.getADynMemberships()) {
-                if (searchDAO.matches(
-                        anyObject,
-                        buildDynMembershipCond(memb.getFIQLCond(), group.getRealm()))) {
-
-                    memb.add(anyObject);
-                } else {
-                    memb.getMembers().remove(anyObject);
-                }
+        TypedQuery<ADynGroupMembership> query = entityManager().createQuery(
+                "SELECT e FROM " + JPAADynGroupMembership.class.getSimpleName()
+                + " e WHERE e.anyType=:anyType", ADynGroupMembership.class);
+        query.setParameter("anyType", anyObject.getType());
+        List<ADynGroupMembership> memberships = query.getResultList();
+        if (memberships.isEmpty()) {
+            return;
+        }
+
+        TypedQuery<ADynGroupMembership> current = entityManager().createQuery(
+                "SELECT e FROM " + JPAADynGroupMembership.class.getSimpleName()
+                + " e WHERE :anyObject MEMBER OF e.anyObjects", ADynGroupMembership.class);
+        current.setParameter("anyObject", anyObject);
+        Set<ADynGroupMembership> before = new HashSet<>(current.getResultList());
+
+        for (ADynGroupMembership memb : memberships) {
+            boolean matches = anyMatchDAO.matches(
+                    anyObject, getDynMembershipCond(memb.getFIQLCond(), memb.getGroup().getRealm()));
+            if (matches && !before.contains(memb)) {
+                memb.add(anyObject);
+            } else if (!matches && before.contains(memb)) {
+                memb.getMembers().remove(anyObject);
             }
         }
     }
@@ -303,16 +348,26 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
     @Transactional
     @Override
     public void refreshDynMemberships(final User user) {
-        for (Group group : findAll()) {
-            if (group.getUDynMembership() != null) {
-                if (searchDAO.matches(
-                        user,
-                        buildDynMembershipCond(group.getUDynMembership().getFIQLCond(), group.getRealm()))) {
-
-                    group.getUDynMembership().add(user);
-                } else {
-                    group.getUDynMembership().getMembers().remove(user);
-                }
+        List<UDynGroupMembership> memberships = entityManager().createQuery(
+                "SELECT e FROM " + JPAUDynGroupMembership.class.getSimpleName() + " e",
+                UDynGroupMembership.class).getResultList();
+        if (memberships.isEmpty()) {
+            return;
+        }
+
+        TypedQuery<UDynGroupMembership> current = entityManager().createQuery(
+                "SELECT e FROM " + JPAUDynGroupMembership.class.getSimpleName()
+                + " e WHERE :user MEMBER OF e.users", UDynGroupMembership.class);
+        current.setParameter("user", user);
+        Set<UDynGroupMembership> before = new HashSet<>(current.getResultList());
+
+        for (UDynGroupMembership memb : memberships) {
+            boolean matches = anyMatchDAO.matches(
+                    user, getDynMembershipCond(memb.getFIQLCond(), memb.getGroup().getRealm()));
+            if (matches && !before.contains(memb)) {
+                memb.add(user);
+            } else if (!matches && before.contains(memb)) {
+                memb.getMembers().remove(user);
             }
         }
     }
@@ -18,8 +18,15 @@
  */
 package org.apache.syncope.core.persistence.jpa.dao;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.persistence.TypedQuery;
 import org.apache.commons.collections4.Closure;
 import org.apache.commons.collections4.IterableUtils;
@@ -31,13 +38,51 @@ import org.apache.syncope.core.persistence.api.entity.MailTemplate;
 import org.apache.syncope.core.persistence.api.entity.Notification;
 import org.apache.syncope.core.persistence.api.entity.task.Task;
 import org.apache.syncope.core.persistence.jpa.entity.JPANotification;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Repository
 public class JPANotificationDAO extends AbstractDAO<Notification> implements NotificationDAO {
 
+    /**
+     * Active notification keys, by event, for each domain; built on first access and discarded whenever notifications
+     * are changed or when expired.
+     */
+    private static final Map<String, ByEvent> BY_EVENT = new ConcurrentHashMap<>();
+
+    /**
+     * Incremented for each domain whenever notifications are changed; indexes built under a previous generation are
+     * stale.
+     */
+    private static final ConcurrentMap<String, AtomicLong> GENERATIONS = new ConcurrentHashMap<>();
+
+    private static class ByEvent {
+
+        private final long generation;
+
+        private final long expires;
+
+        private final Map<String, List<String>> keys;
+
+        ByEvent(final long generation, final long expires, final Map<String, List<String>> keys) {
+            this.generation = generation;
+            this.expires = expires;
+            this.keys = keys;
+        }
+    }
+
+    /**
+     * Seconds after which the event index is rebuilt, so that notification changes made on other nodes are eventually
+     * seen; 0 disables the index.
+     */
+    @Value("${notificationDAO.byEventTtl:30}")
+    private long byEventTtl;
+
     @Autowired
     private TaskDAO taskDAO;
 
@@ -65,8 +110,95 @@ public class JPANotificationDAO extends AbstractDAO<Notification> implements Not
         return query.getResultList();
     }
 
+    private static AtomicLong getGeneration(final String domain) {
+        AtomicLong generation = GENERATIONS.get(domain);
+        if (generation == null) {
+            generation = new AtomicLong();
+            AtomicLong existing = GENERATIONS.putIfAbsent(domain, generation);
+            if (existing != null) {
+                generation = existing;
+            }
+        }
+        return generation;
+    }
+
+    private Map<String, List<String>> getByEvent() {
+        String domain = AuthContextUtils.getDomain();
+        AtomicLong generation = getGeneration(domain);
+
+        ByEvent byEvent = BY_EVENT.get(domain);
+        if (byEvent != null
+                && byEvent.generation == generation.get() && byEvent.expires > System.currentTimeMillis()) {
+
+            return byEvent.keys;
+        }
+
+        // read before loading, so that an index built while notifications are being changed is never used later
+        long current = generation.get();
+
+        Map<String, List<String>> keys = new HashMap<>();
+        for (Notification notification : findAll()) {
+            if (notification.isActive()) {
+                for (String event : notification.getEvents()) {
+                    List<String> eventKeys = keys.get(event);
+                    if (eventKeys == null) {
+                        eventKeys = new ArrayList<>();
+                        keys.put(event, eventKeys);
+                    }
+                    eventKeys.add(notification.getKey());
+                }
+            }
+        }
+        if (byEventTtl > 0) {
+            BY_EVENT.put(domain, new ByEvent(
+                    current, System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(byEventTtl), keys));
+        }
+
+        return keys;
+    }
+
+    /**
+     * Discards the event index for the current domain, immediately and again once the current transaction is
+     * completed, so that any index rebuilt in the meantime from not yet committed data is discarded as well.
+     */
+    private void invalidate() {
+        final String domain = AuthContextUtils.getDomain();
+
+        getGeneration(domain).incrementAndGet();
+        BY_EVENT.remove(domain);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+
+                @Override
+                public void afterCompletion(final int status) {
+                    getGeneration(domain).incrementAndGet();
+                    BY_EVENT.remove(domain);
+                }
+            });
+        }
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<Notification> findByEvent(final String event) {
+        List<String> keys = getByEvent().get(event);
+        if (keys == null) {
+            return Collections.emptyList();
+        }
+
+        List<Notification> result = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            Notification notification = find(key);
+            if (notification != null && notification.isActive()) {
+                result.add(notification);
+            }
+        }
+        return result;
+    }
+
     @Override
     public Notification save(final Notification notification) {
+        invalidate();
         return entityManager().merge(notification);
     }
 
@@ -88,5 +220,6 @@ public class JPANotificationDAO extends AbstractDAO<Notification> implements Not
         });
 
         entityManager().remove(notification);
+        invalidate();
     }
 }
@@ -23,8 +23,6 @@ import java.util.Collections;
 import java.util.List;
 import javax.persistence.NoResultException;
 import javax.persistence.TypedQuery;
-import org.apache.commons.collections4.IterableUtils;
-import org.apache.commons.collections4.Predicate;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.core.persistence.api.dao.MalformedPathException;
@@ -37,6 +35,8 @@ import org.apache.syncope.core.persistence.api.entity.Role;
 import org.apache.syncope.core.persistence.api.entity.policy.PasswordPolicy;
 import org.apache.syncope.core.persistence.api.entity.policy.PullPolicy;
 import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.apache.syncope.core.spring.security.AuthenticationCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -78,25 +78,19 @@ public class JPARealmDAO extends AbstractDAO<Realm> implements RealmDAO {
             throw new MalformedPathException(fullPath);
         }
 
-        Realm root = getRoot();
-        if (root == null) {
-            return null;
-        }
-
-        Realm current = root;
-        for (final String pathElement : fullPath.substring(1).split("/")) {
-            current = IterableUtils.find(findChildren(current), new Predicate<Realm>() {
+        TypedQuery<Realm> query = entityManager().createQuery(
+                "SELECT e FROM " + JPARealm.class.getSimpleName() + " e "
+                + "WHERE e.materializedFullPath=:fullPath", Realm.class);
+        query.setParameter("fullPath", fullPath);
 
-                @Override
-                public boolean evaluate(final Realm realm) {
-                    return pathElement.equals(realm.getName());
-                }
-            });
-            if (current == null) {
-                return null;
-            }
+        Realm result = null;
+        try {
+            result = query.getSingleResult();
+        } catch (NoResultException e) {
+            LOG.debug("Realm with fullPath {} not found", fullPath, e);
         }
-        return current;
+
+        return result;
     }
 
     private <T extends Policy> List<Realm> findSamePolicyChildren(final Realm realm, final T policy) {
@@ -159,21 +153,20 @@ public class JPARealmDAO extends AbstractDAO<Realm> implements RealmDAO {
         return query.getResultList();
     }
 
-    private void findDescendants(final List<Realm> result, final Realm realm) {
-        result.add(realm);
-        List<Realm> children = findChildren(realm);
-        if (children != null) {
-            for (Realm child : children) {
-                findDescendants(result, child);
-            }
-        }
+    private List<JPARealm> findDescendants(final String fullPath) {
+        TypedQuery<JPARealm> query = entityManager().createQuery(
+                "SELECT e FROM " + JPARealm.class.getSimpleName() + " e "
+                + "WHERE e.materializedFullPath=:fullPath OR e.materializedFullPath LIKE :prefix "
+                + "ORDER BY e.materializedFullPath", JPARealm.class);
+        query.setParameter("fullPath", fullPath);
+        query.setParameter("prefix", StringUtils.appendIfMissing(fullPath, "/") + "%");
+
+        return query.getResultList();
     }
 
     @Override
     public List<Realm> findDescendants(final Realm realm) {
-        List<Realm> result = new ArrayList<>();
-        findDescendants(result, realm);
-        return result;
+        return new ArrayList<Realm>(findDescendants(realm.getFullPath()));
     }
 
     @Override
@@ -185,11 +178,31 @@ public class JPARealmDAO extends AbstractDAO<Realm> implements RealmDAO {
 
     @Override
     public Realm save(final Realm realm) {
-        return entityManager().merge(realm);
+        String savedFullPath = ((JPARealm) realm).getMaterializedFullPath();
+
+        JPARealm merged = (JPARealm) entityManager().merge(realm);
+        if (!merged.getFullPath().equals(savedFullPath)) {
+            merged.setMaterializedFullPath(merged.getFullPath());
+
+            // name or parent changed: align the materialized full path of all descendants
+            if (savedFullPath != null) {
+                AuthenticationCache.getInstance().invalidate(AuthContextUtils.getDomain());
+
+                for (JPARealm descendant : findDescendants(savedFullPath)) {
+                    if (!merged.equals(descendant)) {
+                        descendant.setMaterializedFullPath(descendant.getFullPath());
+                    }
+                }
+            }
+        }
+
+        return merged;
     }
 
     @Override
     public void delete(final Realm realm) {
+        AuthenticationCache.getInstance().invalidate(AuthContextUtils.getDomain());
+
         for (Realm toBeDeleted : findDescendants(realm)) {
             for (Role role : roleDAO.findByRealm(toBeDeleted)) {
                 role.getRealms().remove(toBeDeleted);
@@ -18,15 +18,29 @@
  */
 package org.apache.syncope.core.persistence.jpa.dao;
 
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.Date;
 import java.util.List;
+import javax.persistence.PersistenceException;
 import javax.persistence.Query;
 import javax.persistence.TypedQuery;
+import javax.sql.DataSource;
+import org.apache.openjpa.persistence.OpenJPAPersistence;
+import org.apache.syncope.core.persistence.api.DomainsHolder;
 import org.apache.syncope.core.persistence.api.dao.ReportExecDAO;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.entity.Report;
 import org.apache.syncope.core.persistence.api.entity.ReportExec;
 import org.apache.syncope.core.persistence.jpa.entity.JPAReportExec;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.support.JdbcUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ReflectionUtils;
@@ -34,6 +48,9 @@ import org.springframework.util.ReflectionUtils;
 @Repository
 public class JPAReportExecDAO extends AbstractDAO<ReportExec> implements ReportExecDAO {
 
+    @Autowired
+    private DomainsHolder domainsHolder;
+
     @Override
     public ReportExec find(final String key) {
         return entityManager().find(JPAReportExec.class, key);
@@ -165,6 +182,87 @@ public class JPAReportExecDAO extends AbstractDAO<ReportExec> implements ReportE
         return entityManager().merge(execution);
     }
 
+    @Override
+    public void saveExecResult(final ReportExec execution, final InputStream result, final long length) {
+        // the execution must be found by the statement below, issued on the connection of the current transaction
+        entityManager().flush();
+
+        Connection conn = (Connection) OpenJPAPersistence.cast(entityManager()).getConnection();
+        PreparedStatement stmt = null;
+        try {
+            stmt = conn.prepareStatement("UPDATE " + JPAReportExec.TABLE + " SET execResult=? WHERE id=?");
+            stmt.setBinaryStream(1, result, length);
+            stmt.setString(2, execution.getKey());
+            stmt.executeUpdate();
+        } catch (SQLException e) {
+            throw new PersistenceException("While saving result of report execution " + execution.getKey(), e);
+        } finally {
+            JdbcUtils.closeStatement(stmt);
+            JdbcUtils.closeConnection(conn);
+        }
+
+        // the result just stored is read again upon access
+        if (entityManager().contains(execution)) {
+            entityManager().refresh(execution);
+        }
+    }
+
+    @Override
+    public boolean hasExecResult(final ReportExec execution) {
+        Query query = entityManager().createNativeQuery(
+                "SELECT COUNT(e.id) FROM " + JPAReportExec.TABLE + " e WHERE e.id=?1 AND e.execResult IS NOT NULL");
+        query.setParameter(1, execution.getKey());
+
+        return ((Number) query.getSingleResult()).intValue() > 0;
+    }
+
+    @Override
+    public InputStream openExecResult(final ReportExec execution) {
+        DataSource dataSource = domainsHolder.getDomains().get(AuthContextUtils.getDomain());
+
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+        InputStream result = null;
+        try {
+            conn = dataSource.getConnection();
+            stmt = conn.prepareStatement("SELECT execResult FROM " + JPAReportExec.TABLE + " WHERE id=?");
+            stmt.setString(1, execution.getKey());
+            rs = stmt.executeQuery();
+            if (rs.next()) {
+                result = rs.getBinaryStream(1);
+            }
+        } catch (SQLException e) {
+            throw new PersistenceException("While reading result of report execution " + execution.getKey(), e);
+        } finally {
+            if (result == null) {
+                JdbcUtils.closeResultSet(rs);
+                JdbcUtils.closeStatement(stmt);
+                JdbcUtils.closeConnection(conn);
+            }
+        }
+        if (result == null) {
+            return null;
+        }
+
+        final Connection resultConn = conn;
+        final PreparedStatement resultStmt = stmt;
+        final ResultSet resultRs = rs;
+        return new FilterInputStream(result) {
+
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    JdbcUtils.closeResultSet(resultRs);
+                    JdbcUtils.closeStatement(resultStmt);
+                    JdbcUtils.closeConnection(resultConn);
+                }
+            }
+        };
+    }
+
     @Override
     public void delete(final String key) {
         ReportExec execution = find(key);
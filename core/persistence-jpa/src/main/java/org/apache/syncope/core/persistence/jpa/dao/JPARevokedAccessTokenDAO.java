@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao;
+
+import java.util.Date;
+import java.util.List;
+import javax.persistence.Query;
+import javax.persistence.TypedQuery;
+import org.apache.syncope.core.persistence.api.dao.RevokedAccessTokenDAO;
+import org.apache.syncope.core.persistence.api.entity.RevokedAccessToken;
+import org.apache.syncope.core.persistence.jpa.entity.JPARevokedAccessToken;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class JPARevokedAccessTokenDAO extends AbstractDAO<RevokedAccessToken> implements RevokedAccessTokenDAO {
+
+    @Transactional(readOnly = true)
+    @Override
+    public RevokedAccessToken find(final String key) {
+        return entityManager().find(JPARevokedAccessToken.class, key);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<RevokedAccessToken> findNotExpired() {
+        TypedQuery<RevokedAccessToken> query = entityManager().createQuery(
+                "SELECT e FROM " + JPARevokedAccessToken.class.getSimpleName() + " e WHERE e.expiryTime >= :now",
+                RevokedAccessToken.class);
+        query.setParameter("now", new Date());
+        return query.getResultList();
+    }
+
+    @Override
+    public RevokedAccessToken save(final RevokedAccessToken revokedAccessToken) {
+        return entityManager().merge(revokedAccessToken);
+    }
+
+    @Override
+    public int deleteExpired() {
+        Query query = entityManager().createQuery(
+                "DELETE FROM " + JPARevokedAccessToken.class.getSimpleName() + " e WHERE e.expiryTime < :now");
+        query.setParameter("now", new Date());
+        return query.executeUpdate();
+    }
+}
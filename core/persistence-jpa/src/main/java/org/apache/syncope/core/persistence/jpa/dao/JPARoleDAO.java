@@ -18,18 +18,29 @@
  */
 package org.apache.syncope.core.persistence.jpa.dao;
 
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import javax.persistence.Query;
 import javax.persistence.TypedQuery;
+import org.apache.commons.collections4.map.LRUMap;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
 import org.apache.syncope.core.persistence.api.dao.RoleDAO;
+import org.apache.syncope.core.persistence.api.dao.AnyMatchDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.Role;
+import org.apache.syncope.core.persistence.api.entity.user.DynRoleMembership;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.persistence.jpa.entity.JPARole;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPADynRoleMembership;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPAUser;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.apache.syncope.core.spring.security.AuthenticationCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -37,6 +48,15 @@ import org.springframework.transaction.annotation.Transactional;
 @Repository
 public class JPARoleDAO extends AbstractDAO<Role> implements RoleDAO {
 
+    /**
+     * Dynamic membership conditions, by FIQL expression, so that they are not parsed again on each save.
+     */
+    private static final Map<String, SearchCond> DYN_MEMBERSHIP_CONDS =
+            Collections.synchronizedMap(new LRUMap<String, SearchCond>(1000));
+
+    @Autowired
+    private AnyMatchDAO anyMatchDAO;
+
     @Autowired
     private AnySearchDAO searchDAO;
 
@@ -80,6 +100,8 @@ public class JPARoleDAO extends AbstractDAO<Role> implements RoleDAO {
             }
         }
 
+        AuthenticationCache.getInstance().invalidate(AuthContextUtils.getDomain());
+
         return entityManager().merge(role);
     }
 
@@ -93,6 +115,8 @@ public class JPARoleDAO extends AbstractDAO<Role> implements RoleDAO {
             user.getRoles().remove(role);
         }
 
+        AuthenticationCache.getInstance().invalidate(AuthContextUtils.getDomain());
+
         entityManager().remove(role);
     }
 
@@ -109,13 +133,31 @@ public class JPARoleDAO extends AbstractDAO<Role> implements RoleDAO {
     @Transactional
     @Override
     public void refreshDynMemberships(final User user) {
-        for (Role role : findAll()) {
-            if (role.getDynMembership() != null) {
-                if (searchDAO.matches(user, SearchCondConverter.convert(role.getDynMembership().getFIQLCond()))) {
-                    role.getDynMembership().add(user);
-                } else {
-                    role.getDynMembership().getMembers().remove(user);
-                }
+        List<DynRoleMembership> memberships = entityManager().createQuery(
+                "SELECT e FROM " + JPADynRoleMembership.class.getSimpleName() + " e",
+                DynRoleMembership.class).getResultList();
+        if (memberships.isEmpty()) {
+            return;
+        }
+
+        TypedQuery<DynRoleMembership> current = entityManager().createQuery(
+                "SELECT e FROM " + JPADynRoleMembership.class.getSimpleName()
+                + " e WHERE :user MEMBER OF e.users", DynRoleMembership.class);
+        current.setParameter("user", user);
+        Set<DynRoleMembership> before = new HashSet<>(current.getResultList());
+
+        for (DynRoleMembership memb : memberships) {
+            SearchCond cond = DYN_MEMBERSHIP_CONDS.get(memb.getFIQLCond());
+            if (cond == null) {
+                cond = SearchCondConverter.convert(memb.getFIQLCond());
+                DYN_MEMBERSHIP_CONDS.put(memb.getFIQLCond(), cond);
+            }
+
+            boolean matches = anyMatchDAO.matches(user, cond);
+            if (matches && !before.contains(memb)) {
+                memb.add(user);
+            } else if (!matches && before.contains(memb)) {
+                memb.getMembers().remove(user);
             }
         }
     }
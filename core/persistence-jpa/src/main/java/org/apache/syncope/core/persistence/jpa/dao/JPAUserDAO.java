@@ -74,6 +74,7 @@ import org.apache.syncope.core.persistence.jpa.entity.user.JPADynRoleMembership;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPAUDynGroupMembership;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPAUser;
 import org.apache.syncope.core.provisioning.api.utils.EntityUtils;
+import org.apache.syncope.core.spring.security.AuthenticationCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.support.AbstractBeanDefinition;
 import org.springframework.stereotype.Repository;
@@ -109,6 +110,11 @@ public class JPAUserDAO extends AbstractAnyDAO<User> implements UserDAO {
         return new JPAAnyUtilsFactory().getInstance(AnyTypeKind.USER);
     }
 
+    @Override
+    protected String[] getBatchFetchFields() {
+        return new String[] { "plainAttrs", "resources", "memberships" };
+    }
+
     @Override
     public int count() {
         Query query = entityManager().createQuery(
@@ -412,6 +418,8 @@ public class JPAUserDAO extends AbstractAnyDAO<User> implements UserDAO {
         roleDAO.refreshDynMemberships(merged);
         groupDAO.refreshDynMemberships(merged);
 
+        AuthenticationCache.getInstance().invalidate(AuthContextUtils.getDomain(), merged.getKey());
+
         return merged;
     }
 
@@ -424,6 +432,10 @@ public class JPAUserDAO extends AbstractAnyDAO<User> implements UserDAO {
             group.getUDynMembership().getMembers().remove(user);
         }
 
+        AuthenticationCache.getInstance().invalidate(AuthContextUtils.getDomain(), user.getKey());
+
+        pushFingerprintDAO.deleteAll(user.getKey());
+
         entityManager().remove(user);
     }
 
@@ -33,6 +33,7 @@ import org.apache.syncope.core.persistence.api.entity.ConnInstance;
 import org.apache.syncope.core.persistence.api.entity.ConnPoolConf;
 import org.apache.syncope.core.persistence.api.entity.DerSchema;
 import org.apache.syncope.core.persistence.api.entity.Domain;
+import org.apache.syncope.core.persistence.api.entity.RevokedAccessToken;
 import org.apache.syncope.core.persistence.api.entity.user.DynRoleMembership;
 import org.apache.syncope.core.persistence.api.entity.Entity;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
@@ -122,7 +123,9 @@ import org.apache.syncope.core.persistence.api.entity.task.PullTask;
 import org.apache.syncope.core.persistence.api.entity.task.AnyTemplatePullTask;
 import org.apache.syncope.core.persistence.api.entity.policy.PullPolicy;
 import org.apache.syncope.core.persistence.api.entity.resource.OrgUnit;
+import org.apache.syncope.core.persistence.api.entity.resource.PushFingerprint;
 import org.apache.syncope.core.persistence.jpa.entity.resource.JPAOrgUnit;
+import org.apache.syncope.core.persistence.jpa.entity.resource.JPAPushFingerprint;
 
 @Component
 public class JPAEntityFactory implements EntityFactory {
@@ -134,6 +137,8 @@ public class JPAEntityFactory implements EntityFactory {
 
         if (reference.equals(Domain.class)) {
             result = (E) new JPADomain();
+        } else if (reference.equals(RevokedAccessToken.class)) {
+            result = (E) new JPARevokedAccessToken();
         } else if (reference.equals(Realm.class)) {
             result = (E) new JPARealm();
         } else if (reference.equals(AnyTemplateRealm.class)) {
@@ -184,6 +189,8 @@ public class JPAEntityFactory implements EntityFactory {
             result = (E) new JPAProvision();
         } else if (reference.equals(OrgUnit.class)) {
             result = (E) new JPAOrgUnit();
+        } else if (reference.equals(PushFingerprint.class)) {
+            result = (E) new JPAPushFingerprint();
         } else if (reference.equals(ConnInstance.class)) {
             result = (E) new JPAConnInstance();
         } else if (reference.equals(PlainSchema.class)) {
@@ -72,6 +72,12 @@ public class JPARealm extends AbstractGeneratedKeyEntity implements Realm {
     @ManyToOne
     private JPARealm parent;
 
+    /**
+     * Materialized full path, kept aligned with name and parent by the DAO for indexed lookups.
+     */
+    @Column(name = "fullPath", unique = true)
+    private String materializedFullPath;
+
     @ManyToOne(fetch = FetchType.EAGER)
     private JPAPasswordPolicy passwordPolicy;
 
@@ -112,6 +118,17 @@ public class JPARealm extends AbstractGeneratedKeyEntity implements Realm {
                 : StringUtils.appendIfMissing(getParent().getFullPath(), "/") + getName();
     }
 
+    /**
+     * @return full path as last saved; differs from {@link #getFullPath()} until name or parent changes are saved
+     */
+    public String getMaterializedFullPath() {
+        return materializedFullPath;
+    }
+
+    public void setMaterializedFullPath(final String materializedFullPath) {
+        this.materializedFullPath = materializedFullPath;
+    }
+
     @Override
     public AccountPolicy getAccountPolicy() {
         return accountPolicy == null && getParent() != null ? getParent().getAccountPolicy() : accountPolicy;
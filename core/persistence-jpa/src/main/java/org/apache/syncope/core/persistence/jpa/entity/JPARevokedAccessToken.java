@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.entity;
+
+import java.util.Date;
+import javax.persistence.Entity;
+import javax.persistence.Table;
+import javax.persistence.Temporal;
+import javax.persistence.TemporalType;
+import javax.validation.constraints.NotNull;
+import org.apache.syncope.core.persistence.api.entity.RevokedAccessToken;
+
+@Entity
+@Table(name = JPARevokedAccessToken.TABLE)
+public class JPARevokedAccessToken extends AbstractProvidedKeyEntity implements RevokedAccessToken {
+
+    private static final long serialVersionUID = -4627431536218716745L;
+
+    public static final String TABLE = "RevokedAccessToken";
+
+    @NotNull
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date expiryTime;
+
+    @Override
+    public Date getExpiryTime() {
+        return expiryTime == null
+                ? null
+                : new Date(expiryTime.getTime());
+    }
+
+    @Override
+    public void setExpiryTime(final Date expiryTime) {
+        this.expiryTime = expiryTime == null
+                ? null
+                : new Date(expiryTime.getTime());
+    }
+}
@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import javax.persistence.Basic;
 import javax.persistence.CascadeType;
 import javax.persistence.CollectionTable;
 import javax.persistence.Column;
@@ -31,6 +32,8 @@ import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.JoinColumn;
 import javax.persistence.OneToMany;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 import org.apache.commons.collections4.IterableUtils;
 import org.apache.commons.collections4.Predicate;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
@@ -53,6 +56,11 @@ public class JPAPushTask extends AbstractProvisioningTask implements PushTask {
     @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER, mappedBy = "pushTask")
     private List<JPAPushTaskAnyFilter> filters = new ArrayList<>();
 
+    @Basic
+    @Min(0)
+    @Max(1)
+    private Integer incremental;
+
     @Override
     public Set<String> getActionsClassNames() {
         return actionsClassNames;
@@ -79,4 +87,14 @@ public class JPAPushTask extends AbstractProvisioningTask implements PushTask {
     public List<? extends PushTaskAnyFilter> getFilters() {
         return filters;
     }
+
+    @Override
+    public boolean isIncremental() {
+        return isBooleanAsInteger(incremental);
+    }
+
+    @Override
+    public void setIncremental(final boolean incremental) {
+        this.incremental = getBooleanAsInteger(incremental);
+    }
 }
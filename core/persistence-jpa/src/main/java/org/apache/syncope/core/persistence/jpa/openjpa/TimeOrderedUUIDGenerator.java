@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.openjpa;
+
+import java.security.SecureRandom;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Generates time-ordered UUIDs, laid out as version 7 UUIDs: 48 bits of Unix epoch milliseconds, a 12 bits counter
+ * - incremented for UUIDs generated within the same millisecond - and 62 random bits.
+ * Both UUIDs and their string representations sort in generation order, so that rows keyed by them are appended to
+ * the right edge of B-tree indexes rather than inserted at random positions.
+ */
+public class TimeOrderedUUIDGenerator {
+
+    private static final int MAX_COUNTER = 0xFFF;
+
+    private final Random random = new SecureRandom();
+
+    private long lastMillis = -1;
+
+    private int counter;
+
+    public synchronized UUID generate() {
+        long millis = System.currentTimeMillis();
+        if (millis > lastMillis) {
+            lastMillis = millis;
+            // start from a random value, leaving room for increments within the same millisecond
+            counter = random.nextInt(MAX_COUNTER / 2);
+        } else if (++counter > MAX_COUNTER) {
+            // counter exhausted, or clock moved backwards: keep monotonicity by moving to the next millisecond
+            lastMillis++;
+            counter = 0;
+        }
+
+        long msb = (lastMillis << 16) | 0x7000L | counter;
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+}
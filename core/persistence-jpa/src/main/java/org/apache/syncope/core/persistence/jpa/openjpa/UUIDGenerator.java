@@ -20,17 +20,42 @@ package org.apache.syncope.core.persistence.jpa.openjpa;
 
 import com.fasterxml.uuid.Generators;
 import com.fasterxml.uuid.impl.RandomBasedGenerator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.openjpa.kernel.Seq;
 import org.apache.openjpa.kernel.StoreContext;
 import org.apache.openjpa.meta.ClassMetaData;
 
 /**
  * Fast UUID generator for OpenJPA entities.
+ * Random UUIDs are generated unless time-ordered UUIDs are configured for the domain (as identified by the OpenJPA
+ * configuration id, defaulting to the persistence unit name).
  */
 public class UUIDGenerator implements Seq {
 
+    public enum Type {
+
+        RANDOM,
+        TIME_ORDERED
+
+    }
+
     private static final RandomBasedGenerator GENERATOR = Generators.randomBasedGenerator();
 
+    private static final TimeOrderedUUIDGenerator TIME_ORDERED_GENERATOR = new TimeOrderedUUIDGenerator();
+
+    private static final Map<String, Type> DOMAIN_TYPES = new ConcurrentHashMap<>();
+
+    /**
+     * Sets the type of UUIDs generated for the given domain.
+     *
+     * @param domain domain
+     * @param type type of UUIDs
+     */
+    public static void configure(final String domain, final Type type) {
+        DOMAIN_TYPES.put(domain, type);
+    }
+
     private String last;
 
     @Override
@@ -39,7 +64,9 @@ public class UUIDGenerator implements Seq {
 
     @Override
     public Object next(final StoreContext sc, final ClassMetaData cmd) {
-        last = GENERATOR.generate().toString();
+        last = sc != null && DOMAIN_TYPES.get(sc.getConfiguration().getId()) == Type.TIME_ORDERED
+                ? TIME_ORDERED_GENERATOR.generate().toString()
+                : GENERATOR.generate().toString();
         return last;
     }
 
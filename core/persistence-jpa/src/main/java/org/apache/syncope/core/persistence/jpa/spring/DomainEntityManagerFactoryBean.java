@@ -18,6 +18,8 @@
  */
 package org.apache.syncope.core.persistence.jpa.spring;
 
+import javax.persistence.EntityManagerFactory;
+import org.apache.syncope.core.persistence.jpa.openjpa.UUIDGenerator;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 
 /**
@@ -28,6 +30,8 @@ public class DomainEntityManagerFactoryBean extends LocalContainerEntityManagerF
 
     private static final long serialVersionUID = 49152547930966545L;
 
+    private UUIDGenerator.Type keyGenerator = UUIDGenerator.Type.RANDOM;
+
     public void setCommonEntityManagerFactoryConf(final CommonEntityManagerFactoryConf commonEMFConf) {
         super.setJpaPropertyMap(commonEMFConf.getJpaPropertyMap());
 
@@ -42,4 +46,17 @@ public class DomainEntityManagerFactoryBean extends LocalContainerEntityManagerF
         }
     }
 
+    /**
+     * @param keyGenerator type of UUIDs generated as keys for the entities of this domain
+     */
+    public void setKeyGenerator(final UUIDGenerator.Type keyGenerator) {
+        this.keyGenerator = keyGenerator;
+    }
+
+    @Override
+    protected EntityManagerFactory createNativeEntityManagerFactory() {
+        UUIDGenerator.configure(getPersistenceUnitName(), keyGenerator);
+
+        return super.createNativeEntityManagerFactory();
+    }
 }
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa;
+
+import static org.junit.Assume.assumeTrue;
+
+import com.fasterxml.uuid.Generators;
+import com.fasterxml.uuid.impl.RandomBasedGenerator;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import org.apache.syncope.core.persistence.jpa.openjpa.TimeOrderedUUIDGenerator;
+import org.junit.Test;
+
+/**
+ * Compares insert throughput on a table keyed by random UUIDs against the same table keyed by time-ordered UUIDs.
+ * Skipped unless the number of rows is given, hence not part of the normal build; run with
+ * <pre>
+ * mvn test -Dtest=UUIDGeneratorBenchmark -Dbenchmark.rows=200000 [-Dbenchmark.url=... -Dbenchmark.username=...
+ * -Dbenchmark.password=...]
+ * </pre>
+ * on an H2 file database by default; any JDBC URL - e.g. PostgreSQL - can be provided, as long as the matching
+ * driver is on the classpath.
+ */
+public class UUIDGeneratorBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private interface KeyGenerator {
+
+        String generate();
+    }
+
+    private static long insert(final Connection conn, final String table, final int rows, final KeyGenerator keys)
+            throws SQLException {
+
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("DROP TABLE IF EXISTS " + table);
+            stmt.executeUpdate("CREATE TABLE " + table + " (id VARCHAR(36) PRIMARY KEY, payload VARCHAR(255))");
+        }
+        conn.commit();
+
+        long start = System.nanoTime();
+        try (PreparedStatement stmt = conn.prepareStatement("INSERT INTO " + table + " VALUES (?, ?)")) {
+            for (int i = 1; i <= rows; i++) {
+                stmt.setString(1, keys.generate());
+                stmt.setString(2, "payload" + i);
+                stmt.addBatch();
+                if (i % BATCH_SIZE == 0) {
+                    stmt.executeBatch();
+                    conn.commit();
+                }
+            }
+            stmt.executeBatch();
+            conn.commit();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("DROP TABLE " + table);
+        }
+        conn.commit();
+
+        return elapsed;
+    }
+
+    private static void report(final String name, final int rows, final long elapsed) {
+        System.out.printf("%-12s %10d rows in %8d ms: %10.0f inserts/s%n",
+                name, rows, elapsed / 1000000, rows / (elapsed / 1000000000.0));
+    }
+
+    @Test
+    public void compare() throws SQLException {
+        int rows = Integer.getInteger("benchmark.rows", 0);
+        assumeTrue(rows > 0);
+        String url = System.getProperty("benchmark.url", "jdbc:h2:file:./target/uuidbenchmark");
+        String username = System.getProperty("benchmark.username", "sa");
+        String password = System.getProperty("benchmark.password", "");
+
+        final RandomBasedGenerator random = Generators.randomBasedGenerator();
+        final TimeOrderedUUIDGenerator timeOrdered = new TimeOrderedUUIDGenerator();
+
+        try (Connection conn = DriverManager.getConnection(url, username, password)) {
+            conn.setAutoCommit(false);
+
+            report("RANDOM", rows, insert(conn, "uuid_random", rows, new KeyGenerator() {
+
+                @Override
+                public String generate() {
+                    return random.generate().toString();
+                }
+            }));
+            report("TIME_ORDERED", rows, insert(conn, "uuid_time_ordered", rows, new KeyGenerator() {
+
+                @Override
+                public String generate() {
+                    return timeOrdered.generate().toString();
+                }
+            }));
+        }
+    }
+}
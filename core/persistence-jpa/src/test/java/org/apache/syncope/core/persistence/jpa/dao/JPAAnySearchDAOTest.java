@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class JPAAnySearchDAOTest {
+
+    @Test
+    public void supportsCountOver() {
+        assertTrue(JPAAnySearchDAO.supportsCountOver("PostgreSQL", "9.6.5"));
+        assertTrue(JPAAnySearchDAO.supportsCountOver("Oracle", "Oracle Database 11g Release 11.2.0.1.0"));
+        assertTrue(JPAAnySearchDAO.supportsCountOver("Microsoft SQL Server", "13.00.4001"));
+
+        assertFalse(JPAAnySearchDAO.supportsCountOver("MySQL", "5.7.20"));
+        assertTrue(JPAAnySearchDAO.supportsCountOver("MySQL", "8.0.11"));
+
+        assertFalse(JPAAnySearchDAO.supportsCountOver("MySQL", "5.5.5-10.1.26-MariaDB"));
+        assertTrue(JPAAnySearchDAO.supportsCountOver("MySQL", "5.5.5-10.2.8-MariaDB"));
+        assertTrue(JPAAnySearchDAO.supportsCountOver("MariaDB", "10.3.7-MariaDB"));
+
+        assertFalse(JPAAnySearchDAO.supportsCountOver("H2", "1.4.193 (2016-10-31)"));
+        assertTrue(JPAAnySearchDAO.supportsCountOver("H2", "1.4.198 (2019-02-22)"));
+        assertTrue(JPAAnySearchDAO.supportsCountOver("H2", "2.1.214 (2022-06-13)"));
+
+        assertFalse(JPAAnySearchDAO.supportsCountOver("Apache Derby", "10.14.2.0"));
+        assertFalse(JPAAnySearchDAO.supportsCountOver(null, null));
+    }
+
+    @Test
+    public void countOver() {
+        // the window is computed on distinct keys within administrative realms, not on the joined ordering views
+        assertEquals("SELECT c.any_id,COUNT(*) OVER () AS total_count FROM ("
+                + "SELECT DISTINCT u.any_id FROM (SELECT any_id FROM user_search_attr WHERE schema_id=?1) u "
+                + "WHERE u.realm_id IN (?2)) c",
+                JPAAnySearchDAO.countOver(
+                        "SELECT any_id FROM user_search_attr WHERE schema_id=?1", "u.realm_id IN (?2)"));
+    }
+}
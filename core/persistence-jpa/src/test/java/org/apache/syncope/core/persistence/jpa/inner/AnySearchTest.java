@@ -26,12 +26,15 @@ import static org.junit.Assert.assertTrue;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import org.apache.commons.collections4.IterableUtils;
 import org.apache.commons.collections4.Predicate;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.dao.AnyMatchDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
@@ -76,6 +79,9 @@ public class AnySearchTest extends AbstractTest {
     @Autowired
     private AnySearchDAO searchDAO;
 
+    @Autowired
+    private AnyMatchDAO anyMatchDAO;
+
     @Autowired
     private AnyTypeDAO anyTypeDAO;
 
@@ -136,6 +142,104 @@ public class AnySearchTest extends AbstractTest {
         assertTrue(searchDAO.matches(group, SearchCond.getLeafCond(attrCond)));
     }
 
+    @Test
+    public void inMemoryMatch() {
+        User user = userDAO.find("1417acbe-cbf6-4277-9372-e75e04f97000");
+        assertNotNull(user);
+
+        List<SearchCond> conds = new ArrayList<>();
+
+        AttributeCond attrCond = new AttributeCond(AttributeCond.Type.EQ);
+        attrCond.setSchema("firstname");
+        attrCond.setExpression("Gioacchino");
+        conds.add(SearchCond.getLeafCond(attrCond));
+        conds.add(SearchCond.getNotLeafCond(attrCond));
+
+        attrCond = new AttributeCond(AttributeCond.Type.ILIKE);
+        attrCond.setSchema("fullname");
+        attrCond.setExpression("gioacc%ROSSINI");
+        conds.add(SearchCond.getLeafCond(attrCond));
+
+        attrCond = new AttributeCond(AttributeCond.Type.GT);
+        attrCond.setSchema("loginDate");
+        attrCond.setExpression("2009-05-26");
+        conds.add(SearchCond.getLeafCond(attrCond));
+
+        attrCond = new AttributeCond(AttributeCond.Type.ISNULL);
+        attrCond.setSchema("email");
+        conds.add(SearchCond.getLeafCond(attrCond));
+
+        AnyCond anyCond = new AnyCond(AttributeCond.Type.EQ);
+        anyCond.setSchema("username");
+        anyCond.setExpression("rossini");
+        conds.add(SearchCond.getLeafCond(anyCond));
+
+        anyCond = new AnyCond(AttributeCond.Type.EQ);
+        anyCond.setSchema("key");
+        anyCond.setExpression("1417acbe-cbf6-4277-9372-e75e04f97000");
+        conds.add(SearchCond.getNotLeafCond(anyCond));
+
+        ResourceCond resourceCond = new ResourceCond();
+        resourceCond.setResourceKey("resource-testdb2");
+        conds.add(SearchCond.getLeafCond(resourceCond));
+
+        AssignableCond assignableCond = new AssignableCond();
+        assignableCond.setRealmFullPath("/even");
+        conds.add(SearchCond.getLeafCond(assignableCond));
+
+        for (SearchCond cond : conds) {
+            assertEquals(cond.toString(), searchDAO.matches(user, cond), anyMatchDAO.matches(user, cond));
+        }
+
+        // not evaluable in memory, reverts to query
+        RoleCond roleCond = new RoleCond();
+        roleCond.setRoleKey("Other");
+        assertTrue(anyMatchDAO.matches(user, SearchCond.getAndCond(
+                SearchCond.getLeafCond(roleCond), conds.get(0))));
+    }
+
+    @Test
+    public void inMemoryMatchDate() {
+        User user = userDAO.find("1417acbe-cbf6-4277-9372-e75e04f97000");
+        assertNotNull(user);
+
+        // stored values are read as java.sql.Timestamp, expressions are parsed as java.util.Date
+        AttributeCond attrCond = new AttributeCond(AttributeCond.Type.EQ);
+        attrCond.setSchema("loginDate");
+        attrCond.setExpression("2009-05-26");
+        assertTrue(anyMatchDAO.matches(user, SearchCond.getLeafCond(attrCond)));
+        assertEquals(searchDAO.matches(user, SearchCond.getLeafCond(attrCond)),
+                anyMatchDAO.matches(user, SearchCond.getLeafCond(attrCond)));
+
+        attrCond.setExpression("2009-05-27");
+        assertFalse(anyMatchDAO.matches(user, SearchCond.getLeafCond(attrCond)));
+
+        attrCond = new AttributeCond(AttributeCond.Type.LE);
+        attrCond.setSchema("loginDate");
+        attrCond.setExpression("2009-05-26");
+        assertTrue(anyMatchDAO.matches(user, SearchCond.getLeafCond(attrCond)));
+    }
+
+    @Test
+    public void inMemoryMatchNotNull() {
+        User user = userDAO.find("1417acbe-cbf6-4277-9372-e75e04f97000");
+        assertNotNull(user);
+
+        AttributeCond isNull = new AttributeCond(AttributeCond.Type.ISNULL);
+        isNull.setSchema("email");
+        assertTrue(anyMatchDAO.matches(user, SearchCond.getLeafCond(isNull)));
+        assertFalse(anyMatchDAO.matches(user, SearchCond.getNotLeafCond(isNull)));
+
+        AttributeCond isNotNull = new AttributeCond(AttributeCond.Type.ISNOTNULL);
+        isNotNull.setSchema("email");
+        assertFalse(anyMatchDAO.matches(user, SearchCond.getLeafCond(isNotNull)));
+        assertTrue(anyMatchDAO.matches(user, SearchCond.getNotLeafCond(isNotNull)));
+
+        isNotNull.setSchema("loginDate");
+        assertTrue(anyMatchDAO.matches(user, SearchCond.getLeafCond(isNotNull)));
+        assertFalse(anyMatchDAO.matches(user, SearchCond.getNotLeafCond(isNotNull)));
+    }
+
     @Test
     public void searchWithLikeCondition() {
         AttributeCond fullnameLeafCond = new AttributeCond(AttributeCond.Type.LIKE);
@@ -163,6 +267,65 @@ public class AnySearchTest extends AbstractTest {
         assertEquals(1, users.size());
     }
 
+    @Test
+    public void iterate() {
+        // all users, 2 at a time: more than one page of keys is read
+        List<String> keys = new ArrayList<>();
+        Iterator<User> users = searchDAO.iterate(
+                SyncopeConstants.FULL_ADMIN_REALMS, null, 2, 1, AnyTypeKind.USER);
+        while (users.hasNext()) {
+            keys.add(users.next().getKey());
+        }
+        assertEquals(userDAO.count(), keys.size());
+        assertEquals(keys.size(), new HashSet<>(keys).size());
+        List<String> sorted = new ArrayList<>(keys);
+        Collections.sort(sorted);
+        assertEquals(sorted, keys);
+
+        // search condition
+        AnyCond usernameLeafCond = new AnyCond(AnyCond.Type.LIKE);
+        usernameLeafCond.setSchema("username");
+        usernameLeafCond.setExpression("%ini");
+
+        users = searchDAO.iterate(
+                SyncopeConstants.FULL_ADMIN_REALMS, SearchCond.getLeafCond(usernameLeafCond), 1, 2, AnyTypeKind.USER);
+        int count = 0;
+        while (users.hasNext()) {
+            assertTrue(users.next().getUsername().endsWith("ini"));
+            count++;
+        }
+        assertEquals(searchDAO.count(SyncopeConstants.FULL_ADMIN_REALMS,
+                SearchCond.getLeafCond(usernameLeafCond), AnyTypeKind.USER), count);
+        assertTrue(count > 1);
+    }
+
+    @Test
+    public void searchAndCount() {
+        AnyCond usernameLeafCond = new AnyCond(AnyCond.Type.LIKE);
+        usernameLeafCond.setSchema("username");
+        usernameLeafCond.setExpression("%ini");
+        SearchCond cond = SearchCond.getLeafCond(usernameLeafCond);
+
+        int count = searchDAO.count(SyncopeConstants.FULL_ADMIN_REALMS, cond, AnyTypeKind.USER);
+        assertTrue(count > 1);
+
+        Pair<Integer, List<User>> result = searchDAO.searchAndCount(SyncopeConstants.FULL_ADMIN_REALMS, cond,
+                1, 1, Collections.<OrderByClause>emptyList(), AnyTypeKind.USER, true);
+        assertEquals(count, result.getLeft(), 0);
+        assertEquals(1, result.getRight().size());
+
+        // without count, one more item is looked up to tell whether further pages are available
+        result = searchDAO.searchAndCount(SyncopeConstants.FULL_ADMIN_REALMS, cond,
+                1, 1, Collections.<OrderByClause>emptyList(), AnyTypeKind.USER, false);
+        assertEquals(2, result.getLeft(), 0);
+        assertEquals(1, result.getRight().size());
+
+        result = searchDAO.searchAndCount(SyncopeConstants.FULL_ADMIN_REALMS, cond,
+                count, 1, Collections.<OrderByClause>emptyList(), AnyTypeKind.USER, false);
+        assertEquals(count, result.getLeft(), 0);
+        assertEquals(1, result.getRight().size());
+    }
+
     @Test
     public void searchCaseInsensitiveWithLikeCondition() {
         AttributeCond fullnameLeafCond = new AttributeCond(AttributeCond.Type.ILIKE);
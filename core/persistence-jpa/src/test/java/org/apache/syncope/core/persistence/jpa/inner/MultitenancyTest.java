@@ -106,4 +106,21 @@ public class MultitenancyTest extends AbstractTest {
         assertNotNull("expected save to work", actual);
         assertEquals(0, actual.getPasswordHistory().size());
     }
+
+    @Test
+    public void timeOrderedKeys() {
+        String previous = null;
+        for (int i = 0; i < 10; i++) {
+            User user = entityFactory.newEntity(User.class);
+            user.setRealm(realmDAO.getRoot());
+            user.setPassword("password", CipherAlgorithm.SHA256);
+            user.setUsername("timeOrdered" + i);
+
+            String key = userDAO.save(user).getKey();
+            if (previous != null) {
+                assertTrue(previous.compareTo(key) < 0);
+            }
+            previous = key;
+        }
+    }
 }
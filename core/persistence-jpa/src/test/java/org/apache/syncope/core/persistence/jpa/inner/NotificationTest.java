@@ -18,9 +18,11 @@
  */
 package org.apache.syncope.core.persistence.jpa.inner;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import java.util.List;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
@@ -63,6 +65,21 @@ public class NotificationTest extends AbstractTest {
         assertFalse(notifications.isEmpty());
     }
 
+    @Test
+    public void findByEvent() {
+        List<Notification> notifications = notificationDAO.findByEvent("[CUSTOM]:[]:[]:[unexisting2]:[SUCCESS]");
+        assertEquals(1, notifications.size());
+        assertEquals("9e2b911c-25de-4c77-bcea-b86ed9451050", notifications.get(0).getKey());
+
+        assertTrue(notificationDAO.findByEvent("[CUSTOM]:[]:[]:[unexisting3]:[SUCCESS]").isEmpty());
+
+        notifications.get(0).setActive(false);
+        notificationDAO.save(notifications.get(0));
+        notificationDAO.flush();
+
+        assertTrue(notificationDAO.findByEvent("[CUSTOM]:[]:[]:[unexisting2]:[SUCCESS]").isEmpty());
+    }
+
     @Test
     public void save() {
         Notification notification = entityFactory.newEntity(Notification.class);
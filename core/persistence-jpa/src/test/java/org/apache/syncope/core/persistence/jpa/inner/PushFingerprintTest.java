@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.inner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
+import org.apache.syncope.core.persistence.api.dao.PushFingerprintDAO;
+import org.apache.syncope.core.persistence.api.entity.resource.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.resource.PushFingerprint;
+import org.apache.syncope.core.persistence.jpa.AbstractTest;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional("Master")
+public class PushFingerprintTest extends AbstractTest {
+
+    @Autowired
+    private PushFingerprintDAO pushFingerprintDAO;
+
+    @Autowired
+    private ExternalResourceDAO resourceDAO;
+
+    private PushFingerprint save(final ExternalResource resource, final String anyKey, final String fingerprint) {
+        PushFingerprint pushFingerprint = entityFactory.newEntity(PushFingerprint.class);
+        pushFingerprint.setResource(resource);
+        pushFingerprint.setAnyKey(anyKey);
+        pushFingerprint.setFingerprint(fingerprint);
+        return pushFingerprintDAO.save(pushFingerprint);
+    }
+
+    @Test
+    public void saveAndDelete() {
+        ExternalResource resource = resourceDAO.find("resource-testdb");
+        ExternalResource other = resourceDAO.find("ws-target-resource-1");
+        String rossini = "1417acbe-cbf6-4277-9372-e75e04f97000";
+        String vivaldi = "b3cbc78d-32e6-4bd4-92e0-bbe07566a2ee";
+
+        assertNull(pushFingerprintDAO.find(resource, rossini));
+
+        save(resource, rossini, "abc");
+        save(other, rossini, "def");
+        save(resource, vivaldi, "ghi");
+        pushFingerprintDAO.flush();
+
+        PushFingerprint actual = pushFingerprintDAO.find(resource, rossini);
+        assertNotNull(actual);
+        assertEquals("abc", actual.getFingerprint());
+        assertEquals("def", pushFingerprintDAO.find(other, rossini).getFingerprint());
+
+        pushFingerprintDAO.delete(resource, vivaldi);
+        pushFingerprintDAO.flush();
+        assertNull(pushFingerprintDAO.find(resource, vivaldi));
+
+        pushFingerprintDAO.deleteAll(rossini);
+        assertNull(pushFingerprintDAO.find(resource, rossini));
+        assertNull(pushFingerprintDAO.find(other, rossini));
+
+        save(resource, rossini, "abc");
+        save(other, rossini, "def");
+        pushFingerprintDAO.flush();
+
+        pushFingerprintDAO.deleteAll(resource);
+        assertNull(pushFingerprintDAO.find(resource, rossini));
+        assertNotNull(pushFingerprintDAO.find(other, rossini));
+    }
+}
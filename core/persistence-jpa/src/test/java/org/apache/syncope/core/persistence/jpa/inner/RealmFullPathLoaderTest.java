@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.inner;
+
+import static org.junit.Assert.assertEquals;
+
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.core.persistence.api.DomainsHolder;
+import org.apache.syncope.core.persistence.jpa.AbstractTest;
+import org.apache.syncope.core.persistence.jpa.content.RealmFullPathLoader;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class RealmFullPathLoaderTest extends AbstractTest {
+
+    @Autowired
+    private DomainsHolder domainsHolder;
+
+    @Autowired
+    private RealmFullPathLoader realmFullPathLoader;
+
+    @Test
+    public void computeMissing() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(domainsHolder.getDomains().get(SyncopeConstants.MASTER_DOMAIN));
+
+        // as found right after upgrading an existing database
+        jdbcTemplate.update("UPDATE Realm SET fullPath=NULL WHERE name IN ('even', 'two')");
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "SELECT COUNT(id) FROM Realm WHERE fullPath IS NULL", Integer.class), 0);
+
+        realmFullPathLoader.load();
+
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(id) FROM Realm WHERE fullPath IS NULL", Integer.class), 0);
+        assertEquals("/even", jdbcTemplate.queryForObject(
+                "SELECT fullPath FROM Realm WHERE name='even'", String.class));
+        assertEquals("/even/two", jdbcTemplate.queryForObject(
+                "SELECT fullPath FROM Realm WHERE name='two'", String.class));
+    }
+}
@@ -134,6 +134,32 @@ public class RealmTest extends AbstractTest {
         assertEquals("986d1236-3ac5-4a19-810c-5ab21d79cba1", actual.getPasswordPolicy().getKey());
     }
 
+    @Test
+    public void move() {
+        Realm realm = entityFactory.newEntity(Realm.class);
+        realm.setName("last");
+        realm.setParent(realmDAO.findByFullPath("/even/two"));
+        realm = realmDAO.save(realm);
+        assertEquals(3, realmDAO.findDescendants(realmDAO.findByFullPath("/even")).size());
+
+        Realm two = realmDAO.findByFullPath("/even/two");
+        two.setName("three");
+        two.setParent(realmDAO.findByFullPath("/odd"));
+        realmDAO.save(two);
+        realmDAO.flush();
+
+        assertNull(realmDAO.findByFullPath("/even/two"));
+        assertNull(realmDAO.findByFullPath("/even/two/last"));
+        assertEquals(two, realmDAO.findByFullPath("/odd/three"));
+        assertEquals(realm, realmDAO.findByFullPath("/odd/three/last"));
+
+        assertEquals(1, realmDAO.findDescendants(realmDAO.findByFullPath("/even")).size());
+        List<Realm> descendants = realmDAO.findDescendants(realmDAO.findByFullPath("/odd"));
+        assertEquals(3, descendants.size());
+        assertTrue(descendants.contains(two));
+        assertTrue(descendants.contains(realm));
+    }
+
     @Test
     public void saveInvalidName() {
         Realm realm = entityFactory.newEntity(Realm.class);
@@ -18,16 +18,33 @@
  */
 package org.apache.syncope.core.persistence.jpa.inner;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Date;
 import java.util.List;
 import java.util.UUID;
+import org.apache.commons.io.IOUtils;
+import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.report.UserReportletConf;
+import org.apache.syncope.common.lib.types.ReportExecStatus;
+import org.apache.syncope.core.persistence.api.DomainsHolder;
 import org.apache.syncope.core.persistence.api.dao.ReportDAO;
+import org.apache.syncope.core.persistence.api.dao.ReportExecDAO;
 import org.apache.syncope.core.persistence.api.dao.ReportTemplateDAO;
 import org.apache.syncope.core.persistence.api.entity.Report;
+import org.apache.syncope.core.persistence.api.entity.ReportExec;
 import org.apache.syncope.core.persistence.jpa.AbstractTest;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -42,6 +59,12 @@ public class ReportTest extends AbstractTest {
     @Autowired
     private ReportTemplateDAO reportTemplateDAO;
 
+    @Autowired
+    private ReportExecDAO reportExecDAO;
+
+    @Autowired
+    private DomainsHolder domainsHolder;
+
     @Test
     public void find() {
         Report report = reportDAO.find("0062ea9c-924d-4ecf-9961-4492a8cc6d1b");
@@ -87,4 +110,52 @@ public class ReportTest extends AbstractTest {
         report = reportDAO.find("0062ea9c-924d-4ecf-9961-4492a8cc6d1b");
         assertNull(report);
     }
+
+    @Test
+    public void saveExecResult() {
+        ReportExec exec = entityFactory.newEntity(ReportExec.class);
+        exec.setStatus(ReportExecStatus.SUCCESS);
+        exec.setStart(new Date());
+        exec.setReport(reportDAO.find("0062ea9c-924d-4ecf-9961-4492a8cc6d1b"));
+        exec = reportExecDAO.save(exec);
+        assertFalse(reportExecDAO.hasExecResult(exec));
+
+        byte[] result = "report result".getBytes(StandardCharsets.UTF_8);
+        reportExecDAO.saveExecResult(exec, new ByteArrayInputStream(result), result.length);
+
+        assertTrue(reportExecDAO.hasExecResult(exec));
+        assertArrayEquals(result, exec.getExecResult());
+    }
+
+    private void setExecResult(final String key, final byte[] result) throws SQLException {
+        // stored outside the current transaction, as the stream returned by openExecResult() reads through its own
+        // connection
+        try (Connection conn = domainsHolder.getDomains().get(SyncopeConstants.MASTER_DOMAIN).getConnection();
+                PreparedStatement stmt = conn.prepareStatement("UPDATE ReportExec SET execResult=? WHERE id=?")) {
+
+            stmt.setBytes(1, result);
+            stmt.setString(2, key);
+            stmt.executeUpdate();
+        }
+    }
+
+    @Test
+    public void openExecResult() throws IOException, SQLException {
+        ReportExec exec = reportExecDAO.find("c13f39c5-0d35-4bff-ba79-3cd5de940369");
+        assertNull(reportExecDAO.openExecResult(exec));
+
+        byte[] result = "report result".getBytes(StandardCharsets.UTF_8);
+        setExecResult(exec.getKey(), result);
+        try {
+            InputStream is = reportExecDAO.openExecResult(exec);
+            assertNotNull(is);
+            try {
+                assertArrayEquals(result, IOUtils.toByteArray(is));
+            } finally {
+                is.close();
+            }
+        } finally {
+            setExecResult(exec.getKey(), null);
+        }
+    }
 }
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.inner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.Date;
+import java.util.UUID;
+import org.apache.syncope.core.persistence.api.dao.RevokedAccessTokenDAO;
+import org.apache.syncope.core.persistence.api.entity.RevokedAccessToken;
+import org.apache.syncope.core.persistence.jpa.AbstractTest;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional("Master")
+public class RevokedAccessTokenTest extends AbstractTest {
+
+    @Autowired
+    private RevokedAccessTokenDAO revokedAccessTokenDAO;
+
+    private String save(final Date expiryTime) {
+        RevokedAccessToken revokedAccessToken = entityFactory.newEntity(RevokedAccessToken.class);
+        revokedAccessToken.setKey(UUID.randomUUID().toString());
+        revokedAccessToken.setExpiryTime(expiryTime);
+        return revokedAccessTokenDAO.save(revokedAccessToken).getKey();
+    }
+
+    @Test
+    public void saveAndDeleteExpired() {
+        String expired = save(new Date(System.currentTimeMillis() - 60000));
+        String valid = save(new Date(System.currentTimeMillis() + 60000));
+        revokedAccessTokenDAO.flush();
+
+        assertNotNull(revokedAccessTokenDAO.find(expired));
+        assertNotNull(revokedAccessTokenDAO.find(valid));
+        assertEquals(1, revokedAccessTokenDAO.findNotExpired().size());
+        assertEquals(valid, revokedAccessTokenDAO.findNotExpired().get(0).getKey());
+
+        assertEquals(1, revokedAccessTokenDAO.deleteExpired());
+        revokedAccessTokenDAO.clear();
+
+        assertNull(revokedAccessTokenDAO.find(expired));
+        assertNotNull(revokedAccessTokenDAO.find(valid));
+    }
+}
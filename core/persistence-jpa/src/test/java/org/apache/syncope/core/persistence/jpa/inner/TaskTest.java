@@ -65,6 +65,20 @@ public class TaskTest extends AbstractTest {
         assertEquals(3, tasks.size());
     }
 
+    @Test
+    public void findToExecByPage() {
+        List<PropagationTask> all = taskDAO.findToExec(TaskType.PROPAGATION);
+
+        List<PropagationTask> page = taskDAO.findToExec(TaskType.PROPAGATION, null, 2);
+        assertEquals(all.subList(0, 2), page);
+
+        page = taskDAO.findToExec(TaskType.PROPAGATION, page.get(1).getKey(), 2);
+        assertEquals(all.subList(2, 3), page);
+
+        page = taskDAO.findToExec(TaskType.PROPAGATION, page.get(0).getKey(), 2);
+        assertTrue(page.isEmpty());
+    }
+
     @Test
     public void findPaginated() {
         List<Task> tasks = taskDAO.findAll(
@@ -21,8 +21,10 @@ package org.apache.syncope.core.persistence.jpa.inner;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
@@ -127,6 +129,18 @@ public class UserTest extends AbstractTest {
         assertNotNull("did not find expected user", user);
     }
 
+    @Test
+    public void findByKeys() {
+        List<User> users = userDAO.findByKeys(Arrays.asList(
+                "823074dc-d280-436d-a7dd-07399fae48ec",
+                "1417acbe-cbf6-4277-9372-e75e04f97000",
+                UUID.randomUUID().toString(),
+                "823074dc-d280-436d-a7dd-07399fae48ec"));
+        assertEquals(2, users.size());
+        assertEquals("puccini", users.get(0).getUsername());
+        assertEquals("rossini", users.get(1).getUsername());
+    }
+
     @Test
     public void findByUsername() {
         User user = userDAO.findByUsername("rossini");
@@ -137,6 +151,45 @@ public class UserTest extends AbstractTest {
         assertNull("found user but did not expect it", user);
     }
 
+    @Test
+    public void findKeysByFieldValues() {
+        List<List<String>> keys = userDAO.findKeysByFieldValues(
+                "username", Arrays.asList("rossini", "user6", "vivaldi", "rossini"));
+        assertEquals(4, keys.size());
+        assertEquals(Collections.singletonList("1417acbe-cbf6-4277-9372-e75e04f97000"), keys.get(0));
+        assertTrue(keys.get(1).isEmpty());
+        assertEquals(Collections.singletonList(userDAO.findByUsername("vivaldi").getKey()), keys.get(2));
+        assertEquals(keys.get(0), keys.get(3));
+
+        keys = userDAO.findKeysByFieldValues("key", Arrays.asList("1417acbe-cbf6-4277-9372-e75e04f97000"));
+        assertEquals(Collections.singletonList("1417acbe-cbf6-4277-9372-e75e04f97000"), keys.get(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void findKeysByInvalidFieldValues() {
+        userDAO.findKeysByFieldValues("realm", Arrays.asList("/even"));
+    }
+
+    @Test
+    public void findKeysByAttrValues() {
+        UPlainAttrValue rossini = entityFactory.newEntity(UPlainAttrValue.class);
+        rossini.setStringValue("Gioacchino Rossini");
+        UPlainAttrValue none = entityFactory.newEntity(UPlainAttrValue.class);
+        none.setStringValue("Nobody");
+
+        List<List<String>> keys = userDAO.findKeysByAttrValues("fullname", Arrays.asList(rossini, none));
+        assertEquals(2, keys.size());
+        assertEquals(userDAO.findByAttrValue("fullname", rossini).get(0).getKey(), keys.get(0).get(0));
+        assertTrue(keys.get(1).isEmpty());
+
+        UPlainAttrValue cool = entityFactory.newEntity(UPlainAttrValue.class);
+        cool.setBooleanValue(true);
+
+        keys = userDAO.findKeysByAttrValues("cool", Arrays.asList(cool));
+        assertEquals(1, keys.get(0).size());
+        assertEquals(userDAO.findByAttrValue("cool", cool).get(0).getKey(), keys.get(0).get(0));
+    }
+
     @Test
     public void save() {
         User user = entityFactory.newEntity(User.class);
@@ -32,4 +32,35 @@ public interface AuditManager {
             Object output,
             Object... input);
 
+    /**
+     * Makes the audit events enabled for the current domain to be read again, right away and as soon as the current
+     * transaction - if any - is completed.
+     */
+    void refreshEnabledEvents();
+
+    /**
+     * Queues the given audit entry, already serialized, for being written to the audit table of the given domain.
+     *
+     * @param domain domain
+     * @param timestamp when the audit entry was generated
+     * @param message serialized audit entry
+     * @param throwable full stack trace of the error reported by the audit entry, if any
+     * @return whether the audit entry was queued or dropped
+     */
+    boolean enqueue(String domain, long timestamp, String message, String throwable);
+
+    /**
+     * @return number of audit entries waiting to be written
+     */
+    int getQueueDepth();
+
+    /**
+     * @return time elapsed, in milliseconds, since the oldest audit entry still waiting was generated
+     */
+    long getLag();
+
+    /**
+     * @return number of audit entries dropped so far because the queue was full
+     */
+    long getDroppedCount();
 }
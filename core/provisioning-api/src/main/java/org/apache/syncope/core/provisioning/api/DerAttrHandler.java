@@ -19,6 +19,7 @@
 package org.apache.syncope.core.provisioning.api;
 
 import java.util.Map;
+import java.util.Set;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.DerSchema;
 import org.apache.syncope.core.persistence.api.entity.Membership;
@@ -42,6 +43,15 @@ public interface DerAttrHandler {
      */
     Map<DerSchema, String> getValues(Any<?> any);
 
+    /**
+     * Calculates derived attributes values associated to the given any, for the derived schemas with given keys only.
+     *
+     * @param any any object
+     * @param schemas derived schema keys
+     * @return derived attribute values
+     */
+    Map<DerSchema, String> getValues(Any<?> any, Set<String> schemas);
+
     /**
      * Calculates derived attribute value associated to the given any, for the given membership and
      * derived schema.
@@ -20,6 +20,7 @@ package org.apache.syncope.core.provisioning.api;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.Membership;
 import org.apache.syncope.core.persistence.api.entity.VirSchema;
@@ -59,6 +60,16 @@ public interface VirAttrHandler {
      */
     Map<VirSchema, List<String>> getValues(Any<?> any);
 
+    /**
+     * Query external resources (or cache, if configured) associated to the given any for values associated to the
+     * {@link VirSchema} instances with given keys, among the ones available for the given any, with no membership.
+     *
+     * @param any any object
+     * @param schemas virtual schema keys
+     * @return virtual attribute values, either for local cache or external resources
+     */
+    Map<VirSchema, List<String>> getValues(Any<?> any, Set<String> schemas);
+
     /**
      * Query external resources (or cache, if configured) associated to the given any for values associated to all
      * {@link VirSchema} instances in the {@link org.apache.syncope.core.persistence.api.entity.AnyTypeClass}
@@ -20,6 +20,7 @@ package org.apache.syncope.core.provisioning.api.data;
 
 import org.apache.syncope.common.lib.patch.AnyObjectPatch;
 import org.apache.syncope.common.lib.to.AnyObjectTO;
+import org.apache.syncope.common.lib.AnyProjection;
 import org.apache.syncope.core.provisioning.api.PropagationByResource;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 
@@ -29,6 +30,10 @@ public interface AnyObjectDataBinder {
 
     AnyObjectTO getAnyObjectTO(AnyObject anyObject, boolean details);
 
+    AnyObjectTO getAnyObjectTO(String key, AnyProjection projection);
+
+    AnyObjectTO getAnyObjectTO(AnyObject anyObject, boolean details, AnyProjection projection);
+
     void create(AnyObject anyObject, AnyObjectTO anyObjectTO);
 
     PropagationByResource update(AnyObject toBeUpdated, AnyObjectPatch anyObjectPatch);
@@ -21,6 +21,7 @@ package org.apache.syncope.core.provisioning.api.data;
 import java.util.Map;
 import org.apache.syncope.common.lib.patch.GroupPatch;
 import org.apache.syncope.common.lib.to.GroupTO;
+import org.apache.syncope.common.lib.AnyProjection;
 import org.apache.syncope.core.provisioning.api.PropagationByResource;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 
@@ -30,6 +31,10 @@ public interface GroupDataBinder {
 
     GroupTO getGroupTO(Group group, boolean details);
 
+    GroupTO getGroupTO(String key, AnyProjection projection);
+
+    GroupTO getGroupTO(Group group, boolean details, AnyProjection projection);
+
     void create(Group group, GroupTO groupTO);
 
     PropagationByResource update(Group group, GroupPatch groupPatch);
@@ -20,6 +20,7 @@ package org.apache.syncope.core.provisioning.api.data;
 
 import org.apache.syncope.common.lib.patch.UserPatch;
 import org.apache.syncope.common.lib.to.UserTO;
+import org.apache.syncope.common.lib.AnyProjection;
 import org.apache.syncope.core.provisioning.api.PropagationByResource;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 
@@ -33,6 +34,10 @@ public interface UserDataBinder {
 
     UserTO getUserTO(User user, boolean details);
 
+    UserTO getUserTO(String key, AnyProjection projection);
+
+    UserTO getUserTO(User user, boolean details, AnyProjection projection);
+
     void create(User user, UserTO userTO, boolean storePassword);
 
     /**
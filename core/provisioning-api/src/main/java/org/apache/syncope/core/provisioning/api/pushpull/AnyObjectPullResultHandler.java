@@ -18,6 +18,6 @@
  */
 package org.apache.syncope.core.provisioning.api.pushpull;
 
-public interface AnyObjectPullResultHandler extends SyncopePullResultHandler {
+public interface AnyObjectPullResultHandler extends AnyPullResultHandler {
 
 }
@@ -0,0 +1,33 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api.pushpull;
+
+import java.util.List;
+import java.util.Map;
+
+public interface AnyPullResultHandler extends SyncopePullResultHandler {
+
+    /**
+     * Provides the keys of any objects matching the connector objects about to be handled, as resolved in advance;
+     * each entry is consumed when handling the delta with the same uid, while lookup happens as usual for missing uids.
+     *
+     * @param correlated matching any object keys, by connector object uid
+     */
+    void setCorrelated(Map<String, List<String>> correlated);
+}
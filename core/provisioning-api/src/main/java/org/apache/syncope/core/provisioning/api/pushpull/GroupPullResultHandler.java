@@ -20,7 +20,7 @@ package org.apache.syncope.core.provisioning.api.pushpull;
 
 import java.util.Map;
 
-public interface GroupPullResultHandler extends SyncopePullResultHandler {
+public interface GroupPullResultHandler extends AnyPullResultHandler {
 
     Map<String, String> getGroupOwnerMap();
 }
@@ -20,6 +20,7 @@ package org.apache.syncope.core.provisioning.api.pushpull;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import org.apache.syncope.common.lib.types.ConflictResolutionAction;
 import org.apache.syncope.core.persistence.api.entity.task.ProvisioningTask;
@@ -31,7 +32,15 @@ public class ProvisioningProfile<T extends ProvisioningTask, A extends Provision
 
     private final T task;
 
-    private final List<ProvisioningReport> results = new ArrayList<>();
+    /**
+     * Task instances loaded by the worker threads, when handling in parallel.
+     */
+    private final ThreadLocal<T> workerTask = new ThreadLocal<>();
+
+    private boolean parallel;
+
+    private final List<ProvisioningReport> results =
+            Collections.synchronizedList(new ArrayList<ProvisioningReport>());
 
     private boolean dryRun;
 
@@ -48,8 +57,41 @@ public class ProvisioningProfile<T extends ProvisioningTask, A extends Provision
         return connector;
     }
 
+    /**
+     * @return the task as loaded by the current worker thread, if any, or the task this profile was created for
+     */
     public T getTask() {
-        return task;
+        T current = workerTask.get();
+        return current == null ? task : current;
+    }
+
+    public String getTaskKey() {
+        return task.getKey();
+    }
+
+    /**
+     * Binds to the current thread the task as loaded by its own persistence context, or unbinds it if null.
+     *
+     * @param task task as loaded by the current thread, or null
+     */
+    public void setWorkerTask(final T task) {
+        if (task == null) {
+            workerTask.remove();
+        } else {
+            workerTask.set(task);
+        }
+    }
+
+    /**
+     * @return whether entities are handled in parallel by worker threads, each in its own transaction; if so, the
+     * workers shall not access the entities loaded by the job thread
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    public void setParallel(final boolean parallel) {
+        this.parallel = parallel;
     }
 
     public Collection<ProvisioningReport> getResults() {
@@ -28,6 +28,9 @@ import org.quartz.JobExecutionException;
  * Interface for actions to be performed during pull.
  * All methods can throw {@link IgnoreProvisionException} to make the current any object ignored by the pull
  * process.
+ * The same instance is shared by all the workers of a pull task: when <tt>pullJobDelegate.concurrency</tt> is
+ * greater than 1, implementations must be thread-safe. Each delta is handled from the <tt>before*</tt> methods to
+ * {@link #after} within a single thread, while {@link #afterAll} is invoked once all workers have completed.
  */
 public interface PullActions extends ProvisioningActions {
 
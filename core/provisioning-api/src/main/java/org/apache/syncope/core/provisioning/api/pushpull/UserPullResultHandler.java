@@ -18,6 +18,6 @@
  */
 package org.apache.syncope.core.provisioning.api.pushpull;
 
-public interface UserPullResultHandler extends SyncopePullResultHandler {
+public interface UserPullResultHandler extends AnyPullResultHandler {
 
 }
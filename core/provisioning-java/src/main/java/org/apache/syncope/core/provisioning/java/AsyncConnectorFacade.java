@@ -19,8 +19,21 @@
 package org.apache.syncope.core.provisioning.java;
 
 import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Resource;
+import org.apache.syncope.core.persistence.api.entity.ConnInstance;
+import org.apache.syncope.core.provisioning.api.TimeoutException;
 import org.identityconnectors.common.security.GuardedString;
 import org.identityconnectors.framework.api.ConnectorFacade;
 import org.identityconnectors.framework.common.objects.Attribute;
@@ -32,101 +45,332 @@ import org.identityconnectors.framework.common.objects.SyncToken;
 import org.identityconnectors.framework.common.objects.Uid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Async;
-import org.springframework.scheduling.annotation.AsyncResult;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 
 /**
  * Intercept calls to ConnectorFacade's methods and check if the corresponding connector instance has been configured to
  * allow every single operation: if not, simply do nothing.
+ * Calls are run by a bounded executor - {@link Bulkhead} - dedicated to each connector instance, so that a slow or
+ * unresponsive external resource cannot exhaust the threads available for all the others; calls rejected by such
+ * executor fail with {@link TimeoutException}.
+ * Calls to connector instances not saved yet are run by a shared executor instead.
  */
 @Component
-public class AsyncConnectorFacade {
+public class AsyncConnectorFacade implements DisposableBean {
 
     private static final Logger LOG = LoggerFactory.getLogger(AsyncConnectorFacade.class);
 
-    @Async
+    public enum RejectionPolicy {
+
+        /**
+         * Fail the call.
+         */
+        ABORT,
+        /**
+         * Run the call in the calling thread.
+         */
+        CALLER_RUNS
+
+    }
+
+    /**
+     * Bounded executor for calls to a given connector instance, counting the calls rejected because saturated.
+     */
+    public static class Bulkhead extends ThreadPoolExecutor {
+
+        private final LongAdder rejected = new LongAdder();
+
+        public Bulkhead(
+                final String name,
+                final int poolSize,
+                final int queueCapacity,
+                final RejectionPolicy rejectionPolicy) {
+
+            super(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                    queueCapacity > 0
+                            ? new LinkedBlockingQueue<Runnable>(queueCapacity)
+                            : new SynchronousQueue<Runnable>(),
+                    new CustomizableThreadFactory("connector-" + name + "-"));
+            allowCoreThreadTimeOut(true);
+
+            setRejectedExecutionHandler(new RejectedExecutionHandler() {
+
+                @Override
+                public void rejectedExecution(final Runnable runnable, final ThreadPoolExecutor executor) {
+                    rejected.increment();
+                    if (rejectionPolicy == RejectionPolicy.CALLER_RUNS && !executor.isShutdown()) {
+                        runnable.run();
+                    } else {
+                        throw new RejectedExecutionException("Too many pending requests for connector " + name);
+                    }
+                }
+            });
+        }
+
+        public int getQueueSize() {
+            return getQueue().size();
+        }
+
+        public long getRejectedCount() {
+            return rejected.sum();
+        }
+    }
+
+    /**
+     * Threads for each connector instance, unless a maximum number of pooled objects is configured for it.
+     */
+    @Value("${asyncConnectorFacadeExecutor.poolSize:10}")
+    private int poolSize;
+
+    /**
+     * Calls waiting for a thread of a given connector instance, before being rejected.
+     */
+    @Value("${asyncConnectorFacadeExecutor.queueCapacity:100}")
+    private int queueCapacity;
+
+    @Value("${asyncConnectorFacadeExecutor.rejectionPolicy:ABORT}")
+    private RejectionPolicy rejectionPolicy;
+
+    /**
+     * Runs calls to connector instances not saved yet, e.g. while being checked.
+     */
+    @Resource(name = "asyncConnectorFacadeExecutor")
+    private ThreadPoolTaskExecutor executor;
+
+    private final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    private Bulkhead bulkhead(final String key, final ConnInstance connInstance) {
+        int size = connInstance.getPoolConf() == null
+                || connInstance.getPoolConf().getMaxObjects() == null
+                || connInstance.getPoolConf().getMaxObjects() <= 0
+                ? poolSize
+                : connInstance.getPoolConf().getMaxObjects();
+
+        Bulkhead bulkhead = bulkheads.get(key);
+        if (bulkhead == null) {
+            synchronized (bulkheads) {
+                bulkhead = bulkheads.get(key);
+                if (bulkhead == null) {
+                    bulkhead = new Bulkhead(key, size, queueCapacity, rejectionPolicy);
+                    bulkheads.put(key, bulkhead);
+                }
+            }
+        }
+
+        // connector instance's configuration might have changed since the executor was created
+        if (bulkhead.getMaximumPoolSize() != size) {
+            synchronized (bulkhead) {
+                if (size > bulkhead.getMaximumPoolSize()) {
+                    bulkhead.setMaximumPoolSize(size);
+                    bulkhead.setCorePoolSize(size);
+                } else {
+                    bulkhead.setCorePoolSize(size);
+                    bulkhead.setMaximumPoolSize(size);
+                }
+            }
+        }
+
+        return bulkhead;
+    }
+
+    /**
+     * Gives access to the executor for the given connector instance, e.g. for monitoring its saturation.
+     *
+     * @param connInstanceKey connector instance key
+     * @return executor for the given connector instance, or {@code null} if no call was made so far
+     */
+    public Bulkhead getBulkhead(final String connInstanceKey) {
+        return bulkheads.get(connInstanceKey);
+    }
+
+    /**
+     * Removes the executor for the given connector instance, if any, after the calls already submitted are run;
+     * a new executor is created upon next call.
+     *
+     * @param connInstanceKey connector instance key
+     */
+    public void removeBulkhead(final String connInstanceKey) {
+        Bulkhead bulkhead = connInstanceKey == null ? null : bulkheads.remove(connInstanceKey);
+        if (bulkhead != null) {
+            bulkhead.shutdown();
+        }
+    }
+
+    private <T> Future<T> submit(final String key, final ConnInstance connInstance, final Callable<T> call) {
+        if (key == null) {
+            return executor.submit(call);
+        }
+
+        Bulkhead bulkhead = bulkhead(key, connInstance);
+        try {
+            return bulkhead.submit(call);
+        } catch (RejectedExecutionException e) {
+            if (bulkhead.isShutdown()) {
+                // removed meanwhile: try again with a new executor
+                return submit(key, connInstance, call);
+            }
+            throw new TimeoutException(e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        for (Bulkhead bulkhead : bulkheads.values()) {
+            bulkhead.shutdownNow();
+        }
+        bulkheads.clear();
+    }
+
     public Future<Uid> authenticate(
+            final String key,
+            final ConnInstance connInstance,
             final ConnectorFacade connector,
             final String username,
             final GuardedString password,
             final OperationOptions options) {
 
-        return new AsyncResult<>(connector.authenticate(ObjectClass.ACCOUNT, username, password, options));
+        return submit(key, connInstance, new Callable<Uid>() {
+
+            @Override
+            public Uid call() {
+                return connector.authenticate(ObjectClass.ACCOUNT, username, password, options);
+            }
+        });
     }
 
-    @Async
     public Future<Uid> create(
+            final String key,
+            final ConnInstance connInstance,
             final ConnectorFacade connector,
             final ObjectClass objectClass,
             final Set<Attribute> attrs,
             final OperationOptions options) {
 
-        return new AsyncResult<>(connector.create(objectClass, attrs, options));
+        return submit(key, connInstance, new Callable<Uid>() {
+
+            @Override
+            public Uid call() {
+                return connector.create(objectClass, attrs, options);
+            }
+        });
     }
 
-    @Async
     public Future<Uid> update(
+            final String key,
+            final ConnInstance connInstance,
             final ConnectorFacade connector,
             final ObjectClass objectClass,
             final Uid uid,
             final Set<Attribute> attrs,
             final OperationOptions options) {
 
-        return new AsyncResult<>(connector.update(objectClass, uid, attrs, options));
+        return submit(key, connInstance, new Callable<Uid>() {
+
+            @Override
+            public Uid call() {
+                return connector.update(objectClass, uid, attrs, options);
+            }
+        });
     }
 
-    @Async
     public Future<Uid> delete(
+            final String key,
+            final ConnInstance connInstance,
             final ConnectorFacade connector,
             final ObjectClass objectClass,
             final Uid uid,
             final OperationOptions options) {
 
-        connector.delete(objectClass, uid, options);
-        return new AsyncResult<>(uid);
+        return submit(key, connInstance, new Callable<Uid>() {
+
+            @Override
+            public Uid call() {
+                connector.delete(objectClass, uid, options);
+                return uid;
+            }
+        });
     }
 
-    @Async
     public Future<SyncToken> getLatestSyncToken(
-            final ConnectorFacade connector, final ObjectClass objectClass) {
+            final String key,
+            final ConnInstance connInstance,
+            final ConnectorFacade connector,
+            final ObjectClass objectClass) {
 
-        return new AsyncResult<>(connector.getLatestSyncToken(objectClass));
+        return submit(key, connInstance, new Callable<SyncToken>() {
+
+            @Override
+            public SyncToken call() {
+                return connector.getLatestSyncToken(objectClass);
+            }
+        });
     }
 
-    @Async
     public Future<ConnectorObject> getObject(
+            final String key,
+            final ConnInstance connInstance,
             final ConnectorFacade connector,
             final ObjectClass objectClass,
             final Uid uid,
             final OperationOptions options) {
 
-        return new AsyncResult<>(connector.getObject(objectClass, uid, options));
+        return submit(key, connInstance, new Callable<ConnectorObject>() {
+
+            @Override
+            public ConnectorObject call() {
+                return connector.getObject(objectClass, uid, options);
+            }
+        });
     }
 
-    @Async
-    public Future<Set<ObjectClassInfo>> getObjectClassInfo(final ConnectorFacade connector) {
-        Set<ObjectClassInfo> result = Collections.emptySet();
+    public Future<Set<ObjectClassInfo>> getObjectClassInfo(
+            final String key, final ConnInstance connInstance, final ConnectorFacade connector) {
 
-        try {
-            result = connector.schema().getObjectClassInfo();
-        } catch (Exception e) {
-            // catch exception in order to manage unpredictable behaviors
-            LOG.debug("While reading schema on connector {}", connector, e);
-        }
+        return submit(key, connInstance, new Callable<Set<ObjectClassInfo>>() {
+
+            @Override
+            public Set<ObjectClassInfo> call() {
+                Set<ObjectClassInfo> result = Collections.emptySet();
 
-        return new AsyncResult<>(result);
+                try {
+                    result = connector.schema().getObjectClassInfo();
+                } catch (Exception e) {
+                    // catch exception in order to manage unpredictable behaviors
+                    LOG.debug("While reading schema on connector {}", connector, e);
+                }
+
+                return result;
+            }
+        });
     }
 
-    @Async
-    public Future<String> validate(final ConnectorFacade connector) {
-        connector.validate();
-        return new AsyncResult<>("OK");
+    public Future<String> validate(
+            final String key, final ConnInstance connInstance, final ConnectorFacade connector) {
+
+        return submit(key, connInstance, new Callable<String>() {
+
+            @Override
+            public String call() {
+                connector.validate();
+                return "OK";
+            }
+        });
     }
 
-    @Async
-    public Future<String> test(final ConnectorFacade connector) {
-        connector.test();
-        return new AsyncResult<>("OK");
+    public Future<String> test(
+            final String key, final ConnInstance connInstance, final ConnectorFacade connector) {
+
+        return submit(key, connInstance, new Callable<String>() {
+
+            @Override
+            public String call() {
+                connector.test();
+                return "OK";
+            }
+        });
     }
 }
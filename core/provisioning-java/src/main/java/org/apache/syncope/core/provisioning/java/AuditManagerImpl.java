@@ -18,6 +18,19 @@
  */
 package org.apache.syncope.core.provisioning.java;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
 import org.apache.syncope.core.provisioning.api.AuditManager;
 import org.apache.syncope.common.lib.types.AuditElements;
 import org.apache.syncope.common.lib.types.AuditElements.Result;
@@ -26,23 +39,209 @@ import org.apache.syncope.common.lib.types.LoggerLevel;
 import org.apache.syncope.common.lib.types.LoggerType;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
+import org.apache.syncope.core.persistence.api.DomainsHolder;
 import org.apache.syncope.core.persistence.api.dao.LoggerDAO;
+import org.apache.syncope.core.provisioning.java.AuditQueue.AuditRecord;
+import org.apache.syncope.core.provisioning.java.AuditQueue.OverflowPolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+/**
+ * Audit events enabled for each domain are kept in memory; entries for enabled events are serialized by the caller
+ * and sent to the audit logger of the related domain, whose appender - set up by {@code LoggerLoader} - queues them;
+ * queued entries are written to the {@code SYNCOPEAUDIT} table of the related domain in JDBC batches by a background
+ * thread.
+ */
 @Component
-public class AuditManagerImpl implements AuditManager {
+public class AuditManagerImpl implements AuditManager, InitializingBean, DisposableBean {
+
+    private static final String INSERT = "INSERT INTO SYNCOPEAUDIT "
+            + "(EVENT_DATE, LOGGER_LEVEL, LOGGER, MESSAGE, THROWABLE) VALUES (?, ?, ?, ?, ?)";
+
+    private static class EnabledEvents {
+
+        private final long generation;
+
+        private final long expires;
+
+        private final Set<String> names;
+
+        EnabledEvents(final long generation, final long expires, final Set<String> names) {
+            this.generation = generation;
+            this.expires = expires;
+            this.names = names;
+        }
+    }
 
     @Autowired
     private LoggerDAO loggerDAO;
 
+    @Autowired
+    private DomainsHolder domainsHolder;
+
+    /**
+     * Maximum number of audit entries waiting to be written.
+     */
+    @Value("${auditManager.queueCapacity:10000}")
+    private int queueCapacity;
+
+    /**
+     * Maximum number of audit entries written with a single JDBC batch.
+     */
+    @Value("${auditManager.batchSize:100}")
+    private int batchSize;
+
+    /**
+     * What to do with audit entries when the queue is full: either BLOCK the caller or DROP the entry.
+     */
+    @Value("${auditManager.overflowPolicy:BLOCK}")
+    private OverflowPolicy overflowPolicy;
+
+    /**
+     * Seconds after which the enabled audit events are reloaded, so that changes made on other nodes are eventually
+     * seen; 0 disables caching.
+     */
+    @Value("${auditManager.enabledEventsTtl:30}")
+    private long enabledEventsTtl;
+
+    /**
+     * Names of the enabled audit loggers, for each domain.
+     */
+    private final ConcurrentMap<String, EnabledEvents> enabledEvents = new ConcurrentHashMap<>();
+
+    /**
+     * Incremented for each domain whenever audit events are enabled or disabled; sets of names read under a previous
+     * generation are never cached.
+     */
+    private final ConcurrentMap<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    private AuditQueue queue;
+
     public static String getDomainAuditLoggerName(final String domain) {
         return LoggerType.AUDIT.getPrefix() + "." + domain;
     }
 
+    @Override
+    public void afterPropertiesSet() {
+        queue = new AuditQueue(queueCapacity, batchSize, overflowPolicy) {
+
+            @Override
+            protected void write(final String domain, final List<AuditRecord> records) throws SQLException {
+                AuditManagerImpl.this.write(domain, records);
+            }
+        };
+        queue.start();
+    }
+
+    @Override
+    public void destroy() {
+        queue.stop(10000L);
+    }
+
+    private void write(final String domain, final List<AuditRecord> records) throws SQLException {
+        DataSource dataSource = domainsHolder.getDomains().get(domain);
+        if (dataSource == null) {
+            throw new IllegalArgumentException("Unknown domain: " + domain);
+        }
+
+        try (Connection conn = dataSource.getConnection();
+                PreparedStatement stmt = conn.prepareStatement(INSERT)) {
+
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try {
+                for (AuditRecord record : records) {
+                    stmt.setTimestamp(1, new Timestamp(record.getTimestamp()));
+                    stmt.setString(2, LoggerLevel.DEBUG.name());
+                    stmt.setString(3, getDomainAuditLoggerName(domain));
+                    stmt.setString(4, record.getMessage());
+                    stmt.setString(5, record.getThrowable());
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    private AtomicLong getGeneration(final String domain) {
+        AtomicLong generation = generations.get(domain);
+        if (generation == null) {
+            generation = new AtomicLong();
+            AtomicLong existing = generations.putIfAbsent(domain, generation);
+            if (existing != null) {
+                generation = existing;
+            }
+        }
+        return generation;
+    }
+
+    private Set<String> getEnabledEvents() {
+        String domain = AuthContextUtils.getDomain();
+        AtomicLong generation = getGeneration(domain);
+
+        EnabledEvents enabled = enabledEvents.get(domain);
+        if (enabled != null
+                && enabled.generation == generation.get() && enabled.expires > System.currentTimeMillis()) {
+
+            return enabled.names;
+        }
+
+        // read the generation before loading, so that changes happening meanwhile prevent caching stale names
+        long current = generation.get();
+
+        Set<String> names = new HashSet<>();
+        for (org.apache.syncope.core.persistence.api.entity.Logger syncopeLogger
+                : loggerDAO.findAll(LoggerType.AUDIT)) {
+
+            if (syncopeLogger.getLevel() == LoggerLevel.DEBUG) {
+                names.add(syncopeLogger.getKey());
+            }
+        }
+        names = Collections.unmodifiableSet(names);
+
+        if (enabledEventsTtl > 0 && current == generation.get()) {
+            enabledEvents.put(domain, new EnabledEvents(
+                    current, System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(enabledEventsTtl), names));
+        }
+
+        return names;
+    }
+
+    private void invalidate(final String domain) {
+        getGeneration(domain).incrementAndGet();
+        enabledEvents.remove(domain);
+    }
+
+    @Override
+    public void refreshEnabledEvents() {
+        final String domain = AuthContextUtils.getDomain();
+
+        invalidate(domain);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+
+                @Override
+                public void afterCompletion(final int status) {
+                    invalidate(domain);
+                }
+            });
+        }
+    }
+
     @Transactional(readOnly = true)
     @Override
     public void audit(
@@ -55,6 +254,11 @@ public class AuditManagerImpl implements AuditManager {
             final Object output,
             final Object... input) {
 
+        AuditLoggerName auditLoggerName = new AuditLoggerName(type, category, subcategory, event, result);
+        if (!getEnabledEvents().contains(auditLoggerName.toLoggerName())) {
+            return;
+        }
+
         Throwable throwable = null;
         if (output instanceof Throwable) {
             throwable = (Throwable) output;
@@ -62,20 +266,37 @@ public class AuditManagerImpl implements AuditManager {
 
         AuditEntry auditEntry = new AuditEntry(
                 AuthContextUtils.getUsername(),
-                new AuditLoggerName(type, category, subcategory, event, result),
+                auditLoggerName,
                 before,
                 throwable == null ? output : throwable.getMessage(),
                 input);
 
-        org.apache.syncope.core.persistence.api.entity.Logger syncopeLogger =
-                loggerDAO.find(auditEntry.getLogger().toLoggerName());
-        if (syncopeLogger != null && syncopeLogger.getLevel() == LoggerLevel.DEBUG) {
-            Logger logger = LoggerFactory.getLogger(getDomainAuditLoggerName(AuthContextUtils.getDomain()));
-            if (throwable == null) {
-                logger.debug(POJOHelper.serialize(auditEntry));
-            } else {
-                logger.debug(POJOHelper.serialize(auditEntry), throwable);
-            }
+        // serialized here, while any entity referenced by the audit entry is still attached
+        Logger logger = LoggerFactory.getLogger(getDomainAuditLoggerName(AuthContextUtils.getDomain()));
+        if (throwable == null) {
+            logger.debug(POJOHelper.serialize(auditEntry));
+        } else {
+            logger.debug(POJOHelper.serialize(auditEntry), throwable);
         }
     }
+
+    @Override
+    public boolean enqueue(final String domain, final long timestamp, final String message, final String throwable) {
+        return queue.offer(new AuditRecord(domain, timestamp, message, throwable));
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return queue.getQueueDepth();
+    }
+
+    @Override
+    public long getLag() {
+        return queue.getLag();
+    }
+
+    @Override
+    public long getDroppedCount() {
+        return queue.getDroppedCount();
+    }
 }
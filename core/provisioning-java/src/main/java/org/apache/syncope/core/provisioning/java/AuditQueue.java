@@ -0,0 +1,239 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded queue of audit records, drained by a single background thread which hands them over in batches, grouped by
+ * domain, to {@link #write(java.lang.String, java.util.List)}.
+ * When the queue is full, callers either block until room is available or see their records dropped, according to
+ * the configured {@link OverflowPolicy}.
+ */
+public abstract class AuditQueue {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AuditQueue.class);
+
+    public enum OverflowPolicy {
+
+        BLOCK,
+        DROP
+
+    }
+
+    public static class AuditRecord {
+
+        private final String domain;
+
+        private final long timestamp;
+
+        private final String message;
+
+        private final String throwable;
+
+        public AuditRecord(final String domain, final long timestamp, final String message, final String throwable) {
+            this.domain = domain;
+            this.timestamp = timestamp;
+            this.message = message;
+            this.throwable = throwable;
+        }
+
+        public String getDomain() {
+            return domain;
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public String getThrowable() {
+            return throwable;
+        }
+    }
+
+    private final BlockingQueue<AuditRecord> queue;
+
+    private final int batchSize;
+
+    private final OverflowPolicy overflowPolicy;
+
+    private final LongAdder dropped = new LongAdder();
+
+    private final LongAdder written = new LongAdder();
+
+    private final LongAdder failed = new LongAdder();
+
+    private volatile boolean running;
+
+    private Thread writer;
+
+    public AuditQueue(final int capacity, final int batchSize, final OverflowPolicy overflowPolicy) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Writes the given records, all related to the given domain.
+     *
+     * @param domain domain
+     * @param records audit records, in the order they were queued
+     * @throws Exception if records could not be written
+     */
+    protected abstract void write(String domain, List<AuditRecord> records) throws Exception;
+
+    public synchronized void start() {
+        if (writer == null) {
+            running = true;
+            writer = new Thread(new Runnable() {
+
+                @Override
+                public void run() {
+                    work();
+                }
+            }, "AuditWriter");
+            writer.setDaemon(true);
+            writer.start();
+        }
+    }
+
+    /**
+     * Stops accepting records and waits for the ones still queued to be written.
+     *
+     * @param timeout maximum time to wait, in milliseconds
+     */
+    public synchronized void stop(final long timeout) {
+        if (writer != null) {
+            running = false;
+            try {
+                writer.join(timeout);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            writer = null;
+        }
+    }
+
+    private void work() {
+        List<AuditRecord> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                AuditRecord first = queue.poll(1, TimeUnit.SECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    flush(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(final List<AuditRecord> batch) {
+        Map<String, List<AuditRecord>> byDomain = new LinkedHashMap<>();
+        for (AuditRecord record : batch) {
+            List<AuditRecord> records = byDomain.get(record.getDomain());
+            if (records == null) {
+                records = new ArrayList<>();
+                byDomain.put(record.getDomain(), records);
+            }
+            records.add(record);
+        }
+
+        for (Map.Entry<String, List<AuditRecord>> entry : byDomain.entrySet()) {
+            try {
+                write(entry.getKey(), entry.getValue());
+                written.add(entry.getValue().size());
+            } catch (Exception e) {
+                LOG.error("Could not write {} audit records for domain {}",
+                        entry.getValue().size(), entry.getKey(), e);
+                failed.add(entry.getValue().size());
+            }
+        }
+    }
+
+    /**
+     * Queues the given record for writing.
+     *
+     * @param record audit record
+     * @return whether the record was queued or dropped
+     */
+    public boolean offer(final AuditRecord record) {
+        boolean queued = false;
+        if (running) {
+            if (overflowPolicy == OverflowPolicy.BLOCK) {
+                try {
+                    queue.put(record);
+                    queued = true;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            } else {
+                queued = queue.offer(record);
+            }
+        }
+
+        if (!queued) {
+            dropped.increment();
+            LOG.debug("Audit record dropped: {}", record.getMessage());
+        }
+        return queued;
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * @return time elapsed, in milliseconds, since the oldest record still queued was generated
+     */
+    public long getLag() {
+        AuditRecord head = queue.peek();
+        return head == null ? 0 : System.currentTimeMillis() - head.getTimestamp();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+}
@@ -84,6 +84,11 @@ public class ConnectorFacadeProxy implements Connector {
      */
     private final ConnInstance connInstance;
 
+    /**
+     * Key of the connector instance whose executor runs all wrapped calls, {@code null} if not saved yet.
+     */
+    private final String bulkheadKey;
+
     @Autowired
     private AsyncConnectorFacade asyncFacade;
 
@@ -97,7 +102,22 @@ public class ConnectorFacadeProxy implements Connector {
      * @see ConnectorFacade
      */
     public ConnectorFacadeProxy(final ConnInstance connInstance) {
+        this(connInstance, connInstance.getKey());
+    }
+
+    /**
+     * Use the passed connector instance to build a ConnectorFacade that will be used to make all wrapped calls.
+     *
+     * @param connInstance the connector instance
+     * @param bulkheadKey key of the saved connector instance the given one was built from, {@code null} if not saved
+     * @see ConnectorInfo
+     * @see APIConfiguration
+     * @see ConfigurationProperties
+     * @see ConnectorFacade
+     */
+    public ConnectorFacadeProxy(final ConnInstance connInstance, final String bulkheadKey) {
         this.connInstance = connInstance;
+        this.bulkheadKey = bulkheadKey;
 
         ConnIdBundleManager connIdBundleManager = ApplicationContextProvider.getBeanFactory().getBean(
                 ConnIdBundleManager.class);
@@ -139,8 +159,8 @@ public class ConnectorFacadeProxy implements Connector {
         Uid result = null;
 
         if (connInstance.getCapabilities().contains(ConnectorCapability.AUTHENTICATE)) {
-            Future<Uid> future = asyncFacade.authenticate(
-                    connector, username, new GuardedString(password.toCharArray()), options);
+            Future<Uid> future = asyncFacade.authenticate(bulkheadKey,
+                    connInstance, connector, username, new GuardedString(password.toCharArray()), options);
             try {
                 result = future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
             } catch (java.util.concurrent.TimeoutException e) {
@@ -174,7 +194,8 @@ public class ConnectorFacadeProxy implements Connector {
         if (connInstance.getCapabilities().contains(ConnectorCapability.CREATE)) {
             propagationAttempted[0] = true;
 
-            Future<Uid> future = asyncFacade.create(connector, objectClass, attrs, options);
+            Future<Uid> future = asyncFacade.create(
+                    bulkheadKey, connInstance, connector, objectClass, attrs, options);
             try {
                 result = future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
             } catch (java.util.concurrent.TimeoutException e) {
@@ -209,7 +230,8 @@ public class ConnectorFacadeProxy implements Connector {
         if (connInstance.getCapabilities().contains(ConnectorCapability.UPDATE)) {
             propagationAttempted[0] = true;
 
-            Future<Uid> future = asyncFacade.update(connector, objectClass, uid, attrs, options);
+            Future<Uid> future = asyncFacade.update(
+                    bulkheadKey, connInstance, connector, objectClass, uid, attrs, options);
 
             try {
                 result = future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
@@ -243,7 +265,7 @@ public class ConnectorFacadeProxy implements Connector {
         if (connInstance.getCapabilities().contains(ConnectorCapability.DELETE)) {
             propagationAttempted[0] = true;
 
-            Future<Uid> future = asyncFacade.delete(connector, objectClass, uid, options);
+            Future<Uid> future = asyncFacade.delete(bulkheadKey, connInstance, connector, objectClass, uid, options);
 
             try {
                 future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
@@ -281,7 +303,8 @@ public class ConnectorFacadeProxy implements Connector {
         SyncToken result = null;
 
         if (connInstance.getCapabilities().contains(ConnectorCapability.SYNC)) {
-            Future<SyncToken> future = asyncFacade.getLatestSyncToken(connector, objectClass);
+            Future<SyncToken> future = asyncFacade.getLatestSyncToken(
+                    bulkheadKey, connInstance, connector, objectClass);
 
             try {
                 result = future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
@@ -309,7 +332,7 @@ public class ConnectorFacadeProxy implements Connector {
         Future<ConnectorObject> future = null;
 
         if (connInstance.getCapabilities().contains(ConnectorCapability.SEARCH)) {
-            future = asyncFacade.getObject(connector, objectClass, uid, options);
+            future = asyncFacade.getObject(bulkheadKey, connInstance, connector, objectClass, uid, options);
         } else {
             LOG.info("Search was attempted, although the connector only has these capabilities: {}. No action.",
                     connInstance.getCapabilities());
@@ -362,7 +385,7 @@ public class ConnectorFacadeProxy implements Connector {
 
     @Override
     public Set<ObjectClassInfo> getObjectClassInfo() {
-        Future<Set<ObjectClassInfo>> future = asyncFacade.getObjectClassInfo(connector);
+        Future<Set<ObjectClassInfo>> future = asyncFacade.getObjectClassInfo(bulkheadKey, connInstance, connector);
         try {
             return future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
         } catch (java.util.concurrent.TimeoutException e) {
@@ -380,7 +403,7 @@ public class ConnectorFacadeProxy implements Connector {
 
     @Override
     public void validate() {
-        Future<String> future = asyncFacade.test(connector);
+        Future<String> future = asyncFacade.test(bulkheadKey, connInstance, connector);
         try {
             future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
         } catch (java.util.concurrent.TimeoutException e) {
@@ -398,7 +421,7 @@ public class ConnectorFacadeProxy implements Connector {
 
     @Override
     public void test() {
-        Future<String> future = asyncFacade.test(connector);
+        Future<String> future = asyncFacade.test(bulkheadKey, connInstance, connector);
         try {
             future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
         } catch (java.util.concurrent.TimeoutException e) {
@@ -488,6 +511,10 @@ public class ConnectorFacadeProxy implements Connector {
         return connInstance;
     }
 
+    public String getBulkheadKey() {
+        return bulkheadKey;
+    }
+
     private Object getPropertyValue(final String propType, final List<?> values) {
         Object value = null;
 
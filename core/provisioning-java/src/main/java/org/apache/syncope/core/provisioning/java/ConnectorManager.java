@@ -55,6 +55,9 @@ public class ConnectorManager implements ConnectorRegistry, ConnectorFactory, Sy
     @Autowired
     private ExternalResourceDAO resourceDAO;
 
+    @Autowired
+    private AsyncConnectorFacade asyncFacade;
+
     private EntityFactory entityFactory;
 
     @Override
@@ -140,13 +143,20 @@ public class ConnectorManager implements ConnectorRegistry, ConnectorFactory, Sy
         return connector;
     }
 
+    private Connector createConnector(final ConnInstance connInstance, final String bulkheadKey) {
+        Connector connector = new ConnectorFacadeProxy(connInstance, bulkheadKey);
+        ApplicationContextProvider.getBeanFactory().autowireBean(connector);
+
+        return connector;
+    }
+
     @Override
     public void registerConnector(final ExternalResource resource) {
         ConnInstance connInstance = buildConnInstanceOverride(
                 resource.getConnector(),
                 resource.getConfOverride(),
                 resource.isOverrideCapabilities() ? resource.getCapabilitiesOverride() : null);
-        Connector connector = createConnector(connInstance);
+        Connector connector = createConnector(connInstance, resource.getConnector().getKey());
         LOG.debug("Connector to be registered: {}", connector);
 
         String beanName = getBeanName(resource);
@@ -161,6 +171,12 @@ public class ConnectorManager implements ConnectorRegistry, ConnectorFactory, Sy
 
     @Override
     public void unregisterConnector(final String id) {
+        // either the name of a connector bean or the key of a connector instance
+        Object connector = ApplicationContextProvider.getBeanFactory().getSingleton(id);
+        asyncFacade.removeBulkhead(connector instanceof ConnectorFacadeProxy
+                ? ((ConnectorFacadeProxy) connector).getBulkheadKey()
+                : id);
+
         ApplicationContextProvider.getBeanFactory().destroySingleton(id);
     }
 
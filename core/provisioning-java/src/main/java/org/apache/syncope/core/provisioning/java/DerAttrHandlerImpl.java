@@ -20,11 +20,12 @@ package org.apache.syncope.core.provisioning.java;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import org.apache.commons.jexl3.JexlContext;
-import org.apache.commons.jexl3.MapContext;
 import org.apache.syncope.core.provisioning.java.jexl.JexlUtils;
+import org.apache.syncope.core.provisioning.java.jexl.LazyJexlContext;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.DerSchema;
@@ -45,13 +46,11 @@ public class DerAttrHandlerImpl implements DerAttrHandler {
     @Autowired
     private AnyUtilsFactory anyUtilsFactory;
 
-    private Map<DerSchema, String> getValues(final Any<?> any, final Set<DerSchema> schemas) {
+    private Map<DerSchema, String> doGetValues(final Any<?> any, final Set<DerSchema> schemas) {
         Map<DerSchema, String> result = new HashMap<>(schemas.size());
 
         for (DerSchema schema : schemas) {
-            JexlContext jexlContext = new MapContext();
-            JexlUtils.addPlainAttrsToContext(any.getPlainAttrs(), jexlContext);
-            JexlUtils.addFieldsToContext(any, jexlContext);
+            JexlContext jexlContext = new LazyJexlContext().addPlainAttrs(any.getPlainAttrs()).addFields(any);
 
             result.put(schema, JexlUtils.evaluate(schema.getExpression(), jexlContext));
         }
@@ -68,7 +67,7 @@ public class DerAttrHandlerImpl implements DerAttrHandler {
             return null;
         }
 
-        return getValues(any, Collections.singleton(schema)).get(schema);
+        return doGetValues(any, Collections.singleton(schema)).get(schema);
     }
 
     @Override
@@ -80,19 +79,31 @@ public class DerAttrHandlerImpl implements DerAttrHandler {
             return null;
         }
 
-        return getValues(any, Collections.singleton(schema)).get(schema);
+        return doGetValues(any, Collections.singleton(schema)).get(schema);
     }
 
     @Override
     public Map<DerSchema, String> getValues(final Any<?> any) {
-        return getValues(
+        return doGetValues(
                 any,
                 anyUtilsFactory.getInstance(any).getAllowedSchemas(any, DerSchema.class).getForSelf());
     }
 
+    @Override
+    public Map<DerSchema, String> getValues(final Any<?> any, final Set<String> schemas) {
+        Set<DerSchema> selected = new HashSet<>();
+        for (DerSchema schema : anyUtilsFactory.getInstance(any).getAllowedSchemas(any, DerSchema.class).getForSelf()) {
+            if (schemas.contains(schema.getKey())) {
+                selected.add(schema);
+            }
+        }
+
+        return doGetValues(any, selected);
+    }
+
     @Override
     public Map<DerSchema, String> getValues(final Any<?> any, final Membership<?> membership) {
-        return getValues(
+        return doGetValues(
                 any,
                 anyUtilsFactory.getInstance(any).getAllowedSchemas(any, DerSchema.class).
                 getForMembership(membership.getRightEnd()));
@@ -68,7 +68,7 @@ public class VirAttrHandlerImpl implements VirAttrHandler {
     @Autowired
     private AnyUtilsFactory anyUtilsFactory;
 
-    private Map<VirSchema, List<String>> getValues(final Any<?> any, final Set<VirSchema> schemas) {
+    private Map<VirSchema, List<String>> doGetValues(final Any<?> any, final Set<VirSchema> schemas) {
         Collection<? extends ExternalResource> ownedResources = anyUtilsFactory.getInstance(any).getAllResources(any);
 
         Map<VirSchema, List<String>> result = new HashMap<>();
@@ -152,7 +152,7 @@ public class VirAttrHandlerImpl implements VirAttrHandler {
             return Collections.emptyList();
         }
 
-        return ListUtils.emptyIfNull(getValues(any, Collections.singleton(schema)).get(schema));
+        return ListUtils.emptyIfNull(doGetValues(any, Collections.singleton(schema)).get(schema));
     }
 
     @Override
@@ -164,19 +164,31 @@ public class VirAttrHandlerImpl implements VirAttrHandler {
             return Collections.emptyList();
         }
 
-        return ListUtils.emptyIfNull(getValues(any, Collections.singleton(schema)).get(schema));
+        return ListUtils.emptyIfNull(doGetValues(any, Collections.singleton(schema)).get(schema));
     }
 
     @Override
     public Map<VirSchema, List<String>> getValues(final Any<?> any) {
-        return getValues(
+        return doGetValues(
                 any,
                 anyUtilsFactory.getInstance(any).getAllowedSchemas(any, VirSchema.class).getForSelf());
     }
 
+    @Override
+    public Map<VirSchema, List<String>> getValues(final Any<?> any, final Set<String> schemas) {
+        Set<VirSchema> selected = new HashSet<>();
+        for (VirSchema schema : anyUtilsFactory.getInstance(any).getAllowedSchemas(any, VirSchema.class).getForSelf()) {
+            if (schemas.contains(schema.getKey())) {
+                selected.add(schema);
+            }
+        }
+
+        return doGetValues(any, selected);
+    }
+
     @Override
     public Map<VirSchema, List<String>> getValues(final Any<?> any, final Membership<?> membership) {
-        return getValues(
+        return doGetValues(
                 any,
                 anyUtilsFactory.getInstance(any).getAllowedSchemas(any, VirSchema.class).
                 getForMembership(membership.getRightEnd()));
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.syncope.core.provisioning.api.cache.VirAttrCache;
+import org.apache.syncope.core.provisioning.api.cache.VirAttrCacheKey;
+import org.apache.syncope.core.provisioning.api.cache.VirAttrCacheValue;
+
+/**
+ * In-memory virtual attribute value cache implementation, split into independently locked segments, each evicting its
+ * least recently used entry in constant time when full; expired entries are dropped as soon as they are looked up.
+ * Hit, miss and eviction counters are available for monitoring.
+ */
+public class ConcurrentVirAttrCache implements VirAttrCache {
+
+    private static final int SEGMENTS = 16;
+
+    /**
+     * Elapsed time in seconds.
+     */
+    protected final int ttl;
+
+    /**
+     * Max cache size.
+     */
+    protected final int maxCacheSize;
+
+    private final Segment[] segments;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    public ConcurrentVirAttrCache(final int ttl, final int maxCacheSize) {
+        this.ttl = ttl;
+        this.maxCacheSize = maxCacheSize;
+
+        int segmentSize = Math.max(1, (maxCacheSize + SEGMENTS - 1) / SEGMENTS);
+        this.segments = new Segment[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; i++) {
+            this.segments[i] = new Segment(segmentSize);
+        }
+    }
+
+    private Segment segmentFor(final VirAttrCacheKey cacheKey) {
+        int hash = cacheKey.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (SEGMENTS - 1)];
+    }
+
+    @Override
+    public void put(
+            final String type,
+            final String key,
+            final String schemaKey,
+            final VirAttrCacheValue value) {
+
+        VirAttrCacheKey cacheKey = new VirAttrCacheKey(type, key, schemaKey);
+        Segment segment = segmentFor(cacheKey);
+        synchronized (segment) {
+            segment.put(cacheKey, value);
+        }
+    }
+
+    @Override
+    public VirAttrCacheValue get(final String type, final String key, final String schemaKey) {
+        VirAttrCacheKey cacheKey = new VirAttrCacheKey(type, key, schemaKey);
+        Segment segment = segmentFor(cacheKey);
+
+        VirAttrCacheValue value;
+        synchronized (segment) {
+            value = segment.get(cacheKey);
+            if (value != null && !isValidEntry(value)) {
+                segment.remove(cacheKey);
+                value = null;
+            }
+        }
+
+        if (value == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return value;
+    }
+
+    @Override
+    public void expire(final String type, final String key, final String schemaKey) {
+        VirAttrCacheKey cacheKey = new VirAttrCacheKey(type, key, schemaKey);
+        Segment segment = segmentFor(cacheKey);
+        synchronized (segment) {
+            segment.remove(cacheKey);
+        }
+    }
+
+    /**
+     * Cache entry is valid if and only if value exist and it is not expired.
+     *
+     * @param value cache entry value.
+     * @return TRUE if the value is valid; FALSE otherwise.
+     */
+    @Override
+    public boolean isValidEntry(final VirAttrCacheValue value) {
+        return value != null && value.getCreationDate().getTime() + ttl * 1000L > System.currentTimeMillis();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Access-ordered map, removing the least recently used entry as soon as its capacity is exceeded.
+     * Not thread safe: the caller has to synchronize on the segment.
+     */
+    private class Segment extends LinkedHashMap<VirAttrCacheKey, VirAttrCacheValue> {
+
+        private static final long serialVersionUID = -2506349461316862387L;
+
+        private final int capacity;
+
+        Segment(final int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<VirAttrCacheKey, VirAttrCacheValue> eldest) {
+            boolean remove = size() > capacity;
+            if (remove) {
+                evictions.increment();
+            }
+            return remove;
+        }
+    }
+}
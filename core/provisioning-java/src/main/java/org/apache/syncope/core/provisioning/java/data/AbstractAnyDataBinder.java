@@ -36,6 +36,7 @@ import org.apache.syncope.common.lib.to.AnyTO;
 import org.apache.syncope.common.lib.to.AttrTO;
 import org.apache.syncope.common.lib.to.MembershipTO;
 import org.apache.syncope.common.lib.to.RelationshipTO;
+import org.apache.syncope.common.lib.AnyProjection;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.common.lib.types.PatchOperation;
 import org.apache.syncope.common.lib.types.ResourceOperation;
@@ -553,6 +554,42 @@ abstract class AbstractAnyDataBinder {
         }
     }
 
+    /**
+     * Calculates the derived attribute values of the given any object which are included by the given projection.
+     *
+     * @param any any object
+     * @param projection projection
+     * @return derived attribute values
+     */
+    protected Map<DerSchema, String> getDerAttrValues(final Any<?> any, final AnyProjection projection) {
+        if (projection.getDerAttrs() == null) {
+            return derAttrHandler.getValues(any);
+        }
+        return projection.getDerAttrs().isEmpty()
+                ? Collections.<DerSchema, String>emptyMap()
+                : derAttrHandler.getValues(any, projection.getDerAttrs());
+    }
+
+    /**
+     * Reads the virtual attribute values of the given any object which are included by the given projection; none is
+     * read unless details are requested.
+     *
+     * @param any any object
+     * @param details whether details are requested
+     * @param projection projection
+     * @return virtual attribute values
+     */
+    protected Map<VirSchema, List<String>> getVirAttrValues(
+            final Any<?> any, final boolean details, final AnyProjection projection) {
+
+        if (!details || (projection.getVirAttrs() != null && projection.getVirAttrs().isEmpty())) {
+            return Collections.<VirSchema, List<String>>emptyMap();
+        }
+        return projection.getVirAttrs() == null
+                ? virAttrHandler.getValues(any)
+                : virAttrHandler.getValues(any, projection.getVirAttrs());
+    }
+
     protected void fillTO(
             final AnyTO anyTO,
             final String realmFullPath,
@@ -561,13 +598,18 @@ abstract class AbstractAnyDataBinder {
             final Map<DerSchema, String> derAttrs,
             final Map<VirSchema, List<String>> virAttrs,
             final Collection<? extends ExternalResource> resources,
-            final boolean details) {
+            final boolean details,
+            final AnyProjection projection) {
 
         anyTO.setRealm(realmFullPath);
 
         CollectionUtils.collect(auxClasses, EntityUtils.<AnyTypeClass>keyTransformer(), anyTO.getAuxClasses());
 
         for (PlainAttr<?> plainAttr : plainAttrs) {
+            if (!projection.includesPlainAttr(plainAttr.getSchema().getKey())) {
+                continue;
+            }
+
             AttrTO.Builder attrTOBuilder = new AttrTO.Builder().
                     schema(plainAttr.getSchema().getKey()).
                     values(plainAttr.getValuesAsStrings());
@@ -21,7 +21,6 @@ package org.apache.syncope.core.provisioning.java.data;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import org.apache.commons.collections4.CollectionUtils;
@@ -37,6 +36,7 @@ import org.apache.syncope.common.lib.patch.RelationshipPatch;
 import org.apache.syncope.common.lib.to.AnyObjectTO;
 import org.apache.syncope.common.lib.to.MembershipTO;
 import org.apache.syncope.common.lib.to.RelationshipTO;
+import org.apache.syncope.common.lib.AnyProjection;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.common.lib.types.PatchOperation;
@@ -50,7 +50,6 @@ import org.apache.syncope.core.persistence.api.entity.AnyUtils;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.RelationshipType;
-import org.apache.syncope.core.persistence.api.entity.VirSchema;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AMembership;
 import org.apache.syncope.core.persistence.api.entity.anyobject.APlainAttr;
 import org.apache.syncope.core.persistence.api.entity.anyobject.ARelationship;
@@ -77,56 +76,76 @@ public class AnyObjectDataBinderImpl extends AbstractAnyDataBinder implements An
     @Transactional(readOnly = true)
     @Override
     public AnyObjectTO getAnyObjectTO(final String key) {
+        return getAnyObjectTO(key, AnyProjection.ALL);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public AnyObjectTO getAnyObjectTO(final String key, final AnyProjection projection) {
         return SyncopeConstants.UUID_PATTERN.matcher(key).matches()
-                ? getAnyObjectTO(anyObjectDAO.authFind(key), true)
-                : getAnyObjectTO(anyObjectDAO.authFindByName(key), true);
+                ? getAnyObjectTO(anyObjectDAO.authFind(key), true, projection)
+                : getAnyObjectTO(anyObjectDAO.authFindByName(key), true, projection);
     }
 
     @Override
     public AnyObjectTO getAnyObjectTO(final AnyObject anyObject, final boolean details) {
+        return getAnyObjectTO(anyObject, details, AnyProjection.ALL);
+    }
+
+    @Override
+    public AnyObjectTO getAnyObjectTO(
+            final AnyObject anyObject, final boolean details, final AnyProjection projection) {
+
         AnyObjectTO anyObjectTO = new AnyObjectTO();
         anyObjectTO.setType(anyObject.getType().getKey());
 
         BeanUtils.copyProperties(anyObject, anyObjectTO, IGNORE_PROPERTIES);
 
-        Map<VirSchema, List<String>> virAttrValues = details
-                ? virAttrHandler.getValues(anyObject)
-                : Collections.<VirSchema, List<String>>emptyMap();
         fillTO(anyObjectTO, anyObject.getRealm().getFullPath(),
                 anyObject.getAuxClasses(),
                 anyObject.getPlainAttrs(),
-                derAttrHandler.getValues(anyObject),
-                virAttrValues,
-                anyObjectDAO.findAllResources(anyObject),
-                details);
+                getDerAttrValues(anyObject, projection),
+                getVirAttrValues(anyObject, details, projection),
+                projection.includes(AnyProjection.Section.RESOURCES)
+                ? anyObjectDAO.findAllResources(anyObject)
+                : Collections.<ExternalResource>emptyList(),
+                details,
+                projection);
 
         if (details) {
             // relationships
-            CollectionUtils.collect(anyObject.getRelationships(), new Transformer<ARelationship, RelationshipTO>() {
+            if (projection.includes(AnyProjection.Section.RELATIONSHIPS)) {
+                CollectionUtils.collect(anyObject.getRelationships(),
+                        new Transformer<ARelationship, RelationshipTO>() {
 
-                @Override
-                public RelationshipTO transform(final ARelationship relationship) {
-                    return AnyObjectDataBinderImpl.this.getRelationshipTO(relationship);
-                }
+                    @Override
+                    public RelationshipTO transform(final ARelationship relationship) {
+                        return AnyObjectDataBinderImpl.this.getRelationshipTO(relationship);
+                    }
 
-            }, anyObjectTO.getRelationships());
+                }, anyObjectTO.getRelationships());
+            }
 
             // memberships
-            CollectionUtils.collect(anyObject.getMemberships(), new Transformer<AMembership, MembershipTO>() {
-
-                @Override
-                public MembershipTO transform(final AMembership membership) {
-                    return getMembershipTO(
-                            anyObject.getPlainAttrs(membership),
-                            derAttrHandler.getValues(anyObject, membership),
-                            virAttrHandler.getValues(anyObject, membership),
-                            membership);
-                }
-            }, anyObjectTO.getMemberships());
+            if (projection.includes(AnyProjection.Section.MEMBERSHIPS)) {
+                CollectionUtils.collect(anyObject.getMemberships(), new Transformer<AMembership, MembershipTO>() {
+
+                    @Override
+                    public MembershipTO transform(final AMembership membership) {
+                        return getMembershipTO(
+                                anyObject.getPlainAttrs(membership),
+                                derAttrHandler.getValues(anyObject, membership),
+                                virAttrHandler.getValues(anyObject, membership),
+                                membership);
+                    }
+                }, anyObjectTO.getMemberships());
+            }
 
             // dynamic memberships
-            CollectionUtils.collect(anyObjectDAO.findDynGroupMemberships(anyObject),
-                    EntityUtils.<Group>keyTransformer(), anyObjectTO.getDynGroups());
+            if (projection.includes(AnyProjection.Section.DYN_MEMBERSHIPS)) {
+                CollectionUtils.collect(anyObjectDAO.findDynGroupMemberships(anyObject),
+                        EntityUtils.<Group>keyTransformer(), anyObjectTO.getDynGroups());
+            }
         }
 
         return anyObjectTO;
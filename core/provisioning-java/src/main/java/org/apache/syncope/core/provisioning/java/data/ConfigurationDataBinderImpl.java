@@ -23,11 +23,11 @@ import org.apache.syncope.core.provisioning.api.data.ConfigurationDataBinder;
 import java.util.Collections;
 import java.util.List;
 import org.apache.commons.jexl3.JexlContext;
-import org.apache.commons.jexl3.MapContext;
 import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.to.AttrTO;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.core.provisioning.java.jexl.JexlUtils;
+import org.apache.syncope.core.provisioning.java.jexl.LazyJexlContext;
 import org.apache.syncope.core.persistence.api.attrvalue.validation.InvalidPlainAttrValueException;
 import org.apache.syncope.core.persistence.api.dao.ConfDAO;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
@@ -76,8 +76,7 @@ public class ConfigurationDataBinderImpl extends AbstractAnyDataBinder implement
                 : Collections.singletonList(values.iterator().next()));
 
         if (valuesProvided.isEmpty()) {
-            JexlContext jexlContext = new MapContext();
-            JexlUtils.addPlainAttrsToContext(confDAO.get().getPlainAttrs(), jexlContext);
+            JexlContext jexlContext = new LazyJexlContext().addPlainAttrs(confDAO.get().getPlainAttrs());
 
             if (!schema.isReadonly()
                     && Boolean.parseBoolean(JexlUtils.evaluate(schema.getMandatoryCondition(), jexlContext))) {
@@ -21,7 +21,6 @@ package org.apache.syncope.core.provisioning.java.data;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.Transformer;
@@ -32,6 +31,7 @@ import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.patch.GroupPatch;
 import org.apache.syncope.common.lib.to.GroupTO;
 import org.apache.syncope.common.lib.to.TypeExtensionTO;
+import org.apache.syncope.common.lib.AnyProjection;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.common.lib.types.ResourceOperation;
@@ -45,10 +45,8 @@ import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.AnyTypeClass;
-import org.apache.syncope.core.persistence.api.entity.DerSchema;
 import org.apache.syncope.core.persistence.api.entity.DynGroupMembership;
 import org.apache.syncope.core.persistence.api.entity.Realm;
-import org.apache.syncope.core.persistence.api.entity.VirSchema;
 import org.apache.syncope.core.persistence.api.entity.anyobject.ADynGroupMembership;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AMembership;
 import org.apache.syncope.core.persistence.api.entity.group.TypeExtension;
@@ -310,6 +308,12 @@ public class GroupDataBinderImpl extends AbstractAnyDataBinder implements GroupD
     @Transactional(readOnly = true)
     @Override
     public GroupTO getGroupTO(final Group group, final boolean details) {
+        return getGroupTO(group, details, AnyProjection.ALL);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public GroupTO getGroupTO(final Group group, final boolean details, final AnyProjection projection) {
         GroupTO groupTO = new GroupTO();
 
         // set sys info
@@ -328,18 +332,17 @@ public class GroupDataBinderImpl extends AbstractAnyDataBinder implements GroupD
             groupTO.setGroupOwner(group.getGroupOwner().getKey());
         }
 
-        Map<DerSchema, String> derAttrValues = derAttrHandler.getValues(group);
-        Map<VirSchema, List<String>> virAttrValues = details
-                ? virAttrHandler.getValues(group)
-                : Collections.<VirSchema, List<String>>emptyMap();
         fillTO(groupTO,
                 group.getRealm().getFullPath(),
                 group.getAuxClasses(),
                 group.getPlainAttrs(),
-                derAttrValues,
-                virAttrValues,
-                group.getResources(),
-                details);
+                getDerAttrValues(group, projection),
+                getVirAttrValues(group, details, projection),
+                projection.includes(AnyProjection.Section.RESOURCES)
+                ? group.getResources()
+                : Collections.<ExternalResource>emptyList(),
+                details,
+                projection);
 
         if (group.getUDynMembership() != null) {
             groupTO.setUDynMembershipCond(group.getUDynMembership().getFIQLCond());
@@ -368,9 +371,15 @@ public class GroupDataBinderImpl extends AbstractAnyDataBinder implements GroupD
     @Transactional(readOnly = true)
     @Override
     public GroupTO getGroupTO(final String key) {
+        return getGroupTO(key, AnyProjection.ALL);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public GroupTO getGroupTO(final String key, final AnyProjection projection) {
         return SyncopeConstants.UUID_PATTERN.matcher(key).matches()
-                ? getGroupTO(groupDAO.authFind(key), true)
-                : getGroupTO(groupDAO.authFindByName(key), true);
+                ? getGroupTO(groupDAO.authFind(key), true, projection)
+                : getGroupTO(groupDAO.authFindByName(key), true, projection);
     }
 
     private void populateTransitiveResources(
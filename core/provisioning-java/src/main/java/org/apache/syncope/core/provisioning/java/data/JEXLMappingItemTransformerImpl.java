@@ -29,6 +29,7 @@ import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
 import org.apache.syncope.core.persistence.api.entity.resource.MappingItem;
 import org.apache.syncope.core.provisioning.api.data.JEXLMappingItemTransformer;
 import org.apache.syncope.core.provisioning.java.jexl.JexlUtils;
+import org.apache.syncope.core.provisioning.java.jexl.LazyJexlContext;
 
 public class JEXLMappingItemTransformerImpl
         extends DefaultMappingItemTransformer implements JEXLMappingItemTransformer {
@@ -55,11 +56,9 @@ public class JEXLMappingItemTransformerImpl
 
         if (StringUtils.isNotBlank(propagationJEXL) && values != null) {
             for (PlainAttrValue value : values) {
-                JexlContext jexlContext = new MapContext();
+                LazyJexlContext jexlContext = new LazyJexlContext();
                 if (any != null) {
-                    JexlUtils.addFieldsToContext(any, jexlContext);
-                    JexlUtils.addPlainAttrsToContext(any.getPlainAttrs(), jexlContext);
-                    JexlUtils.addDerAttrsToContext(any, jexlContext);
+                    jexlContext.addFields(any).addPlainAttrs(any.getPlainAttrs()).addDerAttrs(any);
                 }
                 jexlContext.set("value", value.getValueAsString());
 
@@ -120,6 +120,7 @@ public class TaskDataBinderImpl implements TaskDataBinder {
                     ? MatchingRule.LINK : pushTaskTO.getMatchingRule());
             pushTask.setUnmatchingRule(pushTaskTO.getUnmatchingRule() == null
                     ? UnmatchingRule.ASSIGN : pushTaskTO.getUnmatchingRule());
+            pushTask.setIncremental(pushTaskTO.isIncremental());
 
             for (Map.Entry<String, String> entry : pushTaskTO.getFilters().entrySet()) {
                 AnyType type = anyTypeDAO.find(entry.getKey());
@@ -22,7 +22,6 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import javax.annotation.Resource;
@@ -43,6 +42,7 @@ import org.apache.syncope.common.lib.patch.UserPatch;
 import org.apache.syncope.common.lib.to.MembershipTO;
 import org.apache.syncope.common.lib.to.RelationshipTO;
 import org.apache.syncope.common.lib.to.UserTO;
+import org.apache.syncope.common.lib.AnyProjection;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.CipherAlgorithm;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
@@ -66,7 +66,6 @@ import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.RelationshipType;
 import org.apache.syncope.core.persistence.api.entity.Role;
-import org.apache.syncope.core.persistence.api.entity.VirSchema;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.persistence.api.entity.resource.ExternalResource;
 import org.apache.syncope.core.persistence.api.entity.resource.MappingItem;
@@ -554,6 +553,12 @@ public class UserDataBinderImpl extends AbstractAnyDataBinder implements UserDat
     @Transactional(readOnly = true)
     @Override
     public UserTO getUserTO(final User user, final boolean details) {
+        return getUserTO(user, details, AnyProjection.ALL);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public UserTO getUserTO(final User user, final boolean details, final AnyProjection projection) {
         UserTO userTO = new UserTO();
 
         BeanUtils.copyProperties(user, userTO, IGNORE_PROPERTIES);
@@ -562,50 +567,58 @@ public class UserDataBinderImpl extends AbstractAnyDataBinder implements UserDat
             userTO.setSecurityQuestion(user.getSecurityQuestion().getKey());
         }
 
-        Map<VirSchema, List<String>> virAttrValues = details
-                ? virAttrHandler.getValues(user)
-                : Collections.<VirSchema, List<String>>emptyMap();
         fillTO(userTO, user.getRealm().getFullPath(),
                 user.getAuxClasses(),
                 user.getPlainAttrs(),
-                derAttrHandler.getValues(user),
-                virAttrValues,
-                userDAO.findAllResources(user),
-                details);
+                getDerAttrValues(user, projection),
+                getVirAttrValues(user, details, projection),
+                projection.includes(AnyProjection.Section.RESOURCES)
+                ? userDAO.findAllResources(user)
+                : Collections.<ExternalResource>emptyList(),
+                details,
+                projection);
 
         if (details) {
             // roles
-            CollectionUtils.collect(user.getRoles(),
-                    EntityUtils.<Role>keyTransformer(), userTO.getRoles());
+            if (projection.includes(AnyProjection.Section.ROLES)) {
+                CollectionUtils.collect(user.getRoles(),
+                        EntityUtils.<Role>keyTransformer(), userTO.getRoles());
+            }
 
             // relationships
-            CollectionUtils.collect(user.getRelationships(), new Transformer<URelationship, RelationshipTO>() {
+            if (projection.includes(AnyProjection.Section.RELATIONSHIPS)) {
+                CollectionUtils.collect(user.getRelationships(), new Transformer<URelationship, RelationshipTO>() {
 
-                @Override
-                public RelationshipTO transform(final URelationship relationship) {
-                    return UserDataBinderImpl.this.getRelationshipTO(relationship);
-                }
+                    @Override
+                    public RelationshipTO transform(final URelationship relationship) {
+                        return UserDataBinderImpl.this.getRelationshipTO(relationship);
+                    }
 
-            }, userTO.getRelationships());
+                }, userTO.getRelationships());
+            }
 
             // memberships
-            CollectionUtils.collect(user.getMemberships(), new Transformer<UMembership, MembershipTO>() {
-
-                @Override
-                public MembershipTO transform(final UMembership membership) {
-                    return getMembershipTO(
-                            user.getPlainAttrs(membership),
-                            derAttrHandler.getValues(user, membership),
-                            virAttrHandler.getValues(user, membership),
-                            membership);
-                }
-            }, userTO.getMemberships());
+            if (projection.includes(AnyProjection.Section.MEMBERSHIPS)) {
+                CollectionUtils.collect(user.getMemberships(), new Transformer<UMembership, MembershipTO>() {
+
+                    @Override
+                    public MembershipTO transform(final UMembership membership) {
+                        return getMembershipTO(
+                                user.getPlainAttrs(membership),
+                                derAttrHandler.getValues(user, membership),
+                                virAttrHandler.getValues(user, membership),
+                                membership);
+                    }
+                }, userTO.getMemberships());
+            }
 
             // dynamic memberships
-            CollectionUtils.collect(userDAO.findDynRoleMemberships(user),
-                    EntityUtils.<Role>keyTransformer(), userTO.getDynRoles());
-            CollectionUtils.collect(userDAO.findDynGroupMemberships(user),
-                    EntityUtils.<Group>keyTransformer(), userTO.getDynGroups());
+            if (projection.includes(AnyProjection.Section.DYN_MEMBERSHIPS)) {
+                CollectionUtils.collect(userDAO.findDynRoleMemberships(user),
+                        EntityUtils.<Role>keyTransformer(), userTO.getDynRoles());
+                CollectionUtils.collect(userDAO.findDynGroupMemberships(user),
+                        EntityUtils.<Group>keyTransformer(), userTO.getDynGroups());
+            }
         }
 
         return userTO;
@@ -614,9 +627,15 @@ public class UserDataBinderImpl extends AbstractAnyDataBinder implements UserDat
     @Transactional(readOnly = true)
     @Override
     public UserTO getUserTO(final String key) {
+        return getUserTO(key, AnyProjection.ALL);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public UserTO getUserTO(final String key, final AnyProjection projection) {
         return SyncopeConstants.UUID_PATTERN.matcher(key).matches()
-                ? getUserTO(userDAO.authFind(key), true)
-                : getUserTO(userDAO.authFindByUsername(key), true);
+                ? getUserTO(userDAO.authFind(key), true, projection)
+                : getUserTO(userDAO.authFindByUsername(key), true, projection);
     }
 
 }
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.jexl;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.syncope.core.persistence.api.entity.Any;
+import org.apache.syncope.core.provisioning.api.utils.FormatUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads the properties of beans exposed to JEXL expressions, via accessors discovered only once per class.
+ */
+final class BeanAccessors {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BeanAccessors.class);
+
+    private static final String[] IGNORE_FIELDS = { "password", "clearPassword", "serialVersionUID", "class" };
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final ConcurrentMap<Class<?>, Map<String, MethodHandle>> ACCESSORS = new ConcurrentHashMap<>();
+
+    private static Map<String, MethodHandle> discover(final Class<?> reference) {
+        Map<String, MethodHandle> accessors = new HashMap<>();
+
+        try {
+            for (PropertyDescriptor desc : Introspector.getBeanInfo(reference).getPropertyDescriptors()) {
+                Class<?> type = desc.getPropertyType();
+                String fieldName = desc.getName();
+
+                if (type != null
+                        && (!fieldName.startsWith("pc"))
+                        && (!ArrayUtils.contains(IGNORE_FIELDS, fieldName))
+                        && (!Iterable.class.isAssignableFrom(type))
+                        && (!type.isArray())) {
+
+                    try {
+                        if (desc.getReadMethod() == null) {
+                            Field field = reference.getDeclaredField(fieldName);
+                            field.setAccessible(true);
+                            accessors.put(fieldName, LOOKUP.unreflectGetter(field));
+                        } else {
+                            Method readMethod = desc.getReadMethod();
+                            readMethod.setAccessible(true);
+                            accessors.put(fieldName, LOOKUP.unreflect(readMethod));
+                        }
+                    } catch (Exception e) {
+                        LOG.error("Reading '{}' accessor error", fieldName, e);
+                    }
+                }
+            }
+        } catch (IntrospectionException ie) {
+            LOG.error("Reading class attributes error", ie);
+        }
+
+        return Collections.unmodifiableMap(accessors);
+    }
+
+    private static Map<String, MethodHandle> getAccessors(final Class<?> reference) {
+        Map<String, MethodHandle> accessors = ACCESSORS.get(reference);
+        if (accessors == null) {
+            accessors = discover(reference);
+            Map<String, MethodHandle> existing = ACCESSORS.putIfAbsent(reference, accessors);
+            if (existing != null) {
+                accessors = existing;
+            }
+        }
+        return accessors;
+    }
+
+    /**
+     * @param reference bean class
+     * @return names of the properties of the given class which are exposed to JEXL expressions
+     */
+    public static Set<String> getNames(final Class<?> reference) {
+        return getAccessors(reference).keySet();
+    }
+
+    /**
+     * @param reference bean class
+     * @param name property name
+     * @return whether the given property is exposed to JEXL expressions
+     */
+    public static boolean has(final Class<?> reference, final String name) {
+        return getAccessors(reference).containsKey(name);
+    }
+
+    /**
+     * Reads the given property, as exposed to JEXL expressions: {@code null} becomes empty string, dates are
+     * formatted and the realm of any objects is reported by name.
+     *
+     * @param object bean
+     * @param name property name
+     * @return property value, or {@code null} if not exposed or not readable
+     */
+    public static Object get(final Object object, final String name) {
+        MethodHandle accessor = getAccessors(object.getClass()).get(name);
+        if (accessor == null) {
+            return null;
+        }
+
+        if ("realm".equals(name) && object instanceof Any && ((Any<?>) object).getRealm() != null) {
+            return ((Any<?>) object).getRealm().getName();
+        }
+
+        Object fieldValue;
+        try {
+            fieldValue = accessor.invoke(object);
+        } catch (Throwable t) {
+            LOG.error("Reading '{}' value error", name, t);
+            return null;
+        }
+        LOG.debug("Read field {} with value {}", name, fieldValue);
+
+        return fieldValue == null
+                ? StringUtils.EMPTY
+                : fieldValue instanceof Date
+                        ? FormatUtils.format((Date) fieldValue, false)
+                        : fieldValue;
+    }
+
+    private BeanAccessors() {
+        // private constructor for static utility class
+    }
+}
@@ -18,14 +18,12 @@
  */
 package org.apache.syncope.core.provisioning.java.jexl;
 
-import java.beans.IntrospectionException;
-import java.beans.Introspector;
-import java.beans.PropertyDescriptor;
-import java.lang.reflect.Field;
 import java.util.Collection;
-import java.util.Date;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.commons.collections4.map.LRUMap;
 import org.apache.commons.jexl3.JexlBuilder;
 import org.apache.commons.jexl3.JexlContext;
 import org.apache.commons.jexl3.JexlEngine;
@@ -33,12 +31,10 @@ import org.apache.commons.jexl3.JexlException;
 import org.apache.commons.jexl3.JexlExpression;
 import org.apache.commons.jexl3.JxltEngine;
 import org.apache.commons.jexl3.MapContext;
-import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.to.AnyTO;
 import org.apache.syncope.common.lib.to.AttrTO;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
-import org.apache.syncope.core.provisioning.api.utils.FormatUtils;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.DerSchema;
 import org.apache.syncope.core.persistence.api.entity.PlainAttr;
@@ -53,10 +49,32 @@ public final class JexlUtils {
 
     private static final Logger LOG = LoggerFactory.getLogger(JexlUtils.class);
 
-    private static final String[] IGNORE_FIELDS = { "password", "clearPassword", "serialVersionUID", "class" };
+    private static final int CACHE_SIZE = 512;
+
+    /**
+     * Compiled expressions, by source text.
+     */
+    private static final Map<String, JexlExpression> EXPRESSIONS =
+            Collections.synchronizedMap(new LRUMap<String, JexlExpression>(CACHE_SIZE));
+
+    /**
+     * Compiled templates, by source text.
+     */
+    private static final Map<String, JxltEngine.Template> TEMPLATES =
+            Collections.synchronizedMap(new LRUMap<String, JxltEngine.Template>(CACHE_SIZE));
+
+    private static final LongAdder EXPRESSION_PARSES = new LongAdder();
+
+    private static final LongAdder EXPRESSION_HITS = new LongAdder();
+
+    private static final LongAdder TEMPLATE_PARSES = new LongAdder();
+
+    private static final LongAdder TEMPLATE_HITS = new LongAdder();
 
     private static JexlEngine JEXL_ENGINE;
 
+    private static JxltEngine JXLT_ENGINE;
+
     private static JexlEngine getEngine() {
         synchronized (LOG) {
             if (JEXL_ENGINE == null) {
@@ -77,10 +95,76 @@ public final class JexlUtils {
         return getEngine().createJxltEngine(false);
     }
 
+    private static JxltEngine getJxltEngine() {
+        synchronized (LOG) {
+            if (JXLT_ENGINE == null) {
+                JXLT_ENGINE = newJxltEngine();
+            }
+        }
+
+        return JXLT_ENGINE;
+    }
+
+    /**
+     * Returns the compiled expression for the given source text, parsing it only if not found in cache.
+     *
+     * @param expression JEXL expression
+     * @return compiled expression
+     * @throws JexlException if the given expression cannot be parsed
+     */
+    public static JexlExpression getExpression(final String expression) {
+        JexlExpression jexlExpression = EXPRESSIONS.get(expression);
+        if (jexlExpression == null) {
+            EXPRESSION_PARSES.increment();
+            jexlExpression = getEngine().createExpression(expression);
+            EXPRESSIONS.put(expression, jexlExpression);
+        } else {
+            EXPRESSION_HITS.increment();
+        }
+
+        return jexlExpression;
+    }
+
+    /**
+     * Returns the compiled template for the given source text, parsing it only if not found in cache.
+     *
+     * @param template JEXL template
+     * @return compiled template
+     * @throws JxltEngine.Exception if the given template cannot be parsed
+     */
+    public static JxltEngine.Template getTemplate(final String template) {
+        JxltEngine.Template jxltTemplate = TEMPLATES.get(template);
+        if (jxltTemplate == null) {
+            TEMPLATE_PARSES.increment();
+            jxltTemplate = getJxltEngine().createTemplate(template);
+            TEMPLATES.put(template, jxltTemplate);
+        } else {
+            TEMPLATE_HITS.increment();
+        }
+
+        return jxltTemplate;
+    }
+
+    public static long getExpressionParseCount() {
+        return EXPRESSION_PARSES.sum();
+    }
+
+    public static long getExpressionHitCount() {
+        return EXPRESSION_HITS.sum();
+    }
+
+    public static long getTemplateParseCount() {
+        return TEMPLATE_PARSES.sum();
+    }
+
+    public static long getTemplateHitCount() {
+        return TEMPLATE_HITS.sum();
+    }
+
     public static boolean isExpressionValid(final String expression) {
         boolean result;
         try {
-            getEngine().createExpression(expression);
+            getExpression(expression);
             result = true;
         } catch (JexlException e) {
             LOG.error("Invalid jexl expression: " + expression, e);
@@ -95,7 +179,7 @@ public final class JexlUtils {
 
         if (StringUtils.isNotBlank(expression) && jexlContext != null) {
             try {
-                JexlExpression jexlExpression = getEngine().createExpression(expression);
+                JexlExpression jexlExpression = getExpression(expression);
                 Object evaluated = jexlExpression.evaluate(jexlContext);
                 if (evaluated != null) {
                     result = evaluated.toString();
@@ -113,46 +197,10 @@ public final class JexlUtils {
     public static JexlContext addFieldsToContext(final Object object, final JexlContext jexlContext) {
         JexlContext context = jexlContext == null ? new MapContext() : jexlContext;
 
-        try {
-            for (PropertyDescriptor desc : Introspector.getBeanInfo(object.getClass()).getPropertyDescriptors()) {
-                Class<?> type = desc.getPropertyType();
-                String fieldName = desc.getName();
-
-                if ((!fieldName.startsWith("pc"))
-                        && (!ArrayUtils.contains(IGNORE_FIELDS, fieldName))
-                        && (!Iterable.class.isAssignableFrom(type))
-                        && (!type.isArray())) {
-
-                    try {
-                        Object fieldValue;
-                        if (desc.getReadMethod() == null) {
-                            final Field field = object.getClass().getDeclaredField(fieldName);
-                            field.setAccessible(true);
-                            fieldValue = field.get(object);
-                        } else {
-                            fieldValue = desc.getReadMethod().invoke(object);
-                        }
-
-                        context.set(fieldName, fieldValue == null
-                                ? StringUtils.EMPTY
-                                : (type.equals(Date.class)
-                                ? FormatUtils.format((Date) fieldValue, false)
-                                : fieldValue));
-
-                        LOG.debug("Add field {} with value {}", fieldName, fieldValue);
-                    } catch (Exception iae) {
-                        LOG.error("Reading '{}' value error", fieldName, iae);
-                    }
-                }
-            }
-        } catch (IntrospectionException ie) {
-            LOG.error("Reading class attributes error", ie);
-        }
-
-        if (object instanceof Any) {
-            Any<?> any = (Any<?>) object;
-            if (any.getRealm() != null) {
-                context.set("realm", any.getRealm().getName());
+        for (String fieldName : BeanAccessors.getNames(object.getClass())) {
+            Object fieldValue = BeanAccessors.get(object, fieldName);
+            if (fieldValue != null) {
+                context.set(fieldName, fieldValue);
             }
         }
 
@@ -186,11 +234,9 @@ public final class JexlUtils {
     }
 
     public static boolean evaluateMandatoryCondition(final String mandatoryCondition, final Any<?> any) {
-        JexlContext jexlContext = new MapContext();
-        addPlainAttrsToContext(any.getPlainAttrs(), jexlContext);
-        addDerAttrsToContext(any, jexlContext);
-
-        return Boolean.parseBoolean(evaluate(mandatoryCondition, jexlContext));
+        return Boolean.parseBoolean(evaluate(mandatoryCondition, new LazyJexlContext().
+                addPlainAttrs(any.getPlainAttrs()).
+                addDerAttrs(any)));
     }
 
     public static String evaluate(final String expression, final AnyTO anyTO, final JexlContext context) {
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.jexl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.jexl3.JexlContext;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.syncope.core.persistence.api.entity.Any;
+import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
+import org.apache.syncope.core.persistence.api.entity.DerSchema;
+import org.apache.syncope.core.persistence.api.entity.PlainAttr;
+import org.apache.syncope.core.provisioning.api.DerAttrHandler;
+import org.apache.syncope.core.spring.ApplicationContextProvider;
+
+/**
+ * {@link JexlContext} resolving variables only when read by the evaluated expression, rather than upfront.
+ * Variables are resolved from explicitly set values first, then from the sources added - bean fields, plain and
+ * derived attributes - with the latest added taking precedence, as if all values were set in the same order.
+ */
+public class LazyJexlContext implements JexlContext {
+
+    private interface Source {
+
+        boolean has(String name);
+
+        Object get(String name);
+    }
+
+    private final Map<String, Object> vars = new HashMap<>();
+
+    private final List<Source> sources = new ArrayList<>();
+
+    /**
+     * Exposes the fields of the given object, as {@link JexlUtils#addFieldsToContext(Object, JexlContext)} does.
+     *
+     * @param object object
+     * @return this context
+     */
+    public LazyJexlContext addFields(final Object object) {
+        sources.add(new Source() {
+
+            @Override
+            public boolean has(final String name) {
+                return BeanAccessors.has(object.getClass(), name);
+            }
+
+            @Override
+            public Object get(final String name) {
+                return BeanAccessors.get(object, name);
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Exposes the given plain attributes, as {@link JexlUtils#addPlainAttrsToContext(Collection, JexlContext)} does.
+     *
+     * @param attrs plain attributes
+     * @return this context
+     */
+    public LazyJexlContext addPlainAttrs(final Collection<? extends PlainAttr<?>> attrs) {
+        sources.add(new Source() {
+
+            private Map<String, PlainAttr<?>> bySchema;
+
+            private Map<String, PlainAttr<?>> bySchema() {
+                if (bySchema == null) {
+                    bySchema = new HashMap<>(attrs.size());
+                    for (PlainAttr<?> attr : attrs) {
+                        if (attr.getSchema() != null) {
+                            bySchema.put(attr.getSchema().getKey(), attr);
+                        }
+                    }
+                }
+                return bySchema;
+            }
+
+            @Override
+            public boolean has(final String name) {
+                return bySchema().containsKey(name);
+            }
+
+            @Override
+            public Object get(final String name) {
+                PlainAttr<?> attr = bySchema().get(name);
+                if (attr == null) {
+                    return null;
+                }
+
+                List<String> attrValues = attr.getValuesAsStrings();
+                return attrValues.isEmpty()
+                        ? StringUtils.EMPTY
+                        : attrValues.get(0);
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Exposes the derived attributes of the given any object, as
+     * {@link JexlUtils#addDerAttrsToContext(Any, JexlContext)} does; each value is only calculated when first read.
+     *
+     * @param any any object
+     * @return this context
+     */
+    public LazyJexlContext addDerAttrs(final Any<?> any) {
+        sources.add(new Source() {
+
+            private Map<String, DerSchema> schemas;
+
+            private final Map<String, String> values = new HashMap<>();
+
+            private Map<String, DerSchema> schemas() {
+                if (schemas == null) {
+                    schemas = new HashMap<>();
+                    for (DerSchema schema : ApplicationContextProvider.getBeanFactory().getBean(AnyUtilsFactory.class).
+                            getInstance(any).getAllowedSchemas(any, DerSchema.class).getForSelf()) {
+
+                        schemas.put(schema.getKey(), schema);
+                    }
+                }
+                return schemas;
+            }
+
+            @Override
+            public boolean has(final String name) {
+                return schemas().containsKey(name);
+            }
+
+            @Override
+            public Object get(final String name) {
+                DerSchema schema = schemas().get(name);
+                if (schema == null) {
+                    return null;
+                }
+
+                if (!values.containsKey(name)) {
+                    values.put(name, ApplicationContextProvider.getBeanFactory().getBean(DerAttrHandler.class).
+                            getValue(any, schema));
+                }
+                return values.get(name);
+            }
+        });
+        return this;
+    }
+
+    @Override
+    public Object get(final String name) {
+        if (vars.containsKey(name)) {
+            return vars.get(name);
+        }
+        for (int i = sources.size() - 1; i >= 0; i--) {
+            if (sources.get(i).has(name)) {
+                return sources.get(i).get(name);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void set(final String name, final Object value) {
+        vars.put(name, value);
+    }
+
+    @Override
+    public boolean has(final String name) {
+        if (vars.containsKey(name)) {
+            return true;
+        }
+        for (Source source : sources) {
+            if (source.has(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
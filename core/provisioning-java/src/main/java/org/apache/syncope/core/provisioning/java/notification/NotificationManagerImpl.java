@@ -26,6 +26,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import org.apache.commons.collections4.map.LRUMap;
 import org.apache.commons.jexl3.MapContext;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.to.GroupTO;
@@ -43,6 +44,7 @@ import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.TaskDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.Notification;
 import org.apache.syncope.core.persistence.api.entity.PlainAttr;
@@ -55,6 +57,7 @@ import org.apache.syncope.core.provisioning.api.data.GroupDataBinder;
 import org.apache.syncope.core.provisioning.api.data.UserDataBinder;
 import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
+import org.apache.syncope.core.persistence.api.dao.AnyMatchDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
@@ -71,14 +74,24 @@ import org.apache.syncope.core.provisioning.java.IntAttrNameParser;
 import org.apache.syncope.core.provisioning.api.IntAttrName;
 import org.apache.syncope.core.provisioning.api.VirAttrHandler;
 import org.apache.syncope.core.provisioning.api.data.AnyObjectDataBinder;
+import org.apache.syncope.core.provisioning.api.job.JobManager;
+import org.apache.syncope.core.provisioning.api.job.JobNamer;
 import org.apache.syncope.core.provisioning.api.notification.NotificationManager;
 import org.apache.syncope.core.provisioning.api.notification.NotificationRecipientsProvider;
+import org.quartz.ObjectAlreadyExistsException;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.scheduling.quartz.SchedulerFactoryBean;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Component
 @Transactional(rollbackFor = { Throwable.class })
@@ -86,6 +99,18 @@ public class NotificationManagerImpl implements NotificationManager {
 
     private static final Logger LOG = LoggerFactory.getLogger(NotificationManager.class);
 
+    /**
+     * Notification conditions, by FIQL expression, so that they are not parsed again for each event.
+     */
+    private static final Map<String, SearchCond> SEARCH_CONDS =
+            Collections.synchronizedMap(new LRUMap<String, SearchCond>(1000));
+
+    /**
+     * Trigger firing the notification job as soon as new tasks are available; only one such trigger exists at a time.
+     */
+    private static final String WAKE_UP_TRIGGER_NAME =
+            JobNamer.getTriggerName(JobManager.NOTIFICATION_JOB.getName()) + "_wakeUp";
+
     @Autowired
     private DerSchemaDAO derSchemaDAO;
 
@@ -128,6 +153,12 @@ public class NotificationManagerImpl implements NotificationManager {
     @Autowired
     private AnySearchDAO searchDAO;
 
+    /**
+     * Match DAO.
+     */
+    @Autowired
+    private AnyMatchDAO anyMatchDAO;
+
     /**
      * Task DAO.
      */
@@ -155,6 +186,16 @@ public class NotificationManagerImpl implements NotificationManager {
     @Autowired
     private IntAttrNameParser intAttrNameParser;
 
+    @Autowired
+    private SchedulerFactoryBean scheduler;
+
+    /**
+     * Whether the notification job shall be fired when new tasks are created, rather than waiting for its next
+     * scheduled execution.
+     */
+    @Value("${notificationManager.wakeUpJob:false}")
+    private boolean wakeUpJob;
+
     @Transactional(readOnly = true)
     @Override
     public long getMaxRetries() {
@@ -182,7 +223,7 @@ public class NotificationManagerImpl implements NotificationManager {
 
         if (notification.getRecipientsFIQL() != null) {
             recipients.addAll(searchDAO.<User>search(
-                    SearchCondConverter.convert(notification.getRecipientsFIQL()),
+                    getSearchCond(notification.getRecipientsFIQL()),
                     Collections.<OrderByClause>emptyList(), AnyTypeKind.USER));
         }
 
@@ -245,11 +286,18 @@ public class NotificationManagerImpl implements NotificationManager {
         return task;
     }
 
+    private SearchCond getSearchCond(final String fiql) {
+        SearchCond cond = SEARCH_CONDS.get(fiql);
+        if (cond == null) {
+            cond = SearchCondConverter.convert(fiql);
+            SEARCH_CONDS.put(fiql, cond);
+        }
+        return cond;
+    }
+
     private String evaluate(final String template, final Map<String, Object> jexlVars) {
         StringWriter writer = new StringWriter();
-        JexlUtils.newJxltEngine().
-                createTemplate(template).
-                evaluate(new MapContext(jexlVars), writer);
+        JexlUtils.getTemplate(template).evaluate(new MapContext(jexlVars), writer);
         return writer.toString();
     }
 
@@ -264,6 +312,13 @@ public class NotificationManagerImpl implements NotificationManager {
             final Object output,
             final Object... input) {
 
+        String currentEvent = AuditLoggerName.buildEvent(type, category, subcategory, event, condition);
+        List<Notification> subscribed = notificationDAO.findByEvent(currentEvent);
+        if (subscribed.isEmpty()) {
+            LOG.debug("No notifications found for event {}", currentEvent);
+            return Collections.emptyList();
+        }
+
         Any<?> any = null;
 
         if (before instanceof UserTO) {
@@ -296,52 +351,79 @@ public class NotificationManagerImpl implements NotificationManager {
         LOG.debug("Search notification for [{}]{}", anyType, any);
 
         List<NotificationTask> notifications = new ArrayList<>();
-        for (Notification notification : notificationDAO.findAll()) {
+        for (Notification notification : subscribed) {
             if (LOG.isDebugEnabled()) {
                 for (AnyAbout about : notification.getAbouts()) {
                     LOG.debug("Notification about {} defined: {}", about.getAnyType(), about.get());
                 }
             }
 
-            if (notification.isActive()) {
-                String currentEvent = AuditLoggerName.buildEvent(type, category, subcategory, event, condition);
-                if (!notification.getEvents().contains(currentEvent)) {
-                    LOG.debug("No events found about {}", any);
-                } else if (anyType == null || any == null
-                        || notification.getAbout(anyType) == null
-                        || searchDAO.matches(any, SearchCondConverter.convert(notification.getAbout(anyType).get()))) {
-
-                    LOG.debug("Creating notification task for event {} about {}", currentEvent, any);
-
-                    final Map<String, Object> model = new HashMap<>();
-                    model.put("type", type);
-                    model.put("category", category);
-                    model.put("subcategory", subcategory);
-                    model.put("event", event);
-                    model.put("condition", condition);
-                    model.put("before", before);
-                    model.put("output", output);
-                    model.put("input", input);
-
-                    if (any instanceof User) {
-                        model.put("user", userDataBinder.getUserTO((User) any, true));
-                    } else if (any instanceof Group) {
-                        model.put("group", groupDataBinder.getGroupTO((Group) any, true));
-                    } else if (any instanceof AnyObject) {
-                        model.put("group", anyObjectDataBinder.getAnyObjectTO((AnyObject) any, true));
-                    }
-
-                    NotificationTask notificationTask = getNotificationTask(notification, any, model);
-                    notificationTask = taskDAO.save(notificationTask);
-                    notifications.add(notificationTask);
+            if (anyType == null || any == null
+                    || notification.getAbout(anyType) == null
+                    || anyMatchDAO.matches(any, getSearchCond(notification.getAbout(anyType).get()))) {
+
+                LOG.debug("Creating notification task for event {} about {}", currentEvent, any);
+
+                final Map<String, Object> model = new HashMap<>();
+                model.put("type", type);
+                model.put("category", category);
+                model.put("subcategory", subcategory);
+                model.put("event", event);
+                model.put("condition", condition);
+                model.put("before", before);
+                model.put("output", output);
+                model.put("input", input);
+
+                if (any instanceof User) {
+                    model.put("user", userDataBinder.getUserTO((User) any, true));
+                } else if (any instanceof Group) {
+                    model.put("group", groupDataBinder.getGroupTO((Group) any, true));
+                } else if (any instanceof AnyObject) {
+                    model.put("group", anyObjectDataBinder.getAnyObjectTO((AnyObject) any, true));
                 }
+
+                NotificationTask notificationTask = getNotificationTask(notification, any, model);
+                notificationTask = taskDAO.save(notificationTask);
+                notifications.add(notificationTask);
+            }
+        }
+
+        if (wakeUpJob && !notifications.isEmpty()) {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+
+                    @Override
+                    public void afterCommit() {
+                        wakeUpNotificationJob();
+                    }
+                });
             } else {
-                LOG.debug("Notification {} is not active, task will not be created", notification.getKey());
+                wakeUpNotificationJob();
             }
         }
+
         return notifications;
     }
 
+    /**
+     * Fires the notification job now, unless a previous wake-up is still pending: this prevents a burst of created
+     * tasks to queue up a job execution for each of them.
+     */
+    private void wakeUpNotificationJob() {
+        Trigger trigger = TriggerBuilder.newTrigger().
+                withIdentity(WAKE_UP_TRIGGER_NAME).
+                forJob(JobManager.NOTIFICATION_JOB).
+                startNow().
+                build();
+        try {
+            scheduler.getScheduler().scheduleJob(trigger);
+        } catch (ObjectAlreadyExistsException e) {
+            LOG.debug("Notification job wake-up already pending");
+        } catch (SchedulerException e) {
+            LOG.debug("Could not wake up notification job", e);
+        }
+    }
+
     private String getRecipientEmail(final String recipientAttrName, final User user) {
         String email = null;
 
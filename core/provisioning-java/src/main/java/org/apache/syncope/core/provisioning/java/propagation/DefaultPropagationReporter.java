@@ -43,7 +43,7 @@ public class DefaultPropagationReporter implements PropagationReporter {
 
     protected final List<PropagationStatus> statuses = new ArrayList<>();
 
-    protected boolean add(final PropagationStatus status) {
+    protected synchronized boolean add(final PropagationStatus status) {
         return IterableUtils.matchesAny(statuses, new Predicate<PropagationStatus>() {
 
             @Override
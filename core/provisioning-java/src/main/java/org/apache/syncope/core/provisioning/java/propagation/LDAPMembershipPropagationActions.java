@@ -23,7 +23,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import org.apache.commons.jexl3.JexlContext;
-import org.apache.commons.jexl3.MapContext;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
@@ -31,6 +30,7 @@ import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.task.PropagationTask;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.provisioning.java.jexl.JexlUtils;
+import org.apache.syncope.core.provisioning.java.jexl.LazyJexlContext;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
 import org.apache.syncope.core.persistence.api.entity.resource.Provision;
 import org.identityconnectors.framework.common.objects.Attribute;
@@ -83,10 +83,10 @@ public class LDAPMembershipPropagationActions extends DefaultPropagationActions
 
                         LOG.debug("Evaluating connObjectLink for {}", group);
 
-                        JexlContext jexlContext = new MapContext();
-                        JexlUtils.addFieldsToContext(group, jexlContext);
-                        JexlUtils.addPlainAttrsToContext(group.getPlainAttrs(), jexlContext);
-                        JexlUtils.addDerAttrsToContext(group, jexlContext);
+                        JexlContext jexlContext = new LazyJexlContext().
+                                addFields(group).
+                                addPlainAttrs(group.getPlainAttrs()).
+                                addDerAttrs(group);
 
                         String groupConnObjectLinkLink =
                                 JexlUtils.evaluate(provision.getMapping().getConnObjectLink(), jexlContext);
@@ -25,16 +25,19 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.Resource;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.Predicate;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.types.PropagationTaskExecStatus;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
 import org.apache.syncope.core.persistence.api.entity.task.PropagationTask;
@@ -42,12 +45,15 @@ import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationException;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationReporter;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskCallable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.support.AbstractBeanDefinition;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 /**
  * Sorts the tasks to be executed according to related
  * {@link org.apache.syncope.core.persistence.api.entity.resource.ExternalResource}'s priority, then execute.
+ * Tasks related to resources with the same non-NULL priority are executed either serially or - when so configured -
+ * concurrently, but anyway before the ones with higher priority value.
  * Tasks related to resources with NULL priority are executed after other tasks, concurrently.
  * Failure during execution of a task related to resource with non-NULL priority are treated as fatal and will interrupt
  * the whole process, resulting in a global failure.
@@ -57,6 +63,18 @@ public class PriorityPropagationTaskExecutor extends AbstractPropagationTaskExec
     @Resource(name = "propagationTaskExecutorAsyncExecutor")
     protected ThreadPoolTaskExecutor executor;
 
+    /**
+     * Whether tasks related to resources with the same priority are executed concurrently.
+     */
+    @Value("${propagationTaskExecutor.concurrentPriorityLevels:false}")
+    protected boolean concurrentPriorityLevels;
+
+    /**
+     * Seconds to wait for tasks related to resources with NULL priority to complete, when not executed asynchronously.
+     */
+    @Value("${propagationTaskExecutor.nullPriorityTimeout:60}")
+    protected long nullPriorityTimeout;
+
     /**
      * Creates new instances of {@link PropagationTaskCallable} for usage with
      * {@link java.util.concurrent.CompletionService}.
@@ -78,6 +96,65 @@ public class PriorityPropagationTaskExecutor extends AbstractPropagationTaskExec
         return callable;
     }
 
+    private void checkPrioritized(final PropagationTask task, final TaskExec execution) {
+        PropagationTaskExecStatus execStatus = execution == null
+                ? PropagationTaskExecStatus.FAILURE
+                : PropagationTaskExecStatus.valueOf(execution.getStatus());
+        if (execStatus != PropagationTaskExecStatus.SUCCESS) {
+            throw new PropagationException(
+                    task.getResource().getKey(), execution == null ? null : execution.getMessage());
+        }
+    }
+
+    private void executePrioritized(final PropagationTask task, final PropagationReporter reporter) {
+        TaskExec execution = null;
+        try {
+            execution = newPropagationTaskCallable(task, reporter).call();
+        } catch (Exception e) {
+            LOG.error("Unexpected exception", e);
+        }
+        checkPrioritized(task, execution);
+    }
+
+    /**
+     * Executes the given tasks concurrently, waiting for all of them to complete; then fails if any of them failed.
+     *
+     * @param tasks propagation tasks related to resources with the same priority
+     * @param reporter to report propagation execution status
+     */
+    private void executeConcurrently(final List<PropagationTask> tasks, final PropagationReporter reporter) {
+        List<Pair<PropagationTask, Future<TaskExec>>> futures = new ArrayList<>(tasks.size());
+        for (PropagationTask task : tasks) {
+            Future<TaskExec> future = null;
+            try {
+                future = executor.submit(newPropagationTaskCallable(task, reporter));
+            } catch (Exception e) {
+                LOG.error("Unexpected exception", e);
+            }
+            futures.add(Pair.of(task, future));
+        }
+
+        List<Pair<PropagationTask, TaskExec>> executions = new ArrayList<>(tasks.size());
+        for (Pair<PropagationTask, Future<TaskExec>> future : futures) {
+            TaskExec execution = null;
+            if (future.getRight() != null) {
+                try {
+                    execution = future.getRight().get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    LOG.error("Interrupted while waiting for {}", future.getLeft(), e);
+                } catch (ExecutionException e) {
+                    LOG.error("Unexpected exception", e.getCause());
+                }
+            }
+            executions.add(Pair.of(future.getLeft(), execution));
+        }
+
+        for (Pair<PropagationTask, TaskExec> execution : executions) {
+            checkPrioritized(execution.getLeft(), execution.getRight());
+        }
+    }
+
     @Override
     protected void doExecute(
             final Collection<PropagationTask> tasks,
@@ -97,21 +174,29 @@ public class PriorityPropagationTaskExecutor extends AbstractPropagationTaskExec
         Collection<PropagationTask> concurrentTasks = CollectionUtils.subtract(tasks, prioritizedTasks);
         LOG.debug("Propagation tasks for concurrent execution: {}", concurrentTasks);
 
-        // first process priority resources sequentially and fail as soon as any propagation failure is reported
+        // first process priority resources, level by level, and fail as soon as any propagation failure is reported
+        Map<Integer, List<PropagationTask>> levels = new LinkedHashMap<>();
         for (PropagationTask task : prioritizedTasks) {
-            TaskExec execution = null;
-            PropagationTaskExecStatus execStatus;
-            try {
-                execution = newPropagationTaskCallable(task, reporter).call();
-                execStatus = PropagationTaskExecStatus.valueOf(execution.getStatus());
-            } catch (Exception e) {
-                LOG.error("Unexpected exception", e);
-                execStatus = PropagationTaskExecStatus.FAILURE;
+            List<PropagationTask> level = levels.get(task.getResource().getPropagationPriority());
+            if (level == null) {
+                level = new ArrayList<>();
+                levels.put(task.getResource().getPropagationPriority(), level);
             }
-            if (execStatus != PropagationTaskExecStatus.SUCCESS) {
-                throw new PropagationException(
-                        task.getResource().getKey(), execution == null ? null : execution.getMessage());
+            level.add(task);
+        }
+        for (Map.Entry<Integer, List<PropagationTask>> level : levels.entrySet()) {
+            long start = System.currentTimeMillis();
+
+            if (concurrentPriorityLevels && level.getValue().size() > 1) {
+                executeConcurrently(level.getValue(), reporter);
+            } else {
+                for (PropagationTask task : level.getValue()) {
+                    executePrioritized(task, reporter);
+                }
             }
+
+            LOG.debug("Propagation tasks with priority {} executed in {} ms: {}",
+                    level.getKey(), System.currentTimeMillis() - start, level.getValue());
         }
 
         // then process non-priority resources concurrently...
@@ -148,7 +233,7 @@ public class PriorityPropagationTaskExecutor extends AbstractPropagationTaskExec
                                 }
                             }
                         }
-                    }).get(60, TimeUnit.SECONDS);
+                    }).get(nullPriorityTimeout, TimeUnit.SECONDS);
                 } catch (Exception e) {
                     LOG.error("Unexpected exception", e);
                 } finally {
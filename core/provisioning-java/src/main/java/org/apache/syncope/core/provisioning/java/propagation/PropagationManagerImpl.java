@@ -28,8 +28,6 @@ import java.util.Map;
 import java.util.Set;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.Transformer;
-import org.apache.commons.jexl3.JexlContext;
-import org.apache.commons.jexl3.MapContext;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.patch.StringPatchItem;
@@ -48,6 +46,7 @@ import org.apache.syncope.core.provisioning.api.propagation.PropagationManager;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskExecutor;
 import org.apache.syncope.core.provisioning.java.utils.ConnObjectUtils;
 import org.apache.syncope.core.provisioning.java.jexl.JexlUtils;
+import org.apache.syncope.core.provisioning.java.jexl.LazyJexlContext;
 import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.VirSchemaDAO;
@@ -488,9 +487,8 @@ public class PropagationManagerImpl implements PropagationManager {
                 Set<Attribute> preparedAttrs = new HashSet<>();
                 preparedAttrs.add(AttributeBuilder.build(orgUnit.getExtAttrName(), realm.getName()));
 
-                JexlContext jexlContext = new MapContext();
-                JexlUtils.addFieldsToContext(realm, jexlContext);
-                String evalConnObjectLink = JexlUtils.evaluate(orgUnit.getConnObjectLink(), jexlContext);
+                String evalConnObjectLink = JexlUtils.evaluate(
+                        orgUnit.getConnObjectLink(), new LazyJexlContext().addFields(realm));
                 if (StringUtils.isBlank(evalConnObjectLink)) {
                     // add connObjectKey as __NAME__ attribute ...
                     LOG.debug("Add connObjectKey [{}] as __NAME__", realm.getName());
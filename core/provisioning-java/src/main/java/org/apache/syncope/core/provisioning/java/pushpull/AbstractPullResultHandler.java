@@ -21,6 +21,7 @@ package org.apache.syncope.core.provisioning.java.pushpull;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.syncope.common.lib.patch.AnyPatch;
 import org.apache.syncope.common.lib.patch.StringPatchItem;
@@ -49,7 +50,7 @@ import org.apache.syncope.core.provisioning.api.pushpull.IgnoreProvisionExceptio
 import org.apache.syncope.core.provisioning.api.pushpull.ProvisioningReport;
 import org.apache.syncope.core.provisioning.api.pushpull.PullActions;
 import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullExecutor;
-import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullResultHandler;
+import org.apache.syncope.core.provisioning.api.pushpull.AnyPullResultHandler;
 import org.identityconnectors.framework.common.objects.Attribute;
 import org.identityconnectors.framework.common.objects.SyncDelta;
 import org.identityconnectors.framework.common.objects.SyncDeltaType;
@@ -59,7 +60,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 @Transactional(rollbackFor = Throwable.class)
 public abstract class AbstractPullResultHandler extends AbstractSyncopeResultHandler<PullTask, PullActions>
-        implements SyncopePullResultHandler {
+        implements AnyPullResultHandler {
 
     @Autowired
     protected PullUtils pullUtils;
@@ -74,6 +75,8 @@ public abstract class AbstractPullResultHandler extends AbstractSyncopeResultHan
 
     protected Result latestResult = null;
 
+    protected Map<String, List<String>> correlated = Collections.emptyMap();
+
     protected abstract String getName(AnyTO anyTO);
 
     protected abstract ProvisioningManager<?, ?> getProvisioningManager();
@@ -105,8 +108,26 @@ public abstract class AbstractPullResultHandler extends AbstractSyncopeResultHan
         this.executor = executor;
     }
 
+    @Override
+    public void setCorrelated(final Map<String, List<String>> correlated) {
+        this.correlated = correlated == null
+                ? Collections.<String, List<String>>emptyMap()
+                : correlated;
+    }
+
     @Override
     public boolean handle(final SyncDelta delta) {
+        boolean bound = bindWorkerTask();
+        try {
+            return handleDelta(delta);
+        } finally {
+            if (bound) {
+                unbindWorkerTask();
+            }
+        }
+    }
+
+    private boolean handleDelta(final SyncDelta delta) {
         Provision provision = null;
         try {
             provision = profile.getTask().getResource().getProvision(delta.getObject().getObjectClass());
@@ -688,7 +709,10 @@ public abstract class AbstractPullResultHandler extends AbstractSyncopeResultHan
                 : delta.getPreviousUid().getUidValue();
 
         try {
-            List<String> anyKeys = pullUtils.findExisting(uid, delta.getObject(), provision, anyUtils);
+            List<String> anyKeys = correlated.remove(uid);
+            if (anyKeys == null) {
+                anyKeys = pullUtils.findExisting(uid, delta.getObject(), provision, anyUtils);
+            }
             LOG.debug("Match(es) found for {} as {}: {}",
                     delta.getUid().getUidValue(), delta.getObject().getObjectClass(), anyKeys);
 
@@ -18,38 +18,53 @@
  */
 package org.apache.syncope.core.provisioning.java.pushpull;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.IteratorUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.patch.AnyPatch;
 import org.apache.syncope.common.lib.patch.StringPatchItem;
 import org.apache.syncope.common.lib.to.AnyTO;
+import org.apache.syncope.common.lib.to.PropagationStatus;
 import org.apache.syncope.common.lib.types.AuditElements;
 import org.apache.syncope.common.lib.types.AuditElements.Result;
 import org.apache.syncope.common.lib.types.MatchingRule;
 import org.apache.syncope.common.lib.types.PatchOperation;
+import org.apache.syncope.common.lib.types.PropagationTaskExecStatus;
 import org.apache.syncope.core.provisioning.api.PropagationByResource;
 import org.apache.syncope.common.lib.types.ResourceOperation;
 import org.apache.syncope.common.lib.types.UnmatchingRule;
+import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
+import org.apache.syncope.core.persistence.api.dao.PushFingerprintDAO;
 import org.apache.syncope.core.persistence.api.entity.task.PushTask;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.provisioning.api.pushpull.ProvisioningReport;
 import org.apache.syncope.core.provisioning.api.pushpull.PushActions;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
+import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.resource.MappingItem;
 import org.apache.syncope.core.persistence.api.entity.resource.Provision;
+import org.apache.syncope.core.persistence.api.entity.resource.PushFingerprint;
 import org.apache.syncope.core.provisioning.api.MappingManager;
 import org.apache.syncope.core.provisioning.api.TimeoutException;
+import org.apache.syncope.core.provisioning.api.propagation.PropagationReporter;
 import org.apache.syncope.core.provisioning.api.pushpull.IgnoreProvisionException;
 import org.apache.syncope.core.provisioning.api.pushpull.SyncopePushResultHandler;
 import org.apache.syncope.core.provisioning.api.utils.EntityUtils;
 import org.apache.syncope.core.provisioning.java.utils.MappingUtils;
+import org.identityconnectors.framework.common.objects.Attribute;
 import org.identityconnectors.framework.common.objects.ConnectorObject;
 import org.identityconnectors.framework.common.objects.ObjectClass;
 import org.identityconnectors.framework.common.objects.Uid;
@@ -64,6 +79,15 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
     @Autowired
     protected MappingManager mappingManager;
 
+    @Autowired
+    protected ExternalResourceDAO resourceDAO;
+
+    @Autowired
+    protected PushFingerprintDAO pushFingerprintDAO;
+
+    @Autowired
+    protected EntityFactory entityFactory;
+
     protected abstract String getName(Any<?> any);
 
     protected void deprovision(final Any<?> any) {
@@ -79,7 +103,7 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
                 noPropResources));
     }
 
-    protected void provision(final Any<?> any, final Boolean enabled) {
+    protected PropagationReporter provision(final Any<?> any, final Boolean enabled) {
         AnyTO before = getAnyTO(any.getKey());
 
         List<String> noPropResources = new ArrayList<>(before.getResources());
@@ -88,12 +112,12 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
         PropagationByResource propByRes = new PropagationByResource();
         propByRes.add(ResourceOperation.CREATE, profile.getTask().getResource().getKey());
 
-        taskExecutor.execute(propagationManager.getCreateTasks(
+        return taskExecutor.execute(propagationManager.getCreateTasks(
                 any.getType().getKind(),
                 any.getKey(),
                 propByRes,
                 before.getVirAttrs(),
-                noPropResources));
+                noPropResources), false);
     }
 
     protected void link(final Any<?> any, final Boolean unlink) {
@@ -116,7 +140,7 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
         deprovision(any);
     }
 
-    protected void assign(final Any<?> any, final Boolean enabled) {
+    protected PropagationReporter assign(final Any<?> any, final Boolean enabled) {
         AnyPatch patch = newPatch(any.getKey());
         patch.getResources().add(new StringPatchItem.Builder().
                 operation(PatchOperation.ADD_REPLACE).
@@ -124,7 +148,7 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
 
         update(patch);
 
-        provision(any, enabled);
+        return provision(any, enabled);
     }
 
     protected ConnectorObject getRemoteObject(final String connObjectKey, final ObjectClass objectClass) {
@@ -145,9 +169,94 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
         return obj;
     }
 
+    /**
+     * Computes a digest of the attributes which would be sent for the given any object to the external resource,
+     * not depending on the order of attributes and values.
+     *
+     * @param any any object
+     * @param provision provision information
+     * @param enabled whether any object must be enabled or not
+     * @return SHA-256 digest, Base64-encoded
+     */
+    protected String getFingerprint(final Any<?> any, final Provision provision, final Boolean enabled) {
+        Pair<String, Set<Attribute>> prepared = mappingManager.prepareAttrs(any, null, false, enabled, provision);
+
+        List<String> attrs = new ArrayList<>();
+        for (Attribute attr : prepared.getRight()) {
+            List<String> values = new ArrayList<>();
+            if (attr.getValue() != null) {
+                for (Object value : attr.getValue()) {
+                    values.add(value instanceof byte[]
+                            ? Base64.getEncoder().encodeToString((byte[]) value)
+                            : String.valueOf(value));
+                }
+            }
+            Collections.sort(values);
+
+            StringBuilder builder = new StringBuilder(attr.getName());
+            for (String value : values) {
+                builder.append('\0').append(value);
+            }
+            attrs.add(builder.toString());
+        }
+        Collections.sort(attrs);
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(String.valueOf(prepared.getLeft()).getBytes(StandardCharsets.UTF_8));
+            for (String attr : attrs) {
+                digest.update((byte) '\n');
+                digest.update(attr.getBytes(StandardCharsets.UTF_8));
+            }
+            return Base64.getEncoder().encodeToString(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Records the given fingerprint as the latest pushed for the given any object, or forgets about the latest one if
+     * null.
+     *
+     * @param any any object
+     * @param fingerprint latest fingerprint pushed, or null
+     */
+    protected void setFingerprint(final Any<?> any, final String fingerprint) {
+        if (fingerprint == null) {
+            pushFingerprintDAO.delete(profile.getTask().getResource(), any.getKey());
+        } else {
+            PushFingerprint latest = pushFingerprintDAO.find(profile.getTask().getResource(), any.getKey());
+            if (latest == null) {
+                latest = entityFactory.newEntity(PushFingerprint.class);
+                // the task's resource was loaded by the job, outside the current transaction
+                latest.setResource(resourceDAO.find(profile.getTask().getResource().getKey()));
+                latest.setAnyKey(any.getKey());
+            }
+            latest.setFingerprint(fingerprint);
+            pushFingerprintDAO.save(latest);
+        }
+    }
+
+    /**
+     * Tells whether the given propagation reached the task's resource successfully: only in such case the pushed
+     * fingerprint can be trusted to reflect the remote object.
+     *
+     * @param reporter propagation reporter
+     * @return whether the propagation towards the task's resource was successful
+     */
+    protected boolean isPropagated(final PropagationReporter reporter) {
+        for (PropagationStatus status : reporter.getStatuses()) {
+            if (profile.getTask().getResource().getKey().equals(status.getResource())) {
+                return status.getStatus() == PropagationTaskExecStatus.SUCCESS;
+            }
+        }
+        return false;
+    }
+
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     @Override
     public boolean handle(final String anyKey) {
+        boolean bound = bindWorkerTask();
         Any<?> any = null;
         try {
             any = getAny(anyKey);
@@ -166,6 +275,10 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
         } catch (JobExecutionException e) {
             LOG.error("Push failed", e);
             return false;
+        } finally {
+            if (bound) {
+                unbindWorkerTask();
+            }
         }
     }
 
@@ -190,13 +303,31 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
         Result resultStatus = null;
         String operation = null;
 
-        // Try to read remote object BEFORE any actual operation
         Provision provision = profile.getTask().getResource().getProvision(any.getType());
+
+        // In incremental mode, skip any objects whose attributes did not change since their last push
+        String fingerprint = null;
+        if (profile.getTask().isIncremental()) {
+            fingerprint = getFingerprint(any, provision, enabled);
+
+            PushFingerprint latest = pushFingerprintDAO.find(profile.getTask().getResource(), any.getKey());
+            if (latest != null && fingerprint.equals(latest.getFingerprint())) {
+                LOG.debug("{} {} not changed since last push towards {}, skipping",
+                        anyUtils.getAnyTypeKind(), any.getKey(), profile.getTask().getResource());
+
+                result.setOperation(ResourceOperation.NONE);
+                result.setStatus(ProvisioningReport.Status.IGNORE);
+                return;
+            }
+        }
+
+        // Try to read remote object BEFORE any actual operation
         String connObjecKey = mappingManager.getConnObjectKeyValue(any, provision);
 
         ConnectorObject beforeObj = getRemoteObject(connObjecKey, provision.getObjectClass());
 
         Boolean status = profile.getTask().isSyncStatus() ? enabled : null;
+        PropagationReporter reporter = null;
 
         if (profile.isDryRun()) {
             if (beforeObj == null) {
@@ -220,7 +351,7 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
                             if (!profile.getTask().isPerformCreate()) {
                                 LOG.debug("PushTask not configured for create");
                             } else {
-                                assign(any, status);
+                                reporter = assign(any, status);
                             }
 
                             break;
@@ -233,7 +364,7 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
                             if (!profile.getTask().isPerformCreate()) {
                                 LOG.debug("PushTask not configured for create");
                             } else {
-                                provision(any, status);
+                                reporter = provision(any, status);
                             }
 
                             break;
@@ -269,7 +400,7 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
                             if (!profile.getTask().isPerformUpdate()) {
                                 LOG.debug("PushTask not configured for update");
                             } else {
-                                update(any);
+                                reporter = update(any);
                             }
 
                             break;
@@ -341,6 +472,14 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
                 result.setStatus(ProvisioningReport.Status.SUCCESS);
                 resultStatus = AuditElements.Result.SUCCESS;
                 output = getRemoteObject(connObjecKey, provision.getObjectClass());
+
+                if (profile.getTask().isIncremental()) {
+                    if (output == null) {
+                        setFingerprint(any, null);
+                    } else if (reporter != null) {
+                        setFingerprint(any, isPropagated(reporter) ? fingerprint : null);
+                    }
+                }
             } catch (IgnoreProvisionException e) {
                 throw e;
             } catch (Exception e) {
@@ -351,6 +490,10 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
 
                 LOG.warn("Error pushing {} towards {}", any, profile.getTask().getResource(), e);
 
+                if (profile.getTask().isIncremental()) {
+                    setFingerprint(any, null);
+                }
+
                 for (PushActions action : profile.getActions()) {
                     action.onError(this.getProfile(), any, result, e);
                 }
@@ -399,7 +542,7 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
         }
     }
 
-    private Any<?> update(final Any<?> any) {
+    private PropagationReporter update(final Any<?> any) {
         boolean changepwd;
         Collection<String> resourceKeys;
         if (any instanceof User) {
@@ -421,15 +564,13 @@ public abstract class AbstractPushResultHandler extends AbstractSyncopeResultHan
         PropagationByResource propByRes = new PropagationByResource();
         propByRes.add(ResourceOperation.CREATE, profile.getTask().getResource().getKey());
 
-        taskExecutor.execute(propagationManager.getUpdateTasks(
+        return taskExecutor.execute(propagationManager.getUpdateTasks(
                 any.getType().getKind(),
                 any.getKey(),
                 changepwd,
                 null,
                 propByRes,
                 null,
-                noPropResources));
-
-        return getAny(any.getKey());
+                noPropResources), false);
     }
 }
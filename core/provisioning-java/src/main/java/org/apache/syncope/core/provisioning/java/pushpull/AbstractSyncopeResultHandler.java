@@ -21,6 +21,7 @@ package org.apache.syncope.core.provisioning.java.pushpull;
 import org.apache.syncope.common.lib.patch.AnyPatch;
 import org.apache.syncope.common.lib.to.AnyTO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.dao.TaskDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.task.ProvisioningTask;
 import org.apache.syncope.core.provisioning.api.GroupProvisioningManager;
@@ -128,11 +129,33 @@ public abstract class AbstractSyncopeResultHandler<T extends ProvisioningTask, A
     @Autowired
     protected AnyUtilsFactory anyUtilsFactory;
 
+    @Autowired
+    protected TaskDAO taskDAO;
+
     /**
      * Provisioning profile.
      */
     protected ProvisioningProfile<T, A> profile;
 
+    /**
+     * When handling in parallel, binds to the current thread the task - and thus its resource, provisions and
+     * mapping - as loaded by the current transaction, instead of the instance shared with the job thread.
+     *
+     * @return whether the task was bound, thus to be unbound via {@link #unbindWorkerTask()} when done
+     */
+    protected boolean bindWorkerTask() {
+        if (!profile.isParallel()) {
+            return false;
+        }
+
+        profile.setWorkerTask(taskDAO.<T>find(profile.getTaskKey()));
+        return true;
+    }
+
+    protected void unbindWorkerTask() {
+        profile.setWorkerTask(null);
+    }
+
     protected abstract AnyUtils getAnyUtils();
 
     protected abstract AnyTO getAnyTO(String key);
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.syncope.core.persistence.api.entity.AnyUtils;
+import org.apache.syncope.core.persistence.api.entity.resource.Provision;
+import org.identityconnectors.framework.common.objects.SyncDelta;
+import org.identityconnectors.framework.common.objects.SyncResultsHandler;
+
+/**
+ * Buffers the deltas received from a connector in windows of given size: the any objects matching all deltas in a
+ * window are looked up at once via {@link PullUtils#findExisting(java.util.List, Provision, AnyUtils)}, then deltas
+ * are forwarded to the given handler, which will find the matching keys in the provided map.
+ * Uids occurring more than once in the same window are not looked up in advance, as their matches could change while
+ * handling; when forwarding to a {@link PartitionedSyncResultsHandler}, deltas from previous windows still pending for
+ * any of the uids in a window are waited for before looking up, for the same reason.
+ */
+public class CorrelatingSyncResultsHandler implements SyncResultsHandler {
+
+    private final SyncResultsHandler handler;
+
+    private final Map<String, List<String>> correlated;
+
+    private final PullUtils pullUtils;
+
+    private final Provision provision;
+
+    private final AnyUtils anyUtils;
+
+    private final int windowSize;
+
+    private final List<SyncDelta> window;
+
+    private boolean enabled = true;
+
+    private boolean goOn = true;
+
+    public CorrelatingSyncResultsHandler(
+            final SyncResultsHandler handler,
+            final Map<String, List<String>> correlated,
+            final PullUtils pullUtils,
+            final Provision provision,
+            final AnyUtils anyUtils,
+            final int windowSize) {
+
+        this.handler = handler;
+        this.correlated = correlated;
+        this.pullUtils = pullUtils;
+        this.provision = provision;
+        this.anyUtils = anyUtils;
+        this.windowSize = windowSize;
+        this.window = new ArrayList<>(windowSize);
+    }
+
+    /**
+     * @return false if interrupted while waiting for deltas from previous windows
+     */
+    private boolean correlate() {
+        Set<String> uids = new LinkedHashSet<>();
+        Set<String> duplicates = new HashSet<>();
+        for (SyncDelta delta : window) {
+            if (delta.getPreviousUid() == null && !uids.add(delta.getUid().getUidValue())) {
+                duplicates.add(delta.getUid().getUidValue());
+            }
+        }
+        uids.removeAll(duplicates);
+
+        if (!uids.isEmpty()
+                && handler instanceof PartitionedSyncResultsHandler
+                && !((PartitionedSyncResultsHandler) handler).awaitHandled(uids)) {
+
+            return false;
+        }
+
+        if (!uids.isEmpty()) {
+            Map<String, List<String>> found = pullUtils.findExisting(new ArrayList<>(uids), provision, anyUtils);
+            if (found == null) {
+                // not available for this provision: no need to try again with next windows
+                enabled = false;
+            } else {
+                correlated.putAll(found);
+            }
+        }
+        return true;
+    }
+
+    private boolean flush() {
+        if (enabled && !window.isEmpty() && !correlate()) {
+            goOn = false;
+        }
+
+        for (int i = 0; i < window.size() && goOn; i++) {
+            goOn = handler.handle(window.get(i));
+        }
+        window.clear();
+
+        return goOn;
+    }
+
+    @Override
+    public boolean handle(final SyncDelta delta) {
+        if (!goOn) {
+            return false;
+        }
+
+        window.add(delta);
+        return window.size() < windowSize || flush();
+    }
+
+    /**
+     * Forwards the deltas still buffered to the given handler.
+     *
+     * @return whether handling went on without the given handler asking to stop
+     */
+    public boolean finish() {
+        return goOn && flush();
+    }
+}
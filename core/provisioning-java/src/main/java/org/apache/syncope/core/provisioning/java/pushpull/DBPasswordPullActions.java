@@ -20,6 +20,7 @@ package org.apache.syncope.core.provisioning.java.pushpull;
 
 import org.apache.commons.collections4.IterableUtils;
 import org.apache.commons.collections4.Predicate;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.patch.AnyPatch;
 import org.apache.syncope.common.lib.patch.PasswordPatch;
 import org.apache.syncope.common.lib.patch.UserPatch;
@@ -55,9 +56,11 @@ public class DBPasswordPullActions extends DefaultPullActions {
     @Autowired
     private UserDAO userDAO;
 
-    private String encodedPassword;
-
-    private CipherAlgorithm cipher;
+    /**
+     * Password read before provisioning or updating a user, to be set after; kept per thread since deltas might be
+     * handled in parallel, each within a single thread.
+     */
+    private final ThreadLocal<Pair<String, CipherAlgorithm>> encodedPassword = new ThreadLocal<>();
 
     @Transactional(readOnly = true)
     @Override
@@ -97,11 +100,10 @@ public class DBPasswordPullActions extends DefaultPullActions {
             String cipherAlgorithm = getCipherAlgorithm(connInstance);
             if (!CLEARTEXT.equals(cipherAlgorithm)) {
                 try {
-                    encodedPassword = password;
-                    cipher = CipherAlgorithm.valueOf(cipherAlgorithm);
+                    encodedPassword.set(Pair.of(password, CipherAlgorithm.valueOf(cipherAlgorithm)));
                 } catch (IllegalArgumentException e) {
                     LOG.error("Cipher algorithm not allowed: {}", cipherAlgorithm, e);
-                    encodedPassword = null;
+                    encodedPassword.remove();
                 }
             }
         }
@@ -131,13 +133,13 @@ public class DBPasswordPullActions extends DefaultPullActions {
             final EntityTO any,
             final ProvisioningReport result) throws JobExecutionException {
 
-        if (any instanceof UserTO && encodedPassword != null && cipher != null) {
+        Pair<String, CipherAlgorithm> password = encodedPassword.get();
+        if (any instanceof UserTO && password != null) {
             User user = userDAO.find(any.getKey());
             if (user != null) {
-                user.setEncodedPassword(encodedPassword.toUpperCase(), cipher);
+                user.setEncodedPassword(password.getLeft().toUpperCase(), password.getRight());
             }
-            encodedPassword = null;
-            cipher = null;
+            encodedPassword.remove();
         }
     }
 }
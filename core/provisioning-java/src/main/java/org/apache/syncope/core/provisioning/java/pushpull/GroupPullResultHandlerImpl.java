@@ -40,7 +40,7 @@ import org.apache.syncope.core.provisioning.api.pushpull.GroupPullResultHandler;
 
 public class GroupPullResultHandlerImpl extends AbstractPullResultHandler implements GroupPullResultHandler {
 
-    protected final Map<String, String> groupOwnerMap = new HashMap<>();
+    protected final Map<String, String> groupOwnerMap = Collections.synchronizedMap(new HashMap<String, String>());
 
     @Override
     public Map<String, String> getGroupOwnerMap() {
@@ -20,10 +20,11 @@ package org.apache.syncope.core.provisioning.java.pushpull;
 
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import org.apache.commons.collections4.IterableUtils;
 import org.apache.commons.collections4.Predicate;
 import org.apache.syncope.common.lib.to.EntityTO;
@@ -69,7 +70,10 @@ public class LDAPMembershipPullActions extends SchedulingPullActions {
     @Autowired
     private PullUtils pullUtils;
 
-    protected final Map<String, Set<String>> memberships = new HashMap<>();
+    /**
+     * Group keys by member, populated concurrently when groups are pulled in parallel.
+     */
+    protected final ConcurrentMap<String, Set<String>> memberships = new ConcurrentHashMap<>();
 
     /**
      * Allows easy subclassing for the ConnId AD connector bundle.
@@ -142,8 +146,11 @@ public class LDAPMembershipPullActions extends SchedulingPullActions {
         for (Object membValue : getMembAttrValues(delta, connector)) {
             Set<String> memb = memberships.get(membValue.toString());
             if (memb == null) {
-                memb = new HashSet<>();
-                memberships.put(membValue.toString(), memb);
+                memb = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+                Set<String> existing = memberships.putIfAbsent(membValue.toString(), memb);
+                if (existing != null) {
+                    memb = existing;
+                }
             }
             memb.add(groupTO.getKey());
         }
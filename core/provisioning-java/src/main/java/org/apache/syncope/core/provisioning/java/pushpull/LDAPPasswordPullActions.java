@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.provisioning.java.pushpull;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.patch.AnyPatch;
 import org.apache.syncope.common.lib.patch.PasswordPatch;
 import org.apache.syncope.common.lib.patch.UserPatch;
@@ -49,9 +50,11 @@ public class LDAPPasswordPullActions extends DefaultPullActions {
     @Autowired
     private UserDAO userDAO;
 
-    private String encodedPassword;
-
-    private CipherAlgorithm cipher;
+    /**
+     * Password read before provisioning or updating a user, to be set after; kept per thread since deltas might be
+     * handled in parallel, each within a single thread.
+     */
+    private final ThreadLocal<Pair<String, CipherAlgorithm>> encodedPassword = new ThreadLocal<>();
 
     @Transactional(readOnly = true)
     @Override
@@ -92,11 +95,11 @@ public class LDAPPasswordPullActions extends DefaultPullActions {
                 digest = digest.toUpperCase();
             }
             try {
-                encodedPassword = password.substring(closingBracketIndex + 1);
-                cipher = CipherAlgorithm.valueOf(digest);
+                encodedPassword.set(Pair.of(
+                        password.substring(closingBracketIndex + 1), CipherAlgorithm.valueOf(digest)));
             } catch (IllegalArgumentException e) {
                 LOG.error("Cipher algorithm not allowed: {}", digest, e);
-                encodedPassword = null;
+                encodedPassword.remove();
             }
         }
     }
@@ -109,17 +112,17 @@ public class LDAPPasswordPullActions extends DefaultPullActions {
             final EntityTO entity,
             final ProvisioningReport result) throws JobExecutionException {
 
-        if (entity instanceof UserTO && encodedPassword != null && cipher != null) {
+        Pair<String, CipherAlgorithm> password = encodedPassword.get();
+        if (entity instanceof UserTO && password != null) {
             User user = userDAO.find(entity.getKey());
             if (user != null) {
-                byte[] encodedPasswordBytes = Base64.decode(encodedPassword.getBytes());
+                byte[] encodedPasswordBytes = Base64.decode(password.getLeft().getBytes());
                 char[] encodedHex = Hex.encode(encodedPasswordBytes);
                 String encodedHexStr = new String(encodedHex).toUpperCase();
 
-                user.setEncodedPassword(encodedHexStr, cipher);
+                user.setEncodedPassword(encodedHexStr, password.getRight());
             }
-            encodedPassword = null;
-            cipher = null;
+            encodedPassword.remove();
         }
     }
 }
@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.quartz.JobExecutionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Handles items on the given executor in a fixed number of lanes: items in the same lane are handled one at a time
+ * and in order, while different lanes are handled in parallel.
+ * Idle lanes do not hold any executor thread, so that the executor can be shared among jobs; callers are blocked
+ * while the given number of items is pending.
+ *
+ * @param <E> item type
+ */
+public abstract class LaneDispatcher<E> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LaneDispatcher.class);
+
+    private static class Lane<E> {
+
+        private final Queue<E> items = new ArrayDeque<>();
+
+        private boolean draining;
+    }
+
+    private final Executor executor;
+
+    private final List<Lane<E>> lanes;
+
+    private final int capacity;
+
+    private final Semaphore pending;
+
+    private final SecurityContext securityContext;
+
+    private final AtomicBoolean failed = new AtomicBoolean(false);
+
+    private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+    public LaneDispatcher(final Executor executor, final int lanes, final int capacity) {
+        this.executor = executor;
+        this.lanes = new ArrayList<>(lanes);
+        for (int i = 0; i < lanes; i++) {
+            this.lanes.add(new Lane<E>());
+        }
+        this.capacity = capacity;
+        this.pending = new Semaphore(capacity);
+        this.securityContext = SecurityContextHolder.getContext();
+    }
+
+    /**
+     * Handles the given item, on an executor thread running with the security context of the thread which created
+     * this instance.
+     *
+     * @param item item
+     * @return whether handling shall go on
+     * @throws Exception if any unexpected error occurs
+     */
+    protected abstract boolean handle(E item) throws Exception;
+
+    public int getLanes() {
+        return lanes.size();
+    }
+
+    public boolean isFailed() {
+        return failed.get();
+    }
+
+    private void drain(final Lane<E> lane) {
+        SecurityContext previous = SecurityContextHolder.getContext();
+        SecurityContextHolder.setContext(securityContext);
+        try {
+            while (true) {
+                E item;
+                synchronized (lane) {
+                    item = lane.items.poll();
+                    if (item == null) {
+                        lane.draining = false;
+                        return;
+                    }
+                }
+
+                // once failed, keep draining so that callers are not blocked
+                if (!failed.get()) {
+                    try {
+                        if (!handle(item)) {
+                            failed.set(true);
+                        }
+                    } catch (Throwable t) {
+                        LOG.error("While handling {}", item, t);
+                        error.compareAndSet(null, t);
+                        failed.set(true);
+                    }
+                }
+                pending.release();
+            }
+        } finally {
+            SecurityContextHolder.setContext(previous);
+        }
+    }
+
+    /**
+     * Queues the given item on the given lane, waiting while too many items are pending.
+     *
+     * @param item item
+     * @param lane lane index
+     * @return whether dispatching shall go on, e.g. false if any previous handling failed
+     */
+    public boolean dispatch(final E item, final int lane) {
+        if (failed.get()) {
+            return false;
+        }
+
+        try {
+            pending.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failed.set(true);
+            return false;
+        }
+
+        final Lane<E> target = lanes.get(lane);
+        boolean start;
+        synchronized (target) {
+            target.items.add(item);
+            start = !target.draining;
+            target.draining = true;
+        }
+        if (start) {
+            Runnable drain = new Runnable() {
+
+                @Override
+                public void run() {
+                    drain(target);
+                }
+            };
+            try {
+                executor.execute(drain);
+            } catch (RejectedExecutionException e) {
+                LOG.debug("Executor saturated, handling on the calling thread", e);
+                drain.run();
+            }
+        }
+
+        return !failed.get();
+    }
+
+    /**
+     * Waits for all the items dispatched so far to be handled.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void awaitIdle() throws InterruptedException {
+        pending.acquire(capacity);
+        pending.release(capacity);
+    }
+
+    /**
+     * Waits for all the items dispatched so far to be handled, then reports the first unexpected error, if any.
+     *
+     * @param message message for the exception reporting the error
+     * @throws JobExecutionException if interrupted, or if any handling raised an unexpected error
+     */
+    public void finish(final String message) throws JobExecutionException {
+        try {
+            awaitIdle();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JobExecutionException("Interrupted while waiting for workers", e);
+        }
+
+        if (error.get() != null) {
+            throw new JobExecutionException(message, error.get());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import org.apache.syncope.core.provisioning.api.pushpull.SyncopePushResultHandler;
+import org.quartz.JobExecutionException;
+
+/**
+ * Hands the keys of the entities to push over to a fixed number of lanes, handled in parallel on the given executor
+ * by invoking the given handler - and thus running its own transaction - for each key; the caller fetching entities
+ * is blocked while the given number of keys is pending.
+ * Before invoking the handler, one of the given permits is acquired: these are shared among all the push tasks running
+ * against the same resource, so that the target system is never hit by more concurrent requests than allowed.
+ */
+public class ParallelPushHandler {
+
+    private final LaneDispatcher<String> dispatcher;
+
+    private int next;
+
+    public ParallelPushHandler(
+            final SyncopePushResultHandler handler,
+            final Semaphore permits,
+            final Executor executor,
+            final int concurrency,
+            final int queueCapacity) {
+
+        this.dispatcher = new LaneDispatcher<String>(executor, concurrency, queueCapacity) {
+
+            @Override
+            protected boolean handle(final String key) throws InterruptedException {
+                permits.acquire();
+                try {
+                    handler.handle(key);
+                } finally {
+                    permits.release();
+                }
+                // push failures are reported, but do not stop the task
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Queues the given key for pushing, waiting while too many keys are pending.
+     *
+     * @param key key of the entity to push
+     * @return whether pushing shall go on, e.g. false if any previous handling raised an unexpected error
+     */
+    public boolean handle(final String key) {
+        if (dispatcher.isFailed()) {
+            return false;
+        }
+
+        next = (next + 1) % dispatcher.getLanes();
+        return dispatcher.dispatch(key, next);
+    }
+
+    /**
+     * Waits for all the keys queued so far to be handled.
+     *
+     * @throws JobExecutionException if any push handling raised an unexpected error
+     */
+    public void finish() throws JobExecutionException {
+        dispatcher.finish("While pushing to resource");
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import org.identityconnectors.framework.common.objects.SyncDelta;
+import org.identityconnectors.framework.common.objects.SyncResultsHandler;
+import org.quartz.JobExecutionException;
+
+/**
+ * Dispatches the deltas received from a connector to a fixed number of partitions, handled in parallel on the given
+ * executor by invoking the given handler - and thus running its own transaction - for each delta.
+ * Deltas are partitioned by connector object UID, so that the ones related to the same object are handled in order;
+ * the connector stream is blocked while the given number of deltas is pending.
+ */
+public class PartitionedSyncResultsHandler implements SyncResultsHandler {
+
+    private final LaneDispatcher<SyncDelta> dispatcher;
+
+    /**
+     * Number of deltas dispatched but not yet handled, by connector object UID.
+     */
+    private final Map<String, Integer> pending = new HashMap<>();
+
+    public PartitionedSyncResultsHandler(
+            final SyncResultsHandler handler,
+            final Executor executor,
+            final int concurrency,
+            final int queueCapacity) {
+
+        this.dispatcher = new LaneDispatcher<SyncDelta>(executor, concurrency, queueCapacity) {
+
+            @Override
+            protected boolean handle(final SyncDelta delta) {
+                try {
+                    return handler.handle(delta);
+                } finally {
+                    String uid = getUid(delta);
+                    synchronized (pending) {
+                        Integer count = pending.get(uid);
+                        if (count == null || count <= 1) {
+                            pending.remove(uid);
+                        } else {
+                            pending.put(uid, count - 1);
+                        }
+                    }
+                }
+            }
+        };
+    }
+
+    private static String getUid(final SyncDelta delta) {
+        return delta.getUid() == null ? delta.toString() : delta.getUid().getUidValue();
+    }
+
+    @Override
+    public boolean handle(final SyncDelta delta) {
+        if (dispatcher.isFailed()) {
+            return false;
+        }
+
+        String uid = getUid(delta);
+        synchronized (pending) {
+            Integer count = pending.get(uid);
+            pending.put(uid, count == null ? 1 : count + 1);
+        }
+        return dispatcher.dispatch(delta, (uid.hashCode() & Integer.MAX_VALUE) % dispatcher.getLanes());
+    }
+
+    /**
+     * Waits until none of the given connector object UIDs has deltas dispatched but not yet handled, so that the
+     * outcome of their handling - e.g. any object creation - is visible.
+     *
+     * @param uids connector object UIDs
+     * @return false if interrupted while waiting
+     */
+    public boolean awaitHandled(final Collection<String> uids) {
+        boolean overlapping = false;
+        synchronized (pending) {
+            for (String uid : uids) {
+                overlapping |= pending.containsKey(uid);
+            }
+        }
+        if (overlapping) {
+            try {
+                dispatcher.awaitIdle();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Waits for all the deltas dispatched so far to be handled.
+     *
+     * @throws JobExecutionException if any delta handling raised an unexpected error
+     */
+    public void finish() throws JobExecutionException {
+        dispatcher.finish("While pulling from connector");
+    }
+}
@@ -19,12 +19,15 @@
 package org.apache.syncope.core.provisioning.java.pushpull;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Resource;
 import org.apache.commons.collections4.IteratorUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.policy.PullPolicySpec;
@@ -33,6 +36,7 @@ import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.dao.VirSchemaDAO;
+import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.VirSchema;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.resource.MappingItem;
@@ -43,10 +47,13 @@ import org.apache.syncope.core.provisioning.api.Connector;
 import org.apache.syncope.core.provisioning.api.pushpull.ProvisioningProfile;
 import org.quartz.JobExecutionException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.apache.syncope.core.provisioning.api.pushpull.ReconciliationFilterBuilder;
 import org.apache.syncope.core.persistence.api.entity.task.PullTask;
 import org.apache.syncope.core.provisioning.api.pushpull.AnyObjectPullResultHandler;
+import org.apache.syncope.core.provisioning.api.pushpull.AnyPullResultHandler;
 import org.apache.syncope.core.provisioning.api.pushpull.PullActions;
 import org.apache.syncope.core.provisioning.api.pushpull.GroupPullResultHandler;
 import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullExecutor;
@@ -55,6 +62,7 @@ import org.apache.syncope.core.provisioning.api.pushpull.UserPullResultHandler;
 import org.apache.syncope.core.provisioning.java.utils.MappingUtils;
 import org.identityconnectors.framework.common.objects.ObjectClass;
 import org.identityconnectors.framework.common.objects.OperationOptions;
+import org.identityconnectors.framework.common.objects.SyncResultsHandler;
 import org.identityconnectors.framework.common.objects.SyncToken;
 
 public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> implements SyncopePullExecutor {
@@ -71,7 +79,32 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
     @Autowired
     private PullUtils pullUtils;
 
-    private final Map<ObjectClass, SyncToken> latestSyncTokens = new HashMap<>();
+    @Autowired
+    private AnyUtilsFactory anyUtilsFactory;
+
+    /**
+     * Number of workers handling reconciliation deltas in parallel; 1 means that deltas are handled serially.
+     */
+    @Value("${pullJobDelegate.concurrency:1}")
+    private int concurrency;
+
+    /**
+     * Deltas to keep queued for the workers, before blocking the connector stream.
+     */
+    @Value("${pullJobDelegate.queueCapacity:100}")
+    private int queueCapacity;
+
+    @Resource(name = "provisioningWorkerExecutor")
+    private ThreadPoolTaskExecutor workerExecutor;
+
+    /**
+     * Reconciliation deltas whose matching any objects are looked up at once; 1 means one lookup per delta.
+     */
+    @Value("${pullJobDelegate.correlationWindow:100}")
+    private int correlationWindow;
+
+    private final Map<ObjectClass, SyncToken> latestSyncTokens =
+            Collections.synchronizedMap(new HashMap<ObjectClass, SyncToken>());
 
     @Override
     public void setLatestSyncToken(final ObjectClass objectClass, final SyncToken latestSyncToken) {
@@ -138,6 +171,7 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
         ProvisioningProfile<PullTask, PullActions> profile = new ProvisioningProfile<>(connector, pullTask);
         profile.getActions().addAll(actions);
         profile.setDryRun(dryRun);
+        profile.setParallel(concurrency > 1);
         profile.setResAct(getPullPolicySpec(pullTask).getConflictResolutionAction());
 
         latestSyncTokens.clear();
@@ -219,7 +253,7 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
 
         for (Provision provision : pullTask.getResource().getProvisions()) {
             if (provision.getMapping() != null) {
-                SyncopePullResultHandler handler;
+                AnyPullResultHandler handler;
                 switch (provision.getAnyType().getKind()) {
                     case USER:
                         handler = uhandler;
@@ -267,17 +301,12 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
                                     (ReconciliationFilterBuilder) ApplicationContextProvider.getBeanFactory().
                                     createBean(Class.forName(pullTask.getReconciliationFilterBuilderClassName()),
                                             AbstractBeanDefinition.AUTOWIRE_BY_NAME, false);
-                            connector.filteredReconciliation(provision.getObjectClass(),
-                                    filterBuilder,
-                                    handler,
-                                    options);
+                            reconcile(connector, provision, filterBuilder, handler, options);
                             break;
 
                         case FULL_RECONCILIATION:
                         default:
-                            connector.fullReconciliation(provision.getObjectClass(),
-                                    handler,
-                                    options);
+                            reconcile(connector, provision, null, handler, options);
                             break;
                     }
                 } catch (Throwable t) {
@@ -302,6 +331,58 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
         return result;
     }
 
+    /**
+     * Runs full or filtered reconciliation; the any objects matching deltas are looked up in windows of
+     * {@link #correlationWindow} deltas by a {@link CorrelatingSyncResultsHandler}, then - when configured for - deltas
+     * are handled in parallel by a {@link PartitionedSyncResultsHandler}, each in its own transaction.
+     */
+    private void reconcile(
+            final Connector connector,
+            final Provision provision,
+            final ReconciliationFilterBuilder filterBuilder,
+            final AnyPullResultHandler handler,
+            final OperationOptions options) throws JobExecutionException {
+
+        PartitionedSyncResultsHandler partitioned = concurrency > 1
+                ? new PartitionedSyncResultsHandler(handler, workerExecutor, concurrency, queueCapacity)
+                : null;
+        SyncResultsHandler downstream = partitioned == null ? handler : partitioned;
+
+        CorrelatingSyncResultsHandler correlating = null;
+        if (correlationWindow > 1) {
+            Map<String, List<String>> correlated = new ConcurrentHashMap<>();
+            handler.setCorrelated(correlated);
+            correlating = new CorrelatingSyncResultsHandler(
+                    downstream,
+                    correlated,
+                    pullUtils,
+                    provision,
+                    anyUtilsFactory.getInstance(provision.getAnyType().getKind()),
+                    correlationWindow);
+        }
+
+        try {
+            if (filterBuilder == null) {
+                connector.fullReconciliation(
+                        provision.getObjectClass(), correlating == null ? downstream : correlating, options);
+            } else {
+                connector.filteredReconciliation(
+                        provision.getObjectClass(),
+                        filterBuilder,
+                        correlating == null ? downstream : correlating,
+                        options);
+            }
+            if (correlating != null) {
+                correlating.finish();
+            }
+        } finally {
+            if (partitioned != null) {
+                partitioned.finish();
+            }
+            handler.setCorrelated(null);
+        }
+    }
+
     private PullPolicySpec getPullPolicySpec(final ProvisioningTask task) {
         PullPolicySpec pullPolicySpec;
 
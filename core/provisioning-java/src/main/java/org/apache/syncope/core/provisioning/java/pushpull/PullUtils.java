@@ -20,9 +20,12 @@ package org.apache.syncope.core.provisioning.java.pushpull;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.SchemaType;
 import org.apache.syncope.common.lib.policy.PullPolicySpec;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
 import org.apache.syncope.core.persistence.api.attrvalue.validation.ParsingValidationException;
@@ -168,13 +171,7 @@ public class PullUtils {
                         : groupDAO;
     }
 
-    private List<String> findByConnObjectKeyItem(
-            final String uid, final Provision provision, final AnyUtils anyUtils) {
-
-        List<String> result = new ArrayList<>();
-
-        MappingItem connObjectKeyItem = MappingUtils.getConnObjectKeyItem(provision);
-
+    private String transform(final MappingItem connObjectKeyItem, final String uid) {
         String transfUid = uid;
         for (MappingItemTransformer transformer : MappingUtils.getMappingItemTransformers(connObjectKeyItem)) {
             List<Object> output = transformer.beforePull(
@@ -185,6 +182,32 @@ public class PullUtils {
                 transfUid = output.get(0).toString();
             }
         }
+        return transfUid;
+    }
+
+    private PlainAttrValue parse(final PlainSchema schema, final String transfUid, final AnyUtils anyUtils) {
+        PlainAttrValue value = anyUtils.newPlainAttrValue();
+        if (schema == null) {
+            value.setStringValue(transfUid);
+        } else {
+            try {
+                value.parseValue(schema, transfUid);
+            } catch (ParsingValidationException e) {
+                LOG.error("While parsing provided __UID__ {}", transfUid, e);
+                value.setStringValue(transfUid);
+            }
+        }
+        return value;
+    }
+
+    private List<String> findByConnObjectKeyItem(
+            final String uid, final Provision provision, final AnyUtils anyUtils) {
+
+        List<String> result = new ArrayList<>();
+
+        MappingItem connObjectKeyItem = MappingUtils.getConnObjectKeyItem(provision);
+
+        String transfUid = transform(connObjectKeyItem, uid);
 
         IntAttrName intAttrName = intAttrNameParser.parse(
                 connObjectKeyItem.getIntAttrName(),
@@ -222,19 +245,8 @@ public class PullUtils {
         } else if (intAttrName.getSchemaType() != null) {
             switch (intAttrName.getSchemaType()) {
                 case PLAIN:
-                    PlainAttrValue value = anyUtils.newPlainAttrValue();
-
-                    PlainSchema schema = plainSchemaDAO.find(intAttrName.getSchemaName());
-                    if (schema == null) {
-                        value.setStringValue(transfUid);
-                    } else {
-                        try {
-                            value.parseValue(schema, transfUid);
-                        } catch (ParsingValidationException e) {
-                            LOG.error("While parsing provided __UID__ {}", transfUid, e);
-                            value.setStringValue(transfUid);
-                        }
-                    }
+                    PlainAttrValue value = parse(
+                            plainSchemaDAO.find(intAttrName.getSchemaName()), transfUid, anyUtils);
 
                     List<? extends Any<?>> anys = getAnyDAO(provision.getAnyType().getKind()).
                             findByAttrValue(intAttrName.getSchemaName(), value);
@@ -323,6 +335,91 @@ public class PullUtils {
         }
     }
 
+    /**
+     * Find any objects based on mapped uid values, with a limited number of queries: transformers configured for the
+     * connObjectKey mapping item are applied to each uid, then all values are looked up at once.
+     * Only available when matching by connObjectKey mapping item, e.g. when no correlation rule is defined.
+     *
+     * @param uids for finding by connObjectKey
+     * @param provision external resource
+     * @param anyUtils any util
+     * @return list of matching users / groups for each provided uid, or {@code null} if not available
+     */
+    public Map<String, List<String>> findExisting(
+            final List<String> uids,
+            final Provision provision,
+            final AnyUtils anyUtils) {
+
+        if (provision.getResource().getPullPolicy() != null
+                && provision.getResource().getPullPolicy().getSpecification() != null
+                && getCorrelationRule(provision, provision.getResource().getPullPolicy().getSpecification()) != null) {
+
+            return null;
+        }
+
+        MappingItem connObjectKeyItem = MappingUtils.getConnObjectKeyItem(provision);
+
+        List<String> transfUids = new ArrayList<>(uids.size());
+        for (String uid : uids) {
+            transfUids.add(transform(connObjectKeyItem, uid));
+        }
+
+        IntAttrName intAttrName = intAttrNameParser.parse(
+                connObjectKeyItem.getIntAttrName(),
+                provision.getAnyType().getKind());
+
+        List<List<String>> found = null;
+        try {
+            if (intAttrName.getField() != null) {
+                switch (intAttrName.getField()) {
+                    case "key":
+                        found = getAnyDAO(provision.getAnyType().getKind()).findKeysByFieldValues("key", transfUids);
+                        break;
+
+                    case "username":
+                        found = userDAO.findKeysByFieldValues("username", transfUids);
+                        break;
+
+                    case "name":
+                        found = new ArrayList<>(transfUids.size());
+                        List<List<String>> groups = groupDAO.findKeysByFieldValues("name", transfUids);
+                        List<List<String>> anyObjects = anyObjectDAO.findKeysByFieldValues("name", transfUids);
+                        for (int i = 0; i < transfUids.size(); i++) {
+                            List<String> keys = new ArrayList<>(groups.get(i));
+                            keys.addAll(anyObjects.get(i));
+                            found.add(keys);
+                        }
+                        break;
+
+                    default:
+                }
+            } else if (intAttrName.getSchemaType() == SchemaType.PLAIN) {
+                PlainSchema schema = plainSchemaDAO.find(intAttrName.getSchemaName());
+
+                List<PlainAttrValue> values = new ArrayList<>(transfUids.size());
+                for (String transfUid : transfUids) {
+                    values.add(parse(schema, transfUid, anyUtils));
+                }
+
+                found = getAnyDAO(provision.getAnyType().getKind()).
+                        findKeysByAttrValues(intAttrName.getSchemaName(), values);
+            }
+        } catch (RuntimeException e) {
+            LOG.debug("Could not find {} matching {} at once", anyUtils.getAnyTypeKind(), uids, e);
+            found = null;
+        }
+
+        if (found == null) {
+            return null;
+        }
+
+        Map<String, List<String>> result = new HashMap<>(uids.size());
+        for (int i = 0; i < uids.size(); i++) {
+            result.put(uids.get(i), found.get(i));
+        }
+        return result;
+    }
+
     public Boolean readEnabled(final ConnectorObject connectorObject, final ProvisioningTask task) {
         Boolean enabled = null;
         if (task.isSyncStatus()) {
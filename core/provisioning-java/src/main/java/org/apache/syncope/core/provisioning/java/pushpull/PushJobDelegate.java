@@ -21,6 +21,10 @@ package org.apache.syncope.core.provisioning.java.pushpull;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import javax.annotation.Resource;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
@@ -47,12 +51,65 @@ import org.apache.syncope.core.provisioning.api.pushpull.SyncopePushResultHandle
 import org.apache.syncope.core.provisioning.api.pushpull.UserPushResultHandler;
 import org.quartz.JobExecutionException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> {
 
     private static final int PAGE_SIZE = 1000;
 
+    /**
+     * Permits limiting the entities being pushed at the same time to each resource, shared among all push tasks.
+     */
+    private static final ConcurrentMap<String, ResourcePermits> PERMITS = new ConcurrentHashMap<>();
+
+    /**
+     * Semaphore whose number of permits can be changed while permits are held.
+     */
+    private static class ResourcePermits extends Semaphore {
+
+        private static final long serialVersionUID = -5306391634530519186L;
+
+        private int size;
+
+        ResourcePermits(final int size) {
+            super(size);
+            this.size = size;
+        }
+
+        public synchronized void resize(final int newSize) {
+            if (newSize > size) {
+                release(newSize - size);
+            } else if (newSize < size) {
+                // permits currently held are taken back as they are released
+                reducePermits(size - newSize);
+            }
+            size = newSize;
+        }
+    }
+
+    /**
+     * Number of entities pushed in parallel to a resource, each in its own transaction; 1 means serial handling.
+     */
+    @Value("${pushJobDelegate.concurrency:1}")
+    private int concurrency;
+
+    /**
+     * Per-resource overrides of {@link #concurrency}, as comma-separated {@code resource:concurrency} pairs.
+     */
+    @Value("${pushJobDelegate.resourceConcurrency:}")
+    private String resourceConcurrency;
+
+    /**
+     * Number of entity keys fetched ahead of the workers when pushing in parallel.
+     */
+    @Value("${pushJobDelegate.queueCapacity:100}")
+    private int queueCapacity;
+
+    @Resource(name = "provisioningWorkerExecutor")
+    private ThreadPoolTaskExecutor workerExecutor;
+
     /**
      * User DAO.
      */
@@ -96,20 +153,52 @@ public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> {
         return result;
     }
 
-    private void doHandle(
+    private int getConcurrency(final ExternalResource resource) {
+        for (String pair : StringUtils.split(resourceConcurrency, ',')) {
+            String[] split = StringUtils.split(pair.trim(), ':');
+            if (split.length == 2 && resource.getKey().equals(split[0].trim())) {
+                return Integer.parseInt(split[1].trim());
+            }
+        }
+        return concurrency;
+    }
+
+    private Semaphore getPermits(final ExternalResource resource, final int concurrency) {
+        ResourcePermits permits = PERMITS.get(resource.getKey());
+        if (permits == null) {
+            permits = new ResourcePermits(concurrency);
+            ResourcePermits existing = PERMITS.putIfAbsent(resource.getKey(), permits);
+            if (existing != null) {
+                permits = existing;
+            }
+        }
+
+        // concurrency might have been reconfigured since the permits were created
+        permits.resize(concurrency);
+
+        return permits;
+    }
+
+    private boolean doHandle(
             final List<? extends Any<?>> anys,
             final SyncopePushResultHandler handler,
+            final ParallelPushHandler parallel,
             final ExternalResource resource)
             throws JobExecutionException {
 
         for (Any<?> any : anys) {
-            try {
-                handler.handle(any.getKey());
-            } catch (Exception e) {
-                LOG.warn("Failure pushing '{}' on '{}'", any, resource, e);
-                throw new JobExecutionException("While pushing " + any + " on " + resource, e);
+            if (parallel == null) {
+                try {
+                    handler.handle(any.getKey());
+                } catch (Exception e) {
+                    LOG.warn("Failure pushing '{}' on '{}'", any, resource, e);
+                    throw new JobExecutionException("While pushing " + any + " on " + resource, e);
+                }
+            } else if (!parallel.handle(any.getKey())) {
+                return false;
             }
         }
+        return true;
     }
 
     @Override
@@ -179,6 +268,14 @@ public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> {
                 createBean(GroupPushResultHandlerImpl.class, AbstractBeanDefinition.AUTOWIRE_BY_NAME, false);
         ghandler.setProfile(profile);
 
+        int resConcurrency = getConcurrency(pushTask.getResource());
+        Semaphore permits = null;
+        if (resConcurrency > 1) {
+            permits = getPermits(pushTask.getResource(), resConcurrency);
+            // realms above were pushed serially on this thread
+            profile.setParallel(true);
+        }
+
         for (Provision provision : pushTask.getResource().getProvisions()) {
             if (provision.getMapping() != null) {
                 AnyDAO<?> anyDAO = getAnyDAO(provision.getAnyType().getKind());
@@ -201,20 +298,40 @@ public class PushJobDelegate extends AbstractProvisioningJobDelegate<PushTask> {
                 String filter = pushTask.getFilter(provision.getAnyType()) == null
                         ? null
                         : pushTask.getFilter(provision.getAnyType()).getFIQLCond();
-                if (StringUtils.isBlank(filter)) {
-                    doHandle(anyDAO.findAll(), handler, pushTask.getResource());
-                } else {
-                    int count = anyDAO.count(SyncopeConstants.FULL_ADMIN_REALMS);
-                    for (int page = 1; page <= (count / PAGE_SIZE) + 1; page++) {
-                        List<? extends Any<?>> anys = searchDAO.search(
-                                SyncopeConstants.FULL_ADMIN_REALMS,
-                                SearchCondConverter.convert(filter),
-                                page,
-                                PAGE_SIZE,
-                                Collections.<OrderByClause>emptyList(),
-                                provision.getAnyType().getKind());
-                        doHandle(anys, handler, pushTask.getResource());
+                // each provision is completed before moving to the next one, as with serial handling
+                ParallelPushHandler parallel = permits == null
+                        ? null
+                        : new ParallelPushHandler(handler, permits, workerExecutor, resConcurrency, queueCapacity);
+                try {
+                    if (StringUtils.isBlank(filter)) {
+                        doHandle(anyDAO.findAll(), handler, parallel, pushTask.getResource());
+                    } else {
+                        int count = anyDAO.count(SyncopeConstants.FULL_ADMIN_REALMS);
+                        boolean goOn = true;
+                        for (int page = 1; page <= (count / PAGE_SIZE) + 1 && goOn; page++) {
+                            List<? extends Any<?>> anys = searchDAO.search(
+                                    SyncopeConstants.FULL_ADMIN_REALMS,
+                                    SearchCondConverter.convert(filter),
+                                    page,
+                                    PAGE_SIZE,
+                                    Collections.<OrderByClause>emptyList(),
+                                    provision.getAnyType().getKind());
+                            goOn = doHandle(anys, handler, parallel, pushTask.getResource());
+                        }
                     }
+                } catch (JobExecutionException | RuntimeException e) {
+                    // also waits for the workers when fetching fails, without hiding the original failure
+                    if (parallel != null) {
+                        try {
+                            parallel.finish();
+                        } catch (JobExecutionException fe) {
+                            e.addSuppressed(fe);
+                        }
+                    }
+                    throw e;
+                }
+                if (parallel != null) {
+                    parallel.finish();
                 }
             }
         }
@@ -31,6 +31,7 @@ import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.provisioning.api.WorkflowResult;
+import org.apache.syncope.core.provisioning.api.propagation.PropagationReporter;
 import org.apache.syncope.core.provisioning.api.pushpull.UserPushResultHandler;
 
 public class UserPushResultHandlerImpl extends AbstractPushResultHandler implements UserPushResultHandler {
@@ -41,7 +42,7 @@ public class UserPushResultHandlerImpl extends AbstractPushResultHandler impleme
     }
 
     @Override
-    protected void provision(final Any<?> any, final Boolean enabled) {
+    protected PropagationReporter provision(final Any<?> any, final Boolean enabled) {
         AnyTO before = getAnyTO(any.getKey());
 
         List<String> noPropResources = new ArrayList<>(before.getResources());
@@ -50,13 +51,13 @@ public class UserPushResultHandlerImpl extends AbstractPushResultHandler impleme
         PropagationByResource propByRes = new PropagationByResource();
         propByRes.add(ResourceOperation.CREATE, profile.getTask().getResource().getKey());
 
-        taskExecutor.execute(propagationManager.getUserCreateTasks(
+        return taskExecutor.execute(propagationManager.getUserCreateTasks(
                 before.getKey(),
                 null,
                 enabled,
                 propByRes,
                 before.getVirAttrs(),
-                noPropResources));
+                noPropResources), false);
     }
 
     @Override
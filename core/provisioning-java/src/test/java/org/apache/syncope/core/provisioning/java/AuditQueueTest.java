@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import org.apache.syncope.core.provisioning.java.AuditQueue.AuditRecord;
+import org.apache.syncope.core.provisioning.java.AuditQueue.OverflowPolicy;
+import org.junit.Test;
+
+public class AuditQueueTest {
+
+    private static AuditRecord record(final String domain, final String event) {
+        return new AuditRecord(domain, System.currentTimeMillis(), event, null);
+    }
+
+    @Test
+    public void batchesByDomain() {
+        final Map<String, List<String>> written = new ConcurrentHashMap<>();
+        final List<Integer> batchSizes = new ArrayList<>();
+
+        AuditQueue queue = new AuditQueue(100, 10, OverflowPolicy.BLOCK) {
+
+            @Override
+            protected void write(final String domain, final List<AuditRecord> records) {
+                batchSizes.add(records.size());
+
+                List<String> events = written.get(domain);
+                if (events == null) {
+                    events = new ArrayList<>();
+                    written.put(domain, events);
+                }
+                for (AuditRecord record : records) {
+                    assertEquals(domain, record.getDomain());
+                    events.add(record.getMessage());
+                }
+            }
+        };
+        queue.start();
+
+        for (int i = 0; i < 50; i++) {
+            assertTrue(queue.offer(record(i % 2 == 0 ? "Master" : "Two", "event" + i)));
+        }
+        queue.stop(10000L);
+
+        assertEquals(0, queue.getQueueDepth());
+        assertEquals(50, queue.getWrittenCount());
+        assertEquals(25, written.get("Master").size());
+        assertEquals(25, written.get("Two").size());
+        assertEquals("event0", written.get("Master").get(0));
+        assertEquals("event48", written.get("Master").get(24));
+        for (Integer batchSize : batchSizes) {
+            assertTrue(batchSize <= 10);
+        }
+    }
+
+    @Test
+    public void dropWhenFull() throws InterruptedException {
+        final CountDownLatch writing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        AuditQueue queue = new AuditQueue(2, 1, OverflowPolicy.DROP) {
+
+            @Override
+            protected void write(final String domain, final List<AuditRecord> records) throws InterruptedException {
+                writing.countDown();
+                release.await();
+            }
+        };
+        queue.start();
+
+        // first record is taken by the writer, which then waits
+        assertTrue(queue.offer(record("Master", "event0")));
+        writing.await();
+
+        assertTrue(queue.offer(record("Master", "event1")));
+        assertTrue(queue.offer(record("Master", "event2")));
+        assertFalse(queue.offer(record("Master", "event3")));
+        assertEquals(2, queue.getQueueDepth());
+        assertEquals(1, queue.getDroppedCount());
+        assertTrue(queue.getLag() >= 0);
+
+        release.countDown();
+        queue.stop(10000L);
+
+        assertEquals(0, queue.getQueueDepth());
+        assertEquals(3, queue.getWrittenCount());
+    }
+}
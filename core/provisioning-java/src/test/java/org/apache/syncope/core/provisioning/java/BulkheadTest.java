@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.apache.syncope.core.persistence.jpa.entity.JPAConnInstance;
+import org.apache.syncope.core.provisioning.api.TimeoutException;
+import org.apache.syncope.core.provisioning.java.AsyncConnectorFacade.Bulkhead;
+import org.apache.syncope.core.provisioning.java.AsyncConnectorFacade.RejectionPolicy;
+import org.identityconnectors.framework.api.ConnectorFacade;
+import org.junit.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class BulkheadTest {
+
+    private static Callable<String> await(final CountDownLatch latch) {
+        return new Callable<String>() {
+
+            @Override
+            public String call() throws Exception {
+                latch.await();
+                return Thread.currentThread().getName();
+            }
+        };
+    }
+
+    @Test
+    public void abortWhenSaturated() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        Bulkhead slow = new Bulkhead("slow", 1, 1, RejectionPolicy.ABORT);
+        Bulkhead healthy = new Bulkhead("healthy", 1, 1, RejectionPolicy.ABORT);
+        try {
+            slow.submit(await(release));
+            slow.submit(await(release));
+            try {
+                slow.submit(await(release));
+                fail("This should not happen");
+            } catch (RejectedExecutionException e) {
+                assertEquals(1, slow.getRejectedCount());
+            }
+            assertEquals(1, slow.getQueueSize());
+
+            // calls to other connectors are not affected
+            CountDownLatch released = new CountDownLatch(0);
+            assertEquals("connector-healthy-1", healthy.submit(await(released)).get(10, TimeUnit.SECONDS));
+            assertEquals(0, healthy.getRejectedCount());
+        } finally {
+            release.countDown();
+            slow.shutdown();
+            healthy.shutdown();
+        }
+    }
+
+    @Test
+    public void callerRunsWhenSaturated() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        Bulkhead bulkhead = new Bulkhead("slow", 1, 1, RejectionPolicy.CALLER_RUNS);
+        try {
+            bulkhead.submit(await(release));
+            bulkhead.submit(await(release));
+
+            CountDownLatch released = new CountDownLatch(0);
+            assertEquals(
+                    Thread.currentThread().getName(),
+                    bulkhead.submit(await(released)).get(10, TimeUnit.SECONDS));
+            assertEquals(1, bulkhead.getRejectedCount());
+        } finally {
+            release.countDown();
+            bulkhead.shutdown();
+        }
+    }
+
+    /**
+     * Connector whose operations wait for the given latch to be released.
+     */
+    private static ConnectorFacade connector(final CountDownLatch latch) {
+        InvocationHandler handler = new InvocationHandler() {
+
+            @Override
+            public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+                latch.await();
+                return null;
+            }
+        };
+        return (ConnectorFacade) Proxy.newProxyInstance(
+                BulkheadTest.class.getClassLoader(), new Class<?>[] { ConnectorFacade.class }, handler);
+    }
+
+    private static AsyncConnectorFacade facade(final ThreadPoolTaskExecutor executor) {
+        AsyncConnectorFacade facade = new AsyncConnectorFacade();
+        ReflectionTestUtils.setField(facade, "poolSize", 1);
+        ReflectionTestUtils.setField(facade, "queueCapacity", 1);
+        ReflectionTestUtils.setField(facade, "rejectionPolicy", RejectionPolicy.ABORT);
+        ReflectionTestUtils.setField(facade, "executor", executor);
+        return facade;
+    }
+
+    @Test
+    public void rejectedCallsTimeOut() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ConnectorFacade connector = connector(release);
+        JPAConnInstance connInstance = new JPAConnInstance();
+
+        AsyncConnectorFacade facade = facade(null);
+        try {
+            facade.test("slow", connInstance, connector);
+            facade.test("slow", connInstance, connector);
+            try {
+                facade.test("slow", connInstance, connector);
+                fail("This should not happen");
+            } catch (TimeoutException e) {
+                assertEquals(1, facade.getBulkhead("slow").getRejectedCount());
+            }
+        } finally {
+            release.countDown();
+            facade.destroy();
+        }
+    }
+
+    @Test
+    public void removeBulkhead() throws Exception {
+        ConnectorFacade connector = connector(new CountDownLatch(0));
+        JPAConnInstance connInstance = new JPAConnInstance();
+
+        AsyncConnectorFacade facade = facade(null);
+        try {
+            assertEquals("OK", facade.test("removed", connInstance, connector).get(10, TimeUnit.SECONDS));
+            Bulkhead bulkhead = facade.getBulkhead("removed");
+            assertNotNull(bulkhead);
+
+            facade.removeBulkhead("removed");
+            assertNull(facade.getBulkhead("removed"));
+            assertTrue(bulkhead.isShutdown());
+
+            // a new executor is created upon next call
+            assertEquals("OK", facade.test("removed", connInstance, connector).get(10, TimeUnit.SECONDS));
+            assertNotSame(bulkhead, facade.getBulkhead("removed"));
+        } finally {
+            facade.destroy();
+        }
+    }
+
+    @Test
+    public void unsavedAreNotBulkheaded() throws Exception {
+        ConnectorFacade connector = connector(new CountDownLatch(0));
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.initialize();
+
+        AsyncConnectorFacade facade = facade(executor);
+        try {
+            assertEquals("OK", facade.test(null, new JPAConnInstance(), connector).get(10, TimeUnit.SECONDS));
+            assertNull(facade.getBulkhead(""));
+            assertEquals(1, executor.getThreadPoolExecutor().getTaskCount());
+        } finally {
+            facade.destroy();
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import org.apache.syncope.core.provisioning.api.cache.VirAttrCacheValue;
+import org.apache.syncope.core.provisioning.java.cache.ConcurrentVirAttrCache;
+import org.junit.Test;
+
+public class ConcurrentVirAttrCacheTest {
+
+    private static VirAttrCacheValue value(final String value) {
+        VirAttrCacheValue cacheValue = new VirAttrCacheValue();
+        cacheValue.setValues(Collections.<Object>singletonList(value));
+        return cacheValue;
+    }
+
+    @Test
+    public void putGetExpire() {
+        ConcurrentVirAttrCache cache = new ConcurrentVirAttrCache(60, 100);
+
+        assertNull(cache.get("USER", "key1", "virtualdata"));
+        assertEquals(1, cache.getMissCount());
+
+        cache.put("USER", "key1", "virtualdata", value("value1"));
+        VirAttrCacheValue cached = cache.get("USER", "key1", "virtualdata");
+        assertNotNull(cached);
+        assertTrue(cache.isValidEntry(cached));
+        assertEquals(Collections.singletonList("value1"), cached.getValues());
+        assertEquals(1, cache.getHitCount());
+
+        cache.expire("USER", "key1", "virtualdata");
+        assertNull(cache.get("USER", "key1", "virtualdata"));
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void ttl() {
+        ConcurrentVirAttrCache cache = new ConcurrentVirAttrCache(0, 100);
+
+        cache.put("USER", "key1", "virtualdata", value("value1"));
+        assertNull(cache.get("USER", "key1", "virtualdata"));
+        assertFalse(cache.isValidEntry(value("value1")));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void evictLeastRecentlyUsed() {
+        ConcurrentVirAttrCache cache = new ConcurrentVirAttrCache(60, 16);
+
+        for (int i = 0; i < 1000; i++) {
+            cache.put("USER", "key" + i, "virtualdata", value("value" + i));
+        }
+        assertTrue(cache.size() <= 16);
+        assertEquals(1000 - cache.size(), cache.getEvictionCount());
+        assertNotNull(cache.get("USER", "key999", "virtualdata"));
+    }
+}
@@ -42,11 +42,15 @@ public class ConnectorManagerTest extends AbstractTest {
     @Autowired
     private ExternalResourceDAO resourceDAO;
 
+    @Autowired
+    private AsyncConnectorFacade asyncFacade;
+
     @Before
     public void before() {
         connManager = new ConnectorManager();
         ReflectionTestUtils.setField(connManager, "connIdBundleManager", connIdBundleManager);
         ReflectionTestUtils.setField(connManager, "resourceDAO", resourceDAO);
+        ReflectionTestUtils.setField(connManager, "asyncFacade", asyncFacade);
 
         // Remove any other connector instance bean set up by standard ConnectorManager.load()
         connManager.unload();
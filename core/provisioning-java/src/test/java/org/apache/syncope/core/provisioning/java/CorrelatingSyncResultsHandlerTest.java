@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.apache.syncope.core.persistence.api.entity.AnyUtils;
+import org.apache.syncope.core.persistence.api.entity.resource.Provision;
+import org.apache.syncope.core.provisioning.java.pushpull.CorrelatingSyncResultsHandler;
+import org.apache.syncope.core.provisioning.java.pushpull.PartitionedSyncResultsHandler;
+import org.apache.syncope.core.provisioning.java.pushpull.PullUtils;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.SyncDelta;
+import org.identityconnectors.framework.common.objects.SyncDeltaBuilder;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.identityconnectors.framework.common.objects.SyncResultsHandler;
+import org.identityconnectors.framework.common.objects.SyncToken;
+import org.identityconnectors.framework.common.objects.Uid;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.quartz.JobExecutionException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+public class CorrelatingSyncResultsHandlerTest {
+
+    private static ThreadPoolTaskExecutor executor;
+
+    @BeforeClass
+    public static void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.initialize();
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        executor.shutdown();
+    }
+
+    private static SyncDelta delta(final String uid, final int token) {
+        return new SyncDeltaBuilder().
+                setToken(new SyncToken(token)).
+                setDeltaType(SyncDeltaType.DELETE).
+                setObjectClass(ObjectClass.ACCOUNT).
+                setUid(new Uid(uid)).
+                build();
+    }
+
+    /**
+     * Looks up nothing, recording the uids requested.
+     */
+    private static class RecordingPullUtils extends PullUtils {
+
+        private final List<List<String>> lookups = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Map<String, List<String>> findExisting(
+                final List<String> uids, final Provision provision, final AnyUtils anyUtils) {
+
+            lookups.add(new ArrayList<>(uids));
+
+            Map<String, List<String>> found = new HashMap<>();
+            for (String uid : uids) {
+                found.put(uid, Collections.<String>emptyList());
+            }
+            return found;
+        }
+    }
+
+    @Test
+    public void windowsAndDuplicates() {
+        final List<String> handled = new ArrayList<>();
+        RecordingPullUtils pullUtils = new RecordingPullUtils();
+        Map<String, List<String>> correlated = new HashMap<>();
+
+        CorrelatingSyncResultsHandler handler = new CorrelatingSyncResultsHandler(new SyncResultsHandler() {
+
+            @Override
+            public boolean handle(final SyncDelta delta) {
+                handled.add(delta.getUid().getUidValue());
+                return true;
+            }
+        }, correlated, pullUtils, null, null, 3);
+
+        for (String uid : Arrays.asList("a", "b", "a", "c")) {
+            assertTrue(handler.handle(delta(uid, handled.size())));
+        }
+        // first window is full and forwarded, the second is still buffered
+        assertEquals(Arrays.asList("a", "b", "a"), handled);
+        assertTrue(handler.finish());
+        assertEquals(Arrays.asList("a", "b", "a", "c"), handled);
+
+        // "a" occurs twice in the first window, so it is not looked up in advance
+        assertEquals(2, pullUtils.lookups.size());
+        assertEquals(Collections.singletonList("b"), pullUtils.lookups.get(0));
+        assertEquals(Collections.singletonList("c"), pullUtils.lookups.get(1));
+        assertEquals(2, correlated.size());
+    }
+
+    @Test
+    public void waitForPendingBeforeCorrelating() throws JobExecutionException {
+        final Map<String, Integer> handled = new ConcurrentHashMap<>();
+        final List<String> pendingAtLookup = new CopyOnWriteArrayList<>();
+
+        PullUtils pullUtils = new RecordingPullUtils() {
+
+            @Override
+            public Map<String, List<String>> findExisting(
+                    final List<String> uids, final Provision provision, final AnyUtils anyUtils) {
+
+                // deltas from previous windows for the same uids shall be handled by now, e.g. objects created
+                for (String uid : uids) {
+                    if (handled.containsKey(uid + "#pending")) {
+                        pendingAtLookup.add(uid);
+                    }
+                }
+                return super.findExisting(uids, provision, anyUtils);
+            }
+        };
+
+        PartitionedSyncResultsHandler partitioned = new PartitionedSyncResultsHandler(new SyncResultsHandler() {
+
+            @Override
+            public boolean handle(final SyncDelta delta) {
+                String uid = delta.getUid().getUidValue();
+                handled.put(uid + "#pending", 1);
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                Integer count = handled.get(uid);
+                handled.put(uid, count == null ? 1 : count + 1);
+                handled.remove(uid + "#pending");
+                return true;
+            }
+        }, executor, 4, 10);
+
+        CorrelatingSyncResultsHandler handler = new CorrelatingSyncResultsHandler(
+                partitioned, new ConcurrentHashMap<String, List<String>>(), pullUtils, null, null, 2);
+
+        int token = 0;
+        for (String uid : Arrays.asList("x", "y", "x", "z", "y", "w")) {
+            assertTrue(handler.handle(delta(uid, token++)));
+        }
+        assertTrue(handler.finish());
+        partitioned.finish();
+
+        assertTrue(pendingAtLookup.toString(), pendingAtLookup.isEmpty());
+        assertEquals(2, handled.get("x"), 0);
+        assertEquals(2, handled.get("y"), 0);
+        assertEquals(1, handled.get("z"), 0);
+        assertEquals(1, handled.get("w"), 0);
+    }
+}
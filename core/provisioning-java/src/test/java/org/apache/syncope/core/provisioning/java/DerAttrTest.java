@@ -23,11 +23,15 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import org.apache.commons.jexl3.JexlContext;
+import org.apache.commons.jexl3.MapContext;
 import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.DerSchema;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.provisioning.api.DerAttrHandler;
+import org.apache.syncope.core.provisioning.java.jexl.JexlUtils;
+import org.apache.syncope.core.provisioning.java.jexl.LazyJexlContext;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Transactional;
@@ -58,4 +62,28 @@ public class DerAttrTest extends AbstractTest {
         assertTrue(value.startsWith("vivaldi - 2010-10-20"));
         assertTrue(value.endsWith("[0]"));
     }
+
+    @Test
+    public void lazyJexlContext() {
+        User user = userDAO.findByUsername("vivaldi");
+        assertNotNull("did not get expected user", user);
+
+        String expression = "username + '|' + realm + '|' + creationDate + '|' + firstname + '|' + cn + '|' + missing";
+
+        JexlContext eager = new MapContext();
+        JexlUtils.addFieldsToContext(user, eager);
+        JexlUtils.addPlainAttrsToContext(user.getPlainAttrs(), eager);
+        JexlUtils.addDerAttrsToContext(user, eager);
+        String expected = JexlUtils.evaluate(expression, eager);
+        assertTrue(expected.startsWith("vivaldi|/|2010-10-20"));
+
+        LazyJexlContext lazy = new LazyJexlContext().
+                addFields(user).addPlainAttrs(user.getPlainAttrs()).addDerAttrs(user);
+        assertEquals(expected, JexlUtils.evaluate(expression, lazy));
+        assertFalse(lazy.has("missing"));
+        assertFalse(lazy.has("password"));
+
+        lazy.set("username", "overridden");
+        assertEquals("overridden", JexlUtils.evaluate("username", lazy));
+    }
 }
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.provisioning.java;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
@@ -49,9 +50,7 @@ public class MailTemplateTest extends AbstractTest {
 
     private String evaluate(final String template, final Map<String, Object> jexlVars) {
         StringWriter writer = new StringWriter();
-        JexlUtils.newJxltEngine().
-                createTemplate(template).
-                evaluate(new MapContext(jexlVars), writer);
+        JexlUtils.getTemplate(template).evaluate(new MapContext(jexlVars), writer);
         return writer.toString();
     }
 
@@ -64,6 +63,19 @@ public class MailTemplateTest extends AbstractTest {
         assertNotNull(htmlBody);
     }
 
+    @Test
+    public void cachedTemplate() {
+        String template = mailTemplateDAO.find("confirmPasswordReset").getTextTemplate();
+        String first = evaluate(template, new HashMap<String, Object>());
+
+        long parses = JexlUtils.getTemplateParseCount();
+        long hits = JexlUtils.getTemplateHitCount();
+
+        assertEquals(first, evaluate(template, new HashMap<String, Object>()));
+        assertEquals(parses, JexlUtils.getTemplateParseCount());
+        assertEquals(hits + 1, JexlUtils.getTemplateHitCount());
+    }
+
     @Test
     public void requestPasswordReset() throws IOException {
         Map<String, Object> ctx = new HashMap<>();
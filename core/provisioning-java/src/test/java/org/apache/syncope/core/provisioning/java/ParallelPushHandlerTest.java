@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.syncope.core.persistence.api.entity.task.PushTask;
+import org.apache.syncope.core.provisioning.api.pushpull.ProvisioningProfile;
+import org.apache.syncope.core.provisioning.api.pushpull.PushActions;
+import org.apache.syncope.core.provisioning.api.pushpull.SyncopePushResultHandler;
+import org.apache.syncope.core.provisioning.java.pushpull.ParallelPushHandler;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.quartz.JobExecutionException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+public class ParallelPushHandlerTest {
+
+    private static ThreadPoolTaskExecutor executor;
+
+    @BeforeClass
+    public static void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.initialize();
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        executor.shutdown();
+    }
+
+    private abstract static class TestPushResultHandler implements SyncopePushResultHandler {
+
+        @Override
+        public ProvisioningProfile<PushTask, PushActions> getProfile() {
+            return null;
+        }
+
+        @Override
+        public void setProfile(final ProvisioningProfile<PushTask, PushActions> profile) {
+            // nothing to do
+        }
+    }
+
+    @Test
+    public void limitedByPermits() throws JobExecutionException {
+        final Set<String> handled = ConcurrentHashMap.newKeySet();
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+
+        ParallelPushHandler handler = new ParallelPushHandler(new TestPushResultHandler() {
+
+            @Override
+            public boolean handle(final String anyKey) {
+                int current = running.incrementAndGet();
+                synchronized (maxRunning) {
+                    maxRunning.set(Math.max(maxRunning.get(), current));
+                }
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                handled.add(anyKey);
+                running.decrementAndGet();
+                return true;
+            }
+        }, new Semaphore(2), executor, 4, 2);
+
+        for (int i = 0; i < 200; i++) {
+            assertTrue(handler.handle("key" + i));
+        }
+        handler.finish();
+
+        assertEquals(200, handled.size());
+        assertTrue(maxRunning.get() <= 2);
+    }
+
+    @Test
+    public void stopOnError() throws JobExecutionException {
+        ParallelPushHandler handler = new ParallelPushHandler(new TestPushResultHandler() {
+
+            @Override
+            public boolean handle(final String anyKey) {
+                throw new IllegalStateException("failed " + anyKey);
+            }
+        }, new Semaphore(2), executor, 2, 1);
+
+        boolean goOn = true;
+        for (int i = 0; i < 10000 && goOn; i++) {
+            goOn = handler.handle("key" + i);
+        }
+        assertFalse(goOn);
+
+        try {
+            handler.finish();
+            fail("This should not happen");
+        } catch (JobExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+}
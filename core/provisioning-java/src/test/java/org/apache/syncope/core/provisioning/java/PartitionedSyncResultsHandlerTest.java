@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.syncope.core.provisioning.java.pushpull.PartitionedSyncResultsHandler;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.SyncDelta;
+import org.identityconnectors.framework.common.objects.SyncDeltaBuilder;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.identityconnectors.framework.common.objects.SyncResultsHandler;
+import org.identityconnectors.framework.common.objects.SyncToken;
+import org.identityconnectors.framework.common.objects.Uid;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.quartz.JobExecutionException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+public class PartitionedSyncResultsHandlerTest {
+
+    private static ThreadPoolTaskExecutor executor;
+
+    @BeforeClass
+    public static void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.initialize();
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        executor.shutdown();
+    }
+
+    private static SyncDelta delta(final String uid, final int token) {
+        return new SyncDeltaBuilder().
+                setToken(new SyncToken(token)).
+                setDeltaType(SyncDeltaType.DELETE).
+                setObjectClass(ObjectClass.ACCOUNT).
+                setUid(new Uid(uid)).
+                build();
+    }
+
+    @Test
+    public void orderedByUid() throws JobExecutionException {
+        final Map<String, List<Integer>> handled = new ConcurrentHashMap<>();
+
+        PartitionedSyncResultsHandler handler = new PartitionedSyncResultsHandler(new SyncResultsHandler() {
+
+            @Override
+            public boolean handle(final SyncDelta delta) {
+                List<Integer> tokens = handled.get(delta.getUid().getUidValue());
+                if (tokens == null) {
+                    tokens = new ArrayList<>();
+                    handled.put(delta.getUid().getUidValue(), tokens);
+                }
+                tokens.add((Integer) delta.getToken().getValue());
+                return true;
+            }
+        }, executor, 4, 2);
+
+        for (int i = 0; i < 200; i++) {
+            assertTrue(handler.handle(delta("uid" + (i % 10), i)));
+        }
+        handler.finish();
+
+        assertEquals(10, handled.size());
+        for (Map.Entry<String, List<Integer>> entry : handled.entrySet()) {
+            assertEquals(20, entry.getValue().size());
+            for (int i = 1; i < entry.getValue().size(); i++) {
+                assertTrue(entry.getValue().get(i - 1) < entry.getValue().get(i));
+            }
+        }
+    }
+
+    @Test
+    public void stopOnError() throws JobExecutionException {
+        PartitionedSyncResultsHandler handler = new PartitionedSyncResultsHandler(new SyncResultsHandler() {
+
+            @Override
+            public boolean handle(final SyncDelta delta) {
+                throw new IllegalStateException("failed " + delta.getUid().getUidValue());
+            }
+        }, executor, 2, 1);
+
+        boolean goOn = true;
+        for (int i = 0; i < 10000 && goOn; i++) {
+            goOn = handler.handle(delta("uid" + i, i));
+        }
+        assertFalse(goOn);
+
+        try {
+            handler.finish();
+            fail("This should not happen");
+        } catch (JobExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+}
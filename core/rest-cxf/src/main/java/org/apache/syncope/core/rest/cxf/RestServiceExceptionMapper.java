@@ -28,6 +28,7 @@ import javax.persistence.EntityExistsException;
 import javax.persistence.PersistenceException;
 import javax.persistence.RollbackException;
 import javax.validation.ValidationException;
+import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.ResponseBuilder;
@@ -88,6 +89,13 @@ public class RestServiceExceptionMapper implements ExceptionMapper<Exception>, R
 
     @Override
     public Response toResponse(final Exception ex) {
+        if (ex instanceof WebApplicationException
+                && ((WebApplicationException) ex).getResponse().getStatus()
+                == Response.Status.NOT_MODIFIED.getStatusCode()) {
+
+            return ((WebApplicationException) ex).getResponse();
+        }
+
         LOG.error("Exception thrown", ex);
 
         ResponseBuilder builder;
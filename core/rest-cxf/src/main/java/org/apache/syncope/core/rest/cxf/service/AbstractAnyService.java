@@ -18,11 +18,24 @@
  */
 package org.apache.syncope.core.rest.cxf.service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import javax.annotation.Resource;
 import javax.ws.rs.BadRequestException;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
+import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.AnyOperations;
+import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.patch.AnyPatch;
 import org.apache.syncope.common.lib.patch.AssociationPatch;
@@ -39,6 +52,8 @@ import org.apache.syncope.common.lib.to.BulkActionResult;
 import org.apache.syncope.common.lib.to.PagedResult;
 import org.apache.syncope.common.lib.to.PropagationStatus;
 import org.apache.syncope.common.lib.to.ProvisioningResult;
+import org.apache.syncope.common.lib.AnyProjection;
+import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.common.lib.types.PatchOperation;
 import org.apache.syncope.common.lib.types.ResourceAssociationAction;
 import org.apache.syncope.common.lib.types.ResourceDeassociationAction;
@@ -49,19 +64,63 @@ import org.apache.syncope.common.rest.api.service.AnyService;
 import org.apache.syncope.core.logic.AbstractAnyLogic;
 import org.apache.syncope.core.logic.UserLogic;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
-import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
 
 public abstract class AbstractAnyService<TO extends AnyTO, P extends AnyPatch>
         extends AbstractServiceImpl
         implements AnyService<TO, P> {
 
+    @Resource(name = "bulkActionExecutor")
+    protected ThreadPoolTaskExecutor bulkActionExecutor;
+
+    /**
+     * Number of targets executed in sequence by each {@code bulkActionExecutor} thread.
+     */
+    @Value("${bulkAction.chunkSize:100}")
+    protected int bulkActionChunkSize;
+
     protected abstract AbstractAnyLogic<TO, P> getAnyLogic();
 
     protected abstract P newPatch(String key);
 
+    /**
+     * Parses the given comma-separated list of fields.
+     *
+     * @param fields comma-separated list of fields
+     * @return projection
+     */
+    protected AnyProjection getProjection(final String fields) {
+        try {
+            return AnyProjection.fromFields(fields);
+        } catch (IllegalArgumentException e) {
+            LOG.error("Invalid fields: {}", fields, e);
+
+            SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.InvalidValues);
+            sce.getElements().add(fields);
+            throw sce;
+        }
+    }
+
+    private String getAttrsField(final SchemaType schemaType) {
+        switch (schemaType) {
+            case DERIVED:
+                return "derAttrs";
+
+            case VIRTUAL:
+                return "virAttrs";
+
+            case PLAIN:
+            default:
+                return "plainAttrs";
+        }
+    }
+
     @Override
     public Set<AttrTO> read(final String key, final SchemaType schemaType) {
-        TO any = read(key);
+        TO any = getAnyLogic().read(key, getProjection(getAttrsField(schemaType)));
         Set<AttrTO> result;
         switch (schemaType) {
             case DERIVED:
@@ -82,7 +141,7 @@ public abstract class AbstractAnyService<TO extends AnyTO, P extends AnyPatch>
 
     @Override
     public AttrTO read(final String key, final SchemaType schemaType, final String schema) {
-        TO any = read(key);
+        TO any = getAnyLogic().read(key, getProjection(getAttrsField(schemaType) + "." + schema));
         AttrTO result;
         switch (schemaType) {
             case DERIVED:
@@ -106,13 +165,18 @@ public abstract class AbstractAnyService<TO extends AnyTO, P extends AnyPatch>
     }
 
     @Override
-    public TO read(final String key) {
-        return getAnyLogic().read(key);
+    public TO read(final String key, final String fields) {
+        if (messageContext.getHttpHeaders().getHeaderString(HttpHeaders.IF_NONE_MATCH) != null) {
+            checkNotModified(getAnyLogic().findLastChange(key));
+        }
+
+        return getAnyLogic().read(key, getProjection(fields));
     }
 
     @Override
     public PagedResult<TO> search(final AnyQuery anyQuery) {
         String realm = StringUtils.prependIfMissing(anyQuery.getRealm(), SyncopeConstants.ROOT_REALM);
+        AnyProjection projection = getProjection(anyQuery.getFields());
 
         if (StringUtils.isBlank(anyQuery.getFiql())) {
             return buildPagedResult(
@@ -121,7 +185,8 @@ public abstract class AbstractAnyService<TO extends AnyTO, P extends AnyPatch>
                             anyQuery.getSize(),
                             getOrderByClauses(anyQuery.getOrderBy()),
                             realm,
-                            anyQuery.getDetails()),
+                            anyQuery.getDetails(),
+                            projection),
                     anyQuery.getPage(),
                     anyQuery.getSize(),
                     getAnyLogic().count(realm));
@@ -129,18 +194,16 @@ public abstract class AbstractAnyService<TO extends AnyTO, P extends AnyPatch>
             // if an assignable query is provided in the FIQL string, start anyway from root realm
             boolean isAssignableCond = -1 != anyQuery.getFiql().indexOf(SpecialAttr.ASSIGNABLE.toString());
 
-            SearchCond cond = getSearchCond(anyQuery.getFiql(), realm);
-            return buildPagedResult(
-                    getAnyLogic().search(
-                            cond,
-                            anyQuery.getPage(),
-                            anyQuery.getSize(),
-                            getOrderByClauses(anyQuery.getOrderBy()),
-                            isAssignableCond ? SyncopeConstants.ROOT_REALM : realm,
-                            anyQuery.getDetails()),
+            Pair<Integer, List<TO>> result = getAnyLogic().search(
+                    getSearchCond(anyQuery.getFiql(), realm),
                     anyQuery.getPage(),
                     anyQuery.getSize(),
-                    getAnyLogic().searchCount(cond, isAssignableCond ? SyncopeConstants.ROOT_REALM : realm));
+                    getOrderByClauses(anyQuery.getOrderBy()),
+                    isAssignableCond ? SyncopeConstants.ROOT_REALM : realm,
+                    anyQuery.getDetails(),
+                    projection,
+                    anyQuery.getCount());
+            return buildPagedResult(result.getRight(), anyQuery.getPage(), anyQuery.getSize(), result.getLeft());
         }
     }
 
@@ -319,97 +382,148 @@ public abstract class AbstractAnyService<TO extends AnyTO, P extends AnyPatch>
         return modificationResponse(result);
     }
 
-    @Override
-    public Response bulk(final BulkAction bulkAction) {
-        AbstractAnyLogic<TO, P> logic = getAnyLogic();
+    /**
+     * Operation performed by bulk actions on each target.
+     */
+    protected interface BulkOperation {
+
+        /**
+         * @param key target key
+         * @return key of the any object the operation was performed on
+         */
+        String execute(String key);
+    }
+
+    /**
+     * Performs the given operation on all targets: targets are split into chunks, executed in parallel by
+     * {@code bulkActionExecutor}, each target still going through its own logic invocation (and thus its own
+     * transaction, audit and notification), so that a failure only affects the related target.
+     * Repeated targets are considered once, not to run the same operation on the same target concurrently.
+     *
+     * @param targets bulk action targets
+     * @param operation operation to perform
+     * @param action bulk action, for logging
+     * @return outcome for each target
+     */
+    protected BulkActionResult bulk(
+            final List<String> targets, final BulkOperation operation, final BulkAction.Type action) {
+
+        final SecurityContext securityContext = SecurityContextHolder.getContext();
+
+        Map<List<String>, Future<Map<String, BulkActionResult.Status>>> chunks = new LinkedHashMap<>();
+        for (final List<String> chunk : ListUtils.partition(
+                new ArrayList<>(new LinkedHashSet<>(targets)), Math.max(bulkActionChunkSize, 1))) {
+            chunks.put(chunk, bulkActionExecutor.submit(new Callable<Map<String, BulkActionResult.Status>>() {
+
+                @Override
+                public Map<String, BulkActionResult.Status> call() {
+                    // when run by the caller, the security context is already in place
+                    boolean worker = SecurityContextHolder.getContext() != securityContext;
+                    if (worker) {
+                        SecurityContextHolder.setContext(securityContext);
+                    }
+                    try {
+                        Map<String, BulkActionResult.Status> results = new LinkedHashMap<>(chunk.size());
+                        for (String key : chunk) {
+                            try {
+                                results.put(operation.execute(key), BulkActionResult.Status.SUCCESS);
+                            } catch (Exception e) {
+                                LOG.error("Error performing {} for {}", action, key, e);
+                                results.put(key, BulkActionResult.Status.FAILURE);
+                            }
+                        }
+                        return results;
+                    } finally {
+                        if (worker) {
+                            SecurityContextHolder.clearContext();
+                        }
+                    }
+                }
+            }));
+        }
 
         BulkActionResult result = new BulkActionResult();
+        for (Map.Entry<List<String>, Future<Map<String, BulkActionResult.Status>>> chunk : chunks.entrySet()) {
+            try {
+                result.getResults().putAll(chunk.getValue().get());
+            } catch (InterruptedException | ExecutionException e) {
+                LOG.error("Error performing {} for {}", action, chunk.getKey(), e);
+                for (String key : chunk.getKey()) {
+                    if (!result.getResults().containsKey(key)) {
+                        result.getResults().put(key, BulkActionResult.Status.FAILURE);
+                    }
+                }
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+        return result;
+    }
 
+    @Override
+    public Response bulk(final BulkAction bulkAction) {
+        final AbstractAnyLogic<TO, P> logic = getAnyLogic();
+        final boolean nullPriorityAsync = isNullPriorityAsync();
+
+        BulkOperation operation;
         switch (bulkAction.getType()) {
             case MUSTCHANGEPASSWORD:
-                if (logic instanceof UserLogic) {
-                    for (String key : bulkAction.getTargets()) {
-                        try {
-                            final UserPatch userPatch = new UserPatch();
-                            userPatch.setKey(key);
-                            userPatch.setMustChangePassword(new BooleanReplacePatchItem.Builder().value(true).build());
-
-                            result.getResults().put(
-                                    ((UserLogic) logic).update(userPatch, false).getEntity().getKey(),
-                                    BulkActionResult.Status.SUCCESS);
-                        } catch (Exception e) {
-                            LOG.error("Error performing delete for user {}", key, e);
-                            result.getResults().put(key, BulkActionResult.Status.FAILURE);
-                        }
-                    }
-                } else {
+                if (!(logic instanceof UserLogic)) {
                     throw new BadRequestException();
                 }
+                operation = new BulkOperation() {
+
+                    @Override
+                    public String execute(final String key) {
+                        UserPatch userPatch = new UserPatch();
+                        userPatch.setKey(key);
+                        userPatch.setMustChangePassword(new BooleanReplacePatchItem.Builder().value(true).build());
+
+                        return ((UserLogic) logic).update(userPatch, false).getEntity().getKey();
+                    }
+                };
                 break;
 
             case DELETE:
-                for (String key : bulkAction.getTargets()) {
-                    try {
-                        result.getResults().put(
-                                logic.delete(key, isNullPriorityAsync()).getEntity().getKey(),
-                                BulkActionResult.Status.SUCCESS);
-                    } catch (Exception e) {
-                        LOG.error("Error performing delete for user {}", key, e);
-                        result.getResults().put(key, BulkActionResult.Status.FAILURE);
+                operation = new BulkOperation() {
+
+                    @Override
+                    public String execute(final String key) {
+                        return logic.delete(key, nullPriorityAsync).getEntity().getKey();
                     }
-                }
+                };
                 break;
 
             case SUSPEND:
-                if (logic instanceof UserLogic) {
-                    for (String key : bulkAction.getTargets()) {
-                        StatusPatch statusPatch = new StatusPatch();
-                        statusPatch.setKey(key);
-                        statusPatch.setType(StatusPatchType.SUSPEND);
-                        statusPatch.setOnSyncope(true);
-
-                        try {
-                            result.getResults().put(
-                                    ((UserLogic) logic).
-                                    status(statusPatch, isNullPriorityAsync()).getEntity().getKey(),
-                                    BulkActionResult.Status.SUCCESS);
-                        } catch (Exception e) {
-                            LOG.error("Error performing suspend for user {}", key, e);
-                            result.getResults().put(key, BulkActionResult.Status.FAILURE);
-                        }
-                    }
-                } else {
+            case REACTIVATE:
+                if (!(logic instanceof UserLogic)) {
                     throw new BadRequestException();
                 }
-                break;
+                final StatusPatchType statusPatchType = bulkAction.getType() == BulkAction.Type.SUSPEND
+                        ? StatusPatchType.SUSPEND
+                        : StatusPatchType.REACTIVATE;
+                operation = new BulkOperation() {
 
-            case REACTIVATE:
-                if (logic instanceof UserLogic) {
-                    for (String key : bulkAction.getTargets()) {
+                    @Override
+                    public String execute(final String key) {
                         StatusPatch statusPatch = new StatusPatch();
                         statusPatch.setKey(key);
-                        statusPatch.setType(StatusPatchType.REACTIVATE);
+                        statusPatch.setType(statusPatchType);
                         statusPatch.setOnSyncope(true);
 
-                        try {
-                            result.getResults().put(
-                                    ((UserLogic) logic).
-                                    status(statusPatch, isNullPriorityAsync()).getEntity().getKey(),
-                                    BulkActionResult.Status.SUCCESS);
-                        } catch (Exception e) {
-                            LOG.error("Error performing reactivate for user {}", key, e);
-                            result.getResults().put(key, BulkActionResult.Status.FAILURE);
-                        }
+                        return ((UserLogic) logic).status(statusPatch, nullPriorityAsync).getEntity().getKey();
                     }
-                } else {
-                    throw new BadRequestException();
-                }
+                };
                 break;
 
             default:
+                operation = null;
         }
 
-        return modificationResponse(result);
+        return modificationResponse(operation == null
+                ? new BulkActionResult()
+                : bulk(bulkAction.getTargets(), operation, bulkAction.getType()));
     }
 
 }
@@ -20,8 +20,10 @@ package org.apache.syncope.core.rest.cxf.service;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.MultivaluedMap;
@@ -148,6 +150,23 @@ abstract class AbstractServiceImpl implements JAXRSService {
         }
     }
 
+    /**
+     * Stops request processing with <tt>304 Not Modified</tt> if the <tt>If-None-Match</tt> header value matches the
+     * ETag that would be computed for the given date, so that no transfer object needs to be built.
+     *
+     * @param lastChange last change date (or creation date if not available) of the requested entity
+     */
+    protected void checkNotModified(final Date lastChange) {
+        Response.ResponseBuilder builder = messageContext.getRequest().evaluatePreconditions(
+                new EntityTag(String.valueOf(lastChange.getTime())));
+        if (builder != null) {
+            Response response = builder.build();
+            if (response.getStatus() == Response.Status.NOT_MODIFIED.getStatusCode()) {
+                throw new WebApplicationException(response);
+            }
+        }
+    }
+
     protected SearchCond getSearchCond(final String fiql, final String realm) {
         try {
             SearchCondVisitor visitor = new SearchCondVisitor();
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.rest.cxf.service;
+
+import java.util.Date;
+import javax.ws.rs.core.Response;
+import org.apache.commons.lang3.time.DateFormatUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.syncope.common.lib.SyncopeClientException;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.types.ClientExceptionType;
+import org.apache.syncope.common.rest.api.RESTHeaders;
+import org.apache.syncope.common.rest.api.service.AccessTokenService;
+import org.apache.syncope.core.logic.AccessTokenLogic;
+import org.apache.syncope.core.spring.security.AccessTokenFilter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+@Service
+public class AccessTokenServiceImpl extends AbstractServiceImpl implements AccessTokenService {
+
+    @Autowired
+    private AccessTokenLogic logic;
+
+    @Override
+    public Response login() {
+        // tokens can only be obtained by presenting credentials, not by presenting another token
+        if (AccessTokenFilter.getToken(messageContext.getHttpServletRequest()) != null) {
+            SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.AccessToken);
+            sce.getElements().add("Access tokens cannot be obtained via access token");
+            throw sce;
+        }
+
+        Pair<String, Date> token = logic.login();
+        return Response.noContent().
+                header(RESTHeaders.TOKEN, token.getLeft()).
+                header(RESTHeaders.TOKEN_EXPIRE,
+                        DateFormatUtils.format(token.getRight(), SyncopeConstants.DEFAULT_DATE_PATTERN)).
+                build();
+    }
+
+    @Override
+    public void logout() {
+        String token = AccessTokenFilter.getToken(messageContext.getHttpServletRequest());
+        if (token == null) {
+            SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.InvalidValues);
+            sce.getElements().add("No access token provided");
+            throw sce;
+        }
+
+        logic.logout(token);
+    }
+}
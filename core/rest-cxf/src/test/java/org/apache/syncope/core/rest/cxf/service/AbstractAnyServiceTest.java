@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.rest.cxf.service;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.syncope.common.lib.patch.UserPatch;
+import org.apache.syncope.common.lib.to.BulkAction;
+import org.apache.syncope.common.lib.to.BulkActionResult;
+import org.apache.syncope.common.lib.to.UserTO;
+import org.apache.syncope.core.logic.AbstractAnyLogic;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+public class AbstractAnyServiceTest {
+
+    private ThreadPoolTaskExecutor executor;
+
+    private AbstractAnyService<UserTO, UserPatch> service;
+
+    @Before
+    public void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.initialize();
+
+        service = new AbstractAnyService<UserTO, UserPatch>() {
+
+            @Override
+            protected AbstractAnyLogic<UserTO, UserPatch> getAnyLogic() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            protected UserPatch newPatch(final String key) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        service.bulkActionExecutor = executor;
+        service.bulkActionChunkSize = 2;
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void bulk() {
+        final Map<String, AtomicInteger> executions = new ConcurrentHashMap<>();
+
+        BulkActionResult result = service.bulk(
+                Arrays.asList("a", "b", "fail", "c", "a", "d", "b"),
+                new AbstractAnyService.BulkOperation() {
+
+            @Override
+            public String execute(final String key) {
+                executions.putIfAbsent(key, new AtomicInteger());
+                executions.get(key).incrementAndGet();
+
+                if ("fail".equals(key)) {
+                    throw new IllegalStateException("Failing on purpose");
+                }
+                return key;
+            }
+        }, BulkAction.Type.DELETE);
+
+        // repeated targets are executed once
+        List<String> targets = new ArrayList<>(result.getResults().keySet());
+        Collections.sort(targets);
+        assertEquals(Arrays.asList("a", "b", "c", "d", "fail"), targets);
+        assertEquals(5, executions.size());
+        for (AtomicInteger count : executions.values()) {
+            assertEquals(1, count.get());
+        }
+
+        // a failing target does not affect the others, even in the same chunk
+        List<String> failed = result.getResultByStatus(BulkActionResult.Status.FAILURE);
+        assertEquals(Collections.singletonList("fail"), failed);
+        assertEquals(4, result.getResultByStatus(BulkActionResult.Status.SUCCESS).size());
+    }
+}
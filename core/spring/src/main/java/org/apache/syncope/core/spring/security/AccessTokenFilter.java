@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.spring.security;
+
+import java.io.IOException;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Authenticates requests bearing an access token issued by {@link AccessTokenManager}; other requests are left to
+ * HTTP Basic authentication.
+ *
+ * @see AccessTokenFilterFactoryBean
+ */
+public class AccessTokenFilter extends OncePerRequestFilter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AccessTokenFilter.class);
+
+    private static final String BEARER = "Bearer ";
+
+    private AccessTokenManager accessTokenManager;
+
+    private AuthenticationEntryPoint authenticationEntryPoint;
+
+    public void setAccessTokenManager(final AccessTokenManager accessTokenManager) {
+        this.accessTokenManager = accessTokenManager;
+    }
+
+    public void setAuthenticationEntryPoint(final AuthenticationEntryPoint authenticationEntryPoint) {
+        this.authenticationEntryPoint = authenticationEntryPoint;
+    }
+
+    public static String getToken(final HttpServletRequest request) {
+        String header = request.getHeader("Authorization");
+        return header != null && header.startsWith(BEARER)
+                ? StringUtils.trimToNull(header.substring(BEARER.length()))
+                : null;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request, final HttpServletResponse response, final FilterChain chain)
+            throws ServletException, IOException {
+
+        String token = getToken(request);
+        if (token != null) {
+            try {
+                SecurityContextHolder.getContext().setAuthentication(accessTokenManager.verify(token));
+            } catch (AuthenticationException e) {
+                LOG.debug("Access token rejected", e);
+
+                SecurityContextHolder.clearContext();
+                authenticationEntryPoint.commence(request, response, e);
+                return;
+            }
+        }
+
+        chain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.spring.security;
+
+import javax.servlet.Filter;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.web.filter.CompositeFilter;
+
+/**
+ * Provides {@link AccessTokenFilter} only when access tokens are enabled, e.g. a signing key is configured; an empty,
+ * pass-through filter otherwise, so that bearer tokens are not considered at all.
+ */
+public class AccessTokenFilterFactoryBean implements FactoryBean<Filter> {
+
+    private AccessTokenManager accessTokenManager;
+
+    private AuthenticationEntryPoint authenticationEntryPoint;
+
+    public void setAccessTokenManager(final AccessTokenManager accessTokenManager) {
+        this.accessTokenManager = accessTokenManager;
+    }
+
+    public void setAuthenticationEntryPoint(final AuthenticationEntryPoint authenticationEntryPoint) {
+        this.authenticationEntryPoint = authenticationEntryPoint;
+    }
+
+    @Override
+    public Filter getObject() {
+        if (!accessTokenManager.isEnabled()) {
+            return new CompositeFilter();
+        }
+
+        AccessTokenFilter filter = new AccessTokenFilter();
+        filter.setAccessTokenManager(accessTokenManager);
+        filter.setAuthenticationEntryPoint(authenticationEntryPoint);
+        return filter;
+    }
+
+    @Override
+    public Class<?> getObjectType() {
+        return Filter.class;
+    }
+
+    @Override
+    public boolean isSingleton() {
+        return true;
+    }
+}
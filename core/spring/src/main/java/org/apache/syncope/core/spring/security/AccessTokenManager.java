@@ -0,0 +1,313 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.spring.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.syncope.core.persistence.api.dao.RevokedAccessTokenDAO;
+import org.apache.syncope.core.persistence.api.entity.EntityFactory;
+import org.apache.syncope.core.persistence.api.entity.RevokedAccessToken;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.CredentialsExpiredException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * Issues and verifies signed, expiring access tokens carrying username, domain and granted authorities, so that
+ * requests bearing them can be authenticated with a signature check and an in-memory lookup among revoked tokens,
+ * without any database access.
+ * Revoked tokens are stored in the token's domain until their expiration, and periodically reloaded from there so
+ * that revocations made on other nodes are eventually seen.
+ * Access tokens are enabled only when a signing key is configured.
+ */
+public class AccessTokenManager {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AccessTokenManager.class);
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private static final String ID = "jti";
+
+    private static final String SUBJECT = "sub";
+
+    private static final String DOMAIN = "dom";
+
+    private static final String EXPIRATION = "exp";
+
+    private static final String AUTHORIZATIONS = "ent";
+
+    /**
+     * Ids of revoked access tokens, with their expiration, for a given domain.
+     */
+    private static class DenyList {
+
+        private final ConcurrentMap<String, Long> revoked = new ConcurrentHashMap<>();
+
+        private volatile long nextRefresh;
+    }
+
+    @Autowired
+    protected RevokedAccessTokenDAO revokedAccessTokenDAO;
+
+    @Autowired
+    protected EntityFactory entityFactory;
+
+    private SecretKeySpec signingKey;
+
+    private long ttl = 3600;
+
+    private long revokedRefresh = 30;
+
+    private final ConcurrentMap<String, DenyList> denyLists = new ConcurrentHashMap<>();
+
+    /**
+     * @param signingKey key used to sign tokens; must be the same on all nodes, blank disables access tokens
+     */
+    public void setSigningKey(final String signingKey) {
+        this.signingKey = StringUtils.isBlank(signingKey)
+                ? null
+                : new SecretKeySpec(signingKey.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    /**
+     * @return whether access tokens can be issued and verified, e.g. a signing key is configured
+     */
+    public boolean isEnabled() {
+        return signingKey != null;
+    }
+
+    /**
+     * @param ttl validity of issued tokens, in seconds
+     */
+    public void setTtl(final long ttl) {
+        this.ttl = ttl;
+    }
+
+    /**
+     * @param revokedRefresh seconds after which revoked tokens are reloaded, to see revocations made on other nodes
+     */
+    public void setRevokedRefresh(final long revokedRefresh) {
+        this.revokedRefresh = revokedRefresh;
+    }
+
+    private DenyList getDenyList(final String domain) {
+        DenyList denyList = denyLists.get(domain);
+        if (denyList == null) {
+            denyList = new DenyList();
+            DenyList existing = denyLists.putIfAbsent(domain, denyList);
+            if (existing != null) {
+                denyList = existing;
+            }
+        }
+        return denyList;
+    }
+
+    /**
+     * Merges the revoked tokens stored in the given domain into its deny-list, if due, and drops expired entries;
+     * revocations are never undone, so merging cannot lose those made meanwhile on this node.
+     *
+     * @param domain domain
+     * @return deny-list for the given domain
+     */
+    private DenyList refresh(final String domain) {
+        DenyList denyList = getDenyList(domain);
+        if (denyList.nextRefresh > System.currentTimeMillis()) {
+            return denyList;
+        }
+
+        synchronized (denyList) {
+            long now = System.currentTimeMillis();
+            if (denyList.nextRefresh <= now) {
+                List<RevokedAccessToken> stored = AuthContextUtils.execWithAuthContext(
+                        domain, new AuthContextUtils.Executable<List<RevokedAccessToken>>() {
+
+                    @Override
+                    public List<RevokedAccessToken> exec() {
+                        return revokedAccessTokenDAO.findNotExpired();
+                    }
+                });
+                for (RevokedAccessToken revokedAccessToken : stored) {
+                    denyList.revoked.put(revokedAccessToken.getKey(), revokedAccessToken.getExpiryTime().getTime());
+                }
+                for (Iterator<Map.Entry<String, Long>> itor = denyList.revoked.entrySet().iterator();
+                        itor.hasNext();) {
+
+                    if (itor.next().getValue() < now) {
+                        itor.remove();
+                    }
+                }
+
+                denyList.nextRefresh = now + TimeUnit.SECONDS.toMillis(revokedRefresh);
+            }
+        }
+
+        return denyList;
+    }
+
+    private byte[] sign(final String payload) {
+        if (signingKey == null) {
+            throw new IllegalStateException("Access tokens are not enabled: no signing key configured");
+        }
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(signingKey);
+            return mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not sign access token", e);
+        }
+    }
+
+    /**
+     * Issues a new access token.
+     *
+     * @param username username
+     * @param domain domain
+     * @param authorities granted authorities
+     * @return signed access token and its expiration
+     */
+    public Pair<String, Date> issue(
+            final String username, final String domain, final Collection<? extends GrantedAuthority> authorities) {
+
+        Map<String, List<String>> authorizations = new LinkedHashMap<>();
+        for (GrantedAuthority authority : authorities) {
+            authorizations.put(authority.getAuthority(), authority instanceof SyncopeGrantedAuthority
+                    ? new ArrayList<>(SyncopeGrantedAuthority.class.cast(authority).getRealms())
+                    : new ArrayList<String>());
+        }
+
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put(ID, UUID.randomUUID().toString());
+        claims.put(SUBJECT, username);
+        claims.put(DOMAIN, domain);
+        Date expiration = new Date(System.currentTimeMillis() + ttl * 1000);
+        claims.put(EXPIRATION, expiration.getTime());
+        claims.put(AUTHORIZATIONS, authorizations);
+
+        String payload = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                POJOHelper.serialize(claims).getBytes(StandardCharsets.UTF_8));
+        return ImmutablePair.of(
+                payload + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(sign(payload)), expiration);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> parse(final String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0) {
+            throw new BadCredentialsException("Malformed access token");
+        }
+        String payload = token.substring(0, dot);
+
+        byte[] signature;
+        Map<String, Object> claims;
+        try {
+            signature = Base64.getUrlDecoder().decode(token.substring(dot + 1));
+            claims = POJOHelper.deserialize(
+                    new String(Base64.getUrlDecoder().decode(payload), StandardCharsets.UTF_8), Map.class);
+        } catch (IllegalArgumentException e) {
+            throw new BadCredentialsException("Malformed access token", e);
+        }
+        if (!MessageDigest.isEqual(sign(payload), signature) || claims == null) {
+            throw new BadCredentialsException("Invalid access token signature");
+        }
+
+        if (((Number) claims.get(EXPIRATION)).longValue() < System.currentTimeMillis()) {
+            throw new CredentialsExpiredException("Access token expired");
+        }
+        if (refresh((String) claims.get(DOMAIN)).revoked.containsKey((String) claims.get(ID))) {
+            throw new CredentialsExpiredException("Access token revoked");
+        }
+
+        return claims;
+    }
+
+    /**
+     * Verifies the given access token.
+     *
+     * @param token access token
+     * @return authentication carried by the given access token
+     * @throws org.springframework.security.core.AuthenticationException if the token is malformed, invalid, expired
+     * or revoked
+     */
+    @SuppressWarnings("unchecked")
+    public Authentication verify(final String token) {
+        Map<String, Object> claims = parse(token);
+
+        List<SyncopeGrantedAuthority> authorities = new ArrayList<>();
+        for (Map.Entry<String, List<String>> entry
+                : ((Map<String, List<String>>) claims.get(AUTHORIZATIONS)).entrySet()) {
+
+            SyncopeGrantedAuthority authority = new SyncopeGrantedAuthority(entry.getKey());
+            authority.addRealms(entry.getValue());
+            authorities.add(authority);
+        }
+
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                claims.get(SUBJECT), null, authorities);
+        authentication.setDetails(new SyncopeAuthenticationDetails((String) claims.get(DOMAIN)));
+        return authentication;
+    }
+
+    /**
+     * Prevents the given access token to be used any further; revoked tokens already expired are removed.
+     * To be invoked within a transaction on the current domain, which must be the one of the given token.
+     *
+     * @param token access token
+     */
+    public void revoke(final String token) {
+        Map<String, Object> claims = parse(token);
+        if (!AuthContextUtils.getDomain().equals(claims.get(DOMAIN))) {
+            throw new BadCredentialsException("Access token not issued for domain " + AuthContextUtils.getDomain());
+        }
+
+        getDenyList((String) claims.get(DOMAIN)).revoked.put(
+                (String) claims.get(ID), ((Number) claims.get(EXPIRATION)).longValue());
+
+        int expired = revokedAccessTokenDAO.deleteExpired();
+        LOG.debug("{} expired revoked access tokens removed", expired);
+
+        RevokedAccessToken revokedAccessToken = entityFactory.newEntity(RevokedAccessToken.class);
+        revokedAccessToken.setKey((String) claims.get(ID));
+        revokedAccessToken.setExpiryTime(new Date(((Number) claims.get(EXPIRATION)).longValue()));
+        revokedAccessTokenDAO.save(revokedAccessToken);
+        LOG.debug("Access token {} for {} revoked", claims.get(ID), claims.get(SUBJECT));
+    }
+}
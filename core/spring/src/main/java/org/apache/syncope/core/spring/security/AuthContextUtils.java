@@ -109,6 +109,8 @@ public final class AuthContextUtils {
 
     public static <T> T execWithAuthContext(final String domainKey, final Executable<T> executable) {
         SecurityContext ctx = SecurityContextHolder.getContext();
+        // fake authentication goes in a new context, otherwise it would be left in the restored one
+        SecurityContextHolder.setContext(SecurityContextHolder.createEmptyContext());
         setFakeAuth(domainKey);
         try {
             return executable.exec();
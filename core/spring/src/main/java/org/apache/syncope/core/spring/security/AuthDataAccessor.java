@@ -170,6 +170,35 @@ public class AuthDataAccessor {
         return ImmutablePair.of(key, authenticated);
     }
 
+    /**
+     * Records a successful authentication served by {@link AuthenticationCache}, as
+     * {@link #authenticate(org.springframework.security.core.Authentication)} does; the user is not saved via
+     * {@link UserDAO}, which would discard the cached authentication.
+     *
+     * @param key user key
+     * @return {@code false} if the user was not found, {@code true} otherwise
+     */
+    @Transactional(noRollbackFor = DisabledException.class)
+    public boolean authenticated(final String key) {
+        User user = userDAO.find(key);
+        if (user == null) {
+            return false;
+        }
+
+        if (user.isSuspended() != null && user.isSuspended()) {
+            throw new DisabledException("User " + user.getUsername() + " is suspended");
+        }
+
+        if (confDAO.find("log.lastlogindate", Boolean.toString(true)).getValues().get(0).getBooleanValue()) {
+            user.setLastLoginDate(new Date());
+        }
+        if (user.getFailedLogins() != 0) {
+            user.setFailedLogins(0);
+        }
+
+        return true;
+    }
+
     protected boolean authenticate(final User user, final String password) {
         boolean authenticated = ENCRYPTOR.verify(password, user.getCipherAlgorithm(), user.getPassword());
         LOG.debug("{} authenticated on internal storage: {}", user.getUsername(), authenticated);
@@ -0,0 +1,231 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.spring.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Short-lived, size-bounded cache of successful authentications, keyed by domain and username; only a salted digest
+ * of the credentials is retained, so that a cached entry can be matched without verifying the password again nor
+ * rebuilding the granted authorities.
+ * Entries are invalidated when the related user is changed, and for the whole domain when roles, groups or realms are
+ * changed; invalidation is repeated after transaction completion, to discard any entry cached meanwhile.
+ */
+public final class AuthenticationCache {
+
+    private static final AuthenticationCache INSTANCE = new AuthenticationCache();
+
+    public static AuthenticationCache getInstance() {
+        return INSTANCE;
+    }
+
+    public static final class Entry {
+
+        private final String domain;
+
+        private final String userKey;
+
+        private final byte[] digest;
+
+        private final Collection<? extends GrantedAuthority> authorities;
+
+        private final long expiry;
+
+        Entry(
+                final String domain,
+                final String userKey,
+                final byte[] digest,
+                final Collection<? extends GrantedAuthority> authorities,
+                final long expiry) {
+
+            this.domain = domain;
+            this.userKey = userKey;
+            this.digest = digest;
+            this.authorities = authorities;
+            this.expiry = expiry;
+        }
+
+        public String getUserKey() {
+            return userKey;
+        }
+
+        public Collection<? extends GrantedAuthority> getAuthorities() {
+            return authorities;
+        }
+    }
+
+    private final byte[] salt = new byte[16];
+
+    private volatile long ttl;
+
+    private int maxSize;
+
+    private final Map<String, Entry> entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+
+        private static final long serialVersionUID = -3295136557823390565L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, Entry> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    private AuthenticationCache() {
+        new SecureRandom().nextBytes(salt);
+    }
+
+    /**
+     * @param ttl time to live of cached authentications, in seconds; 0 disables caching
+     */
+    public synchronized void setTtl(final long ttl) {
+        this.ttl = ttl * 1000;
+        entries.clear();
+    }
+
+    /**
+     * @param maxSize maximum number of cached authentications
+     */
+    public synchronized void setMaxSize(final int maxSize) {
+        this.maxSize = maxSize;
+        entries.clear();
+    }
+
+    private static String key(final String domain, final String username) {
+        return domain + "/" + username;
+    }
+
+    private byte[] digest(final String domain, final String username, final String credentials) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            md.update(salt);
+            md.update((domain + '\u0000' + username + '\u0000' + credentials).getBytes(StandardCharsets.UTF_8));
+            return md.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param domain domain
+     * @param username username
+     * @param credentials credentials
+     * @return previous, still valid authentication with the same credentials, or {@code null}
+     */
+    public Entry get(
+            final String domain, final String username, final String credentials) {
+
+        if (ttl <= 0) {
+            return null;
+        }
+
+        byte[] digest = digest(domain, username, credentials);
+        synchronized (this) {
+            String key = key(domain, username);
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiry < System.currentTimeMillis()) {
+                entries.remove(key);
+                return null;
+            }
+            return MessageDigest.isEqual(entry.digest, digest) ? entry : null;
+        }
+    }
+
+    public void put(
+            final String domain,
+            final String userKey,
+            final String username,
+            final String credentials,
+            final Collection<? extends GrantedAuthority> authorities) {
+
+        if (ttl <= 0) {
+            return;
+        }
+
+        byte[] digest = digest(domain, username, credentials);
+        synchronized (this) {
+            entries.put(key(domain, username), new Entry(
+                    domain,
+                    userKey,
+                    digest,
+                    Collections.unmodifiableList(new ArrayList<>(authorities)),
+                    System.currentTimeMillis() + ttl));
+        }
+    }
+
+    private synchronized void doInvalidate(final String domain, final String userKey) {
+        for (Iterator<Entry> itor = entries.values().iterator(); itor.hasNext();) {
+            Entry entry = itor.next();
+            if (entry.domain.equals(domain) && (userKey == null || userKey.equals(entry.userKey))) {
+                itor.remove();
+            }
+        }
+    }
+
+    private void invalidateNowAndAfterCompletion(final String domain, final String userKey) {
+        if (ttl <= 0) {
+            return;
+        }
+
+        doInvalidate(domain, userKey);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+
+                @Override
+                public void afterCompletion(final int status) {
+                    doInvalidate(domain, userKey);
+                }
+            });
+        }
+    }
+
+    /**
+     * Discards the cached authentications of the given user.
+     *
+     * @param domain domain
+     * @param userKey user key
+     */
+    public void invalidate(final String domain, final String userKey) {
+        invalidateNowAndAfterCompletion(domain, userKey);
+    }
+
+    /**
+     * Discards all the cached authentications for the given domain.
+     *
+     * @param domain domain
+     */
+    public void invalidate(final String domain) {
+        invalidateNowAndAfterCompletion(domain, null);
+    }
+}
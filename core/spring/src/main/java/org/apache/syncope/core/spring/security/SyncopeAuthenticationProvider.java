@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.spring.security;
 
+import java.util.Collection;
 import javax.annotation.Resource;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
@@ -36,6 +37,7 @@ import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetailsService;
 
 @Configurable
@@ -65,6 +67,8 @@ public class SyncopeAuthenticationProvider implements AuthenticationProvider {
 
     protected final Encryptor encryptor = Encryptor.getInstance();
 
+    protected final AuthenticationCache authenticationCache = AuthenticationCache.getInstance();
+
     /**
      * @param adminPassword the adminPassword to set
      */
@@ -90,6 +94,20 @@ public class SyncopeAuthenticationProvider implements AuthenticationProvider {
         this.userDetailsService = syncopeUserDetailsService;
     }
 
+    /**
+     * @param authenticationCacheTtl time to live of cached authentications, in seconds; 0 disables caching
+     */
+    public void setAuthenticationCacheTtl(final long authenticationCacheTtl) {
+        authenticationCache.setTtl(authenticationCacheTtl);
+    }
+
+    /**
+     * @param authenticationCacheMaxSize maximum number of cached authentications
+     */
+    public void setAuthenticationCacheMaxSize(final int authenticationCacheMaxSize) {
+        authenticationCache.setMaxSize(authenticationCacheMaxSize);
+    }
+
     @Override
     public Authentication authenticate(final Authentication authentication) {
         String domainKey = SyncopeAuthenticationDetails.class.cast(authentication.getDetails()).getDomain();
@@ -99,6 +117,8 @@ public class SyncopeAuthenticationProvider implements AuthenticationProvider {
         SyncopeAuthenticationDetails.class.cast(authentication.getDetails()).setDomain(domainKey);
 
         Boolean authenticated;
+        String userKey = null;
+        AuthenticationCache.Entry cached = null;
         if (anonymousUser.equals(authentication.getName())) {
             authenticated = authentication.getCredentials().toString().equals(anonymousKey);
         } else if (adminUser.equals(authentication.getName())) {
@@ -124,27 +144,43 @@ public class SyncopeAuthenticationProvider implements AuthenticationProvider {
                 });
             }
         } else {
-            final Pair<String, Boolean> authResult =
-                    AuthContextUtils.execWithAuthContext(domainKey, new Executable<Pair<String, Boolean>>() {
+            cached = authenticationCache.get(
+                    domainKey, authentication.getName(), authentication.getCredentials().toString());
+            if (cached == null) {
+                final Pair<String, Boolean> authResult =
+                        AuthContextUtils.execWithAuthContext(domainKey, new Executable<Pair<String, Boolean>>() {
+
+                            @Override
+                            public Pair<String, Boolean> exec() {
+                                return dataAccessor.authenticate(authentication);
+                            }
+                        });
+                userKey = authResult.getKey();
+                authenticated = authResult.getValue();
+                if (authenticated != null && !authenticated) {
+                    AuthContextUtils.execWithAuthContext(domainKey, new Executable<Void>() {
 
                         @Override
-                        public Pair<String, Boolean> exec() {
-                            return dataAccessor.authenticate(authentication);
+                        public Void exec() {
+                            provisioningManager.internalSuspend(authResult.getKey());
+                            return null;
                         }
                     });
-            authenticated = authResult.getValue();
-            if (authenticated != null && !authenticated) {
-                AuthContextUtils.execWithAuthContext(domainKey, new Executable<Void>() {
+                }
+            } else {
+                final String cachedUserKey = cached.getUserKey();
+                authenticated = AuthContextUtils.execWithAuthContext(domainKey, new Executable<Boolean>() {
 
                     @Override
-                    public Void exec() {
-                        provisioningManager.internalSuspend(authResult.getKey());
-                        return null;
+                    public Boolean exec() {
+                        return dataAccessor.authenticated(cachedUserKey);
                     }
                 });
             }
         }
 
+        final Collection<? extends GrantedAuthority> cachedAuthorities =
+                cached == null ? null : cached.getAuthorities();
         final boolean isAuthenticated = authenticated != null && authenticated;
         UsernamePasswordAuthenticationToken token;
         if (isAuthenticated) {
@@ -156,8 +192,10 @@ public class SyncopeAuthenticationProvider implements AuthenticationProvider {
                     UsernamePasswordAuthenticationToken token = new UsernamePasswordAuthenticationToken(
                             authentication.getPrincipal(),
                             null,
-                            userDetailsService.loadUserByUsername(authentication.getPrincipal().toString()).
-                            getAuthorities());
+                            cachedAuthorities == null
+                                    ? userDetailsService.loadUserByUsername(authentication.getPrincipal().toString()).
+                                    getAuthorities()
+                                    : cachedAuthorities);
                     token.setDetails(authentication.getDetails());
 
                     dataAccessor.audit(AuditElements.EventCategoryType.LOGIC,
@@ -173,6 +211,11 @@ public class SyncopeAuthenticationProvider implements AuthenticationProvider {
                 }
             });
 
+            if (userKey != null) {
+                authenticationCache.put(domainKey, userKey, authentication.getName(),
+                        authentication.getCredentials().toString(), token.getAuthorities());
+            }
+
             LOG.debug("User {} successfully authenticated, with entitlements {}",
                     authentication.getPrincipal(), token.getAuthorities());
         } else {
@@ -0,0 +1,296 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.spring.security;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.types.StandardEntitlement;
+import org.apache.syncope.core.persistence.api.dao.RevokedAccessTokenDAO;
+import org.apache.syncope.core.persistence.api.entity.EntityFactory;
+import org.apache.syncope.core.persistence.api.entity.RevokedAccessToken;
+import org.apache.syncope.core.spring.ApplicationContextProvider;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.CredentialsExpiredException;
+import org.springframework.security.core.Authentication;
+
+public class AccessTokenManagerTest {
+
+    @BeforeClass
+    public static void setUpContext() {
+        DefaultListableBeanFactory factory = new DefaultListableBeanFactory();
+        factory.registerSingleton("adminUser", "admin");
+        ApplicationContextProvider.setBeanFactory(factory);
+    }
+
+    /**
+     * Revoked access tokens, shared by all managers as if stored in the same domain.
+     */
+    private final Map<String, RevokedAccessToken> revoked = new HashMap<>();
+
+    /**
+     * Number of times revoked access tokens were loaded.
+     */
+    private int loads;
+
+    private static RevokedAccessToken revokedAccessToken() {
+        final Map<String, Object> properties = new HashMap<>();
+        return (RevokedAccessToken) Proxy.newProxyInstance(
+                RevokedAccessToken.class.getClassLoader(),
+                new Class<?>[] { RevokedAccessToken.class },
+                new InvocationHandler() {
+
+            @Override
+            public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+                switch (method.getName()) {
+                    case "setKey":
+                    case "setExpiryTime":
+                        properties.put(method.getName().substring(3), args[0]);
+                        return null;
+
+                    case "getKey":
+                    case "getExpiryTime":
+                        return properties.get(method.getName().substring(3));
+
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            }
+        });
+    }
+
+    private RevokedAccessTokenDAO revokedAccessTokenDAO() {
+        return (RevokedAccessTokenDAO) Proxy.newProxyInstance(
+                RevokedAccessTokenDAO.class.getClassLoader(),
+                new Class<?>[] { RevokedAccessTokenDAO.class },
+                new InvocationHandler() {
+
+            @Override
+            public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+                switch (method.getName()) {
+                    case "findNotExpired":
+                        loads++;
+                        List<RevokedAccessToken> notExpired = new ArrayList<>();
+                        for (RevokedAccessToken revokedAccessToken : revoked.values()) {
+                            if (!revokedAccessToken.getExpiryTime().before(new Date())) {
+                                notExpired.add(revokedAccessToken);
+                            }
+                        }
+                        return notExpired;
+
+                    case "save":
+                        RevokedAccessToken revokedAccessToken = (RevokedAccessToken) args[0];
+                        revoked.put(revokedAccessToken.getKey(), revokedAccessToken);
+                        return revokedAccessToken;
+
+                    case "deleteExpired":
+                        int deleted = 0;
+                        for (Iterator<RevokedAccessToken> itor = revoked.values().iterator(); itor.hasNext();) {
+                            if (itor.next().getExpiryTime().before(new Date())) {
+                                itor.remove();
+                                deleted++;
+                            }
+                        }
+                        return deleted;
+
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            }
+        });
+    }
+
+    private static EntityFactory entityFactory() {
+        return (EntityFactory) Proxy.newProxyInstance(
+                EntityFactory.class.getClassLoader(),
+                new Class<?>[] { EntityFactory.class },
+                new InvocationHandler() {
+
+            @Override
+            public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+                if ("newEntity".equals(method.getName()) && RevokedAccessToken.class.equals(args[0])) {
+                    return revokedAccessToken();
+                }
+                throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+
+    private AccessTokenManager manager(final String signingKey, final long ttl) {
+        AccessTokenManager manager = new AccessTokenManager();
+        manager.revokedAccessTokenDAO = revokedAccessTokenDAO();
+        manager.entityFactory = entityFactory();
+        manager.setSigningKey(signingKey);
+        manager.setTtl(ttl);
+        return manager;
+    }
+
+    private static void revoke(final AccessTokenManager manager, final String token) {
+        AuthContextUtils.execWithAuthContext("Two", new AuthContextUtils.Executable<Void>() {
+
+            @Override
+            public Void exec() {
+                manager.revoke(token);
+                return null;
+            }
+        });
+    }
+
+    private String issue(final AccessTokenManager manager) {
+        return manager.issue("user1", "Two", Collections.singletonList(
+                new SyncopeGrantedAuthority(StandardEntitlement.USER_READ, SyncopeConstants.ROOT_REALM))).getLeft();
+    }
+
+    @Test
+    public void issueAndVerify() {
+        AccessTokenManager manager = manager("signingKey", 60);
+        String token = issue(manager);
+
+        Authentication authentication = manager("signingKey", 60).verify(token);
+        assertEquals("user1", authentication.getName());
+        assertEquals("Two", SyncopeAuthenticationDetails.class.cast(authentication.getDetails()).getDomain());
+        assertEquals(1, authentication.getAuthorities().size());
+
+        SyncopeGrantedAuthority authority =
+                SyncopeGrantedAuthority.class.cast(authentication.getAuthorities().iterator().next());
+        assertEquals(StandardEntitlement.USER_READ, authority.getAuthority());
+        assertTrue(authority.getRealms().contains(SyncopeConstants.ROOT_REALM));
+    }
+
+    @Test(expected = BadCredentialsException.class)
+    public void otherSigningKey() {
+        manager("otherSigningKey", 60).verify(issue(manager("signingKey", 60)));
+    }
+
+    @Test(expected = BadCredentialsException.class)
+    public void tampered() {
+        String token = issue(manager("signingKey", 60));
+        String other = manager("signingKey", 60).issue("admin", "Two",
+                Collections.<SyncopeGrantedAuthority>emptyList()).getLeft();
+
+        manager("signingKey", 60).verify(
+                other.substring(0, other.indexOf('.')) + token.substring(token.indexOf('.')));
+    }
+
+    @Test(expected = BadCredentialsException.class)
+    public void malformed() {
+        manager("signingKey", 60).verify("notAToken");
+    }
+
+    @Test(expected = CredentialsExpiredException.class)
+    public void expired() {
+        AccessTokenManager manager = manager("signingKey", -1);
+        manager.verify(issue(manager));
+    }
+
+    @Test
+    public void revoke() {
+        AccessTokenManager manager = manager("signingKey", 60);
+        String token = issue(manager);
+        String other = issue(manager);
+
+        revoke(manager, token);
+        try {
+            manager.verify(token);
+            fail("This should not happen");
+        } catch (CredentialsExpiredException e) {
+            assertTrue(e.getMessage().contains("revoked"));
+        }
+        assertEquals("user1", manager.verify(other).getName());
+
+        // revocation is seen by other nodes
+        try {
+            manager("signingKey", 60).verify(token);
+            fail("This should not happen");
+        } catch (CredentialsExpiredException e) {
+            assertTrue(e.getMessage().contains("revoked"));
+        }
+    }
+
+    @Test
+    public void revokeRemovesExpired() {
+        AccessTokenManager expiring = manager("signingKey", 1);
+        String token = issue(expiring);
+        revoke(expiring, token);
+        revoked.values().iterator().next().setExpiryTime(new Date(System.currentTimeMillis() - 1000));
+
+        AccessTokenManager manager = manager("signingKey", 60);
+        revoke(manager, issue(manager));
+        assertEquals(1, revoked.size());
+    }
+
+    @Test
+    public void revokedInMemory() {
+        AccessTokenManager manager = manager("signingKey", 60);
+        AccessTokenManager otherNode = manager("signingKey", 60);
+        AccessTokenManager eagerNode = manager("signingKey", 60);
+        eagerNode.setRevokedRefresh(0);
+        String token = issue(manager);
+
+        for (int i = 0; i < 10; i++) {
+            otherNode.verify(token);
+        }
+        assertEquals(1, loads);
+        eagerNode.verify(token);
+
+        // not seen by the other node until its revoked tokens are reloaded
+        revoke(manager, token);
+        assertEquals("user1", otherNode.verify(token).getName());
+        try {
+            eagerNode.verify(token);
+            fail("This should not happen");
+        } catch (CredentialsExpiredException e) {
+            assertTrue(e.getMessage().contains("revoked"));
+        }
+    }
+
+    @Test(expected = BadCredentialsException.class)
+    public void revokeFromOtherDomain() {
+        AccessTokenManager manager = manager("signingKey", 60);
+        manager.revoke(issue(manager));
+    }
+
+    @Test
+    public void disabled() {
+        AccessTokenManager manager = manager("", 60);
+        assertFalse(manager.isEnabled());
+        try {
+            issue(manager);
+            fail("This should not happen");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage().contains("not enabled"));
+        }
+    }
+}
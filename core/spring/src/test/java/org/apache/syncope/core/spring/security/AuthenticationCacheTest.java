@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.spring.security;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.Collections;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.types.StandardEntitlement;
+import org.junit.After;
+import org.junit.Test;
+
+public class AuthenticationCacheTest {
+
+    private final AuthenticationCache cache = AuthenticationCache.getInstance();
+
+    @After
+    public void disable() {
+        cache.setTtl(0);
+    }
+
+    @Test
+    public void getAndInvalidate() {
+        cache.setMaxSize(2);
+        cache.setTtl(60);
+
+        cache.put(SyncopeConstants.MASTER_DOMAIN, "key1", "user1", "password", Collections.singletonList(
+                new SyncopeGrantedAuthority(StandardEntitlement.USER_READ, SyncopeConstants.ROOT_REALM)));
+        assertEquals(1, cache.get(SyncopeConstants.MASTER_DOMAIN, "user1", "password").getAuthorities().size());
+        assertNull(cache.get(SyncopeConstants.MASTER_DOMAIN, "user1", "wrong"));
+        assertNull(cache.get("Two", "user1", "password"));
+
+        cache.invalidate(SyncopeConstants.MASTER_DOMAIN, "key1");
+        assertNull(cache.get(SyncopeConstants.MASTER_DOMAIN, "user1", "password"));
+
+        cache.put(SyncopeConstants.MASTER_DOMAIN, "key1", "user1", "password",
+                Collections.<SyncopeGrantedAuthority>emptyList());
+        cache.put("Two", "key2", "user2", "password", Collections.<SyncopeGrantedAuthority>emptyList());
+        cache.invalidate("Two");
+        assertNotNull(cache.get(SyncopeConstants.MASTER_DOMAIN, "user1", "password"));
+        assertNull(cache.get("Two", "user2", "password"));
+
+        // size bound
+        cache.put("Two", "key2", "user2", "password", Collections.<SyncopeGrantedAuthority>emptyList());
+        cache.put("Two", "key3", "user3", "password", Collections.<SyncopeGrantedAuthority>emptyList());
+        assertNull(cache.get(SyncopeConstants.MASTER_DOMAIN, "user1", "password"));
+    }
+
+    @Test
+    public void disabled() {
+        cache.setTtl(0);
+        cache.put(SyncopeConstants.MASTER_DOMAIN, "key1", "user1", "password",
+                Collections.<SyncopeGrantedAuthority>emptyList());
+        assertNull(cache.get(SyncopeConstants.MASTER_DOMAIN, "user1", "password"));
+    }
+}
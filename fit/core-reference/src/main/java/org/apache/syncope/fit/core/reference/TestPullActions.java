@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.fit.core.reference;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.commons.collections4.IterableUtils;
 import org.apache.syncope.common.lib.patch.AnyPatch;
 import org.apache.syncope.common.lib.patch.AttrPatch;
@@ -37,7 +38,7 @@ import org.quartz.JobExecutionException;
  */
 public class TestPullActions extends DefaultPullActions {
 
-    private int counter = 0;
+    private final AtomicInteger counter = new AtomicInteger();
 
     @Override
     public SyncDelta beforeProvision(
@@ -60,7 +61,7 @@ public class TestPullActions extends DefaultPullActions {
                 any.getPlainAttrs().add(attrTO);
             }
             attrTO.getValues().clear();
-            attrTO.getValues().add(String.valueOf(counter++));
+            attrTO.getValues().add(String.valueOf(counter.getAndIncrement()));
         }
 
         return delta;
@@ -99,7 +100,7 @@ public class TestPullActions extends DefaultPullActions {
         }
 
         fullnamePatch.getAttrTO().getValues().clear();
-        fullnamePatch.getAttrTO().getValues().add(String.valueOf(counter++));
+        fullnamePatch.getAttrTO().getValues().add(String.valueOf(counter.getAndIncrement()));
 
         return delta;
     }
@@ -201,7 +201,7 @@ public class CLIITCase extends AbstractITCase {
                     String.valueOf(userKey1)));
             process1 = PROCESS_BUILDER.start();
             String result = IOUtils.toString(process1.getInputStream(), SyncopeConstants.DEFAULT_CHARSET);
-            assertTrue(result.contains("username: " + userService.read(userKey1).getUsername()));
+            assertTrue(result.contains("username: " + userService.read(userKey1, (String) null).getUsername()));
 
             PROCESS_BUILDER.command(getCommand(
                     new UserCommand().getClass().getAnnotation(Command.class).name(),
@@ -228,11 +228,11 @@ public class CLIITCase extends AbstractITCase {
             process3 = PROCESS_BUILDER.start();
             String result3 = IOUtils.toString(process3.getInputStream(), SyncopeConstants.DEFAULT_CHARSET);
             assertTrue(
-                    result3.contains("username: " + userService.read(userKey1).getUsername())
-                    && result3.contains("username: " + userService.read(userKey2).getUsername())
-                    && result3.contains("username: " + userService.read(userKey3).getUsername())
-                    && result3.contains("username: " + userService.read(userKey4).getUsername())
-                    && result3.contains("username: " + userService.read(userKey5).getUsername()));
+                    result3.contains("username: " + userService.read(userKey1, (String) null).getUsername())
+                    && result3.contains("username: " + userService.read(userKey2, (String) null).getUsername())
+                    && result3.contains("username: " + userService.read(userKey3, (String) null).getUsername())
+                    && result3.contains("username: " + userService.read(userKey4, (String) null).getUsername())
+                    && result3.contains("username: " + userService.read(userKey5, (String) null).getUsername()));
         } catch (IOException e) {
             fail(e.getMessage());
         } finally {
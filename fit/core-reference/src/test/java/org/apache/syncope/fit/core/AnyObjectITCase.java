@@ -113,7 +113,7 @@ public class AnyObjectITCase extends AbstractITCase {
         assertNotNull(deletedAnyObject);
 
         try {
-            anyObjectService.read(deletedAnyObject.getKey());
+            anyObjectService.read(deletedAnyObject.getKey(), (String) null);
         } catch (SyncopeClientException e) {
             assertEquals(Response.Status.NOT_FOUND, e.getType().getResponseStatus());
         }
@@ -134,7 +134,7 @@ public class AnyObjectITCase extends AbstractITCase {
 
     @Test
     public void read() {
-        AnyObjectTO anyObjectTO = anyObjectService.read("fc6dbc3a-6c07-4965-8781-921e7401a4a5");
+        AnyObjectTO anyObjectTO = anyObjectService.read("fc6dbc3a-6c07-4965-8781-921e7401a4a5", (String) null);
         assertNotNull(anyObjectTO);
         assertNotNull(anyObjectTO.getPlainAttrs());
         assertFalse(anyObjectTO.getPlainAttrs().isEmpty());
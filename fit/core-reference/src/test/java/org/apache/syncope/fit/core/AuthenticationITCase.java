@@ -91,7 +91,7 @@ public class AuthenticationITCase extends AbstractITCase {
     private DataSource testDataSource;
 
     private int getFailedLogins(final UserService userService, final String userKey) {
-        UserTO readUserTO = userService.read(userKey);
+        UserTO readUserTO = userService.read(userKey, (String) null);
         assertNotNull(readUserTO);
         assertNotNull(readUserTO.getFailedLogins());
         return readUserTO.getFailedLogins();
@@ -186,13 +186,13 @@ public class AuthenticationITCase extends AbstractITCase {
         UserService userService2 = clientFactory.create(userTO.getUsername(), "password123").
                 getService(UserService.class);
 
-        UserTO readUserTO = userService2.read("1417acbe-cbf6-4277-9372-e75e04f97000");
+        UserTO readUserTO = userService2.read("1417acbe-cbf6-4277-9372-e75e04f97000", (String) null);
         assertNotNull(readUserTO);
 
         UserService userService3 = clientFactory.create("puccini", ADMIN_PWD).getService(UserService.class);
 
         try {
-            userService3.read("b3cbc78d-32e6-4bd4-92e0-bbe07566a2ee");
+            userService3.read("b3cbc78d-32e6-4bd4-92e0-bbe07566a2ee", (String) null);
             fail();
         } catch (SyncopeClientException e) {
             assertNotNull(e);
@@ -313,7 +313,7 @@ public class AuthenticationITCase extends AbstractITCase {
             delegatedUserService.delete(user.getKey());
 
             try {
-                userService.read(user.getKey());
+                userService.read(user.getKey(), (String) null);
                 fail();
             } catch (SyncopeClientException e) {
                 assertEquals(ClientExceptionType.NotFound, e.getType());
@@ -376,7 +376,7 @@ public class AuthenticationITCase extends AbstractITCase {
         // last authentication before suspension
         assertReadFails(badPwdClient);
 
-        userTO = userService.read(userTO.getKey());
+        userTO = userService.read(userTO.getKey(), (String) null);
         assertNotNull(userTO);
         assertNotNull(userTO.getFailedLogins());
         assertEquals(3, userTO.getFailedLogins(), 0);
@@ -459,7 +459,7 @@ public class AuthenticationITCase extends AbstractITCase {
         role.getEntitlements().add(anyTypeKey + "_CREATE");
         role = createRole(role);
 
-        UserTO bellini = userService.read("bellini");
+        UserTO bellini = userService.read("bellini", (String) null);
         UserPatch patch = new UserPatch();
         patch.setKey(bellini.getKey());
         patch.getRoles().add(new StringPatchItem.Builder().
@@ -554,7 +554,7 @@ public class AuthenticationITCase extends AbstractITCase {
     public void issueSYNCOPE706() {
         String username = getUUIDString();
         try {
-            userService.read(username);
+            userService.read(username, (String) null);
             fail();
         } catch (SyncopeClientException e) {
             assertEquals(ClientExceptionType.NotFound, e.getType());
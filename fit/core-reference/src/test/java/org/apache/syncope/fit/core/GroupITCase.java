@@ -166,7 +166,7 @@ public class GroupITCase extends AbstractITCase {
         assertNotNull(deletedGroup);
 
         try {
-            groupService.read(deletedGroup.getKey());
+            groupService.read(deletedGroup.getKey(), (String) null);
         } catch (SyncopeClientException e) {
             assertEquals(Response.Status.NOT_FOUND, e.getType().getResponseStatus());
         }
@@ -185,7 +185,7 @@ public class GroupITCase extends AbstractITCase {
 
     @Test
     public void read() {
-        GroupTO groupTO = groupService.read("37d15e4c-cdc1-460b-a591-8505c8133806");
+        GroupTO groupTO = groupService.read("37d15e4c-cdc1-460b-a591-8505c8133806", (String) null);
 
         assertNotNull(groupTO);
         assertNotNull(groupTO.getPlainAttrs());
@@ -194,7 +194,7 @@ public class GroupITCase extends AbstractITCase {
 
     @Test
     public void selfRead() {
-        UserTO userTO = userService.read("1417acbe-cbf6-4277-9372-e75e04f97000");
+        UserTO userTO = userService.read("1417acbe-cbf6-4277-9372-e75e04f97000", (String) null);
         assertNotNull(userTO);
 
         assertTrue(userTO.getMembershipMap().containsKey("37d15e4c-cdc1-460b-a591-8505c8133806"));
@@ -203,7 +203,7 @@ public class GroupITCase extends AbstractITCase {
         GroupService groupService2 = clientFactory.create("rossini", ADMIN_PWD).getService(GroupService.class);
 
         try {
-            groupService2.read("29f96485-729e-4d31-88a1-6fc60e4677f3");
+            groupService2.read("29f96485-729e-4d31-88a1-6fc60e4677f3", (String) null);
             fail();
         } catch (SyncopeClientException e) {
             assertEquals(ClientExceptionType.DelegatedAdministration, e.getType());
@@ -262,7 +262,7 @@ public class GroupITCase extends AbstractITCase {
         updated.getPlainAttrs().add(new AttrTO.Builder().schema("rderived_dx").value("dx").build());
         updated.getPlainAttrs().add(new AttrTO.Builder().schema("title").value("mr").build());
 
-        original = groupService.read(updated.getKey());
+        original = groupService.read(updated.getKey(), (String) null);
 
         GroupPatch patch = AnyOperations.diff(updated, original, true);
         GroupTO group = updateGroup(patch).getEntity();
@@ -278,7 +278,7 @@ public class GroupITCase extends AbstractITCase {
     @Test
     public void updateAsGroupOwner() {
         // 1. read group as admin
-        GroupTO groupTO = groupService.read("ebf97068-aa4b-4a85-9f01-680e8c4cf227");
+        GroupTO groupTO = groupService.read("ebf97068-aa4b-4a85-9f01-680e8c4cf227", (String) null);
 
         // issue SYNCOPE-15
         assertNotNull(groupTO.getCreationDate());
@@ -332,7 +332,7 @@ public class GroupITCase extends AbstractITCase {
 
         assertNotNull(groupService.deassociate(deassociationPatch).readEntity(BulkActionResult.class));
 
-        actual = groupService.read(actual.getKey());
+        actual = groupService.read(actual.getKey(), (String) null);
         assertNotNull(actual);
         assertTrue(actual.getResources().isEmpty());
 
@@ -361,7 +361,7 @@ public class GroupITCase extends AbstractITCase {
 
         assertNotNull(groupService.associate(associationPatch).readEntity(BulkActionResult.class));
 
-        actual = groupService.read(actual.getKey());
+        actual = groupService.read(actual.getKey(), (String) null);
         assertFalse(actual.getResources().isEmpty());
 
         try {
@@ -390,7 +390,7 @@ public class GroupITCase extends AbstractITCase {
 
             assertNotNull(groupService.deassociate(deassociationPatch).readEntity(BulkActionResult.class));
 
-            groupTO = groupService.read(groupTO.getKey());
+            groupTO = groupService.read(groupTO.getKey(), (String) null);
             assertNotNull(groupTO);
             assertTrue(groupTO.getResources().isEmpty());
 
@@ -430,7 +430,7 @@ public class GroupITCase extends AbstractITCase {
 
             assertNotNull(groupService.associate(associationPatch).readEntity(BulkActionResult.class));
 
-            groupTO = groupService.read(groupTO.getKey());
+            groupTO = groupService.read(groupTO.getKey(), (String) null);
             assertFalse(groupTO.getResources().isEmpty());
             assertNotNull(resourceService.readConnObject(
                     RESOURCE_NAME_LDAP, AnyTypeKind.GROUP.name(), groupTO.getKey()));
@@ -459,7 +459,7 @@ public class GroupITCase extends AbstractITCase {
 
             assertNotNull(groupService.deassociate(deassociationPatch).readEntity(BulkActionResult.class));
 
-            groupTO = groupService.read(groupTO.getKey());
+            groupTO = groupService.read(groupTO.getKey(), (String) null);
             assertNotNull(groupTO);
             assertFalse(groupTO.getResources().isEmpty());
 
@@ -499,7 +499,7 @@ public class GroupITCase extends AbstractITCase {
 
             assertNotNull(groupService.associate(associationPatch).readEntity(BulkActionResult.class));
 
-            groupTO = groupService.read(groupTO.getKey());
+            groupTO = groupService.read(groupTO.getKey(), (String) null);
             assertTrue(groupTO.getResources().isEmpty());
 
             assertNotNull(resourceService.readConnObject(
@@ -534,7 +534,7 @@ public class GroupITCase extends AbstractITCase {
 
             assertNotNull(groupService.associate(associationPatch).readEntity(BulkActionResult.class));
 
-            groupTO = groupService.read(groupTO.getKey());
+            groupTO = groupService.read(groupTO.getKey(), (String) null);
             assertTrue(groupTO.getResources().isEmpty());
 
             assertNotNull(resourceService.readConnObject(
@@ -547,7 +547,7 @@ public class GroupITCase extends AbstractITCase {
 
             assertNotNull(groupService.deassociate(deassociationPatch).readEntity(BulkActionResult.class));
 
-            groupTO = groupService.read(groupTO.getKey());
+            groupTO = groupService.read(groupTO.getKey(), (String) null);
             assertNotNull(groupTO);
             assertTrue(groupTO.getResources().isEmpty());
 
@@ -632,7 +632,7 @@ public class GroupITCase extends AbstractITCase {
 
     @Test
     public void uDynMembership() {
-        assertTrue(userService.read("c9b2dec2-00a7-4855-97c0-d854842b4b24").getDynGroups().isEmpty());
+        assertTrue(userService.read("c9b2dec2-00a7-4855-97c0-d854842b4b24", (String) null).getDynGroups().isEmpty());
 
         GroupTO group = getBasicSampleTO("uDynMembership");
         group.setUDynMembershipCond("cool==true");
@@ -640,14 +640,14 @@ public class GroupITCase extends AbstractITCase {
         assertNotNull(group);
 
         assertTrue(userService.read(
-                "c9b2dec2-00a7-4855-97c0-d854842b4b24").getDynGroups().contains(group.getKey()));
+                "c9b2dec2-00a7-4855-97c0-d854842b4b24", (String) null).getDynGroups().contains(group.getKey()));
 
         GroupPatch patch = new GroupPatch();
         patch.setKey(group.getKey());
         patch.setUDynMembershipCond("cool==false");
         groupService.update(patch);
 
-        assertTrue(userService.read("c9b2dec2-00a7-4855-97c0-d854842b4b24").getDynGroups().isEmpty());
+        assertTrue(userService.read("c9b2dec2-00a7-4855-97c0-d854842b4b24", (String) null).getDynGroups().isEmpty());
     }
 
     @Test
@@ -660,7 +660,7 @@ public class GroupITCase extends AbstractITCase {
         group = createGroup(group).getEntity();
         assertEquals(fiql, group.getADynMembershipConds().get("PRINTER"));
 
-        group = groupService.read(group.getKey());
+        group = groupService.read(group.getKey(), (String) null);
         assertEquals(fiql, group.getADynMembershipConds().get("PRINTER"));
 
         // verify that the condition is dynamically applied
@@ -669,10 +669,10 @@ public class GroupITCase extends AbstractITCase {
         newAny = createAnyObject(newAny).getEntity();
         assertNotNull(newAny.getPlainAttrMap().get("location"));
         assertTrue(anyObjectService.read(
-                "fc6dbc3a-6c07-4965-8781-921e7401a4a5").getDynGroups().contains(group.getKey()));
+                "fc6dbc3a-6c07-4965-8781-921e7401a4a5", (String) null).getDynGroups().contains(group.getKey()));
         assertTrue(anyObjectService.read(
-                "8559d14d-58c2-46eb-a2d4-a7d35161e8f8").getDynGroups().contains(group.getKey()));
-        assertTrue(anyObjectService.read(newAny.getKey()).getDynGroups().contains(group.getKey()));
+                "8559d14d-58c2-46eb-a2d4-a7d35161e8f8", (String) null).getDynGroups().contains(group.getKey()));
+        assertTrue(anyObjectService.read(newAny.getKey(), (String) null).getDynGroups().contains(group.getKey()));
 
         // 2. update group and change aDynMembership condition
         fiql = SyncopeClient.getAnyObjectSearchConditionBuilder("PRINTER").is("location").nullValue().query();
@@ -684,7 +684,7 @@ public class GroupITCase extends AbstractITCase {
         group = updateGroup(patch).getEntity();
         assertEquals(fiql, group.getADynMembershipConds().get("PRINTER"));
 
-        group = groupService.read(group.getKey());
+        group = groupService.read(group.getKey(), (String) null);
         assertEquals(fiql, group.getADynMembershipConds().get("PRINTER"));
 
         // verify that the condition is dynamically applied
@@ -697,10 +697,10 @@ public class GroupITCase extends AbstractITCase {
         newAny = updateAnyObject(anyPatch).getEntity();
         assertNull(newAny.getPlainAttrMap().get("location"));
         assertFalse(anyObjectService.read(
-                "fc6dbc3a-6c07-4965-8781-921e7401a4a5").getDynGroups().contains(group.getKey()));
+                "fc6dbc3a-6c07-4965-8781-921e7401a4a5", (String) null).getDynGroups().contains(group.getKey()));
         assertFalse(anyObjectService.read(
-                "8559d14d-58c2-46eb-a2d4-a7d35161e8f8").getDynGroups().contains(group.getKey()));
-        assertTrue(anyObjectService.read(newAny.getKey()).getDynGroups().contains(group.getKey()));
+                "8559d14d-58c2-46eb-a2d4-a7d35161e8f8", (String) null).getDynGroups().contains(group.getKey()));
+        assertTrue(anyObjectService.read(newAny.getKey(), (String) null).getDynGroups().contains(group.getKey()));
     }
 
     @Test
@@ -1041,7 +1041,7 @@ public class GroupITCase extends AbstractITCase {
         schemaService.update(SchemaType.PLAIN, schema);
 
         // 4. re-read group, verify that pattern was applied
-        groupTO = groupService.read(groupTO.getKey());
+        groupTO = groupService.read(groupTO.getKey(), (String) null);
         assertNotNull(groupTO);
         assertEquals("11.230", groupTO.getPlainAttrMap().get(doubleSchemaName).getValues().get(0));
 
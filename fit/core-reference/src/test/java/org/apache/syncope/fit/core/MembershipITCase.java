@@ -223,7 +223,7 @@ public class MembershipITCase extends AbstractITCase {
         groupService.delete(groupTO.getKey());
 
         // re-read user and verify that no memberships are available any more
-        user = userService.read(user.getKey());
+        user = userService.read(user.getKey(), (String) null);
         assertTrue(user.getMemberships().isEmpty());
     }
 
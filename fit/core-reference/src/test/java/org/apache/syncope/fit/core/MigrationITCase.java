@@ -484,10 +484,10 @@ public class MigrationITCase extends AbstractTaskITCase {
         Thread.sleep(3000L);
 
         // 4. verify
-        UserTO user = userService.read("rossini12");
+        UserTO user = userService.read("rossini12", (String) null);
         assertNotNull(user);
         assertEquals("/" + MIGRATION_REALM, user.getRealm());
-        GroupTO group = groupService.read("12 aRoleForPropagation12");
+        GroupTO group = groupService.read("12 aRoleForPropagation12", (String) null);
         assertNotNull(group);
         assertEquals("/" + MIGRATION_REALM, group.getRealm());
 
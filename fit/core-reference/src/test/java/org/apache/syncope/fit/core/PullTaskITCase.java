@@ -227,7 +227,7 @@ public class PullTaskITCase extends AbstractTaskITCase {
 
             // after execution of the pull task the user data should have been pulled from CSV
             // and processed by user template
-            UserTO userTO = userService.read(inUserTO.getKey());
+            UserTO userTO = userService.read(inUserTO.getKey(), (String) null);
             assertNotNull(userTO);
             assertEquals(userName, userTO.getUsername());
             assertEquals(ActivitiDetector.isActivitiEnabledForUsers(syncopeService)
@@ -242,7 +242,7 @@ public class PullTaskITCase extends AbstractTaskITCase {
             assertFalse(userTO.getResources().contains(RESOURCE_NAME_CSV));
 
             // check for user template
-            userTO = userService.read("test7");
+            userTO = userService.read("test7", (String) null);
             assertNotNull(userTO);
             assertEquals("TYPE_OTHER", userTO.getPlainAttrMap().get("ctype").getValues().get(0));
             assertEquals(3, userTO.getResources().size());
@@ -261,13 +261,13 @@ public class PullTaskITCase extends AbstractTaskITCase {
                 }
             }));
 
-            userTO = userService.read("test8");
+            userTO = userService.read("test8", (String) null);
             assertNotNull(userTO);
             assertEquals("TYPE_8", userTO.getPlainAttrMap().get("ctype").getValues().get(0));
 
             // Check for ignored user - SYNCOPE-663
             try {
-                userService.read("test2");
+                userService.read("test2", (String) null);
                 fail();
             } catch (SyncopeClientException e) {
                 assertEquals(Response.Status.NOT_FOUND, e.getType().getResponseStatus());
@@ -276,11 +276,11 @@ public class PullTaskITCase extends AbstractTaskITCase {
             // Check for issue 215:
             // * expected disabled user test1
             // * expected enabled user test3
-            userTO = userService.read("test1");
+            userTO = userService.read("test1", (String) null);
             assertNotNull(userTO);
             assertEquals("suspended", userTO.getStatus());
 
-            userTO = userService.read("test3");
+            userTO = userService.read("test3", (String) null);
             assertNotNull(userTO);
             assertEquals("active", userTO.getStatus());
 
@@ -290,8 +290,8 @@ public class PullTaskITCase extends AbstractTaskITCase {
             execProvisioningTasks(taskService, otherPullTaskKeys, 50, false);
 
             // Matching --> UNLINK
-            assertFalse(userService.read("test9").getResources().contains(RESOURCE_NAME_CSV));
-            assertFalse(userService.read("test7").getResources().contains(RESOURCE_NAME_CSV));
+            assertFalse(userService.read("test9", (String) null).getResources().contains(RESOURCE_NAME_CSV));
+            assertFalse(userService.read("test7", (String) null).getResources().contains(RESOURCE_NAME_CSV));
         } finally {
             removeTestUsers();
         }
@@ -314,7 +314,7 @@ public class PullTaskITCase extends AbstractTaskITCase {
                     taskService, "83f7e85d-9774-43fe-adba-ccd856312994", 50, false);
             assertEquals(PropagationTaskExecStatus.SUCCESS, PropagationTaskExecStatus.valueOf(execution.getStatus()));
 
-            userTO = userService.read("testuser1");
+            userTO = userService.read("testuser1", (String) null);
             assertNotNull(userTO);
             assertEquals("reconciled@syncope.apache.org", userTO.getPlainAttrMap().get("userId").getValues().get(0));
             assertEquals("suspended", userTO.getStatus());
@@ -327,7 +327,7 @@ public class PullTaskITCase extends AbstractTaskITCase {
                     taskService, "83f7e85d-9774-43fe-adba-ccd856312994", 50, false);
             assertEquals(PropagationTaskExecStatus.SUCCESS, PropagationTaskExecStatus.valueOf(execution.getStatus()));
 
-            userTO = userService.read("testuser1");
+            userTO = userService.read("testuser1", (String) null);
             assertNotNull(userTO);
             assertEquals("active", userTO.getStatus());
         } finally {
@@ -563,11 +563,11 @@ public class PullTaskITCase extends AbstractTaskITCase {
             assertEquals(PropagationTaskExecStatus.SUCCESS, PropagationTaskExecStatus.valueOf(execution.getStatus()));
 
             // 4. verify that only enabled user was pulled
-            userTO = userService.read("user2");
+            userTO = userService.read("user2", (String) null);
             assertNotNull(userTO);
 
             try {
-                userService.read("user1");
+                userService.read("user1", (String) null);
                 fail();
             } catch (SyncopeClientException e) {
                 assertEquals(ClientExceptionType.NotFound, e.getType());
@@ -758,7 +758,7 @@ public class PullTaskITCase extends AbstractTaskITCase {
             ExecTO execution = execProvisioningTask(taskService, actual.getKey(), 50, false);
             assertEquals(PropagationTaskExecStatus.SUCCESS, PropagationTaskExecStatus.valueOf(execution.getStatus()));
 
-            userTO = userService.read("testuser2");
+            userTO = userService.read("testuser2", (String) null);
             assertNotNull(userTO);
             assertEquals("testuser2@syncope.apache.org", userTO.getPlainAttrMap().get("userId").getValues().get(0));
             assertEquals(2, userTO.getMemberships().size());
@@ -781,7 +781,7 @@ public class PullTaskITCase extends AbstractTaskITCase {
         execProvisioningTask(taskService, "7c2242f4-14af-4ab5-af31-cdae23783655", 50, false);
 
         // 3. read e-mail address for user created by the PullTask first execution
-        UserTO userTO = userService.read("issuesyncope230");
+        UserTO userTO = userService.read("issuesyncope230", (String) null);
         assertNotNull(userTO);
         String email = userTO.getPlainAttrMap().get("email").getValues().iterator().next();
         assertNotNull(email);
@@ -793,7 +793,7 @@ public class PullTaskITCase extends AbstractTaskITCase {
         execProvisioningTask(taskService, "7c2242f4-14af-4ab5-af31-cdae23783655", 50, false);
 
         // 6. verify that the e-mail was updated
-        userTO = userService.read("issuesyncope230");
+        userTO = userService.read("issuesyncope230", (String) null);
         assertNotNull(userTO);
         email = userTO.getPlainAttrMap().get("email").getValues().iterator().next();
         assertNotNull(email);
@@ -873,7 +873,7 @@ public class PullTaskITCase extends AbstractTaskITCase {
             assertNotNull(taskExecTO.getStatus());
             assertEquals(PropagationTaskExecStatus.SUCCESS, PropagationTaskExecStatus.valueOf(taskExecTO.getStatus()));
 
-            userTO = userService.read(userTO.getKey());
+            userTO = userService.read(userTO.getKey(), (String) null);
             assertNotNull(userTO);
             assertNotNull(userTO.getPlainAttrMap().get("firstname").getValues().get(0));
         } finally {
@@ -899,7 +899,7 @@ public class PullTaskITCase extends AbstractTaskITCase {
         userTO = createUser(userTO).getEntity();
         assertNotNull(userTO);
 
-        userTO = userService.read(userTO.getKey());
+        userTO = userService.read(userTO.getKey(), (String) null);
         assertTrue(userTO.getVirAttrMap().isEmpty());
 
         // Update pull task
@@ -919,7 +919,7 @@ public class PullTaskITCase extends AbstractTaskITCase {
         execProvisioningTask(taskService, task.getKey(), 50, false);
 
         // check that template was successfully applied...
-        userTO = userService.read(userTO.getKey());
+        userTO = userService.read(userTO.getKey(), (String) null);
         assertEquals("virtualvalue", userTO.getVirAttrMap().get("virtualdata").getValues().get(0));
 
         // ...and that propagation to db succeeded
@@ -125,26 +125,26 @@ public class PushTaskITCase extends AbstractTaskITCase {
 
     @Test
     public void pushMatchingUnmatchingGroups() {
-        assertFalse(groupService.read("29f96485-729e-4d31-88a1-6fc60e4677f3").
+        assertFalse(groupService.read("29f96485-729e-4d31-88a1-6fc60e4677f3", (String) null).
                 getResources().contains(RESOURCE_NAME_LDAP));
 
         execProvisioningTask(taskService, "fd905ba5-9d56-4f51-83e2-859096a67b75", 50, false);
 
         assertNotNull(resourceService.readConnObject(
                 RESOURCE_NAME_LDAP, AnyTypeKind.GROUP.name(), "29f96485-729e-4d31-88a1-6fc60e4677f3"));
-        assertTrue(groupService.read("29f96485-729e-4d31-88a1-6fc60e4677f3").
+        assertTrue(groupService.read("29f96485-729e-4d31-88a1-6fc60e4677f3", (String) null).
                 getResources().contains(RESOURCE_NAME_LDAP));
     }
 
     @Test
     public void pushUnmatchingUsers() throws Exception {
-        assertFalse(userService.read("74cd8ece-715a-44a4-a736-e17b46c4e7e6").
+        assertFalse(userService.read("74cd8ece-715a-44a4-a736-e17b46c4e7e6", (String) null).
                 getResources().contains(RESOURCE_NAME_TESTDB2));
-        assertFalse(userService.read("b3cbc78d-32e6-4bd4-92e0-bbe07566a2ee").
+        assertFalse(userService.read("b3cbc78d-32e6-4bd4-92e0-bbe07566a2ee", (String) null).
                 getResources().contains(RESOURCE_NAME_TESTDB2));
-        assertFalse(userService.read("c9b2dec2-00a7-4855-97c0-d854842b4b24").
+        assertFalse(userService.read("c9b2dec2-00a7-4855-97c0-d854842b4b24", (String) null).
                 getResources().contains(RESOURCE_NAME_TESTDB2));
-        assertTrue(userService.read("823074dc-d280-436d-a7dd-07399fae48ec").
+        assertTrue(userService.read("823074dc-d280-436d-a7dd-07399fae48ec", (String) null).
                 getResources().contains(RESOURCE_NAME_TESTDB2));
 
         JdbcTemplate jdbcTemplate = new JdbcTemplate(testDataSource);
@@ -155,7 +155,7 @@ public class PushTaskITCase extends AbstractTaskITCase {
         // ------------------------------------------
         execProvisioningTask(taskService, "af558be4-9d2f-4359-bf85-a554e6e90be1", 50, true);
         assertEquals(0, jdbcTemplate.queryForList("SELECT ID FROM test2 WHERE ID='vivaldi'").size());
-        assertFalse(userService.read("b3cbc78d-32e6-4bd4-92e0-bbe07566a2ee").
+        assertFalse(userService.read("b3cbc78d-32e6-4bd4-92e0-bbe07566a2ee", (String) null).
                 getResources().contains(RESOURCE_NAME_TESTDB2));
         // ------------------------------------------
 
@@ -170,7 +170,7 @@ public class PushTaskITCase extends AbstractTaskITCase {
         // Unatching --> Ignore
         // ------------------------------------------
         assertEquals(1, jdbcTemplate.queryForList("SELECT ID FROM test2 WHERE ID='verdi'").size());
-        assertFalse(userService.read("74cd8ece-715a-44a4-a736-e17b46c4e7e6").
+        assertFalse(userService.read("74cd8ece-715a-44a4-a736-e17b46c4e7e6", (String) null).
                 getResources().contains(RESOURCE_NAME_TESTDB2));
         // ------------------------------------------
 
@@ -178,7 +178,7 @@ public class PushTaskITCase extends AbstractTaskITCase {
         // Unmatching --> Assign
         // ------------------------------------------
         assertEquals(1, jdbcTemplate.queryForList("SELECT ID FROM test2 WHERE ID='vivaldi'").size());
-        assertTrue(userService.read("b3cbc78d-32e6-4bd4-92e0-bbe07566a2ee").
+        assertTrue(userService.read("b3cbc78d-32e6-4bd4-92e0-bbe07566a2ee", (String) null).
                 getResources().contains(RESOURCE_NAME_TESTDB2));
         jdbcTemplate.execute("DELETE FROM test2 WHERE ID='vivaldi'");
         // ------------------------------------------
@@ -187,7 +187,7 @@ public class PushTaskITCase extends AbstractTaskITCase {
         // Unmatching --> Provision
         // ------------------------------------------
         assertEquals(1, jdbcTemplate.queryForList("SELECT ID FROM test2 WHERE ID='bellini'").size());
-        assertFalse(userService.read("c9b2dec2-00a7-4855-97c0-d854842b4b24").
+        assertFalse(userService.read("c9b2dec2-00a7-4855-97c0-d854842b4b24", (String) null).
                 getResources().contains(RESOURCE_NAME_TESTDB2));
         jdbcTemplate.execute("DELETE FROM test2 WHERE ID='bellini'");
         // ------------------------------------------
@@ -196,16 +196,16 @@ public class PushTaskITCase extends AbstractTaskITCase {
         // Unmatching --> Unlink
         // ------------------------------------------
         assertEquals(0, jdbcTemplate.queryForList("SELECT ID FROM test2 WHERE ID='puccini'").size());
-        assertFalse(userService.read("823074dc-d280-436d-a7dd-07399fae48ec").
+        assertFalse(userService.read("823074dc-d280-436d-a7dd-07399fae48ec", (String) null).
                 getResources().contains(RESOURCE_NAME_TESTDB2));
         // ------------------------------------------
     }
 
     @Test
     public void pushMatchingUser() throws Exception {
-        assertTrue(userService.read("1417acbe-cbf6-4277-9372-e75e04f97000").
+        assertTrue(userService.read("1417acbe-cbf6-4277-9372-e75e04f97000", (String) null).
                 getResources().contains(RESOURCE_NAME_TESTDB2));
-        assertFalse(userService.read("74cd8ece-715a-44a4-a736-e17b46c4e7e6").
+        assertFalse(userService.read("74cd8ece-715a-44a4-a736-e17b46c4e7e6", (String) null).
                 getResources().contains(RESOURCE_NAME_TESTDB2));
 
         JdbcTemplate jdbcTemplate = new JdbcTemplate(testDataSource);
@@ -216,7 +216,7 @@ public class PushTaskITCase extends AbstractTaskITCase {
         // Matching --> Deprovision --> dryRuyn
         // ------------------------------------------
         execProvisioningTask(taskService, "c46edc3a-a18b-4af2-b707-f4a415507496", 50, true);
-        assertTrue(userService.read("1417acbe-cbf6-4277-9372-e75e04f97000").
+        assertTrue(userService.read("1417acbe-cbf6-4277-9372-e75e04f97000", (String) null).
                 getResources().contains(RESOURCE_NAME_TESTDB2));
         assertEquals(1, jdbcTemplate.queryForList("SELECT ID FROM test2 WHERE ID='rossini'").size());
         // ------------------------------------------
@@ -231,7 +231,7 @@ public class PushTaskITCase extends AbstractTaskITCase {
         // ------------------------------------------
         // Matching --> Deprovision && Ignore
         // ------------------------------------------
-        assertFalse(userService.read("74cd8ece-715a-44a4-a736-e17b46c4e7e6").
+        assertFalse(userService.read("74cd8ece-715a-44a4-a736-e17b46c4e7e6", (String) null).
                 getResources().contains(RESOURCE_NAME_TESTDB2));
         // DELETE Capability not available ....
         assertEquals(1, jdbcTemplate.queryForList("SELECT ID FROM test2 WHERE ID='verdi'").size());
@@ -240,7 +240,7 @@ public class PushTaskITCase extends AbstractTaskITCase {
         // ------------------------------------------
         // Matching --> Unassign
         // ------------------------------------------
-        assertFalse(userService.read("1417acbe-cbf6-4277-9372-e75e04f97000").
+        assertFalse(userService.read("1417acbe-cbf6-4277-9372-e75e04f97000", (String) null).
                 getResources().contains(RESOURCE_NAME_TESTDB2));
         // DELETE Capability not available ....
         assertEquals(1, jdbcTemplate.queryForList("SELECT ID FROM test2 WHERE ID='rossini'").size());
@@ -250,7 +250,7 @@ public class PushTaskITCase extends AbstractTaskITCase {
         // Matching --> Link
         // ------------------------------------------
         execProvisioningTask(taskService, "51318433-cce4-4f71-8f45-9534b6c9c819", 50, false);
-        assertTrue(userService.read("74cd8ece-715a-44a4-a736-e17b46c4e7e6").
+        assertTrue(userService.read("74cd8ece-715a-44a4-a736-e17b46c4e7e6", (String) null).
                 getResources().contains(RESOURCE_NAME_TESTDB2));
         assertEquals(1, jdbcTemplate.queryForList("SELECT ID FROM test2 WHERE ID='verdi'").size());
         // ------------------------------------------
@@ -264,7 +264,7 @@ public class PushTaskITCase extends AbstractTaskITCase {
         // ------------------------------------------
         // Matching --> Unlink && Update
         // ------------------------------------------
-        assertFalse(userService.read("74cd8ece-715a-44a4-a736-e17b46c4e7e6").
+        assertFalse(userService.read("74cd8ece-715a-44a4-a736-e17b46c4e7e6", (String) null).
                 getResources().contains(RESOURCE_NAME_TESTDB2));
         assertEquals(1, jdbcTemplate.queryForList("SELECT ID FROM test2 WHERE ID='verdi'").size());
         // ------------------------------------------
@@ -298,6 +298,58 @@ public class PushTaskITCase extends AbstractTaskITCase {
         assertNotNull(getLdapRemoteObject(RESOURCE_LDAP_ADMIN_DN, RESOURCE_LDAP_ADMIN_PWD, "ou=two,o=isp"));
     }
 
+    @Test
+    public void incremental() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(testDataSource);
+        assertEquals(0, jdbcTemplate.queryForList("SELECT ID FROM test2 WHERE ID='bellini'").size());
+
+        // 1. create incremental push task for bellini
+        PushTaskTO task = new PushTaskTO();
+        task.setName("Incremental push");
+        task.setActive(true);
+        task.setResource(RESOURCE_NAME_TESTDB2);
+        task.getFilters().put(AnyTypeKind.USER.name(),
+                SyncopeClient.getUserSearchConditionBuilder().is("username").equalTo("bellini").query());
+        task.getFilters().put(AnyTypeKind.GROUP.name(),
+                SyncopeClient.getGroupSearchConditionBuilder().is("name").equalTo("_NO_ONE_").query());
+        task.setUnmatchingRule(UnmatchingRule.PROVISION);
+        task.setMatchingRule(MatchingRule.UPDATE);
+        task.setPerformCreate(true);
+        task.setPerformUpdate(true);
+        task.setIncremental(true);
+
+        Response response = taskService.create(task);
+        PushTaskTO actual = getObject(response.getLocation(), TaskService.class, PushTaskTO.class);
+        assertNotNull(actual);
+        assertTrue(actual.isIncremental());
+
+        try {
+            // 2. first execution provisions bellini
+            ExecTO exec = execProvisioningTask(taskService, actual.getKey(), 50, false);
+            assertEquals(PropagationTaskExecStatus.SUCCESS, PropagationTaskExecStatus.valueOf(exec.getStatus()));
+            assertEquals(1, jdbcTemplate.queryForList("SELECT ID FROM test2 WHERE ID='bellini'").size());
+
+            // 3. remove bellini on the external resource behind Syncope's back
+            jdbcTemplate.execute("DELETE FROM test2 WHERE ID='bellini'");
+
+            // 4. bellini did not change since last push, hence it is not even looked up on the external resource
+            exec = execProvisioningTask(taskService, actual.getKey(), 50, false);
+            assertEquals(PropagationTaskExecStatus.SUCCESS, PropagationTaskExecStatus.valueOf(exec.getStatus()));
+            assertEquals(0, jdbcTemplate.queryForList("SELECT ID FROM test2 WHERE ID='bellini'").size());
+
+            // 5. switching to full push provisions bellini again
+            actual.setIncremental(false);
+            taskService.update(actual);
+
+            exec = execProvisioningTask(taskService, actual.getKey(), 50, false);
+            assertEquals(PropagationTaskExecStatus.SUCCESS, PropagationTaskExecStatus.valueOf(exec.getStatus()));
+            assertEquals(1, jdbcTemplate.queryForList("SELECT ID FROM test2 WHERE ID='bellini'").size());
+        } finally {
+            jdbcTemplate.execute("DELETE FROM test2 WHERE ID='bellini'");
+            taskService.delete(actual.getKey());
+        }
+    }
+
     @Test
     public void issueSYNCOPE598() {
         // create a new group schema
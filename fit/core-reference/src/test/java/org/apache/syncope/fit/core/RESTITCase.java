@@ -122,10 +122,27 @@ public class RESTITCase extends AbstractITCase {
             assertEquals(ClientExceptionType.ConcurrentModification, e.getType());
         }
 
-        userTO = userService.read(userTO.getKey());
+        userTO = userService.read(userTO.getKey(), (String) null);
         assertTrue(userTO.getUsername().endsWith("XX"));
     }
 
+    @Test
+    public void ifNoneMatch() {
+        UserTO userTO = userService.read("1417acbe-cbf6-4277-9372-e75e04f97000", (String) null);
+        EntityTag etag = adminClient.getLatestEntityTag(userService);
+        assertNotNull(etag);
+
+        WebClient webClient = WebClient.create(ADDRESS + "/users/" + userTO.getKey(), ADMIN_UNAME, ADMIN_PWD, null).
+                accept(MediaType.APPLICATION_JSON_TYPE);
+
+        Response response = webClient.header(HttpHeaders.IF_NONE_MATCH, etag.toString()).get();
+        assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), response.getStatus());
+
+        response = webClient.replaceHeader(HttpHeaders.IF_NONE_MATCH, new EntityTag("0").toString()).get();
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        assertEquals(userTO.getUsername(), response.readEntity(UserTO.class).getUsername());
+    }
+
     @Test
     public void defaultContentType() {
         // manualy instantiate SyncopeClient so that media type can be set to */*
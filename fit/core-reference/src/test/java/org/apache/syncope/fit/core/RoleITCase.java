@@ -122,7 +122,7 @@ public class RoleITCase extends AbstractITCase {
 
     @Test
     public void dynMembership() {
-        assertTrue(userService.read("c9b2dec2-00a7-4855-97c0-d854842b4b24").getDynRoles().isEmpty());
+        assertTrue(userService.read("c9b2dec2-00a7-4855-97c0-d854842b4b24", (String) null).getDynRoles().isEmpty());
 
         RoleTO role = getSampleRoleTO("dynMembership");
         role.setDynMembershipCond("cool==true");
@@ -131,11 +131,11 @@ public class RoleITCase extends AbstractITCase {
         assertNotNull(role);
 
         assertTrue(userService.read(
-                "c9b2dec2-00a7-4855-97c0-d854842b4b24").getDynRoles().contains(role.getKey()));
+                "c9b2dec2-00a7-4855-97c0-d854842b4b24", (String) null).getDynRoles().contains(role.getKey()));
 
         role.setDynMembershipCond("cool==false");
         roleService.update(role);
 
-        assertTrue(userService.read("c9b2dec2-00a7-4855-97c0-d854842b4b24").getDynGroups().isEmpty());
+        assertTrue(userService.read("c9b2dec2-00a7-4855-97c0-d854842b4b24", (String) null).getDynGroups().isEmpty());
     }
 }
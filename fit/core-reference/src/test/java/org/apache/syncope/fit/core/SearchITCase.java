@@ -532,4 +532,36 @@ public class SearchITCase extends AbstractITCase {
                         build());
         assertNotEquals(0, users.getTotalCount());
     }
+
+    @Test
+    public void fields() {
+        PagedResult<UserTO> users = userService.search(
+                new AnyQuery.Builder().
+                        fiql(SyncopeClient.getUserSearchConditionBuilder().is("username").equalTo("rossini").query()).
+                        fields("plainAttrs.fullname", "derAttrs.cn").
+                        build());
+        assertEquals(1, users.getResult().size());
+
+        UserTO rossini = users.getResult().get(0);
+        assertEquals("rossini", rossini.getUsername());
+        assertEquals(1, rossini.getPlainAttrs().size());
+        assertNotNull(rossini.getPlainAttrMap().get("fullname"));
+        assertEquals(1, rossini.getDerAttrs().size());
+        assertNotNull(rossini.getDerAttrMap().get("cn"));
+        assertTrue(rossini.getVirAttrs().isEmpty());
+        assertTrue(rossini.getMemberships().isEmpty());
+        assertTrue(rossini.getResources().isEmpty());
+
+        rossini = userService.read(rossini.getKey(), "plainAttrs.fullname,memberships");
+        assertEquals(1, rossini.getPlainAttrs().size());
+        assertNotNull(rossini.getPlainAttrMap().get("fullname"));
+        assertTrue(rossini.getDerAttrs().isEmpty());
+        assertFalse(rossini.getMemberships().isEmpty());
+        assertTrue(rossini.getResources().isEmpty());
+
+        rossini = userService.read(rossini.getKey(), (String) null);
+        assertTrue(rossini.getPlainAttrs().size() > 1);
+        assertFalse(rossini.getMemberships().isEmpty());
+        assertFalse(rossini.getResources().isEmpty());
+    }
 }
@@ -424,7 +424,7 @@ public class UserITCase extends AbstractITCase {
         userTO = createUser(userTO).getEntity();
 
         String key = userTO.getKey();
-        userTO = userService.read(key);
+        userTO = userService.read(key, (String) null);
 
         ProvisioningResult<UserTO> result = deleteUser(userTO.getKey());
         assertNotNull(result);
@@ -437,7 +437,7 @@ public class UserITCase extends AbstractITCase {
         assertEquals(PropagationTaskExecStatus.SUCCESS, result.getPropagationStatuses().get(0).getStatus());
 
         try {
-            userService.read(userTO.getKey());
+            userService.read(userTO.getKey(), (String) null);
         } catch (SyncopeClientException e) {
             assertEquals(Response.Status.NOT_FOUND, e.getType().getResponseStatus());
         }
@@ -481,7 +481,7 @@ public class UserITCase extends AbstractITCase {
 
     @Test
     public void read() {
-        UserTO userTO = userService.read("1417acbe-cbf6-4277-9372-e75e04f97000");
+        UserTO userTO = userService.read("1417acbe-cbf6-4277-9372-e75e04f97000", (String) null);
 
         assertNotNull(userTO);
         assertNull(userTO.getPassword());
@@ -492,7 +492,7 @@ public class UserITCase extends AbstractITCase {
     @Test
     public void readWithMailAddressAsUserName() {
         UserTO userTO = createUser(getUniqueSampleTO("mail@domain.org")).getEntity();
-        userTO = userService.read(userTO.getKey());
+        userTO = userService.read(userTO.getKey(), (String) null);
         assertNotNull(userTO);
     }
 
@@ -1036,13 +1036,15 @@ public class UserITCase extends AbstractITCase {
         BulkActionResult res = userService.bulk(bulkAction).readEntity(BulkActionResult.class);
         assertEquals(10, res.getResultByStatus(Status.SUCCESS).size());
         assertEquals(1, res.getResultByStatus(Status.FAILURE).size());
-        assertEquals("suspended", userService.read(res.getResultByStatus(Status.SUCCESS).get(3)).getStatus());
+        assertEquals("suspended",
+                userService.read(res.getResultByStatus(Status.SUCCESS).get(3), (String) null).getStatus());
 
         bulkAction.setType(BulkAction.Type.REACTIVATE);
         res = userService.bulk(bulkAction).readEntity(BulkActionResult.class);
         assertEquals(10, res.getResultByStatus(Status.SUCCESS).size());
         assertEquals(1, res.getResultByStatus(Status.FAILURE).size());
-        assertEquals("active", userService.read(res.getResultByStatus(Status.SUCCESS).get(3)).getStatus());
+        assertEquals("active",
+                userService.read(res.getResultByStatus(Status.SUCCESS).get(3), (String) null).getStatus());
 
         bulkAction.setType(BulkAction.Type.DELETE);
         res = userService.bulk(bulkAction).readEntity(BulkActionResult.class);
@@ -1072,7 +1074,7 @@ public class UserITCase extends AbstractITCase {
 
         assertNotNull(userService.deassociate(deassociationPatch).readEntity(BulkActionResult.class));
 
-        actual = userService.read(actual.getKey());
+        actual = userService.read(actual.getKey(), (String) null);
         assertNotNull(actual);
         assertTrue(actual.getResources().isEmpty());
 
@@ -1107,7 +1109,7 @@ public class UserITCase extends AbstractITCase {
 
         assertNotNull(userService.associate(associationPatch).readEntity(BulkActionResult.class));
 
-        actual = userService.read(actual.getKey());
+        actual = userService.read(actual.getKey(), (String) null);
         assertNotNull(actual);
         assertFalse(actual.getResources().isEmpty());
 
@@ -1141,7 +1143,7 @@ public class UserITCase extends AbstractITCase {
 
         assertNotNull(userService.deassociate(deassociationPatch).readEntity(BulkActionResult.class));
 
-        actual = userService.read(actual.getKey());
+        actual = userService.read(actual.getKey(), (String) null);
         assertNotNull(actual);
         assertTrue(actual.getResources().isEmpty());
 
@@ -1182,7 +1184,7 @@ public class UserITCase extends AbstractITCase {
 
         assertNotNull(userService.associate(associationPatch).readEntity(BulkActionResult.class));
 
-        actual = userService.read(actual.getKey());
+        actual = userService.read(actual.getKey(), (String) null);
         assertNotNull(actual);
         assertFalse(actual.getResources().isEmpty());
         assertNotNull(resourceService.readConnObject(RESOURCE_NAME_CSV, AnyTypeKind.USER.name(), actual.getKey()));
@@ -1210,7 +1212,7 @@ public class UserITCase extends AbstractITCase {
 
         assertNotNull(userService.deassociate(deassociationPatch).readEntity(BulkActionResult.class));
 
-        actual = userService.read(actual.getKey());
+        actual = userService.read(actual.getKey(), (String) null);
         assertNotNull(actual);
         assertFalse(actual.getResources().isEmpty());
 
@@ -1251,7 +1253,7 @@ public class UserITCase extends AbstractITCase {
 
         assertNotNull(userService.associate(associationPatch).readEntity(BulkActionResult.class));
 
-        actual = userService.read(actual.getKey());
+        actual = userService.read(actual.getKey(), (String) null);
         assertNotNull(actual);
         assertTrue(actual.getResources().isEmpty());
         assertNotNull(resourceService.readConnObject(RESOURCE_NAME_CSV, AnyTypeKind.USER.name(), actual.getKey()));
@@ -1286,7 +1288,7 @@ public class UserITCase extends AbstractITCase {
 
         assertNotNull(userService.associate(associationPatch).readEntity(BulkActionResult.class));
 
-        actual = userService.read(actual.getKey());
+        actual = userService.read(actual.getKey(), (String) null);
         assertNotNull(actual);
         assertTrue(actual.getResources().isEmpty());
         assertNotNull(resourceService.readConnObject(RESOURCE_NAME_CSV, AnyTypeKind.USER.name(), actual.getKey()));
@@ -1298,7 +1300,7 @@ public class UserITCase extends AbstractITCase {
 
         assertNotNull(userService.deassociate(deassociationPatch).readEntity(BulkActionResult.class));
 
-        actual = userService.read(actual.getKey());
+        actual = userService.read(actual.getKey(), (String) null);
         assertNotNull(actual);
         assertTrue(actual.getResources().isEmpty());
 
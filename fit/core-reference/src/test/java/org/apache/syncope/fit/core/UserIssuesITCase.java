@@ -409,7 +409,7 @@ public class UserIssuesITCase extends AbstractITCase {
         assertEquals("virtualvalue", connObjectTO.getAttrMap().get("USERNAME").getValues().get(0));
         // ----------------------------------
 
-        userTO = userService.read(userTO.getKey());
+        userTO = userService.read(userTO.getKey(), (String) null);
 
         assertNotNull(userTO);
         assertEquals(1, userTO.getVirAttrs().size());
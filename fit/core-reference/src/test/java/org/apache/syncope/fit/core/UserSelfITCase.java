@@ -142,7 +142,7 @@ public class UserSelfITCase extends AbstractITCase {
         UserService userService2 = clientFactory.create("rossini", ADMIN_PWD).getService(UserService.class);
 
         try {
-            userService2.read("1417acbe-cbf6-4277-9372-e75e04f97000");
+            userService2.read("1417acbe-cbf6-4277-9372-e75e04f97000", (String) null);
             fail();
         } catch (AccessControlException e) {
             assertNotNull(e);
@@ -286,7 +286,7 @@ public class UserSelfITCase extends AbstractITCase {
         anonClient.getService(UserSelfService.class).requestPasswordReset(user.getUsername(), "Rossi");
 
         // 4. get token (normally sent via e-mail, now reading as admin)
-        String token = userService.read(read.getKey()).getToken();
+        String token = userService.read(read.getKey(), (String) null).getToken();
         assertNotNull(token);
 
         // 5. confirm password reset
@@ -331,7 +331,7 @@ public class UserSelfITCase extends AbstractITCase {
         anonClient.getService(UserSelfService.class).requestPasswordReset(user.getUsername(), null);
 
         // 4. get token (normally sent via e-mail, now reading as admin)
-        String token = userService.read(read.getKey()).getToken();
+        String token = userService.read(read.getKey(), (String) null).getToken();
         assertNotNull(token);
 
         // 5. confirm password reset
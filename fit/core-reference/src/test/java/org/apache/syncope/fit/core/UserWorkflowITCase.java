@@ -88,7 +88,7 @@ public class UserWorkflowITCase extends AbstractITCase {
 
         // 3. claim task as rossini, with role "User manager" granting entitlement to claim forms but not in group 7,
         // designated for approval in workflow definition: fail
-        UserTO rossini = userService.read("1417acbe-cbf6-4277-9372-e75e04f97000");
+        UserTO rossini = userService.read("1417acbe-cbf6-4277-9372-e75e04f97000", (String) null);
         if (!rossini.getRoles().contains("User manager")) {
             UserPatch userPatch = new UserPatch();
             userPatch.setKey("1417acbe-cbf6-4277-9372-e75e04f97000");
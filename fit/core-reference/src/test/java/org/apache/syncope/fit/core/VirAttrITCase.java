@@ -87,7 +87,7 @@ public class VirAttrITCase extends AbstractITCase {
         assertNotNull(userTO);
 
         // 2. check for virtual attribute value
-        userTO = userService.read(userTO.getKey());
+        userTO = userService.read(userTO.getKey(), (String) null);
         assertNotNull(userTO);
         assertEquals("virtualvalue", userTO.getVirAttrMap().get("virtualdata").getValues().get(0));
 
@@ -100,7 +100,7 @@ public class VirAttrITCase extends AbstractITCase {
         assertNotNull(userTO);
 
         // 4. check for virtual attribute value
-        userTO = userService.read(userTO.getKey());
+        userTO = userService.read(userTO.getKey(), (String) null);
         assertNotNull(userTO);
         assertEquals("virtualupdated", userTO.getVirAttrMap().get("virtualdata").getValues().get(0));
     }
@@ -231,7 +231,7 @@ public class VirAttrITCase extends AbstractITCase {
         assertNotNull(actual);
 
         // 2. check for virtual attribute value
-        actual = userService.read(actual.getKey());
+        actual = userService.read(actual.getKey(), (String) null);
         assertEquals("virattrcache", actual.getVirAttrMap().get("virtualdata").getValues().get(0));
 
         // 3. update virtual attribute directly
@@ -248,7 +248,7 @@ public class VirAttrITCase extends AbstractITCase {
         assertEquals("virattrcache2", value);
 
         // 4. check for cached attribute value
-        actual = userService.read(actual.getKey());
+        actual = userService.read(actual.getKey(), (String) null);
         assertEquals("virattrcache", actual.getVirAttrMap().get("virtualdata").getValues().get(0));
 
         UserPatch userPatch = new UserPatch();
@@ -260,7 +260,7 @@ public class VirAttrITCase extends AbstractITCase {
         assertNotNull(actual);
 
         // 6. check for virtual attribute value
-        actual = userService.read(actual.getKey());
+        actual = userService.read(actual.getKey(), (String) null);
         assertNotNull(actual);
         assertEquals("virtualupdated", actual.getVirAttrMap().get("virtualdata").getValues().get(0));
     }
@@ -327,7 +327,7 @@ public class VirAttrITCase extends AbstractITCase {
             assertEquals("test@testone.org", userTO.getVirAttrs().iterator().next().getValues().get(0));
 
             // update user
-            UserTO toBeUpdated = userService.read(userTO.getKey());
+            UserTO toBeUpdated = userService.read(userTO.getKey(), (String) null);
             UserPatch userPatch = new UserPatch();
             userPatch.setKey(toBeUpdated.getKey());
             userPatch.setPassword(new PasswordPatch.Builder().value("password234").build());
@@ -376,7 +376,7 @@ public class VirAttrITCase extends AbstractITCase {
         assertNotNull(userTO);
 
         // 2. check for virtual attribute value
-        userTO = userService.read(userTO.getKey());
+        userTO = userService.read(userTO.getKey(), (String) null);
         assertEquals("virattrcache", userTO.getVirAttrMap().get("virtualdata").getValues().get(0));
 
         // ----------------------------------------
@@ -412,7 +412,7 @@ public class VirAttrITCase extends AbstractITCase {
         assertEquals("virattrcache2", value);
         // ----------------------------------------
 
-        userTO = userService.read(userTO.getKey());
+        userTO = userService.read(userTO.getKey(), (String) null);
         assertEquals("virattrcache", userTO.getVirAttrMap().get("virtualdata").getValues().get(0));
 
         // ----------------------------------------
@@ -429,7 +429,7 @@ public class VirAttrITCase extends AbstractITCase {
         // ----------------------------------------
 
         // cached value still in place...
-        userTO = userService.read(userTO.getKey());
+        userTO = userService.read(userTO.getKey(), (String) null);
         assertEquals("virattrcache", userTO.getVirAttrMap().get("virtualdata").getValues().get(0));
 
         // force cache update by adding a resource which has virtualdata mapped for propagation
@@ -440,7 +440,7 @@ public class VirAttrITCase extends AbstractITCase {
         userTO = updateUser(userPatch).getEntity();
         assertNotNull(userTO);
 
-        userTO = userService.read(userTO.getKey());
+        userTO = userService.read(userTO.getKey(), (String) null);
         assertEquals("virattrcache2", userTO.getVirAttrMap().get("virtualdata").getValues().get(0));
     }
 